@@ -1,7 +1,13 @@
 package com.wallet;
 
+import com.wallet.domain.entities.Cuenta;
 import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.logging.Logger;
+import com.wallet.infrastructure.logging.OperationLogger;
 import com.wallet.infrastructure.persistence.DatabaseInitializer;
+import com.wallet.infrastructure.services.ConversorDivisasAPI;
+import com.wallet.infrastructure.services.RefrescoTasasDivisas;
 import com.wallet.presentation.menus.MenuPrincipal;
 import jakarta.persistence.EntityManager;
 
@@ -32,6 +38,7 @@ public class Main {
      * @param args argumentos de línea de comandos (no utilizados actualmente)
      */
     public static void main(String[] args) {
+        RefrescoTasasDivisas refrescoTasas = null;
         try {
             // ============================================
             // 1. INICIALIZAR JPA
@@ -66,6 +73,8 @@ public class Main {
                 }
             }
             
+            // Números de cuenta por bloques reservados en la BD
+            Cuenta.setGeneradorNumeroCuenta(RepositoryFactory.getGeneradorNumeroCuenta());
             System.out.println();
 
             // ============================================
@@ -74,7 +83,15 @@ public class Main {
             System.out.println("✅ Inicialización completada. Iniciando interfaz...");
             System.out.println();
             
-            MenuPrincipal menu = new MenuPrincipal();
+            // Las tasas de cambio se descargan en segundo plano antes de que
+            // venzan (-Dwallet.divisas.prefetch=false lo desactiva)
+            ConversorDivisasAPI conversor = new ConversorDivisasAPI();
+            if (Boolean.parseBoolean(System.getProperty("wallet.divisas.prefetch", "true"))) {
+                refrescoTasas = RefrescoTasasDivisas.desdePropiedades(conversor);
+                refrescoTasas.iniciar();
+            }
+            
+            MenuPrincipal menu = new MenuPrincipal(conversor);
             menu.iniciar();
 
         } catch (Exception e) {
@@ -93,7 +110,13 @@ public class Main {
             try {
                 System.out.println();
                 System.out.println("🔒 Cerrando recursos...");
+                if (refrescoTasas != null) {
+                    refrescoTasas.cerrar();
+                }
+                RepositoryFactory.cerrar();
                 JPAConfiguration.close();
+                OperationLogger.cerrar();
+                Logger.cerrar();
                 System.out.println("✅ Adiós!");
             } catch (Exception e) {
                 System.err.println("❌ Error al cerrar recursos: " + e.getMessage());
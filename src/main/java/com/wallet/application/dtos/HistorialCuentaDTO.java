@@ -0,0 +1,28 @@
+package com.wallet.application.dtos;
+
+import com.wallet.domain.repositories.Pagina;
+
+/**
+ * DTO con la cabecera de una cuenta y una página de su historial.
+ * 
+ * @author Wallet Team
+ * @version 1.0.0
+ */
+public class HistorialCuentaDTO {
+    
+    private final CuentaDTO cuenta;
+    private final Pagina<TransaccionDTO> transacciones;
+    
+    public HistorialCuentaDTO(CuentaDTO cuenta, Pagina<TransaccionDTO> transacciones) {
+        this.cuenta = cuenta;
+        this.transacciones = transacciones;
+    }
+    
+    public CuentaDTO getCuenta() {
+        return cuenta;
+    }
+    
+    public Pagina<TransaccionDTO> getTransacciones() {
+        return transacciones;
+    }
+}
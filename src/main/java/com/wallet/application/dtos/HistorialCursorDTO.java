@@ -0,0 +1,29 @@
+package com.wallet.application.dtos;
+
+import com.wallet.domain.repositories.PaginaCursor;
+
+/**
+ * DTO con la cabecera de una cuenta y una página de su historial
+ * obtenida por cursor.
+ * 
+ * @author Wallet Team
+ * @version 1.0.0
+ */
+public class HistorialCursorDTO {
+    
+    private final CuentaDTO cuenta;
+    private final PaginaCursor<TransaccionDTO> transacciones;
+    
+    public HistorialCursorDTO(CuentaDTO cuenta, PaginaCursor<TransaccionDTO> transacciones) {
+        this.cuenta = cuenta;
+        this.transacciones = transacciones;
+    }
+    
+    public CuentaDTO getCuenta() {
+        return cuenta;
+    }
+    
+    public PaginaCursor<TransaccionDTO> getTransacciones() {
+        return transacciones;
+    }
+}
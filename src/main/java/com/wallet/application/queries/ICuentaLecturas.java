@@ -0,0 +1,31 @@
+package com.wallet.application.queries;
+
+import com.wallet.application.dtos.CuentaDTO;
+
+import java.util.List;
+
+/**
+ * Consultas de solo lectura de cuentas para pantallas de listado (Port).
+ * 
+ * Devuelve los DTOs directamente desde la consulta, sin construir entidades
+ * de persistencia ni de dominio. Para operaciones que necesitan las reglas
+ * del dominio se usa ICuentaRepository.
+ */
+public interface ICuentaLecturas {
+    
+    /**
+     * Lista las cuentas de un usuario, de la más reciente a la más antigua.
+     * 
+     * @param usuarioId el ID del usuario
+     * @return lista de DTOs de cuentas
+     */
+    List<CuentaDTO> listarPorUsuario(String usuarioId);
+    
+    /**
+     * Lista las cuentas activas de un usuario, de la más reciente a la más antigua.
+     * 
+     * @param usuarioId el ID del usuario
+     * @return lista de DTOs de cuentas activas
+     */
+    List<CuentaDTO> listarActivasPorUsuario(String usuarioId);
+}
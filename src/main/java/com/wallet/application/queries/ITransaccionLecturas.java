@@ -0,0 +1,59 @@
+package com.wallet.application.queries;
+
+import com.wallet.application.dtos.HistorialCuentaDTO;
+import com.wallet.application.dtos.HistorialCursorDTO;
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.domain.repositories.ConsultaTransacciones;
+import com.wallet.domain.repositories.Pagina;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Consultas de solo lectura de transacciones para pantallas de listado (Port).
+ * 
+ * Devuelve los DTOs directamente desde la consulta, sin construir entidades
+ * de persistencia ni de dominio. Para operaciones que necesitan las reglas
+ * del dominio se usa ITransaccionRepository.
+ */
+public interface ITransaccionLecturas {
+    
+    /**
+     * Obtiene una página del historial de una cuenta (por id) como DTOs.
+     * 
+     * @param consulta cuenta, filtros y página
+     * @return página de DTOs con el total que cumple los filtros
+     */
+    Pagina<TransaccionDTO> listarPagina(ConsultaTransacciones consulta);
+    
+    /**
+     * Obtiene la cuenta y una página de su historial, por número de
+     * cuenta, como DTOs y en una sola consulta.
+     * 
+     * @param consulta consulta creada con {@link ConsultaTransacciones#porNumeroCuenta}
+     * @return cuenta y página, o vacío si no existe ninguna cuenta con ese número
+     */
+    Optional<HistorialCuentaDTO> listarHistorial(ConsultaTransacciones consulta);
+    
+    /**
+     * Obtiene la cuenta y la página de su historial que sigue a un cursor,
+     * por número de cuenta, como DTOs y en una sola consulta.
+     * 
+     * @param consulta consulta creada con {@link ConsultaTransacciones#porNumeroCuenta}
+     * @param cursor token de la página anterior (null = desde el principio)
+     * @return cuenta y página, o vacío si no existe ninguna cuenta con ese número
+     * @throws IllegalArgumentException si el cursor no es válido
+     */
+    Optional<HistorialCursorDTO> listarHistorialDesdeCursor(ConsultaTransacciones consulta, String cursor);
+    
+    /**
+     * Recorre todas las transacciones de una cuenta, de la más antigua a la
+     * más reciente, entregándolas una a una sin acumularlas: la memoria no
+     * depende del tamaño del historial.
+     * 
+     * @param cuentaId el ID de la cuenta
+     * @param destino recibe cada transacción en orden
+     * @return cantidad de transacciones entregadas
+     */
+    long listarTodas(String cuentaId, Consumer<TransaccionDTO> destino);
+}
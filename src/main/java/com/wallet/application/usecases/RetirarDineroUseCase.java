@@ -7,8 +7,10 @@ import com.wallet.domain.entities.Cuenta;
 import com.wallet.domain.entities.Transaccion;
 import com.wallet.domain.exceptions.CuentaNoEncontradaException;
 import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.IMovimientoLedger;
 import com.wallet.domain.repositories.ITransaccionRepository;
 import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.TipoTransaccion;
 
 /**
  * Caso de uso para retirar dinero de una cuenta.
@@ -20,9 +22,21 @@ public class RetirarDineroUseCase {
     
     private final ICuentaRepository cuentaRepository;
     private final ITransaccionRepository transaccionRepository;
+    private final IMovimientoLedger movimientoLedger;
     
     public RetirarDineroUseCase(ICuentaRepository cuentaRepository,
                                 ITransaccionRepository transaccionRepository) {
+        this(cuentaRepository, transaccionRepository, null);
+    }
+    
+    /**
+     * Crea el caso de uso delegando el movimiento en un ledger
+     * (por ejemplo, el pipeline de group commit).
+     * Con ledger nulo se usan directamente los repositorios.
+     */
+    public RetirarDineroUseCase(ICuentaRepository cuentaRepository,
+                                ITransaccionRepository transaccionRepository,
+                                IMovimientoLedger movimientoLedger) {
         if (cuentaRepository == null) {
             throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
         }
@@ -31,6 +45,7 @@ public class RetirarDineroUseCase {
         }
         this.cuentaRepository = cuentaRepository;
         this.transaccionRepository = transaccionRepository;
+        this.movimientoLedger = movimientoLedger;
     }
     
     /**
@@ -43,6 +58,13 @@ public class RetirarDineroUseCase {
     public TransaccionDTO ejecutar(RetirarDineroRequest request) {
         validarRequest(request);
         
+        if (movimientoLedger != null) {
+            Transaccion transaccion = movimientoLedger.registrarMovimiento(
+                request.getCuentaId(), TipoTransaccion.RETIRO,
+                Dinero.de(request.getMonto()), request.getDescripcion());
+            return TransaccionMapper.toDTO(transaccion);
+        }
+        
         // Buscar la cuenta
         Cuenta cuenta = cuentaRepository.buscarPorId(request.getCuentaId())
             .orElseThrow(() -> CuentaNoEncontradaException.porId(request.getCuentaId()));
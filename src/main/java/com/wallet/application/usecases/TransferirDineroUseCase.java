@@ -9,6 +9,7 @@ import com.wallet.domain.exceptions.CuentaNoEncontradaException;
 import com.wallet.domain.exceptions.OperacionNoValidaException;
 import com.wallet.domain.repositories.ICuentaRepository;
 import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.repositories.ITransferLedger;
 import com.wallet.domain.valueobjects.Dinero;
 
 import java.util.ArrayList;
@@ -23,18 +24,42 @@ import java.util.List;
 public class TransferirDineroUseCase {
     
     private final ICuentaRepository cuentaRepository;
-    private final ITransaccionRepository transaccionRepository;
+    private final ITransferLedger transferLedger;
     
+    /**
+     * Crea el caso de uso con un ledger secuencial sobre los repositorios.
+     * Cada guardar confirma por separado; apto para repositorios en memoria.
+     */
     public TransferirDineroUseCase(ICuentaRepository cuentaRepository,
                                    ITransaccionRepository transaccionRepository) {
+        this(cuentaRepository, ledgerSecuencial(cuentaRepository, transaccionRepository));
+    }
+    
+    /**
+     * Crea el caso de uso con un ledger que registra la transferencia
+     * completa (débito, crédito y ambas transacciones) de forma atómica.
+     */
+    public TransferirDineroUseCase(ICuentaRepository cuentaRepository,
+                                   ITransferLedger transferLedger) {
+        if (cuentaRepository == null) {
+            throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
+        }
+        if (transferLedger == null) {
+            throw new IllegalArgumentException("El ledger de transferencias no puede ser nulo");
+        }
+        this.cuentaRepository = cuentaRepository;
+        this.transferLedger = transferLedger;
+    }
+    
+    private static ITransferLedger ledgerSecuencial(ICuentaRepository cuentaRepository,
+                                                    ITransaccionRepository transaccionRepository) {
         if (cuentaRepository == null) {
             throw new IllegalArgumentException("El repositorio de cuentas no puede ser nulo");
         }
         if (transaccionRepository == null) {
             throw new IllegalArgumentException("El repositorio de transacciones no puede ser nulo");
         }
-        this.cuentaRepository = cuentaRepository;
-        this.transaccionRepository = transaccionRepository;
+        return ITransferLedger.secuencial(cuentaRepository, transaccionRepository);
     }
     
     /**
@@ -82,10 +107,6 @@ public class TransferirDineroUseCase {
         Dinero saldoNuevoOrigen = cuentaOrigen.getSaldo();
         Dinero saldoNuevoDestino = cuentaDestino.getSaldo();
         
-        // Guardar las cuentas actualizadas
-        cuentaRepository.guardar(cuentaOrigen);
-        cuentaRepository.guardar(cuentaDestino);
-        
         // Crear las transacciones
         String descripcion = request.getDescripcion() != null ? 
             request.getDescripcion() : "Transferencia";
@@ -108,14 +129,15 @@ public class TransferirDineroUseCase {
             saldoNuevoDestino
         );
         
-        // Guardar las transacciones
-        Transaccion enviada = transaccionRepository.guardar(transaccionEnviada);
-        Transaccion recibida = transaccionRepository.guardar(transaccionRecibida);
+        // Guardar cuentas y transacciones en una sola unidad de trabajo
+        List<Transaccion> guardadas = transferLedger.registrarTransferencia(
+            cuentaOrigen, cuentaDestino, transaccionEnviada, transaccionRecibida);
         
         // Convertir a DTOs y retornar
         List<TransaccionDTO> resultado = new ArrayList<>();
-        resultado.add(TransaccionMapper.toDTO(enviada));
-        resultado.add(TransaccionMapper.toDTO(recibida));
+        for (Transaccion transaccion : guardadas) {
+            resultado.add(TransaccionMapper.toDTO(transaccion));
+        }
         
         return resultado;
     }
@@ -1,5 +1,6 @@
 package com.wallet.domain.entities;
 
+import com.wallet.domain.services.IGeneradorNumeroCuenta;
 import com.wallet.domain.valueobjects.Dinero;
 
 import java.time.LocalDateTime;
@@ -16,6 +17,9 @@ import java.util.UUID;
  */
 public class Cuenta {
     
+    // Infrastructure instala el generador respaldado por la BD al arrancar
+    private static volatile IGeneradorNumeroCuenta generadorNumeroCuenta = IGeneradorNumeroCuenta.local();
+    
     private final String id;
     private final String numeroCuenta;
     private final String usuarioId;
@@ -110,10 +114,22 @@ public class Cuenta {
         this.fechaActualizacion = LocalDateTime.now();
     }
     
+    /**
+     * Cambia el generador de números de las cuentas nuevas.
+     * 
+     * @param generador el generador a usar
+     * @throws IllegalArgumentException si el generador es nulo
+     */
+    public static void setGeneradorNumeroCuenta(IGeneradorNumeroCuenta generador) {
+        if (generador == null) {
+            throw new IllegalArgumentException("El generador de números de cuenta no puede ser nulo");
+        }
+        generadorNumeroCuenta = generador;
+    }
+    
     private String generarNumeroCuenta() {
-        // Genera un número de cuenta de 10 dígitos
-        long numero = System.currentTimeMillis() % 10000000000L;
-        return String.format("%010d", numero);
+        // Número de 10 dígitos con dígito verificador
+        return generadorNumeroCuenta.siguiente();
     }
     
     private String validarUsuarioId(String usuarioId) {
@@ -0,0 +1,123 @@
+package com.wallet.domain.repositories;
+
+import com.wallet.domain.valueobjects.TipoTransaccion;
+
+import java.time.LocalDateTime;
+
+/**
+ * Criterios de una consulta paginada del historial de una cuenta.
+ *
+ * Los filtros nulos no restringen. El orden es siempre del más reciente
+ * al más antiguo y, a igual fecha, por id ascendente; es el orden del
+ * índice (cuenta_id, fecha_transaccion DESC, id).
+ */
+public class ConsultaTransacciones {
+
+    private final String cuentaId;
+    private final String numeroCuenta;
+    private final TipoTransaccion tipo;
+    private final LocalDateTime desde;
+    private final LocalDateTime hasta;
+    private final int pagina;
+    private final int tamano;
+
+    /**
+     * @param cuentaId ID de la cuenta
+     * @param tipo tipo de transacción (null = todos)
+     * @param desde fecha mínima inclusiva (null = sin límite)
+     * @param hasta fecha máxima inclusiva (null = sin límite)
+     * @param pagina número de página, desde 1
+     * @param tamano transacciones por página
+     */
+    public ConsultaTransacciones(String cuentaId, TipoTransaccion tipo,
+                                 LocalDateTime desde, LocalDateTime hasta,
+                                 int pagina, int tamano) {
+        this(cuentaId, null, tipo, desde, hasta, pagina, tamano);
+        if (cuentaId == null || cuentaId.trim().isEmpty()) {
+            throw new IllegalArgumentException("El ID de la cuenta es requerido");
+        }
+    }
+
+    private ConsultaTransacciones(String cuentaId, String numeroCuenta, TipoTransaccion tipo,
+                                  LocalDateTime desde, LocalDateTime hasta,
+                                  int pagina, int tamano) {
+        if (pagina < 1) {
+            throw new IllegalArgumentException("La página debe ser al menos 1");
+        }
+        if (tamano < 1) {
+            throw new IllegalArgumentException("El tamaño de página debe ser al menos 1");
+        }
+        if (desde != null && hasta != null && desde.isAfter(hasta)) {
+            throw new IllegalArgumentException("La fecha inicial no puede ser posterior a la final");
+        }
+        this.cuentaId = cuentaId;
+        this.numeroCuenta = numeroCuenta;
+        this.tipo = tipo;
+        this.desde = desde;
+        this.hasta = hasta;
+        this.pagina = pagina;
+        this.tamano = tamano;
+    }
+
+    /**
+     * Consulta identificada por número de cuenta en lugar de id, para
+     * resolver cuenta e historial en una sola lectura.
+     *
+     * @param numeroCuenta número de la cuenta
+     * @param tipo tipo de transacción (null = todos)
+     * @param desde fecha mínima inclusiva (null = sin límite)
+     * @param hasta fecha máxima inclusiva (null = sin límite)
+     * @param pagina número de página, desde 1
+     * @param tamano transacciones por página
+     * @return la consulta
+     */
+    public static ConsultaTransacciones porNumeroCuenta(String numeroCuenta, TipoTransaccion tipo,
+                                                        LocalDateTime desde, LocalDateTime hasta,
+                                                        int pagina, int tamano) {
+        if (numeroCuenta == null || numeroCuenta.trim().isEmpty()) {
+            throw new IllegalArgumentException("El número de cuenta es requerido");
+        }
+        return new ConsultaTransacciones(null, numeroCuenta.trim(), tipo, desde, hasta, pagina, tamano);
+    }
+
+    /**
+     * @return ID de la cuenta, o null si la consulta es por número
+     */
+    public String getCuentaId() {
+        return cuentaId;
+    }
+
+    /**
+     * @return número de la cuenta, o null si la consulta es por id
+     */
+    public String getNumeroCuenta() {
+        return numeroCuenta;
+    }
+
+    public TipoTransaccion getTipo() {
+        return tipo;
+    }
+
+    public LocalDateTime getDesde() {
+        return desde;
+    }
+
+    public LocalDateTime getHasta() {
+        return hasta;
+    }
+
+    public int getPagina() {
+        return pagina;
+    }
+
+    public int getTamano() {
+        return tamano;
+    }
+
+    /**
+     * @return filas que hay que saltar para llegar a la página
+     */
+    public int getDesplazamiento() {
+        return (pagina - 1) * tamano;
+    }
+}
@@ -0,0 +1,62 @@
+package com.wallet.domain.repositories;
+
+/**
+ * Criterios de una consulta paginada del listado de usuarios.
+ *
+ * Los filtros nulos no restringen. El orden es por nombre y apellido
+ * (y por id para desempatar), el del índice (activo, nombre, apellido).
+ */
+public class ConsultaUsuarios {
+
+    private final String emailContiene;
+    private final Boolean activo;
+    private final int pagina;
+    private final int tamano;
+
+    /**
+     * @param emailContiene texto que debe aparecer en el email, sin distinguir
+     *                      mayúsculas (null o vacío = todos)
+     * @param activo true = solo activos, false = solo inactivos, null = todos
+     * @param pagina número de página, desde 1
+     * @param tamano usuarios por página
+     */
+    public ConsultaUsuarios(String emailContiene, Boolean activo, int pagina, int tamano) {
+        if (pagina < 1) {
+            throw new IllegalArgumentException("La página debe ser al menos 1");
+        }
+        if (tamano < 1) {
+            throw new IllegalArgumentException("El tamaño de página debe ser al menos 1");
+        }
+        this.emailContiene = emailContiene == null || emailContiene.isBlank()
+            ? null : emailContiene.trim().toLowerCase();
+        this.activo = activo;
+        this.pagina = pagina;
+        this.tamano = tamano;
+    }
+
+    /**
+     * @return texto buscado en el email, ya en minúsculas, o null
+     */
+    public String getEmailContiene() {
+        return emailContiene;
+    }
+
+    public Boolean getActivo() {
+        return activo;
+    }
+
+    public int getPagina() {
+        return pagina;
+    }
+
+    public int getTamano() {
+        return tamano;
+    }
+
+    /**
+     * @return filas que hay que saltar para llegar a la página
+     */
+    public int getDesplazamiento() {
+        return (pagina - 1) * tamano;
+    }
+}
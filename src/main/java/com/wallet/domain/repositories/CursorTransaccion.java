@@ -0,0 +1,98 @@
+package com.wallet.domain.repositories;
+
+import com.wallet.domain.entities.Transaccion;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posición en el historial de una cuenta para paginar por clave
+ * (keyset): la fecha y el id de la última transacción entregada.
+ *
+ * La página siguiente empieza justo después de esa posición en el orden
+ * del historial (fecha descendente, id ascendente), así que no depende
+ * de cuántas filas haya antes. Hacia fuera se expone como un token
+ * opaco, seguro para URLs y formularios.
+ */
+public final class CursorTransaccion {
+
+    private static final char SEPARADOR = '|';
+
+    private final LocalDateTime fecha;
+    private final String id;
+
+    public CursorTransaccion(LocalDateTime fecha, String id) {
+        if (fecha == null || id == null || id.isEmpty()) {
+            throw new IllegalArgumentException("El cursor requiere fecha e id");
+        }
+        this.fecha = fecha;
+        this.id = id;
+    }
+
+    /**
+     * @param transaccion última transacción de una página
+     * @return cursor que apunta justo después de ella
+     */
+    public static CursorTransaccion despuesDe(Transaccion transaccion) {
+        return new CursorTransaccion(transaccion.getFecha(), transaccion.getId());
+    }
+
+    /**
+     * @return token opaco (Base64 URL sin relleno)
+     */
+    public String codificar() {
+        String texto = fecha + String.valueOf(SEPARADOR) + id;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param token token devuelto por {@link #codificar()}
+     * @return cursor decodificado
+     * @throws IllegalArgumentException si el token no es válido
+     */
+    public static CursorTransaccion decodificar(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Cursor vacío");
+        }
+        try {
+            String texto = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separador = texto.indexOf(SEPARADOR);
+            if (separador <= 0) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            return new CursorTransaccion(LocalDateTime.parse(texto.substring(0, separador)),
+                texto.substring(separador + 1));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+
+    public LocalDateTime getFecha() {
+        return fecha;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CursorTransaccion)) return false;
+        CursorTransaccion otro = (CursorTransaccion) o;
+        return fecha.equals(otro.fecha) && id.equals(otro.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * fecha.hashCode() + id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "CursorTransaccion{" + fecha + ", " + id + "}";
+    }
+}
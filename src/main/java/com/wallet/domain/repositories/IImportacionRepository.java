@@ -0,0 +1,48 @@
+package com.wallet.domain.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Usuario;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Interfaz de alta masiva de usuarios y cuentas (Port).
+ *
+ * Pensada para importar miles de usuarios: las comprobaciones de
+ * duplicados se hacen por lotes, con una consulta para muchos valores,
+ * y cada lote se inserta en una sola transacción en lugar de una por
+ * usuario.
+ *
+ * Principios aplicados:
+ * - DIP: El servicio de importación depende de la abstracción, no de JPA
+ * - ISP: Solo las operaciones que necesita una importación
+ */
+public interface IImportacionRepository {
+
+    /**
+     * Busca cuáles de los emails dados ya están registrados.
+     *
+     * @param emails emails normalizados (como Email.getValor())
+     * @return los que ya existen
+     */
+    Set<String> buscarEmailsExistentes(Collection<String> emails);
+
+    /**
+     * Busca cuáles de los números de documento dados ya están registrados.
+     *
+     * @param documentos números de documento
+     * @return los que ya existen
+     */
+    Set<String> buscarDocumentosExistentes(Collection<String> documentos);
+
+    /**
+     * Registra los usuarios, cada uno con una cuenta nueva en la moneda
+     * por defecto y saldo cero. O se guardan todos o ninguno.
+     *
+     * @param usuarios usuarios nuevos, sin duplicados entre sí
+     * @return las cuentas creadas, en el orden de los usuarios
+     */
+    List<Cuenta> registrarConCuenta(List<Usuario> usuarios);
+}
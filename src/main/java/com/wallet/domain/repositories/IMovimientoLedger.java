@@ -0,0 +1,35 @@
+package com.wallet.domain.repositories;
+
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+
+/**
+ * Interfaz del libro de movimientos (Port).
+ * Define el contrato para aplicar un depósito o retiro sobre una cuenta
+ * y registrar su transacción como una única operación.
+ *
+ * A diferencia del flujo buscar → modificar → guardar del caso de uso,
+ * aquí la implementación lee el saldo y lo actualiza dentro de su propia
+ * unidad de trabajo. Esto le permite agrupar muchos movimientos en un
+ * solo commit sin perder actualizaciones concurrentes.
+ *
+ * Principios aplicados:
+ * - DIP: El caso de uso depende de la abstracción
+ * - ISP: Una sola operación, la de mover dinero
+ */
+public interface IMovimientoLedger {
+
+    /**
+     * Aplica un movimiento y espera a que sea durable.
+     *
+     * @param cuentaId ID de la cuenta
+     * @param tipo DEPOSITO o RETIRO
+     * @param monto monto del movimiento
+     * @param descripcion descripción de la transacción
+     * @return la transacción guardada
+     * @throws com.wallet.domain.exceptions.CuentaNoEncontradaException si la cuenta no existe
+     * @throws IllegalStateException si la cuenta está inactiva o no tiene saldo suficiente
+     */
+    Transaccion registrarMovimiento(String cuentaId, TipoTransaccion tipo, Dinero monto, String descripcion);
+}
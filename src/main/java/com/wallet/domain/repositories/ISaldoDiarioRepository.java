@@ -0,0 +1,65 @@
+package com.wallet.domain.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Interfaz de los saldos diarios por cuenta (Port).
+ *
+ * Los saldos diarios se mantienen al registrar cada transacción, así que
+ * un resumen de período o el saldo a una fecha se responden leyendo un
+ * registro por día en lugar de recorrer todas las transacciones.
+ *
+ * Principios aplicados:
+ * - DIP: Los servicios dependen de la abstracción, no de JPA
+ * - ISP: Solo consultas sobre los saldos diarios y su reconstrucción
+ */
+public interface ISaldoDiarioRepository {
+
+    /**
+     * Obtiene los días con movimientos de una cuenta entre dos fechas.
+     *
+     * @param cuentaId el ID de la cuenta
+     * @param desde primer día (incluido)
+     * @param hasta último día (incluido)
+     * @return saldos diarios en orden cronológico
+     */
+    List<SaldoDiario> buscarPorCuentaYFechas(String cuentaId, LocalDate desde, LocalDate hasta);
+
+    /**
+     * Obtiene el saldo de una cuenta al cierre de un día.
+     *
+     * @param cuentaId el ID de la cuenta
+     * @param fecha el día
+     * @return el cierre del último día con movimientos hasta esa fecha,
+     *         o vacío si la cuenta no tenía movimientos todavía
+     */
+    Optional<BigDecimal> obtenerSaldoAl(String cuentaId, LocalDate fecha);
+
+    /**
+     * Obtiene el resumen de una cuenta entre dos fechas.
+     *
+     * @param cuentaId el ID de la cuenta
+     * @param desde primer día (incluido)
+     * @param hasta último día (incluido)
+     * @return resumen del período; sin movimientos, los totales son cero
+     */
+    ResumenPeriodo obtenerResumen(String cuentaId, LocalDate desde, LocalDate hasta);
+
+    /**
+     * Recalcula los saldos diarios de una cuenta a partir de sus transacciones.
+     *
+     * @param cuentaId el ID de la cuenta
+     * @return cantidad de días escritos
+     */
+    long reconstruir(String cuentaId);
+
+    /**
+     * Recalcula los saldos diarios de todas las cuentas, una por transacción.
+     *
+     * @return cantidad de días escritos
+     */
+    long reconstruirTodos();
+}
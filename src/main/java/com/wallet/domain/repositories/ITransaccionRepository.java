@@ -77,4 +77,27 @@ public interface ITransaccionRepository {
      * @return lista de últimas transacciones
      */
     List<Transaccion> obtenerUltimasPorCuenta(String cuentaId, int limite);
+    
+    /**
+     * Obtiene una página del historial de una cuenta, filtrada por tipo y
+     * fechas. El filtrado, el orden, el límite y el conteo se resuelven en
+     * la base de datos: solo se cargan las transacciones de la página.
+     * 
+     * @param consulta cuenta, filtros y página
+     * @return página con las transacciones y el total que cumple los filtros
+     */
+    Pagina<Transaccion> buscarPagina(ConsultaTransacciones consulta);
+    
+    /**
+     * Obtiene las transacciones que siguen a un cursor en el historial de
+     * una cuenta (paginación por clave). No salta filas ni cuenta el total:
+     * el coste no depende de lo profunda que sea la página. Se ignora el
+     * número de página de la consulta.
+     * 
+     * @param consulta cuenta, filtros y tamaño de página
+     * @param cursor token devuelto por la página anterior (null = desde el principio)
+     * @return página con las transacciones y el cursor para continuar
+     * @throws IllegalArgumentException si el cursor no es válido
+     */
+    PaginaCursor<Transaccion> buscarSiguientes(ConsultaTransacciones consulta, String cursor);
 }
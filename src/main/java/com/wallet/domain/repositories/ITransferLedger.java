@@ -0,0 +1,56 @@
+package com.wallet.domain.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+
+import java.util.List;
+
+/**
+ * Interfaz del libro de transferencias (Port / Unit of Work).
+ * Define el contrato para registrar una transferencia completa
+ * como una única operación atómica.
+ *
+ * Una transferencia modifica dos cuentas y genera dos transacciones.
+ * Las implementaciones deben persistir los cuatro cambios juntos:
+ * o se guardan todos o no se guarda ninguno.
+ *
+ * Principios aplicados:
+ * - DIP: El caso de uso depende de la abstracción, no de JPA
+ * - ISP: Interfaz mínima, solo la operación de transferencia
+ */
+public interface ITransferLedger {
+
+    /**
+     * Registra una transferencia: debita el origen, acredita el destino
+     * y guarda ambas transacciones.
+     *
+     * @param cuentaOrigen cuenta origen con el saldo ya debitado
+     * @param cuentaDestino cuenta destino con el saldo ya acreditado
+     * @param enviada transacción TRANSFERENCIA_ENVIADA
+     * @param recibida transacción TRANSFERENCIA_RECIBIDA
+     * @return lista con las transacciones guardadas (enviada, recibida)
+     */
+    List<Transaccion> registrarTransferencia(Cuenta cuentaOrigen, Cuenta cuentaDestino,
+                                             Transaccion enviada, Transaccion recibida);
+
+    /**
+     * Crea un ledger que delega en los repositorios uno por uno.
+     * No es atómico: cada guardar confirma por separado. Útil para
+     * repositorios en memoria, donde no hay transacción que compartir.
+     *
+     * @param cuentaRepository repositorio de cuentas
+     * @param transaccionRepository repositorio de transacciones
+     * @return ledger secuencial
+     */
+    static ITransferLedger secuencial(ICuentaRepository cuentaRepository,
+                                      ITransaccionRepository transaccionRepository) {
+        return (cuentaOrigen, cuentaDestino, enviada, recibida) -> {
+            cuentaRepository.guardar(cuentaOrigen);
+            cuentaRepository.guardar(cuentaDestino);
+            return List.of(
+                transaccionRepository.guardar(enviada),
+                transaccionRepository.guardar(recibida)
+            );
+        };
+    }
+}
@@ -62,6 +62,16 @@ public interface IUsuarioRepository {
      */
     List<Usuario> obtenerActivos();
     
+    /**
+     * Obtiene una página del listado de usuarios, filtrada por email y
+     * estado. El filtrado, el orden, el límite y el conteo se resuelven en
+     * la base de datos.
+     * 
+     * @param consulta filtros y página
+     * @return página con los usuarios y el total que cumple los filtros
+     */
+    Pagina<Usuario> buscarPagina(ConsultaUsuarios consulta);
+    
     /**
      * Elimina un usuario por su ID.
      * 
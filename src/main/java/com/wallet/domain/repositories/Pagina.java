@@ -0,0 +1,105 @@
+package com.wallet.domain.repositories;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados de una consulta paginada.
+ *
+ * Contiene solo los elementos de la página pedida más el total de
+ * elementos que cumplen los filtros, para poder calcular el número de
+ * páginas sin traer el resto.
+ *
+ * @param <T> tipo de los elementos
+ */
+public class Pagina<T> {
+
+    private final List<T> contenido;
+    private final long total;
+    private final int numero;
+    private final int tamano;
+    private final String siguiente;
+
+    /**
+     * @param contenido elementos de la página
+     * @param total elementos que cumplen los filtros, en todas las páginas
+     * @param numero número de página (desde 1)
+     * @param tamano tamaño de página pedido
+     */
+    public Pagina(List<T> contenido, long total, int numero, int tamano) {
+        this(contenido, total, numero, tamano, null);
+    }
+
+    /**
+     * @param contenido elementos de la página
+     * @param total elementos que cumplen los filtros, en todas las páginas
+     * @param numero número de página (desde 1)
+     * @param tamano tamaño de página pedido
+     * @param siguiente cursor para continuar tras esta página, o null
+     */
+    public Pagina(List<T> contenido, long total, int numero, int tamano, String siguiente) {
+        if (contenido == null) {
+            throw new IllegalArgumentException("El contenido no puede ser nulo");
+        }
+        if (numero < 1 || tamano < 1) {
+            throw new IllegalArgumentException("El número y el tamaño de página deben ser positivos");
+        }
+        this.contenido = Collections.unmodifiableList(contenido);
+        this.total = total;
+        this.numero = numero;
+        this.tamano = tamano;
+        this.siguiente = siguiente;
+    }
+
+    /**
+     * Convierte los elementos conservando los datos de paginación.
+     *
+     * @param conversor función de conversión
+     * @param <R> tipo resultante
+     * @return nueva página con los elementos convertidos
+     */
+    public <R> Pagina<R> map(Function<? super T, ? extends R> conversor) {
+        List<R> convertidos = new ArrayList<>(contenido.size());
+        for (T elemento : contenido) {
+            convertidos.add(conversor.apply(elemento));
+        }
+        return new Pagina<>(convertidos, total, numero, tamano, siguiente);
+    }
+
+    public List<T> getContenido() {
+        return contenido;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public int getNumero() {
+        return numero;
+    }
+
+    public int getTamano() {
+        return tamano;
+    }
+
+    /**
+     * @return número de páginas (al menos 1, aunque no haya resultados)
+     */
+    public int getTotalPaginas() {
+        return (int) Math.max(1, (total + tamano - 1) / tamano);
+    }
+
+    public boolean tieneSiguiente() {
+        return numero < getTotalPaginas();
+    }
+
+    /**
+     * @return cursor para pedir la página siguiente por clave, o null si
+     *         es la última o la implementación no lo calcula
+     */
+    public String getSiguiente() {
+        return siguiente;
+    }
+}
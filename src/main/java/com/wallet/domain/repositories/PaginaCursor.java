@@ -0,0 +1,73 @@
+package com.wallet.domain.repositories;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página obtenida por cursor (keyset).
+ *
+ * No lleva total ni número de página: calcularlos obligaría a recorrer
+ * las filas anteriores, que es justo lo que el cursor evita. Solo indica
+ * desde dónde continuar.
+ *
+ * @param <T> tipo de los elementos
+ */
+public class PaginaCursor<T> {
+
+    private final List<T> contenido;
+    private final int tamano;
+    private final String siguiente;
+
+    /**
+     * @param contenido elementos de la página
+     * @param tamano tamaño de página pedido
+     * @param siguiente token para la página siguiente, o null si es la última
+     */
+    public PaginaCursor(List<T> contenido, int tamano, String siguiente) {
+        if (contenido == null) {
+            throw new IllegalArgumentException("El contenido no puede ser nulo");
+        }
+        if (tamano < 1) {
+            throw new IllegalArgumentException("El tamaño de página debe ser positivo");
+        }
+        this.contenido = Collections.unmodifiableList(contenido);
+        this.tamano = tamano;
+        this.siguiente = siguiente;
+    }
+
+    /**
+     * Convierte los elementos conservando el cursor.
+     *
+     * @param conversor función de conversión
+     * @param <R> tipo resultante
+     * @return nueva página con los elementos convertidos
+     */
+    public <R> PaginaCursor<R> map(Function<? super T, ? extends R> conversor) {
+        List<R> convertidos = new ArrayList<>(contenido.size());
+        for (T elemento : contenido) {
+            convertidos.add(conversor.apply(elemento));
+        }
+        return new PaginaCursor<>(convertidos, tamano, siguiente);
+    }
+
+    public List<T> getContenido() {
+        return contenido;
+    }
+
+    public int getTamano() {
+        return tamano;
+    }
+
+    /**
+     * @return token de continuación, o null si no hay más elementos
+     */
+    public String getSiguiente() {
+        return siguiente;
+    }
+
+    public boolean tieneSiguiente() {
+        return siguiente != null;
+    }
+}
@@ -0,0 +1,81 @@
+package com.wallet.domain.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Resumen de una cuenta entre dos fechas (ambas incluidas), como el de
+ * la cabecera de un extracto: saldo inicial y final, totales del período
+ * y cantidad de transacciones.
+ */
+public class ResumenPeriodo {
+
+    private final String cuentaId;
+    private final LocalDate desde;
+    private final LocalDate hasta;
+    private final BigDecimal saldoInicial;
+    private final BigDecimal saldoFinal;
+    private final BigDecimal creditos;
+    private final BigDecimal debitos;
+    private final long cantidad;
+
+    public ResumenPeriodo(String cuentaId, LocalDate desde, LocalDate hasta,
+                          BigDecimal saldoInicial, BigDecimal saldoFinal,
+                          BigDecimal creditos, BigDecimal debitos, long cantidad) {
+        if (cuentaId == null || desde == null || hasta == null) {
+            throw new IllegalArgumentException("La cuenta y el período son requeridos");
+        }
+        this.cuentaId = cuentaId;
+        this.desde = desde;
+        this.hasta = hasta;
+        this.saldoInicial = saldoInicial;
+        this.saldoFinal = saldoFinal;
+        this.creditos = creditos;
+        this.debitos = debitos;
+        this.cantidad = cantidad;
+    }
+
+    public String getCuentaId() {
+        return cuentaId;
+    }
+
+    public LocalDate getDesde() {
+        return desde;
+    }
+
+    public LocalDate getHasta() {
+        return hasta;
+    }
+
+    /**
+     * @return saldo al cierre del día anterior a {@code desde}
+     */
+    public BigDecimal getSaldoInicial() {
+        return saldoInicial;
+    }
+
+    /**
+     * @return saldo al cierre del día {@code hasta}
+     */
+    public BigDecimal getSaldoFinal() {
+        return saldoFinal;
+    }
+
+    public BigDecimal getCreditos() {
+        return creditos;
+    }
+
+    public BigDecimal getDebitos() {
+        return debitos;
+    }
+
+    public long getCantidad() {
+        return cantidad;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ResumenPeriodo{cuenta=%s, %s..%s, inicial=%s, final=%s, creditos=%s, debitos=%s, cantidad=%d}",
+            cuentaId, desde, hasta, saldoInicial, saldoFinal, creditos, debitos, cantidad);
+    }
+}
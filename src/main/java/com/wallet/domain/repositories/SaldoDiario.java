@@ -0,0 +1,68 @@
+package com.wallet.domain.repositories;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Resumen de un día de movimientos de una cuenta: saldo al abrir y al
+ * cerrar el día, suma de créditos y de débitos, y cantidad de
+ * transacciones. Solo existen días con al menos un movimiento.
+ */
+public class SaldoDiario {
+
+    private final String cuentaId;
+    private final LocalDate fecha;
+    private final BigDecimal saldoApertura;
+    private final BigDecimal saldoCierre;
+    private final BigDecimal creditos;
+    private final BigDecimal debitos;
+    private final long cantidad;
+
+    public SaldoDiario(String cuentaId, LocalDate fecha, BigDecimal saldoApertura, BigDecimal saldoCierre,
+                       BigDecimal creditos, BigDecimal debitos, long cantidad) {
+        if (cuentaId == null || fecha == null) {
+            throw new IllegalArgumentException("La cuenta y la fecha son requeridas");
+        }
+        this.cuentaId = cuentaId;
+        this.fecha = fecha;
+        this.saldoApertura = saldoApertura;
+        this.saldoCierre = saldoCierre;
+        this.creditos = creditos;
+        this.debitos = debitos;
+        this.cantidad = cantidad;
+    }
+
+    public String getCuentaId() {
+        return cuentaId;
+    }
+
+    public LocalDate getFecha() {
+        return fecha;
+    }
+
+    public BigDecimal getSaldoApertura() {
+        return saldoApertura;
+    }
+
+    public BigDecimal getSaldoCierre() {
+        return saldoCierre;
+    }
+
+    public BigDecimal getCreditos() {
+        return creditos;
+    }
+
+    public BigDecimal getDebitos() {
+        return debitos;
+    }
+
+    public long getCantidad() {
+        return cantidad;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SaldoDiario{cuenta=%s, fecha=%s, apertura=%s, cierre=%s, creditos=%s, debitos=%s, cantidad=%d}",
+            cuentaId, fecha, saldoApertura, saldoCierre, creditos, debitos, cantidad);
+    }
+}
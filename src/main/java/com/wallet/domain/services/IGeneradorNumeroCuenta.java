@@ -0,0 +1,103 @@
+package com.wallet.domain.services;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Interfaz para la generación de números de cuenta.
+ * Define el contrato que usa Cuenta al crear una cuenta nueva.
+ *
+ * Un número de cuenta tiene 10 dígitos: un cuerpo de 9 dígitos con ceros
+ * a la izquierda y un dígito verificador Luhn, que detecta cualquier
+ * dígito mal tipeado y casi todas las transposiciones de dígitos vecinos.
+ *
+ * Principios aplicados:
+ * - DIP: La capa de dominio define el contrato, Infrastructure lo implementa
+ * - OCP: La estrategia de numeración se cambia sin tocar Cuenta
+ */
+public interface IGeneradorNumeroCuenta {
+
+    /**
+     * Mayor cuerpo posible (9 dígitos).
+     */
+    long CUERPO_MAXIMO = 999_999_999L;
+
+    /**
+     * Genera un número de cuenta que no se ha entregado antes.
+     * Las implementaciones deben poder llamarse desde varios hilos.
+     *
+     * @return número de 10 dígitos con dígito verificador
+     * @throws IllegalStateException si se agotaron los números
+     * @throws RuntimeException si no se puede reservar un rango de números
+     */
+    String siguiente();
+
+    /**
+     * Generador en memoria: un contador atómico, sin bloqueos, que arranca
+     * en un punto aleatorio. No hay repeticiones dentro de un proceso, pero
+     * nada coordina procesos distintos ni sobrevive a un reinicio; sirve
+     * para tests y para ejecutar el dominio sin base de datos.
+     *
+     * @return generador local
+     */
+    static IGeneradorNumeroCuenta local() {
+        AtomicLong contador = new AtomicLong(ThreadLocalRandom.current().nextLong(1, CUERPO_MAXIMO / 2));
+        return () -> {
+            long cuerpo = contador.getAndIncrement();
+            if (cuerpo > CUERPO_MAXIMO) {
+                throw new IllegalStateException("Se agotaron los números de cuenta");
+            }
+            return conDigitoVerificador(cuerpo);
+        };
+    }
+
+    /**
+     * Forma el número de cuenta de un cuerpo.
+     *
+     * @param cuerpo valor entre 0 y CUERPO_MAXIMO
+     * @return cuerpo de 9 dígitos seguido del dígito verificador
+     * @throws IllegalArgumentException si el cuerpo está fuera de rango
+     */
+    static String conDigitoVerificador(long cuerpo) {
+        if (cuerpo < 0 || cuerpo > CUERPO_MAXIMO) {
+            throw new IllegalArgumentException("Cuerpo de número de cuenta fuera de rango: " + cuerpo);
+        }
+        String digitos = String.format("%09d", cuerpo);
+        return digitos + digitoVerificador(digitos);
+    }
+
+    /**
+     * Verifica el formato y el dígito verificador de un número de cuenta.
+     *
+     * @param numeroCuenta número a verificar
+     * @return true si tiene 10 dígitos y el verificador es correcto
+     */
+    static boolean esValido(String numeroCuenta) {
+        if (numeroCuenta == null || !numeroCuenta.matches("\\d{10}")) {
+            return false;
+        }
+        return digitoVerificador(numeroCuenta.substring(0, 9)) == numeroCuenta.charAt(9) - '0';
+    }
+
+    /**
+     * Dígito Luhn: desde la derecha, se duplica un dígito sí y otro no
+     * (empezando por el último del cuerpo) y se completa la suma hasta el
+     * siguiente múltiplo de 10.
+     */
+    private static int digitoVerificador(String cuerpo) {
+        int suma = 0;
+        boolean duplicar = true;
+        for (int i = cuerpo.length() - 1; i >= 0; i--) {
+            int digito = cuerpo.charAt(i) - '0';
+            if (duplicar) {
+                digito *= 2;
+                if (digito > 9) {
+                    digito -= 9;
+                }
+            }
+            suma += digito;
+            duplicar = !duplicar;
+        }
+        return (10 - suma % 10) % 10;
+    }
+}
@@ -18,6 +18,7 @@ public final class Dinero {
     private static final int ESCALA_DECIMAL = 2;
     private static final RoundingMode MODO_REDONDEO = RoundingMode.HALF_UP;
     
+    public static final String MONEDA_POR_DEFECTO = "PEN";
     public static final Dinero CERO = new Dinero(BigDecimal.ZERO);
     
     private final BigDecimal cantidad;
@@ -29,7 +30,7 @@ public final class Dinero {
      * @param cantidad la cantidad de dinero
      */
     public Dinero(BigDecimal cantidad) {
-        this(cantidad, "PEN");
+        this(cantidad, MONEDA_POR_DEFECTO);
     }
     
     /**
@@ -41,10 +42,21 @@ public final class Dinero {
      */
     public Dinero(BigDecimal cantidad, String moneda) {
         validar(cantidad, moneda);
-        this.cantidad = cantidad.setScale(ESCALA_DECIMAL, MODO_REDONDEO);
+        this.cantidad = redondear(cantidad);
         this.moneda = moneda.toUpperCase();
     }
     
+    /**
+     * Lleva una cantidad a la escala y redondeo de Dinero, sin crear el
+     * objeto. Si ya tiene dos decimales devuelve la misma instancia.
+     * 
+     * @param cantidad la cantidad a normalizar
+     * @return la cantidad con dos decimales
+     */
+    public static BigDecimal redondear(BigDecimal cantidad) {
+        return cantidad.setScale(ESCALA_DECIMAL, MODO_REDONDEO);
+    }
+    
     /**
      * Crea un Dinero desde un double.
      * 
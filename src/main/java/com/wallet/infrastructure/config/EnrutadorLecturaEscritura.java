@@ -0,0 +1,83 @@
+package com.wallet.infrastructure.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Enrutador automático de lecturas y escrituras (Proxy Pattern).
+ *
+ * Envuelve un repositorio detrás de su interfaz (puerto). Los métodos de
+ * consulta (buscar*, obtener*, existe*, listar*, contar*) se ejecutan con
+ * el hilo marcado como lectura, de modo que JPAConfiguration.getEntityManager()
+ * entrega conexiones del pool de lectores. El resto (guardar, eliminar, ...)
+ * usa el escritor único.
+ *
+ * Los repositorios no cambian: siguen pidiendo getEntityManager() y la
+ * decisión se toma por el nombre del método invocado.
+ *
+ * Uso:
+ * ICuentaRepository repo = EnrutadorLecturaEscritura.envolver(
+ *     ICuentaRepository.class, new CuentaJPARepository());
+ */
+public final class EnrutadorLecturaEscritura {
+
+    private static final String[] PREFIJOS_LECTURA = {
+        "buscar", "obtener", "existe", "listar", "contar"
+    };
+
+    private EnrutadorLecturaEscritura() {
+        throw new AssertionError("No se debe instanciar EnrutadorLecturaEscritura");
+    }
+
+    /**
+     * Envuelve un repositorio para enrutar sus consultas al pool de lectores.
+     *
+     * @param puerto interfaz del repositorio
+     * @param repositorio implementación a envolver
+     * @return proxy que implementa la interfaz
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T envolver(Class<T> puerto, T repositorio) {
+        if (puerto == null || !puerto.isInterface()) {
+            throw new IllegalArgumentException("El puerto debe ser una interfaz");
+        }
+        if (repositorio == null) {
+            throw new IllegalArgumentException("El repositorio no puede ser nulo");
+        }
+        return (T) Proxy.newProxyInstance(
+            puerto.getClassLoader(),
+            new Class<?>[] { puerto },
+            (proxy, metodo, args) -> invocar(repositorio, metodo, args));
+    }
+
+    /**
+     * Indica si un método del repositorio es de solo lectura según su nombre.
+     *
+     * @param nombreMetodo nombre del método
+     * @return true si debe ir al pool de lectores
+     */
+    public static boolean esLectura(String nombreMetodo) {
+        for (String prefijo : PREFIJOS_LECTURA) {
+            if (nombreMetodo.startsWith(prefijo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object invocar(Object repositorio, Method metodo, Object[] args) throws Throwable {
+        if (metodo.getDeclaringClass() == Object.class) {
+            return metodo.invoke(repositorio, args);
+        }
+
+        boolean anterior = JPAConfiguration.marcarLectura(esLectura(metodo.getName()));
+        try {
+            return metodo.invoke(repositorio, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            JPAConfiguration.marcarLectura(anterior);
+        }
+    }
+}
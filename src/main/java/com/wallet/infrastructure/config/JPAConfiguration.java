@@ -1,11 +1,15 @@
 package com.wallet.infrastructure.config;
 
+import com.wallet.infrastructure.logging.OperationLogger;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 import jakarta.persistence.Persistence;
-import java.sql.Connection;
-import java.sql.DriverManager;
+import org.hibernate.Session;
 import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Configuración centralizada de JPA/Hibernate.
@@ -14,6 +18,17 @@ import java.sql.Statement;
  * - Creación y cierre de EntityManagerFactory
  * - Obtención de EntityManager para operaciones CRUD
  * - Gestión de transacciones
+ * - Pools de conexiones separados para escritura y lectura
+ * - Perfil de PRAGMA de SQLite aplicado a cada conexión (PerfilSQLite)
+ *
+ * SQLite admite un solo escritor a la vez, pero en modo WAL los lectores
+ * no se bloquean con él. Por eso hay dos EntityManagerFactory:
+ * - Escritor: pool de 1 conexión; todas las escrituras se serializan aquí
+ * - Lectores: pool de N conexiones de solo lectura (-Dwallet.db.lectores)
+ *
+ * getEntityManager() devuelve un EntityManager de lectura mientras el
+ * hilo está dentro de una consulta marcada por EnrutadorLecturaEscritura;
+ * en cualquier otro caso devuelve uno del escritor.
  *
  * Patrón: Singleton
  * Thread-safety: Sí (EntityManagerFactory es thread-safe)
@@ -21,7 +36,20 @@ import java.sql.Statement;
 public class JPAConfiguration {
 
     private static final String PERSISTENCE_UNIT_NAME = "WalletPU";
+    private static final String URL_POR_DEFECTO = "jdbc:sqlite:wallet.db";
     private static EntityManagerFactory entityManagerFactory;
+    private static EntityManagerFactory entityManagerFactoryLectura;
+    private static HikariDataSource poolEscritor;
+    private static HikariDataSource poolLectores;
+    private static PerfilSQLite perfil;
+
+    // Marca los hilos que ejecutan una consulta enrutada a los lectores
+    private static final ThreadLocal<Boolean> enLectura = ThreadLocal.withInitial(() -> false);
+
+    // Checkpoint WAL tras cada commit (opcional, desactivado por defecto).
+    // Con journal_mode=WAL y synchronous=FULL el commit ya es durable.
+    private static volatile boolean checkpointTrasCommit =
+        Boolean.getBoolean("wallet.db.checkpointTrasCommit");
 
     /**
      * Inicializa la fábrica de EntityManager.
@@ -30,33 +58,129 @@ public class JPAConfiguration {
     public static void initialize() {
         if (entityManagerFactory == null) {
             try {
-                // Configurar SQLite con PRAGMA
-                configureSQLitePragmas();
-                
-                entityManagerFactory = Persistence.createEntityManagerFactory(PERSISTENCE_UNIT_NAME);
+                String url = getUrl();
+                perfil = PerfilSQLite.actual();
+
+                // El escritor va primero: hbm2ddl crea el archivo y las tablas
+                poolEscritor = crearPool("wallet-escritor", url, 1, false);
+                entityManagerFactory = Persistence.createEntityManagerFactory(
+                    PERSISTENCE_UNIT_NAME, propiedades(poolEscritor, "update"));
+
+                poolLectores = crearPool("wallet-lectores", url, getTamanoPoolLectores(), true);
+                entityManagerFactoryLectura = Persistence.createEntityManagerFactory(
+                    PERSISTENCE_UNIT_NAME, propiedades(poolLectores, "none"));
             } catch (Exception e) {
                 e.printStackTrace();
+                close();
                 throw new RuntimeException("No se pudo inicializar JPA", e);
             }
         }
     }
 
     /**
-     * Configura las PRAGMA de SQLite para durabilidad.
+     * @return URL JDBC de la base de datos (-Dwallet.db.url)
+     */
+    public static String getUrl() {
+        return System.getProperty("wallet.db.url", URL_POR_DEFECTO);
+    }
+
+    /**
+     * Número de conexiones de solo lectura.
+     * Configurable con -Dwallet.db.lectores; por defecto, un lector por
+     * núcleo con un mínimo de 2 y un máximo de 8.
+     *
+     * @return tamaño del pool de lectores
+     */
+    public static int getTamanoPoolLectores() {
+        int porDefecto = Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+        return Math.max(1, Integer.getInteger("wallet.db.lectores", porDefecto));
+    }
+
+    /**
+     * @return perfil de PRAGMA aplicado a las conexiones, o null si no está inicializado
+     */
+    public static PerfilSQLite getPerfil() {
+        return perfil;
+    }
+
+    /**
+     * Crea un pool HikariCP sobre SQLite.
+     * Cada conexión nueva recibe las PRAGMA del perfil activo.
+     *
+     * @param nombre nombre del pool (aparece en logs y JMX)
+     * @param url URL JDBC
+     * @param tamano número máximo de conexiones
+     * @param soloLectura true para abrir las conexiones en modo solo lectura
+     * @return el pool listo para usar
+     */
+    private static HikariDataSource crearPool(String nombre, String url, int tamano, boolean soloLectura) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(nombre);
+        config.setDataSource(new SQLiteDataSourceConPerfil(url, perfil, soloLectura));
+        config.setMaximumPoolSize(tamano);
+        config.setMinimumIdle(1);
+        // Hikari también debe saberlo, o intenta volver a modo escritura
+        config.setReadOnly(soloLectura);
+        return new HikariDataSource(config);
+    }
+
+    /**
+     * Propiedades que sobrescriben persistence.xml para una de las fábricas.
      */
-    private static void configureSQLitePragmas() {
+    private static Map<String, Object> propiedades(HikariDataSource pool, String hbm2ddl) {
+        Map<String, Object> propiedades = new HashMap<>();
+        propiedades.put("hibernate.connection.datasource", pool);
+        propiedades.put("hibernate.hbm2ddl.auto", hbm2ddl);
+        return propiedades;
+    }
+
+    /**
+     * Confirma que una escritura ya confirmada es durable.
+     *
+     * El contrato de durabilidad es el propio commit: con journal_mode=WAL
+     * y synchronous=FULL (perfil DURABLE), SQLite sincroniza el WAL a disco
+     * antes de que commit() retorne, y cualquier EntityManager nuevo ve los
+     * datos. Los perfiles EQUILIBRADO y CARGA_MASIVA relajan el fsync.
+     * No hace falta esperar ni abrir conexiones adicionales.
+     *
+     * Si checkpointTrasCommit está activo, además traslada el WAL a la
+     * base de datos principal (PRAGMA wal_checkpoint(PASSIVE)) usando una
+     * conexión del pool. Útil para herramientas externas que leen wallet.db
+     * sin soporte WAL. El checkpoint es un extra: si falla solo se registra,
+     * porque la escritura ya es durable y un error haría que el llamador la
+     * diera por fallida y la repitiera.
+     */
+    public static void confirmarEscritura() {
+        if (!checkpointTrasCommit) {
+            return;
+        }
+        EntityManager em = null;
         try {
-            Class.forName("org.sqlite.JDBC");
-            try (Connection conn = DriverManager.getConnection("jdbc:sqlite:wallet.db");
-                 Statement stmt = conn.createStatement()) {
-                stmt.execute("PRAGMA synchronous = FULL");
-                stmt.execute("PRAGMA journal_mode = WAL");
+            em = getEntityManager();
+            em.unwrap(Session.class).doWork(conn -> {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("PRAGMA wal_checkpoint(PASSIVE)");
+                }
+            });
+        } catch (RuntimeException e) {
+            OperationLogger.logError("BaseDatos", "wal", "Checkpoint tras commit fallido", e);
+        } finally {
+            if (em != null) {
+                em.close();
             }
-        } catch (Exception e) {
-            // No es fatal, continuar de todas formas
         }
     }
 
+    /**
+     * Activa o desactiva el checkpoint WAL tras cada commit.
+     * También configurable con -Dwallet.db.checkpointTrasCommit=true
+     *
+     * @param activo true para hacer checkpoint tras cada escritura
+     */
+    public static void setCheckpointTrasCommit(boolean activo) {
+        checkpointTrasCommit = activo;
+    }
+
     /**
      * Obtiene un nuevo EntityManager.
      * Cada llamada retorna una nueva instancia.
@@ -69,9 +193,44 @@ public class JPAConfiguration {
         if (entityManagerFactory == null) {
             throw new IllegalStateException("JPAConfiguration no inicializado. Llama a initialize() primero.");
         }
+        if (enLectura.get() && entityManagerFactoryLectura != null) {
+            return entityManagerFactoryLectura.createEntityManager();
+        }
         return entityManagerFactory.createEntityManager();
     }
 
+    /**
+     * Obtiene un EntityManager del pool de lectores.
+     * Sus conexiones son de solo lectura: no admite persist/merge/remove.
+     *
+     * @return EntityManager de solo lectura
+     * @throws IllegalStateException si JPAConfiguration no está inicializado
+     */
+    public static EntityManager getEntityManagerLectura() {
+        if (entityManagerFactoryLectura == null) {
+            throw new IllegalStateException("JPAConfiguration no inicializado. Llama a initialize() primero.");
+        }
+        return entityManagerFactoryLectura.createEntityManager();
+    }
+
+    /**
+     * Marca el hilo actual como dentro (o fuera) de una consulta de lectura.
+     * Lo usa EnrutadorLecturaEscritura; devuelve el valor anterior para
+     * poder restaurarlo en llamadas anidadas.
+     */
+    static boolean marcarLectura(boolean lectura) {
+        boolean anterior = enLectura.get();
+        enLectura.set(lectura);
+        return anterior;
+    }
+
+    /**
+     * @return true si el hilo actual está dentro de una consulta enrutada a lectores
+     */
+    public static boolean isEnLectura() {
+        return enLectura.get();
+    }
+
     /**
      * Obtiene la EntityManagerFactory actual.
      * Útil para acceso directo si es necesario.
@@ -91,9 +250,22 @@ public class JPAConfiguration {
      * Libera conexiones y recursos.
      */
     public static void close() {
+        if (entityManagerFactoryLectura != null && entityManagerFactoryLectura.isOpen()) {
+            entityManagerFactoryLectura.close();
+        }
+        entityManagerFactoryLectura = null;
         if (entityManagerFactory != null && entityManagerFactory.isOpen()) {
             entityManagerFactory.close();
-            entityManagerFactory = null;
+        }
+        entityManagerFactory = null;
+        perfil = null;
+        if (poolLectores != null) {
+            poolLectores.close();
+            poolLectores = null;
+        }
+        if (poolEscritor != null) {
+            poolEscritor.close();
+            poolEscritor = null;
         }
     }
 
@@ -119,7 +291,7 @@ public class JPAConfiguration {
      * @param operation Función que recibe EntityManager
      * @throws Exception Si ocurre error en la operación
      */
-    public static void executeInTransaction(Consumer<EntityManager> operation) throws Exception {
+    public static void executeInTransaction(TransactionalConsumer<EntityManager> operation) throws Exception {
         EntityManager em = getEntityManager();
         try {
             em.getTransaction().begin();
@@ -150,7 +322,7 @@ public class JPAConfiguration {
      * @return Resultado de la operación
      * @throws Exception Si ocurre error en la operación
      */
-    public static <T> T executeInTransaction(Function<EntityManager, T> query) throws Exception {
+    public static <T> T executeInTransaction(TransactionalFunction<EntityManager, T> query) throws Exception {
         EntityManager em = getEntityManager();
         try {
             em.getTransaction().begin();
@@ -175,7 +347,7 @@ public class JPAConfiguration {
      * @return Resultado de la operación
      * @throws Exception Si ocurre error en la operación
      */
-    public static <T> T executeQuery(Function<EntityManager, T> query) throws Exception {
+    public static <T> T executeQuery(TransactionalFunction<EntityManager, T> query) throws Exception {
         EntityManager em = getEntityManager();
         try {
             return query.apply(em);
@@ -183,15 +355,18 @@ public class JPAConfiguration {
             em.close();
         }
     }
-}
 
-// Interfaces funcionales para los métodos de transacción
-@FunctionalInterface
-interface Consumer<T> {
-    void accept(T t) throws Exception;
-}
+    // Interfaces funcionales para los métodos de transacción.
+    // Son públicas para que repositorios y ledgers de otros paquetes
+    // puedan agrupar varias escrituras en un único commit.
 
-@FunctionalInterface
-interface Function<T, R> {
-    R apply(T t) throws Exception;
+    @FunctionalInterface
+    public interface TransactionalConsumer<T> {
+        void accept(T t) throws Exception;
+    }
+
+    @FunctionalInterface
+    public interface TransactionalFunction<T, R> {
+        R apply(T t) throws Exception;
+    }
 }
@@ -0,0 +1,109 @@
+package com.wallet.infrastructure.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * Perfiles de ajuste de SQLite aplicados a cada conexión del pool.
+ *
+ * Las PRAGMA de conexión (cache_size, mmap_size, temp_store, busy_timeout,
+ * foreign_keys, synchronous) solo afectan a la conexión que las ejecuta,
+ * así que se aplican cada vez que el pool abre una conexión nueva.
+ *
+ * Perfiles:
+ * - DURABLE: synchronous=FULL. Cada commit se sincroniza a disco (defecto)
+ * - EQUILIBRADO: synchronous=NORMAL. En WAL, un commit sobrevive a la caída
+ *   de la aplicación; ante un corte de luz pueden perderse los últimos
+ * - CARGA_MASIVA: synchronous=OFF y más caché, para importaciones
+ *   que se pueden repetir desde el origen
+ *
+ * Se elige con -Dwallet.db.perfil=durable|equilibrado|carga-masiva
+ */
+public enum PerfilSQLite {
+
+    DURABLE("FULL", 16 * 1024, 64L * 1024 * 1024),
+    EQUILIBRADO("NORMAL", 32 * 1024, 256L * 1024 * 1024),
+    CARGA_MASIVA("OFF", 64 * 1024, 256L * 1024 * 1024);
+
+    private static final int BUSY_TIMEOUT_MS = 5000;
+
+    private final String synchronous;
+    private final int cacheKb;
+    private final long mmapBytes;
+
+    PerfilSQLite(String synchronous, int cacheKb, long mmapBytes) {
+        this.synchronous = synchronous;
+        this.cacheKb = cacheKb;
+        this.mmapBytes = mmapBytes;
+    }
+
+    /**
+     * Obtiene el perfil configurado con -Dwallet.db.perfil (DURABLE si no hay).
+     *
+     * @return perfil activo
+     */
+    public static PerfilSQLite actual() {
+        return desde(System.getProperty("wallet.db.perfil"));
+    }
+
+    /**
+     * Interpreta el nombre de un perfil ("durable", "equilibrado", "carga-masiva").
+     *
+     * @param nombre nombre del perfil; nulo o vacío equivale a DURABLE
+     * @return el perfil correspondiente
+     * @throws IllegalArgumentException si el nombre no corresponde a ningún perfil
+     */
+    public static PerfilSQLite desde(String nombre) {
+        if (nombre == null || nombre.isBlank()) {
+            return DURABLE;
+        }
+        String normalizado = nombre.trim().toUpperCase(Locale.ROOT).replace('-', '_');
+        for (PerfilSQLite perfil : values()) {
+            if (perfil.name().equals(normalizado)) {
+                return perfil;
+            }
+        }
+        throw new IllegalArgumentException("Perfil de SQLite desconocido: " + nombre);
+    }
+
+    /**
+     * Aplica las PRAGMA del perfil a una conexión recién abierta.
+     *
+     * @param conn conexión SQLite
+     * @throws SQLException si alguna PRAGMA falla
+     */
+    public void aplicar(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("PRAGMA busy_timeout = " + BUSY_TIMEOUT_MS);
+            stmt.execute("PRAGMA foreign_keys = ON");
+            stmt.execute("PRAGMA temp_store = MEMORY");
+            // Valor negativo: tamaño en KiB en lugar de páginas
+            stmt.execute("PRAGMA cache_size = -" + cacheKb);
+            stmt.execute("PRAGMA mmap_size = " + mmapBytes);
+            stmt.execute("PRAGMA synchronous = " + synchronous);
+        }
+    }
+
+    /**
+     * @return nivel de synchronous del perfil (FULL, NORMAL u OFF)
+     */
+    public String getSynchronous() {
+        return synchronous;
+    }
+
+    /**
+     * @return tamaño de la caché de páginas en KiB
+     */
+    public int getCacheKb() {
+        return cacheKb;
+    }
+
+    /**
+     * @return bytes de la base de datos leídos mediante mmap
+     */
+    public long getMmapBytes() {
+        return mmapBytes;
+    }
+}
@@ -0,0 +1,53 @@
+package com.wallet.infrastructure.config;
+
+import org.sqlite.SQLiteConfig;
+import org.sqlite.SQLiteConnection;
+import org.sqlite.SQLiteDataSource;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource de SQLite que aplica un PerfilSQLite a cada conexión que abre.
+ *
+ * HikariCP lo usa como origen de conexiones, de modo que el perfil se
+ * aplica exactamente una vez por conexión física del pool. La conexión
+ * del escritor además asegura journal_mode=WAL, que es persistente en el
+ * archivo y permite a los lectores trabajar sin bloquearse con él.
+ */
+class SQLiteDataSourceConPerfil extends SQLiteDataSource {
+
+    private final PerfilSQLite perfil;
+    private final boolean soloLectura;
+
+    SQLiteDataSourceConPerfil(String url, PerfilSQLite perfil, boolean soloLectura) {
+        super(crearConfig(soloLectura));
+        setUrl(url);
+        this.perfil = perfil;
+        this.soloLectura = soloLectura;
+    }
+
+    private static SQLiteConfig crearConfig(boolean soloLectura) {
+        SQLiteConfig config = new SQLiteConfig();
+        // SQLITE_OPEN_READONLY: cualquier escritura falla en la propia conexión
+        config.setReadOnly(soloLectura);
+        return config;
+    }
+
+    @Override
+    public SQLiteConnection getConnection(String username, String password) throws SQLException {
+        SQLiteConnection conn = super.getConnection(username, password);
+        try {
+            if (!soloLectura) {
+                try (Statement stmt = conn.createStatement()) {
+                    stmt.execute("PRAGMA journal_mode = WAL");
+                }
+            }
+            perfil.aplicar(conn);
+            return conn;
+        } catch (SQLException e) {
+            conn.close();
+            throw e;
+        }
+    }
+}
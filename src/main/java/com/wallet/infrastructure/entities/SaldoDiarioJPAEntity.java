@@ -0,0 +1,186 @@
+package com.wallet.infrastructure.entities;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Entidad JPA que representa el saldo diario de una Cuenta.
+ *
+ * Esta clase mapea la tabla 'saldos_diarios': una fila por cuenta y día
+ * con movimientos. La clave (cuenta_id, fecha) sirve también de índice
+ * para los rangos de fechas y para buscar el último día anterior a una
+ * fecha.
+ */
+@Entity
+@Table(name = "saldos_diarios")
+public class SaldoDiarioJPAEntity {
+
+    @EmbeddedId
+    private Clave clave;
+
+    @Column(name = "saldo_apertura", nullable = false, precision = 19, scale = 2)
+    private BigDecimal saldoApertura;
+
+    @Column(name = "saldo_cierre", nullable = false, precision = 19, scale = 2)
+    private BigDecimal saldoCierre;
+
+    @Column(name = "creditos", nullable = false, precision = 19, scale = 2)
+    private BigDecimal creditos;
+
+    @Column(name = "debitos", nullable = false, precision = 19, scale = 2)
+    private BigDecimal debitos;
+
+    @Column(name = "cantidad", nullable = false)
+    private long cantidad;
+
+    // Momentos de la primera y la última transacción del día: deciden qué
+    // saldo anterior es la apertura y qué saldo nuevo es el cierre
+    @Column(name = "primera_transaccion", nullable = false)
+    private LocalDateTime primeraTransaccion;
+
+    @Column(name = "ultima_transaccion", nullable = false)
+    private LocalDateTime ultimaTransaccion;
+
+    /**
+     * Clave compuesta: cuenta y día.
+     */
+    @Embeddable
+    public static class Clave implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Column(name = "cuenta_id", length = 36, nullable = false)
+        private String cuentaId;
+
+        @Column(name = "fecha", nullable = false)
+        private LocalDate fecha;
+
+        public Clave() {
+            // Constructor vacío requerido por JPA
+        }
+
+        public Clave(String cuentaId, LocalDate fecha) {
+            this.cuentaId = cuentaId;
+            this.fecha = fecha;
+        }
+
+        public String getCuentaId() {
+            return cuentaId;
+        }
+
+        public LocalDate getFecha() {
+            return fecha;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Clave)) return false;
+            Clave otra = (Clave) o;
+            return Objects.equals(cuentaId, otra.cuentaId) && Objects.equals(fecha, otra.fecha);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cuentaId, fecha);
+        }
+    }
+
+    // Constructores
+    public SaldoDiarioJPAEntity() {
+        // Constructor vacío requerido por JPA
+    }
+
+    public SaldoDiarioJPAEntity(Clave clave, BigDecimal saldoApertura, BigDecimal saldoCierre,
+                                BigDecimal creditos, BigDecimal debitos, long cantidad,
+                                LocalDateTime primeraTransaccion, LocalDateTime ultimaTransaccion) {
+        this.clave = clave;
+        this.saldoApertura = saldoApertura;
+        this.saldoCierre = saldoCierre;
+        this.creditos = creditos;
+        this.debitos = debitos;
+        this.cantidad = cantidad;
+        this.primeraTransaccion = primeraTransaccion;
+        this.ultimaTransaccion = ultimaTransaccion;
+    }
+
+    // Getters y Setters
+    public Clave getClave() {
+        return clave;
+    }
+
+    public void setClave(Clave clave) {
+        this.clave = clave;
+    }
+
+    public BigDecimal getSaldoApertura() {
+        return saldoApertura;
+    }
+
+    public void setSaldoApertura(BigDecimal saldoApertura) {
+        this.saldoApertura = saldoApertura;
+    }
+
+    public BigDecimal getSaldoCierre() {
+        return saldoCierre;
+    }
+
+    public void setSaldoCierre(BigDecimal saldoCierre) {
+        this.saldoCierre = saldoCierre;
+    }
+
+    public BigDecimal getCreditos() {
+        return creditos;
+    }
+
+    public void setCreditos(BigDecimal creditos) {
+        this.creditos = creditos;
+    }
+
+    public BigDecimal getDebitos() {
+        return debitos;
+    }
+
+    public void setDebitos(BigDecimal debitos) {
+        this.debitos = debitos;
+    }
+
+    public long getCantidad() {
+        return cantidad;
+    }
+
+    public void setCantidad(long cantidad) {
+        this.cantidad = cantidad;
+    }
+
+    public LocalDateTime getPrimeraTransaccion() {
+        return primeraTransaccion;
+    }
+
+    public void setPrimeraTransaccion(LocalDateTime primeraTransaccion) {
+        this.primeraTransaccion = primeraTransaccion;
+    }
+
+    public LocalDateTime getUltimaTransaccion() {
+        return ultimaTransaccion;
+    }
+
+    public void setUltimaTransaccion(LocalDateTime ultimaTransaccion) {
+        this.ultimaTransaccion = ultimaTransaccion;
+    }
+
+    @Override
+    public String toString() {
+        return "SaldoDiarioJPAEntity{" +
+                "cuentaId='" + (clave != null ? clave.cuentaId : null) + '\'' +
+                ", fecha=" + (clave != null ? clave.fecha : null) +
+                ", saldoApertura=" + saldoApertura +
+                ", saldoCierre=" + saldoCierre +
+                ", cantidad=" + cantidad +
+                '}';
+    }
+}
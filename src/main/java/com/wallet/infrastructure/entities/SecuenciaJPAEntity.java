@@ -0,0 +1,51 @@
+package com.wallet.infrastructure.entities;
+
+import jakarta.persistence.*;
+
+/**
+ * Entidad JPA que representa una secuencia con nombre.
+ *
+ * Esta clase mapea la tabla 'secuencias': cada fila guarda el siguiente
+ * valor libre. Quien necesita valores reserva un bloque entero sumando su
+ * tamaño en una transacción, y luego los reparte en memoria.
+ */
+@Entity
+@Table(name = "secuencias")
+public class SecuenciaJPAEntity {
+
+    @Id
+    @Column(name = "nombre", length = 50, nullable = false)
+    private String nombre;
+
+    @Column(name = "siguiente", nullable = false)
+    private long siguiente;
+
+    public SecuenciaJPAEntity() {
+        // Constructor vacío requerido por JPA
+    }
+
+    public SecuenciaJPAEntity(String nombre, long siguiente) {
+        this.nombre = nombre;
+        this.siguiente = siguiente;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public long getSiguiente() {
+        return siguiente;
+    }
+
+    public void setSiguiente(long siguiente) {
+        this.siguiente = siguiente;
+    }
+
+    @Override
+    public String toString() {
+        return "SecuenciaJPAEntity{" +
+                "nombre='" + nombre + '\'' +
+                ", siguiente=" + siguiente +
+                '}';
+    }
+}
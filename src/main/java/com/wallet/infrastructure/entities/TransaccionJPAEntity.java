@@ -13,7 +13,9 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "transacciones", indexes = {
     @Index(name = "idx_transacciones_cuenta_id", columnList = "cuenta_id"),
-    @Index(name = "idx_transacciones_fecha", columnList = "fecha_transaccion")
+    @Index(name = "idx_transacciones_fecha", columnList = "fecha_transaccion"),
+    // Historial paginado por cuenta: filtra, ordena y busca el cursor sin ordenar aparte
+    @Index(name = "idx_transacciones_cuenta_fecha_id", columnList = "cuenta_id, fecha_transaccion DESC, id")
 })
 public class TransaccionJPAEntity {
 
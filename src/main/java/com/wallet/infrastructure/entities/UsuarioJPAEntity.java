@@ -15,7 +15,10 @@ import java.util.List;
 @Entity
 @Table(name = "usuarios", indexes = {
     @Index(name = "idx_usuarios_email", columnList = "email", unique = true),
-    @Index(name = "idx_usuarios_documento", columnList = "documento", unique = true)
+    @Index(name = "idx_usuarios_documento", columnList = "documento", unique = true),
+    // Listado paginado: filtro por estado y orden por nombre sin ordenar aparte
+    @Index(name = "idx_usuarios_activo_nombre", columnList = "activo, nombre, apellido, id"),
+    @Index(name = "idx_usuarios_nombre", columnList = "nombre, apellido, id")
 })
 public class UsuarioJPAEntity {
 
@@ -1,11 +1,27 @@
 package com.wallet.infrastructure.factories;
 
+import com.wallet.application.queries.ICuentaLecturas;
+import com.wallet.application.queries.ITransaccionLecturas;
 import com.wallet.domain.repositories.IUsuarioRepository;
 import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.IImportacionRepository;
+import com.wallet.domain.repositories.IMovimientoLedger;
+import com.wallet.domain.repositories.ISaldoDiarioRepository;
 import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.repositories.ITransferLedger;
+import com.wallet.domain.services.IGeneradorNumeroCuenta;
+import com.wallet.infrastructure.config.EnrutadorLecturaEscritura;
 import com.wallet.infrastructure.repositories.UsuarioJPARepository;
 import com.wallet.infrastructure.repositories.CuentaJPARepository;
+import com.wallet.infrastructure.repositories.CuentaRepositoryCache;
+import com.wallet.infrastructure.repositories.GeneradorNumeroCuentaJPA;
+import com.wallet.infrastructure.repositories.GroupCommitMovimientoLedger;
+import com.wallet.infrastructure.repositories.ImportacionJPARepository;
+import com.wallet.infrastructure.repositories.SaldoDiarioJPARepository;
 import com.wallet.infrastructure.repositories.TransaccionJPARepository;
+import com.wallet.infrastructure.repositories.TransferJPALedger;
+
+import java.util.Optional;
 
 /**
  * Fábrica de Repositorios (Factory Pattern).
@@ -21,9 +37,33 @@ import com.wallet.infrastructure.repositories.TransaccionJPARepository;
 public class RepositoryFactory {
     
     // Instancias únicas (Singleton) - USANDO JPA PARA PERSISTENCIA
-    private static final IUsuarioRepository usuarioRepository = new UsuarioJPARepository();
-    private static final ICuentaRepository cuentaRepository = new CuentaJPARepository();
-    private static final ITransaccionRepository transaccionRepository = new TransaccionJPARepository();
+    // Las consultas van al pool de lectores y las escrituras al escritor único
+    private static final IUsuarioRepository usuarioRepository =
+        EnrutadorLecturaEscritura.envolver(IUsuarioRepository.class,
+            new UsuarioJPARepository(RepositoryFactory::invalidarCuenta));
+    // Las cuentas pasan además por una caché LRU (-Dwallet.cache.cuentas=0 la desactiva)
+    private static final ICuentaRepository cuentaRepository = CuentaRepositoryCache.desdePropiedades(
+        EnrutadorLecturaEscritura.envolver(ICuentaRepository.class, new CuentaJPARepository()));
+    private static final ITransaccionRepository transaccionRepository =
+        EnrutadorLecturaEscritura.envolver(ITransaccionRepository.class, new TransaccionJPARepository());
+    // Listados proyectados a DTO; siempre son lecturas y van al pool de lectores
+    private static final ICuentaLecturas cuentaLecturas =
+        EnrutadorLecturaEscritura.envolver(ICuentaLecturas.class, new CuentaJPARepository());
+    private static final ITransaccionLecturas transaccionLecturas =
+        EnrutadorLecturaEscritura.envolver(ITransaccionLecturas.class, new TransaccionJPARepository());
+    // Los saldos diarios se escriben junto con cada transacción; aquí solo se consultan y reconstruyen
+    private static final ISaldoDiarioRepository saldoDiarioRepository =
+        EnrutadorLecturaEscritura.envolver(ISaldoDiarioRepository.class, new SaldoDiarioJPARepository());
+    // Números de cuenta por bloques reservados en la BD (-Dwallet.cuentas.bloqueNumeros)
+    private static final IGeneradorNumeroCuenta generadorNumeroCuenta = GeneradorNumeroCuentaJPA.desdePropiedades();
+    // Alta masiva: los buscar*Existentes van a los lectores y cada lote al escritor
+    private static final IImportacionRepository importacionRepository = EnrutadorLecturaEscritura.envolver(
+        IImportacionRepository.class, new ImportacionJPARepository(generadorNumeroCuenta));
+    // Los ledgers escriben saldos sin pasar por el repositorio: avisan a la caché
+    private static final ITransferLedger transferLedger = new TransferJPALedger(RepositoryFactory::invalidarCuenta);
+    
+    // Creado bajo demanda: arranca un hilo escritor
+    private static GroupCommitMovimientoLedger movimientoLedger;
     
     // Constructor privado para evitar instanciación
     private RepositoryFactory() {
@@ -44,6 +84,23 @@ public class RepositoryFactory {
         return cuentaRepository;
     }
     
+    /**
+     * Obtiene la caché de cuentas, si está activa (para métricas).
+     */
+    public static Optional<CuentaRepositoryCache> getCuentaCache() {
+        return cuentaRepository instanceof CuentaRepositoryCache
+            ? Optional.of((CuentaRepositoryCache) cuentaRepository)
+            : Optional.empty();
+    }
+    
+    /**
+     * Descarta una cuenta de la caché tras una escritura hecha fuera del
+     * repositorio de cuentas.
+     */
+    public static void invalidarCuenta(String cuentaId) {
+        getCuentaCache().ifPresent(cache -> cache.invalidar(cuentaId));
+    }
+    
     /**
      * Obtiene la instancia del repositorio de transacciones.
      */
@@ -51,11 +108,81 @@ public class RepositoryFactory {
         return transaccionRepository;
     }
     
+    /**
+     * Obtiene las consultas de listado de cuentas (DTOs sin entidades).
+     */
+    public static ICuentaLecturas getCuentaLecturas() {
+        return cuentaLecturas;
+    }
+    
+    /**
+     * Obtiene las consultas de listado de transacciones (DTOs sin entidades).
+     */
+    public static ITransaccionLecturas getTransaccionLecturas() {
+        return transaccionLecturas;
+    }
+    
+    /**
+     * Obtiene la instancia del repositorio de saldos diarios.
+     */
+    public static ISaldoDiarioRepository getSaldoDiarioRepository() {
+        return saldoDiarioRepository;
+    }
+    
+    /**
+     * Obtiene la instancia del repositorio de alta masiva de usuarios.
+     */
+    public static IImportacionRepository getImportacionRepository() {
+        return importacionRepository;
+    }
+    
+    /**
+     * Obtiene el generador de números de cuenta respaldado por la BD.
+     * Al arrancar se instala con Cuenta.setGeneradorNumeroCuenta().
+     */
+    public static IGeneradorNumeroCuenta getGeneradorNumeroCuenta() {
+        return generadorNumeroCuenta;
+    }
+    
+    /**
+     * Obtiene la instancia del ledger de transferencias (un commit por transferencia).
+     */
+    public static ITransferLedger getTransferLedger() {
+        return transferLedger;
+    }
+    
+    /**
+     * Obtiene el ledger de group commit para depósitos y retiros.
+     * Solo está activo con -Dwallet.groupCommit=true.
+     *
+     * @return el ledger, o vacío si el group commit está desactivado
+     */
+    public static synchronized Optional<IMovimientoLedger> getMovimientoLedger() {
+        if (!Boolean.getBoolean("wallet.groupCommit")) {
+            return Optional.empty();
+        }
+        if (movimientoLedger == null) {
+            movimientoLedger = GroupCommitMovimientoLedger.desdePropiedades(RepositoryFactory::invalidarCuenta);
+        }
+        return Optional.of(movimientoLedger);
+    }
+    
+    /**
+     * Detiene los componentes con hilos propios, vaciando lo pendiente.
+     * Debe llamarse antes de JPAConfiguration.close().
+     */
+    public static synchronized void cerrar() {
+        if (movimientoLedger != null) {
+            movimientoLedger.cerrar();
+            movimientoLedger = null;
+        }
+    }
+    
     /**
      * Limpia todos los repositorios (útil para testing).
-     * NOT APPLICABLE para JPA repositories.
+     * Los datos JPA viven en la BD; solo se vacía la caché de cuentas.
      */
     public static void limpiarTodos() {
-        // NO-OP: JPA repositories manejan datos en BD, no en memoria
+        getCuentaCache().ifPresent(CuentaRepositoryCache::limpiar);
     }
 }
@@ -0,0 +1,551 @@
+package com.wallet.infrastructure.logging;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Archivo de log con rotación por tamaño y por día.
+ *
+ * Se escribe siempre en el archivo activo (wallet_operations.log). Cuando
+ * supera el tamaño máximo o cambia el día, se renombra como segmento
+ * cerrado (wallet_operations.2025-01-31.1.log), un hilo en segundo plano lo
+ * comprime a .log.gz y se aplica la retención (días y número de segmentos).
+ *
+ * El índice (wallet_operations.index) guarda el rango de tiempo de cada
+ * segmento cerrado, de modo que una consulta por intervalo solo abre los
+ * segmentos que lo solapan (ver buscarSegmentos). Los segmentos que el
+ * índice no recoge (porque falta, está dañado o no se pudo guardar) se
+ * recuperan al arrancar leyendo su primera y su última entrada.
+ *
+ * Lo usan tanto el modo síncrono como el hilo escritor asíncrono; todos
+ * los métodos que tocan el archivo activo están sincronizados.
+ */
+final class ArchivoLogRotativo {
+
+    static final long MAX_BYTES_POR_DEFECTO = 10L * 1024 * 1024;
+    static final int RETENCION_DIAS_POR_DEFECTO = 30;
+    static final int RETENCION_SEGMENTOS_POR_DEFECTO = 100;
+
+    private static final String EXTENSION = ".log";
+    private static final String EXTENSION_GZ = ".log.gz";
+
+    private final Path directorio;
+    private final Path activo;
+    private final Path indice;
+    private final String base;
+    private final long maxBytes;
+    private final boolean rotacionDiaria;
+    private final int retencionDias;
+    private final int retencionSegmentos;
+
+    // Segmentos cerrados, del más antiguo al más reciente
+    private final List<SegmentoLog> segmentos = new ArrayList<>();
+    private ExecutorService compresor;
+
+    private FileChannel canal;
+    private long tamano;
+    private LocalDateTime primero;
+    private LocalDateTime ultimo;
+
+    /**
+     * @param activo archivo activo; su nombre sin extensión es la base de los segmentos
+     * @param maxBytes tamaño a partir del cual se rota
+     * @param rotacionDiaria true para rotar también al cambiar de día
+     * @param retencionDias se borran los segmentos cuya última entrada sea más antigua
+     * @param retencionSegmentos máximo de segmentos cerrados que se conservan
+     */
+    ArchivoLogRotativo(Path activo, long maxBytes, boolean rotacionDiaria,
+                       int retencionDias, int retencionSegmentos) {
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("El tamaño máximo debe ser positivo");
+        }
+        if (retencionDias < 1 || retencionSegmentos < 1) {
+            throw new IllegalArgumentException("La retención debe ser al menos 1");
+        }
+        Path absoluto = activo.toAbsolutePath();
+        String nombre = absoluto.getFileName().toString();
+        this.directorio = absoluto.getParent();
+        this.activo = absoluto;
+        this.base = nombre.endsWith(EXTENSION) ? nombre.substring(0, nombre.length() - EXTENSION.length()) : nombre;
+        this.indice = directorio.resolve(base + ".index");
+        this.maxBytes = maxBytes;
+        this.rotacionDiaria = rotacionDiaria;
+        this.retencionDias = retencionDias;
+        this.retencionSegmentos = retencionSegmentos;
+        cargarIndice();
+    }
+
+    /**
+     * Crea el archivo con la configuración de las propiedades del sistema:
+     * wallet.log.maxBytes, wallet.log.rotacionDiaria, wallet.log.retencion.dias
+     * y wallet.log.retencion.segmentos.
+     *
+     * @param activo archivo activo
+     * @return archivo rotativo configurado
+     */
+    static ArchivoLogRotativo desdePropiedades(Path activo) {
+        return new ArchivoLogRotativo(activo,
+            Long.getLong("wallet.log.maxBytes", MAX_BYTES_POR_DEFECTO),
+            Boolean.parseBoolean(System.getProperty("wallet.log.rotacionDiaria", "true")),
+            Integer.getInteger("wallet.log.retencion.dias", RETENCION_DIAS_POR_DEFECTO),
+            Integer.getInteger("wallet.log.retencion.segmentos", RETENCION_SEGMENTOS_POR_DEFECTO));
+    }
+
+    /**
+     * Escribe texto ya formateado (con sus saltos de línea) en el archivo activo,
+     * rotando antes si hace falta.
+     *
+     * @param texto una o más líneas completas
+     * @param desde momento de la primera entrada del texto
+     * @param hasta momento de la última entrada del texto
+     * @throws IOException si no se puede escribir
+     */
+    synchronized void escribir(CharSequence texto, LocalDateTime desde, LocalDateTime hasta) throws IOException {
+        abrirSiHaceFalta();
+        if (debeRotar(desde)) {
+            rotar();
+            abrirSiHaceFalta();
+        }
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(texto));
+        while (bytes.hasRemaining()) {
+            tamano += canal.write(bytes);
+        }
+        if (primero == null || desde.isBefore(primero)) {
+            primero = desde;
+        }
+        if (ultimo == null || hasta.isAfter(ultimo)) {
+            ultimo = hasta;
+        }
+    }
+
+    /**
+     * Fuerza a disco lo escrito en el archivo activo.
+     */
+    synchronized void forzar() throws IOException {
+        if (canal != null) {
+            canal.force(false);
+        }
+    }
+
+    /**
+     * Cierra el segmento activo aunque no haya alcanzado el límite.
+     */
+    synchronized void rotarAhora() throws IOException {
+        abrirSiHaceFalta();
+        if (tamano > 0) {
+            rotar();
+        }
+    }
+
+    /**
+     * Devuelve los segmentos (cerrados y activo) con entradas en el intervalo,
+     * del más antiguo al más reciente. No abre ningún archivo.
+     *
+     * @param desde inicio inclusivo (null = sin límite)
+     * @param hasta fin inclusivo (null = sin límite)
+     * @return segmentos que solapan el intervalo
+     */
+    synchronized List<SegmentoLog> buscarSegmentos(LocalDateTime desde, LocalDateTime hasta) {
+        List<SegmentoLog> resultado = new ArrayList<>();
+        for (SegmentoLog segmento : segmentos) {
+            if (segmento.solapa(desde, hasta)) {
+                resultado.add(segmento);
+            }
+        }
+        SegmentoLog actual = segmentoActivo();
+        if (actual != null && actual.solapa(desde, hasta)) {
+            resultado.add(actual);
+        }
+        return resultado;
+    }
+
+    /**
+     * Borra el archivo activo, los segmentos cerrados y el índice.
+     */
+    synchronized void limpiar() {
+        esperarCompresor();
+        cerrarCanal();
+        for (SegmentoLog segmento : segmentos) {
+            borrarSegmento(segmento);
+        }
+        segmentos.clear();
+        primero = null;
+        ultimo = null;
+        tamano = 0;
+        try {
+            Files.deleteIfExists(indice);
+            Files.deleteIfExists(activo);
+        } catch (IOException e) {
+            System.err.println("❌ Error limpiando log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Cierra el archivo activo y espera a que termine la compresión pendiente.
+     * Una escritura posterior lo vuelve a abrir.
+     */
+    synchronized void cerrar() {
+        cerrarCanal();
+        esperarCompresor();
+    }
+
+    Path getActivo() {
+        return activo;
+    }
+
+    // ==================== ROTACIÓN ====================
+
+    private void abrirSiHaceFalta() throws IOException {
+        if (canal != null) {
+            return;
+        }
+        canal = FileChannel.open(activo,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        tamano = canal.size();
+        if (tamano > 0 && primero == null) {
+            // Archivo de una ejecución anterior: se reconstruye su rango
+            primero = leerPrimerMomento();
+            ultimo = LocalDateTime.ofInstant(Files.getLastModifiedTime(activo).toInstant(), ZoneId.systemDefault());
+            if (ultimo.isBefore(primero)) {
+                ultimo = primero;
+            }
+        }
+    }
+
+    private boolean debeRotar(LocalDateTime momento) {
+        if (tamano == 0) {
+            return false;
+        }
+        if (tamano >= maxBytes) {
+            return true;
+        }
+        return rotacionDiaria && primero != null && !momento.toLocalDate().equals(primero.toLocalDate());
+    }
+
+    private void rotar() throws IOException {
+        cerrarCanal();
+        LocalDateTime desde = primero != null ? primero : LocalDateTime.now();
+        LocalDateTime hasta = ultimo != null ? ultimo : desde;
+        String nombre = siguienteNombre(desde);
+        Files.move(activo, directorio.resolve(nombre + EXTENSION), StandardCopyOption.ATOMIC_MOVE);
+
+        segmentos.add(new SegmentoLog(directorio, nombre, desde, hasta, false));
+        primero = null;
+        ultimo = null;
+        tamano = 0;
+
+        aplicarRetencion();
+        guardarIndice();
+        comprimirEnSegundoPlano(nombre);
+    }
+
+    private String siguienteNombre(LocalDateTime desde) {
+        String prefijo = base + "." + desde.toLocalDate() + ".";
+        int numero = 1;
+        while (Files.exists(directorio.resolve(prefijo + numero + EXTENSION))
+            || Files.exists(directorio.resolve(prefijo + numero + EXTENSION_GZ))) {
+            numero++;
+        }
+        return prefijo + numero;
+    }
+
+    private void aplicarRetencion() {
+        LocalDateTime limite = LocalDateTime.now().minusDays(retencionDias);
+        while (!segmentos.isEmpty()
+            && (segmentos.size() > retencionSegmentos || segmentos.get(0).getHasta().isBefore(limite))) {
+            // En el hilo del compresor: así nunca se borra un segmento a medio comprimir
+            SegmentoLog caducado = segmentos.remove(0);
+            enSegundoPlano(() -> borrarSegmento(caducado));
+        }
+    }
+
+    private void borrarSegmento(SegmentoLog segmento) {
+        try {
+            // En el mismo orden en que siguienteNombre los mira: el nombre solo
+            // queda libre cuando ya no queda nada por borrar, y un segmento
+            // nuevo que lo reutilice no se pierde
+            Files.deleteIfExists(directorio.resolve(segmento.getNombre() + EXTENSION));
+            Files.deleteIfExists(directorio.resolve(segmento.getNombre() + EXTENSION_GZ));
+        } catch (IOException e) {
+            System.err.println("❌ Error borrando segmento de log: " + e.getMessage());
+        }
+    }
+
+    private SegmentoLog segmentoActivo() {
+        if (primero == null) {
+            if (canal != null || !Files.exists(activo)) {
+                return null;
+            }
+            try {
+                abrirSiHaceFalta();
+            } catch (IOException e) {
+                return null;
+            }
+            if (primero == null) {
+                return null;
+            }
+        }
+        return new SegmentoLog(directorio, base, primero, ultimo, true);
+    }
+
+    private void cerrarCanal() {
+        if (canal == null) {
+            return;
+        }
+        try {
+            canal.force(false);
+            canal.close();
+        } catch (IOException e) {
+            System.err.println("❌ Error cerrando log: " + e.getMessage());
+        }
+        canal = null;
+    }
+
+    private LocalDateTime leerPrimerMomento() {
+        try (BufferedReader reader = Files.newBufferedReader(activo, StandardCharsets.UTF_8)) {
+            // Texto o JSON, según el formato con el que se escribió
+            RegistroLog registro = RegistroLog.parsear(reader.readLine());
+            if (registro != null) {
+                return registro.getMomento();
+            }
+        } catch (IOException e) {
+            // sin marca legible: se usa la fecha del archivo
+        }
+        try {
+            return LocalDateTime.ofInstant(
+                Files.readAttributes(activo, BasicFileAttributes.class).creationTime().toInstant(),
+                ZoneId.systemDefault());
+        } catch (IOException e) {
+            return LocalDateTime.now();
+        }
+    }
+
+    // ==================== COMPRESIÓN ====================
+
+    private void comprimirEnSegundoPlano(String nombre) {
+        enSegundoPlano(() -> comprimir(nombre));
+    }
+
+    private void enSegundoPlano(Runnable tarea) {
+        if (compresor == null) {
+            compresor = Executors.newSingleThreadExecutor(r -> {
+                Thread hilo = new Thread(r, "wallet-log-gzip");
+                hilo.setDaemon(true);
+                return hilo;
+            });
+        }
+        compresor.execute(tarea);
+    }
+
+    private void comprimir(String nombre) {
+        Path original = directorio.resolve(nombre + EXTENSION);
+        Path temporal = directorio.resolve(nombre + EXTENSION_GZ + ".tmp");
+        try (InputStream entrada = Files.newInputStream(original);
+             OutputStream salida = new GZIPOutputStream(Files.newOutputStream(temporal), 64 * 1024)) {
+            entrada.transferTo(salida);
+        } catch (NoSuchFileException e) {
+            // la retención lo borró antes de comprimirlo
+            borrarSilencioso(temporal);
+            return;
+        } catch (IOException e) {
+            System.err.println("❌ Error comprimiendo " + original.getFileName() + ": " + e.getMessage());
+            borrarSilencioso(temporal);
+            return;
+        }
+        try {
+            Files.move(temporal, directorio.resolve(nombre + EXTENSION_GZ),
+                StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            Files.deleteIfExists(original);
+        } catch (IOException e) {
+            System.err.println("❌ Error comprimiendo " + original.getFileName() + ": " + e.getMessage());
+            borrarSilencioso(temporal);
+        }
+    }
+
+    private void esperarCompresor() {
+        if (compresor == null) {
+            return;
+        }
+        compresor.shutdown();
+        try {
+            compresor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        compresor = null;
+    }
+
+    private static void borrarSilencioso(Path archivo) {
+        try {
+            Files.deleteIfExists(archivo);
+        } catch (IOException e) {
+            // nada más que hacer
+        }
+    }
+
+    // ==================== ÍNDICE ====================
+
+    /**
+     * Formato: una línea por segmento cerrado, "nombre\tdesde\thasta" en ISO-8601.
+     */
+    private void cargarIndice() {
+        List<String> pendientes = new ArrayList<>();
+        if (Files.exists(indice)) {
+            leerIndice(pendientes);
+        }
+        if (recuperarSegmentos(pendientes)) {
+            guardarIndice();
+        }
+        borrarTemporalesHuerfanos();
+        // Segmentos que quedaron sin comprimir en una ejecución anterior
+        pendientes.forEach(this::comprimirEnSegundoPlano);
+    }
+
+    private void leerIndice(List<String> pendientes) {
+        try {
+            for (String linea : Files.readAllLines(indice, StandardCharsets.UTF_8)) {
+                String[] campos = linea.split("\t");
+                if (campos.length != 3) {
+                    continue;
+                }
+                String nombre = campos[0];
+                boolean comprimido = Files.exists(directorio.resolve(nombre + EXTENSION_GZ));
+                boolean plano = Files.exists(directorio.resolve(nombre + EXTENSION));
+                if (!comprimido && !plano) {
+                    continue;
+                }
+                segmentos.add(new SegmentoLog(directorio, nombre,
+                    LocalDateTime.parse(campos[1]), LocalDateTime.parse(campos[2]), false));
+                if (plano) {
+                    pendientes.add(nombre);
+                }
+            }
+        } catch (IOException | DateTimeParseException e) {
+            System.err.println("❌ Índice de log ilegible, se reconstruye desde los segmentos: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Añade los segmentos del directorio que no están en el índice, con el
+     * rango de su primera y su última entrada legibles.
+     *
+     * @param pendientes recibe los recuperados que siguen sin comprimir
+     * @return true si se recuperó alguno
+     */
+    private boolean recuperarSegmentos(List<String> pendientes) {
+        Set<String> conocidos = new HashSet<>();
+        for (SegmentoLog segmento : segmentos) {
+            conocidos.add(segmento.getNombre());
+        }
+        Pattern patron = Pattern.compile(Pattern.quote(base) + "\\.\\d{4}-\\d{2}-\\d{2}\\.\\d+");
+        List<SegmentoLog> recuperados = new ArrayList<>();
+        try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio, base + ".*" + EXTENSION + "*")) {
+            for (Path archivo : archivos) {
+                String nombre = archivo.getFileName().toString();
+                if (nombre.endsWith(EXTENSION_GZ)) {
+                    nombre = nombre.substring(0, nombre.length() - EXTENSION_GZ.length());
+                } else if (nombre.endsWith(EXTENSION)) {
+                    nombre = nombre.substring(0, nombre.length() - EXTENSION.length());
+                } else {
+                    continue;
+                }
+                // El .log y el .log.gz del mismo segmento solo cuentan una vez
+                if (!patron.matcher(nombre).matches() || !conocidos.add(nombre)) {
+                    continue;
+                }
+                recuperados.add(leerRango(nombre));
+                if (Files.exists(directorio.resolve(nombre + EXTENSION))) {
+                    pendientes.add(nombre);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("❌ Error recuperando segmentos de log: " + e.getMessage());
+        }
+        if (recuperados.isEmpty()) {
+            return false;
+        }
+        segmentos.addAll(recuperados);
+        segmentos.sort(Comparator.comparing(SegmentoLog::getDesde));
+        return true;
+    }
+
+    private SegmentoLog leerRango(String nombre) {
+        LocalDateTime desde = null;
+        LocalDateTime hasta = null;
+        try (BufferedReader reader = new SegmentoLog(directorio, nombre, null, null, false).abrir()) {
+            String linea;
+            while ((linea = reader.readLine()) != null) {
+                RegistroLog registro = RegistroLog.parsear(linea);
+                if (registro != null) {
+                    if (desde == null) {
+                        desde = registro.getMomento();
+                    }
+                    hasta = registro.getMomento();
+                }
+            }
+        } catch (IOException e) {
+            // dañado: vale lo leído hasta aquí
+        }
+        if (desde == null) {
+            // Sin entradas legibles: el día del nombre completo
+            LocalDate dia = LocalDate.parse(nombre.substring(base.length() + 1, base.length() + 11));
+            desde = dia.atStartOfDay();
+            hasta = dia.atTime(LocalTime.MAX);
+        }
+        return new SegmentoLog(directorio, nombre, desde, hasta, false);
+    }
+
+    private void borrarTemporalesHuerfanos() {
+        try (DirectoryStream<Path> temporales = Files.newDirectoryStream(directorio, base + ".*" + EXTENSION_GZ + ".tmp")) {
+            for (Path temporal : temporales) {
+                borrarSilencioso(temporal);
+            }
+        } catch (IOException e) {
+            // se reintentará en la próxima compresión
+        }
+    }
+
+    private void guardarIndice() {
+        StringBuilder contenido = new StringBuilder();
+        for (SegmentoLog segmento : segmentos) {
+            contenido.append(segmento.getNombre()).append('\t')
+                .append(segmento.getDesde()).append('\t')
+                .append(segmento.getHasta()).append('\n');
+        }
+        Path temporal = directorio.resolve(base + ".index.tmp");
+        try {
+            Files.writeString(temporal, contenido, StandardCharsets.UTF_8);
+            Files.move(temporal, indice, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("❌ Error guardando índice de log (se reconstruirá al arrancar): " + e.getMessage());
+        }
+    }
+}
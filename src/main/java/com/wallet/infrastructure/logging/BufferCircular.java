@@ -0,0 +1,112 @@
+package com.wallet.infrastructure.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Buffer circular acotado, sin bloqueos, para varios productores y consumidores.
+ *
+ * Cada celda guarda un número de secuencia que indica si está libre para
+ * el productor de esa vuelta o lista para el consumidor. Productores y
+ * consumidores solo compiten con un compareAndSet sobre su propio índice,
+ * nunca con un lock.
+ *
+ * La capacidad se redondea a la siguiente potencia de dos.
+ *
+ * @param <T> tipo de los elementos
+ */
+final class BufferCircular<T> {
+
+    private final int mascara;
+    private final Object[] elementos;
+    private final AtomicLongArray secuencias;
+    private final AtomicLong posEscritura = new AtomicLong();
+    private final AtomicLong posLectura = new AtomicLong();
+
+    BufferCircular(int capacidadMinima) {
+        if (capacidadMinima < 2) {
+            throw new IllegalArgumentException("La capacidad debe ser al menos 2");
+        }
+        int capacidad = Integer.highestOneBit(capacidadMinima - 1) << 1;
+        this.mascara = capacidad - 1;
+        this.elementos = new Object[capacidad];
+        this.secuencias = new AtomicLongArray(capacidad);
+        for (int i = 0; i < capacidad; i++) {
+            secuencias.set(i, i);
+        }
+    }
+
+    /**
+     * Intenta añadir un elemento.
+     *
+     * @param elemento elemento no nulo
+     * @return false si el buffer está lleno
+     */
+    boolean ofrecer(T elemento) {
+        long pos = posEscritura.get();
+        while (true) {
+            int indice = (int) (pos & mascara);
+            long diferencia = secuencias.get(indice) - pos;
+            if (diferencia == 0) {
+                if (posEscritura.compareAndSet(pos, pos + 1)) {
+                    elementos[indice] = elemento;
+                    secuencias.lazySet(indice, pos + 1);
+                    return true;
+                }
+                pos = posEscritura.get();
+            } else if (diferencia < 0) {
+                return false;
+            } else {
+                pos = posEscritura.get();
+            }
+        }
+    }
+
+    /**
+     * Extrae el elemento más antiguo.
+     *
+     * @return el elemento, o null si el buffer está vacío
+     */
+    @SuppressWarnings("unchecked")
+    T extraer() {
+        long pos = posLectura.get();
+        while (true) {
+            int indice = (int) (pos & mascara);
+            long diferencia = secuencias.get(indice) - (pos + 1);
+            if (diferencia == 0) {
+                if (posLectura.compareAndSet(pos, pos + 1)) {
+                    T elemento = (T) elementos[indice];
+                    elementos[indice] = null;
+                    secuencias.lazySet(indice, pos + mascara + 1);
+                    return elemento;
+                }
+                pos = posLectura.get();
+            } else if (diferencia < 0) {
+                return null;
+            } else {
+                pos = posLectura.get();
+            }
+        }
+    }
+
+    /**
+     * @return número total de elementos añadidos desde la creación
+     */
+    long getTotalOfrecidos() {
+        return posEscritura.get();
+    }
+
+    /**
+     * @return número aproximado de elementos pendientes
+     */
+    int getTamano() {
+        return (int) Math.max(0, posEscritura.get() - posLectura.get());
+    }
+
+    /**
+     * @return capacidad real (potencia de dos)
+     */
+    int getCapacidad() {
+        return mascara + 1;
+    }
+}
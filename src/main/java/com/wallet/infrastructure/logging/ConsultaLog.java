@@ -0,0 +1,165 @@
+package com.wallet.infrastructure.logging;
+
+import com.wallet.infrastructure.logging.OperationLogger.LogLevel;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Consulta sobre el log de operaciones, incluidos los segmentos rotados.
+ *
+ * Solo abre los segmentos cuyo rango de tiempo (según el índice) solapa el
+ * intervalo pedido, y los recorre línea a línea: nunca carga un segmento
+ * entero en memoria. Antes de interpretar una línea se descarta por simple
+ * búsqueda de texto si no puede contener la entidad o el id buscados.
+ *
+ * Uso:
+ * try (Stream<RegistroLog> registros = new ConsultaLog()
+ *         .entidad("Cuenta").nivel(LogLevel.UPDATE)
+ *         .desde(LocalDateTime.now().minusHours(1))
+ *         .ejecutar()) {
+ *     registros.forEach(System.out::println);
+ * }
+ */
+public class ConsultaLog {
+
+    private String tipoEntidad;
+    private String idEntidad;
+    private Set<LogLevel> niveles;
+    private LocalDateTime desde;
+    private LocalDateTime hasta;
+
+    /**
+     * @param tipoEntidad tipo de entidad exacto (Usuario, Cuenta, ...); null = todos
+     * @return esta consulta
+     */
+    public ConsultaLog entidad(String tipoEntidad) {
+        this.tipoEntidad = vacioANulo(tipoEntidad);
+        return this;
+    }
+
+    /**
+     * @param idEntidad id exacto de la entidad; null = todos
+     * @return esta consulta
+     */
+    public ConsultaLog id(String idEntidad) {
+        this.idEntidad = vacioANulo(idEntidad);
+        return this;
+    }
+
+    /**
+     * @param aceptados niveles aceptados; sin argumentos = todos
+     * @return esta consulta
+     */
+    public ConsultaLog nivel(LogLevel... aceptados) {
+        this.niveles = aceptados.length == 0 ? null : EnumSet.of(aceptados[0], aceptados);
+        return this;
+    }
+
+    /**
+     * @param desde inicio inclusivo; null = sin límite
+     * @return esta consulta
+     */
+    public ConsultaLog desde(LocalDateTime desde) {
+        this.desde = desde;
+        return this;
+    }
+
+    /**
+     * @param hasta fin inclusivo; null = sin límite
+     * @return esta consulta
+     */
+    public ConsultaLog hasta(LocalDateTime hasta) {
+        this.hasta = hasta;
+        return this;
+    }
+
+    /**
+     * Ejecuta la consulta sobre el log de OperationLogger.
+     * El stream mantiene abierto un segmento a la vez; debe cerrarse.
+     *
+     * @return registros que cumplen los filtros, del más antiguo al más reciente
+     */
+    public Stream<RegistroLog> ejecutar() {
+        return ejecutar(OperationLogger.buscarSegmentos(desde, hasta));
+    }
+
+    /**
+     * Ejecuta la consulta sobre los segmentos indicados.
+     *
+     * @param segmentos segmentos a recorrer, en orden
+     * @return registros que cumplen los filtros
+     */
+    Stream<RegistroLog> ejecutar(List<SegmentoLog> segmentos) {
+        String pistaEntidad = pista(tipoEntidad);
+        String pistaId = pista(idEntidad);
+        return segmentos.stream()
+            .filter(segmento -> segmento.solapa(desde, hasta))
+            .flatMap(ConsultaLog::lineas)
+            .filter(linea -> (pistaEntidad == null || linea.contains(pistaEntidad))
+                && (pistaId == null || linea.contains(pistaId)))
+            .map(RegistroLog::parsear)
+            .filter(Objects::nonNull)
+            .filter(this::acepta);
+    }
+
+    /**
+     * @param registro registro ya interpretado
+     * @return true si cumple todos los filtros
+     */
+    public boolean acepta(RegistroLog registro) {
+        return (tipoEntidad == null || tipoEntidad.equals(registro.getTipoEntidad()))
+            && (idEntidad == null || idEntidad.equals(registro.getIdEntidad()))
+            && (niveles == null || niveles.contains(registro.getNivel()))
+            && (desde == null || !registro.getMomento().isBefore(desde))
+            && (hasta == null || !registro.getMomento().isAfter(hasta));
+    }
+
+    private static Stream<String> lineas(SegmentoLog segmento) {
+        BufferedReader reader;
+        try {
+            reader = segmento.abrir();
+        } catch (NoSuchFileException e) {
+            // Borrado por la retención después de buscarlo
+            return Stream.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return reader.lines().onClose(() -> {
+            try {
+                reader.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Texto que debe aparecer literalmente en la línea, o null si el valor
+     * necesitaría escaparse en JSON y no sirve como pista.
+     */
+    private static String pista(String valor) {
+        if (valor == null) {
+            return null;
+        }
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                return null;
+            }
+        }
+        return valor;
+    }
+
+    private static String vacioANulo(String valor) {
+        return valor == null || valor.isBlank() ? null : valor.trim();
+    }
+}
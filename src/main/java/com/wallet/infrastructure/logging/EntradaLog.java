@@ -0,0 +1,38 @@
+package com.wallet.infrastructure.logging;
+
+import com.wallet.infrastructure.logging.OperationLogger.LogLevel;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Entrada de log sin formatear.
+ *
+ * El hilo que registra solo captura los campos; el formato (texto o JSON)
+ * se aplica al escribir, en el hilo escritor si el modo es asíncrono.
+ * El instante se conserva para mantener exacto el índice de segmentos.
+ */
+final class EntradaLog {
+
+    final long instante;
+    final LogLevel nivel;
+    final String tipoEntidad;
+    final String idEntidad;
+    final String descripcion;
+
+    EntradaLog(long instante, LogLevel nivel, String tipoEntidad, String idEntidad, String descripcion) {
+        this.instante = instante;
+        this.nivel = nivel;
+        this.tipoEntidad = tipoEntidad;
+        this.idEntidad = idEntidad;
+        this.descripcion = descripcion;
+    }
+
+    /**
+     * @return instante de la entrada en la zona horaria del sistema
+     */
+    LocalDateTime momento() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(instante), ZoneId.systemDefault());
+    }
+}
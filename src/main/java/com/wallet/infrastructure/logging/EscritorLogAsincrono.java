@@ -0,0 +1,251 @@
+package com.wallet.infrastructure.logging;
+
+import com.wallet.infrastructure.logging.OperationLogger.FormatoLog;
+import com.wallet.infrastructure.logging.OperationLogger.LogLevel;
+import com.wallet.infrastructure.logging.OperationLogger.PoliticaDesborde;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Escritor en segundo plano del log de operaciones.
+ *
+ * Los hilos de la aplicación solo dejan la entrada sin formatear en un
+ * BufferCircular; el formato (OperationLogger.getFormato()) se aplica
+ * aquí, y un único hilo la vacía por lotes sobre el ArchivoLogRotativo,
+ * que mantiene el archivo abierto y rota cuando toca.
+ * Así ningún hilo de petición abre ni cierra el archivo, ni espera a otro
+ * para escribir.
+ *
+ * Si el buffer se llena se aplica la PoliticaDesborde configurada.
+ * WARN y ERROR nunca se descartan.
+ */
+final class EscritorLogAsincrono {
+
+    private static final int MAX_LOTE = 512;
+    // Ocioso, el hilo duerme hasta que un productor lo despierta (ver
+    // durmiendo); el plazo solo acota un despertar perdido
+    private static final long ESPERA_OCIOSA_NS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long ESPERA_VACIADO_NS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long ESPERA_LLENO_NS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final BufferCircular<EntradaLog> buffer;
+    private final PoliticaDesborde politica;
+    private final int tasaMuestreo;
+    private final ArchivoLogRotativo archivo;
+    private final Thread hilo;
+
+    private final AtomicLong escritas = new AtomicLong();
+    private final AtomicLong contadorMuestreo = new AtomicLong();
+    private final LongAdder descartadas = new LongAdder();
+    private volatile boolean activo = true;
+    private volatile boolean durmiendo;
+
+    /**
+     * Arranca el hilo escritor sobre el archivo dado.
+     *
+     * @param archivo archivo de log rotativo
+     * @param capacidad entradas que caben en el buffer
+     * @param politica qué hacer con el buffer lleno
+     * @param tasaMuestreo con MUESTREAR, se conserva 1 de cada tasaMuestreo entradas
+     */
+    EscritorLogAsincrono(ArchivoLogRotativo archivo, int capacidad, PoliticaDesborde politica, int tasaMuestreo) {
+        if (politica == null) {
+            throw new IllegalArgumentException("La política de desborde no puede ser nula");
+        }
+        if (tasaMuestreo < 1) {
+            throw new IllegalArgumentException("La tasa de muestreo debe ser al menos 1");
+        }
+        this.buffer = new BufferCircular<>(capacidad);
+        this.politica = politica;
+        this.tasaMuestreo = tasaMuestreo;
+        this.archivo = archivo;
+        this.hilo = new Thread(this::ejecutar, "wallet-log-writer");
+        this.hilo.setDaemon(true);
+        this.hilo.start();
+    }
+
+    /**
+     * Encola una entrada de log; se formatea en el hilo escritor.
+     *
+     * Si el escritor se cierra mientras se encola, puede que el hilo ya
+     * haya hecho su último vaciado: quien encoló escribe entonces lo que
+     * quede en el buffer, para no dejar la entrada aceptada sin escribir.
+     *
+     * @param entrada entrada (su nivel decide si puede descartarse)
+     * @return false si el escritor ya está cerrado y la entrada no se aceptó
+     */
+    boolean encolar(EntradaLog entrada) {
+        if (!activo) {
+            return false;
+        }
+        if (buffer.ofrecer(entrada)) {
+            despuesDeEncolar();
+            return true;
+        }
+
+        // Buffer lleno
+        if (sePuedeDescartar(entrada.nivel)) {
+            descartadas.increment();
+            return true;
+        }
+        while (!buffer.ofrecer(entrada)) {
+            if (!activo) {
+                return false;
+            }
+            LockSupport.unpark(hilo);
+            LockSupport.parkNanos(this, ESPERA_LLENO_NS);
+        }
+        despuesDeEncolar();
+        return true;
+    }
+
+    /**
+     * Espera a que todo lo encolado hasta ahora esté escrito en el archivo.
+     *
+     * @param timeoutMs tiempo máximo de espera
+     * @return true si se vació a tiempo
+     */
+    boolean vaciar(long timeoutMs) {
+        long objetivo = buffer.getTotalOfrecidos();
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (escritas.get() < objetivo) {
+            if (!hilo.isAlive() || System.nanoTime() > limite) {
+                return false;
+            }
+            LockSupport.unpark(hilo);
+            LockSupport.parkNanos(this, ESPERA_VACIADO_NS);
+        }
+        return true;
+    }
+
+    /**
+     * Deja de aceptar entradas y escribe las pendientes.
+     * El archivo queda abierto para el modo síncrono.
+     */
+    void cerrar() {
+        activo = false;
+        LockSupport.unpark(hilo);
+        try {
+            hilo.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Lo que un productor dejó tras el último vaciado del hilo
+        vaciarEnEsteHilo();
+    }
+
+    /**
+     * @return entradas descartadas por desborde
+     */
+    long getDescartadas() {
+        return descartadas.sum();
+    }
+
+    /**
+     * @return entradas escritas en el archivo
+     */
+    long getEscritas() {
+        return escritas.get();
+    }
+
+    /**
+     * @return entradas pendientes en el buffer
+     */
+    int getPendientes() {
+        return buffer.getTamano();
+    }
+
+    // ==================== HILO ESCRITOR ====================
+
+    private void ejecutar() {
+        StringBuilder lote = new StringBuilder(16 * 1024);
+        try {
+            while (activo) {
+                if (escribirLote(lote) == 0) {
+                    durmiendo = true;
+                    if (buffer.getTamano() == 0 && activo) {
+                        LockSupport.parkNanos(this, ESPERA_OCIOSA_NS);
+                    }
+                    durmiendo = false;
+                }
+            }
+            // Cierre: vaciar lo que quede
+            while (escribirLote(lote) > 0) {
+                // continuar hasta vaciar
+            }
+            archivo.forzar();
+        } catch (IOException e) {
+            // Sin archivo no hay escritor: los productores pasan al modo síncrono
+            // y lo que quedó en el buffer se intenta escribir desde aquí
+            activo = false;
+            System.err.println("❌ Error escribiendo en log: " + e.getMessage());
+            vaciarEnEsteHilo();
+        }
+    }
+
+    /**
+     * Escribe desde el hilo que llama todo lo que quede en el buffer. El
+     * buffer admite varios consumidores, así que puede correr a la vez que
+     * el último vaciado del hilo escritor sin repetir entradas.
+     */
+    private synchronized void vaciarEnEsteHilo() {
+        StringBuilder lote = new StringBuilder(1024);
+        try {
+            while (escribirLote(lote) > 0) {
+                // continuar hasta vaciar
+            }
+        } catch (IOException e) {
+            System.err.println("❌ Error escribiendo en log: " + e.getMessage());
+        }
+    }
+
+    private int escribirLote(StringBuilder lote) throws IOException {
+        lote.setLength(0);
+        int cantidad = 0;
+        EntradaLog primera = null;
+        EntradaLog ultima = null;
+        EntradaLog entrada;
+        FormatoLog formato = OperationLogger.getFormato();
+        while (cantidad < MAX_LOTE && (entrada = buffer.extraer()) != null) {
+            formato.formatear(entrada, lote);
+            lote.append(System.lineSeparator());
+            if (primera == null) {
+                primera = entrada;
+            }
+            ultima = entrada;
+            cantidad++;
+        }
+        if (cantidad > 0) {
+            archivo.escribir(lote, primera.momento(), ultima.momento());
+            escritas.addAndGet(cantidad);
+        }
+        return cantidad;
+    }
+
+    private void despuesDeEncolar() {
+        if (!activo) {
+            // Cerrado mientras se encolaba: el hilo pudo haber terminado ya
+            vaciarEnEsteHilo();
+        } else if (durmiendo) {
+            LockSupport.unpark(hilo);
+        }
+    }
+
+    boolean sePuedeDescartar(LogLevel nivel) {
+        if (nivel == LogLevel.ERROR || nivel == LogLevel.WARN) {
+            return false;
+        }
+        switch (politica) {
+            case DESCARTAR_READ:
+                return nivel == LogLevel.READ;
+            case MUESTREAR:
+                return contadorMuestreo.incrementAndGet() % tasaMuestreo != 0;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.wallet.infrastructure.logging;
+
+import com.wallet.infrastructure.logging.OperationLogger.LogLevel;
+import com.wallet.infrastructure.metrics.Medidor;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estadísticas en vivo del log de operaciones.
+ *
+ * OperationLogger las actualiza en cada entrada, así que consultarlas no
+ * necesita leer wallet_operations.log. Por nivel se guarda un Medidor
+ * (total y tasas de 1/5/15 minutos); por tipo de entidad, un LongAdder.
+ *
+ * Los contadores empiezan en cero al arrancar la aplicación.
+ */
+public class EstadisticasLog {
+
+    private final Map<LogLevel, Medidor> porNivel = new EnumMap<>(LogLevel.class);
+    private final ConcurrentHashMap<String, LongAdder> porEntidad = new ConcurrentHashMap<>();
+
+    EstadisticasLog() {
+        for (LogLevel nivel : LogLevel.values()) {
+            porNivel.put(nivel, new Medidor());
+        }
+    }
+
+    /**
+     * Registra una entrada de log.
+     *
+     * @param nivel nivel de la entrada
+     * @param tipoEntidad tipo de entidad (Usuario, Cuenta, SYSTEM, ...)
+     */
+    void registrar(LogLevel nivel, String tipoEntidad) {
+        porNivel.get(nivel).marcar();
+        porEntidad.computeIfAbsent(tipoEntidad == null ? "-" : tipoEntidad, k -> new LongAdder())
+            .increment();
+    }
+
+    /**
+     * @return entradas registradas de todos los niveles
+     */
+    public long getTotal() {
+        long total = 0;
+        for (Medidor medidor : porNivel.values()) {
+            total += medidor.getTotal();
+        }
+        return total;
+    }
+
+    /**
+     * @param nivel nivel de log
+     * @return entradas registradas de ese nivel
+     */
+    public long getConteo(LogLevel nivel) {
+        return porNivel.get(nivel).getTotal();
+    }
+
+    /**
+     * @param nivel nivel de log
+     * @return medidor con el total y las tasas de ese nivel
+     */
+    public Medidor getMedidor(LogLevel nivel) {
+        return porNivel.get(nivel);
+    }
+
+    /**
+     * @param tipoEntidad tipo de entidad
+     * @return entradas registradas de ese tipo de entidad
+     */
+    public long getConteoPorEntidad(String tipoEntidad) {
+        LongAdder contador = porEntidad.get(tipoEntidad);
+        return contador == null ? 0 : contador.sum();
+    }
+
+    /**
+     * @return copia ordenada de los conteos por tipo de entidad
+     */
+    public Map<String, Long> getConteosPorEntidad() {
+        Map<String, Long> copia = new TreeMap<>();
+        porEntidad.forEach((tipo, contador) -> copia.put(tipo, contador.sum()));
+        return copia;
+    }
+}
@@ -1,78 +1,503 @@
 package com.wallet.infrastructure.logging;
 
+import java.io.PrintStream;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.function.Supplier;
 
 /**
  * Sistema de Logging simple para auditoría.
- * 
+ *
  * Registra las operaciones importantes del sistema en consola.
  * En una implementación real, podría escribir a archivos o bases de datos.
+ *
+ * Cada nivel se puede habilitar por separado; comprobar un nivel apagado
+ * cuesta una lectura volátil. Para que un nivel apagado no construya el
+ * mensaje, usar las variantes con parámetros o con Supplier:
+ *
+ * Logger.debug("Buscando cuenta: {}", numeroCuenta);
+ * Logger.info(() -> String.format("Tasa: %.4f", tasa));
+ *
+ * Los cuatro niveles tienen las mismas variantes. La excepción va como
+ * último argumento, sin {} propio, y se agrega al final del mensaje:
+ *
+ * Logger.error("No se pudo guardar la cuenta {}", numeroCuenta, e);
+ *
+ * Propiedades del sistema:
+ * - wallet.logger.nivel=DEBUG        nivel mínimo (DEBUG, INFO, WARNING, ERROR)
+ * - wallet.logger.asincrono=false    escribe en consola desde un hilo en segundo plano
+ * - wallet.logger.capacidad=4096     mensajes que caben en el buffer asíncrono
+ * Con el modo asíncrono, al apagar la aplicación debe llamarse a Logger.cerrar().
  */
 public class Logger {
-    
+
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final long TIMEOUT_VACIADO_MS = 5000;
+
     private static boolean enabled = true;
-    
+    // Bit por nivel (ordinal) habilitado; 0 si el logging está deshabilitado
+    private static volatile int mascara;
+    private static int mascaraNiveles;
+    private static volatile PrintStream salida = System.out;
+    private static volatile SalidaConsolaAsincrona asincrona;
+    private static volatile MarcaTiempo ultimaMarca = new MarcaTiempo(Long.MIN_VALUE, "");
+
     public enum Nivel {
-        INFO, WARNING, ERROR, DEBUG
+        INFO(20), WARNING(30), ERROR(40), DEBUG(10);
+
+        private final int severidad;
+        private final String etiqueta;
+
+        Nivel(int severidad) {
+            this.severidad = severidad;
+            this.etiqueta = String.format("[%-7s]", name());
+        }
+
+        /**
+         * @return etiqueta alineada, por ejemplo "[INFO   ]"
+         */
+        public String getEtiqueta() {
+            return etiqueta;
+        }
+
+        /**
+         * @param otro nivel con el que comparar
+         * @return true si este nivel es al menos tan grave como el otro
+         */
+        public boolean esAlMenos(Nivel otro) {
+            return severidad >= otro.severidad;
+        }
     }
-    
+
+    static {
+        String nivel = System.getProperty("wallet.logger.nivel");
+        setNivelMinimo(nivel == null || nivel.isBlank()
+            ? Nivel.DEBUG
+            : Nivel.valueOf(nivel.trim().toUpperCase(Locale.ROOT)));
+        if (Boolean.getBoolean("wallet.logger.asincrono")) {
+            activarAsincrono(Integer.getInteger("wallet.logger.capacidad", 4096));
+        }
+    }
+
     private Logger() {
         throw new AssertionError("No se debe instanciar Logger");
     }
-    
+
+    // ==================== CONFIGURACIÓN ====================
+
     /**
      * Habilita o deshabilita el logging.
      */
-    public static void setEnabled(boolean enabled) {
+    public static synchronized void setEnabled(boolean enabled) {
         Logger.enabled = enabled;
+        actualizarMascara();
     }
-    
+
+    /**
+     * Habilita solo los niveles iguales o más graves que el indicado
+     * (DEBUG &lt; INFO &lt; WARNING &lt; ERROR).
+     *
+     * @param minimo nivel mínimo que se registra
+     */
+    public static synchronized void setNivelMinimo(Nivel minimo) {
+        int nueva = 0;
+        for (Nivel nivel : Nivel.values()) {
+            if (nivel.esAlMenos(minimo)) {
+                nueva |= 1 << nivel.ordinal();
+            }
+        }
+        mascaraNiveles = nueva;
+        actualizarMascara();
+    }
+
+    /**
+     * Habilita o deshabilita un nivel concreto, sin tocar los demás.
+     *
+     * @param nivel nivel
+     * @param habilitado true para registrarlo
+     */
+    public static synchronized void setNivelHabilitado(Nivel nivel, boolean habilitado) {
+        if (habilitado) {
+            mascaraNiveles |= 1 << nivel.ordinal();
+        } else {
+            mascaraNiveles &= ~(1 << nivel.ordinal());
+        }
+        actualizarMascara();
+    }
+
+    /**
+     * @param nivel nivel
+     * @return true si los mensajes de ese nivel se registran
+     */
+    public static boolean isEnabled(Nivel nivel) {
+        return (mascara & (1 << nivel.ordinal())) != 0;
+    }
+
+    /**
+     * @return true si los mensajes DEBUG se registran
+     */
+    public static boolean isDebugEnabled() {
+        return isEnabled(Nivel.DEBUG);
+    }
+
+    /**
+     * Cambia el destino de los mensajes (por defecto System.out).
+     *
+     * @param destino flujo de salida
+     */
+    public static synchronized void setSalida(PrintStream destino) {
+        flush();
+        salida = destino;
+        SalidaConsolaAsincrona actual = asincrona;
+        if (actual != null) {
+            actual.cerrar();
+            asincrona = new SalidaConsolaAsincrona(destino, actual.getCapacidad());
+        }
+    }
+
+    private static void actualizarMascara() {
+        mascara = enabled ? mascaraNiveles : 0;
+    }
+
+    // ==================== MODO ASÍNCRONO ====================
+
+    /**
+     * Escribe los mensajes desde un hilo en segundo plano: el llamador solo
+     * encola. Si ya estaba activo, lo reinicia tras escribir lo pendiente.
+     *
+     * @param capacidad mensajes que caben en el buffer
+     */
+    public static synchronized void activarAsincrono(int capacidad) {
+        cerrar();
+        asincrona = new SalidaConsolaAsincrona(salida, capacidad);
+    }
+
+    /**
+     * Vuelve al modo síncrono, escribiendo antes todo lo pendiente.
+     */
+    public static synchronized void cerrar() {
+        SalidaConsolaAsincrona actual = asincrona;
+        if (actual != null) {
+            asincrona = null;
+            actual.cerrar();
+        }
+    }
+
+    /**
+     * Espera a que los mensajes registrados hasta ahora estén escritos.
+     *
+     * @return true si todo lo pendiente se escribió
+     */
+    public static boolean flush() {
+        SalidaConsolaAsincrona actual = asincrona;
+        return actual == null || actual.vaciar(TIMEOUT_VACIADO_MS);
+    }
+
+    /**
+     * @return true si el modo asíncrono está activo
+     */
+    public static boolean isAsincrono() {
+        return asincrona != null;
+    }
+
+    // ==================== INFO ====================
+
     /**
      * Registra un mensaje de información.
      */
     public static void info(String mensaje) {
-        log(Nivel.INFO, mensaje);
+        if (isEnabled(Nivel.INFO)) {
+            log(Nivel.INFO, mensaje);
+        }
+    }
+
+    /**
+     * Registra un mensaje de información con un parámetro ({}).
+     */
+    public static void info(String plantilla, Object arg) {
+        if (isEnabled(Nivel.INFO)) {
+            log(Nivel.INFO, formatear(plantilla, arg));
+        }
+    }
+
+    /**
+     * Registra un mensaje de información con dos parámetros ({}).
+     */
+    public static void info(String plantilla, Object arg1, Object arg2) {
+        if (isEnabled(Nivel.INFO)) {
+            log(Nivel.INFO, formatear(plantilla, arg1, arg2));
+        }
+    }
+
+    /**
+     * Registra un mensaje de información con varios parámetros ({}).
+     */
+    public static void info(String plantilla, Object... args) {
+        if (isEnabled(Nivel.INFO)) {
+            log(Nivel.INFO, formatearVarios(plantilla, args));
+        }
     }
-    
+
+    /**
+     * Registra un mensaje de información construido solo si INFO está habilitado.
+     */
+    public static void info(Supplier<String> mensaje) {
+        if (isEnabled(Nivel.INFO)) {
+            log(Nivel.INFO, mensaje.get());
+        }
+    }
+
+    // ==================== WARNING ====================
+
     /**
      * Registra una advertencia.
      */
     public static void warning(String mensaje) {
-        log(Nivel.WARNING, mensaje);
+        if (isEnabled(Nivel.WARNING)) {
+            log(Nivel.WARNING, mensaje);
+        }
     }
-    
+
+    /**
+     * Registra una advertencia con un parámetro ({}).
+     */
+    public static void warning(String plantilla, Object arg) {
+        if (isEnabled(Nivel.WARNING)) {
+            log(Nivel.WARNING, formatear(plantilla, arg));
+        }
+    }
+
+    /**
+     * Registra una advertencia con dos parámetros ({}).
+     */
+    public static void warning(String plantilla, Object arg1, Object arg2) {
+        if (isEnabled(Nivel.WARNING)) {
+            log(Nivel.WARNING, formatear(plantilla, arg1, arg2));
+        }
+    }
+
+    /**
+     * Registra una advertencia con varios parámetros ({}).
+     */
+    public static void warning(String plantilla, Object... args) {
+        if (isEnabled(Nivel.WARNING)) {
+            log(Nivel.WARNING, formatearVarios(plantilla, args));
+        }
+    }
+
+    /**
+     * Registra una advertencia construida solo si WARNING está habilitado.
+     */
+    public static void warning(Supplier<String> mensaje) {
+        if (isEnabled(Nivel.WARNING)) {
+            log(Nivel.WARNING, mensaje.get());
+        }
+    }
+
+    // ==================== ERROR ====================
+
     /**
      * Registra un error.
      */
     public static void error(String mensaje) {
-        log(Nivel.ERROR, mensaje);
+        if (isEnabled(Nivel.ERROR)) {
+            log(Nivel.ERROR, mensaje);
+        }
+    }
+
+    /**
+     * Registra un error con un parámetro ({}).
+     */
+    public static void error(String plantilla, Object arg) {
+        if (isEnabled(Nivel.ERROR)) {
+            log(Nivel.ERROR, formatear(plantilla, arg));
+        }
+    }
+
+    /**
+     * Registra un error con dos parámetros ({}).
+     */
+    public static void error(String plantilla, Object arg1, Object arg2) {
+        if (isEnabled(Nivel.ERROR)) {
+            log(Nivel.ERROR, formatear(plantilla, arg1, arg2));
+        }
+    }
+
+    /**
+     * Registra un error con varios parámetros ({}).
+     */
+    public static void error(String plantilla, Object... args) {
+        if (isEnabled(Nivel.ERROR)) {
+            log(Nivel.ERROR, formatearVarios(plantilla, args));
+        }
     }
-    
+
     /**
-     * Registra un error con excepción.
+     * Registra un error construido solo si ERROR está habilitado.
      */
-    public static void error(String mensaje, Exception e) {
-        log(Nivel.ERROR, mensaje + " - " + e.getClass().getSimpleName() + ": " + e.getMessage());
+    public static void error(Supplier<String> mensaje) {
+        if (isEnabled(Nivel.ERROR)) {
+            log(Nivel.ERROR, mensaje.get());
+        }
     }
-    
+
+    // ==================== DEBUG ====================
+
     /**
      * Registra un mensaje de depuración.
      */
     public static void debug(String mensaje) {
-        log(Nivel.DEBUG, mensaje);
+        if (isEnabled(Nivel.DEBUG)) {
+            log(Nivel.DEBUG, mensaje);
+        }
+    }
+
+    /**
+     * Registra un mensaje de depuración con un parámetro ({}).
+     */
+    public static void debug(String plantilla, Object arg) {
+        if (isEnabled(Nivel.DEBUG)) {
+            log(Nivel.DEBUG, formatear(plantilla, arg));
+        }
+    }
+
+    /**
+     * Registra un mensaje de depuración con dos parámetros ({}).
+     */
+    public static void debug(String plantilla, Object arg1, Object arg2) {
+        if (isEnabled(Nivel.DEBUG)) {
+            log(Nivel.DEBUG, formatear(plantilla, arg1, arg2));
+        }
+    }
+
+    /**
+     * Registra un mensaje de depuración con varios parámetros ({}).
+     */
+    public static void debug(String plantilla, Object... args) {
+        if (isEnabled(Nivel.DEBUG)) {
+            log(Nivel.DEBUG, formatearVarios(plantilla, args));
+        }
+    }
+
+    /**
+     * Registra un mensaje de depuración construido solo si DEBUG está habilitado.
+     */
+    public static void debug(Supplier<String> mensaje) {
+        if (isEnabled(Nivel.DEBUG)) {
+            log(Nivel.DEBUG, mensaje.get());
+        }
+    }
+
+    // ==================== MÉTODOS INTERNOS ====================
+
+    /**
+     * Sustituye cada {} de la plantilla por el siguiente argumento.
+     * Los {} sobrantes se dejan tal cual; los argumentos sobrantes se ignoran,
+     * salvo un Throwable al final, que se agrega como " - Clase: mensaje".
+     */
+    static String formatearVarios(String plantilla, Object... args) {
+        StringBuilder resultado = new StringBuilder(plantilla.length() + 16 * args.length);
+        int desde = 0;
+        int usados = 0;
+        for (Object arg : args) {
+            int marcador = plantilla.indexOf("{}", desde);
+            if (marcador < 0) {
+                break;
+            }
+            resultado.append(plantilla, desde, marcador).append(arg);
+            desde = marcador + 2;
+            usados++;
+        }
+        resultado.append(plantilla, desde, plantilla.length());
+        if (usados < args.length) {
+            agregarExcepcion(resultado, args[args.length - 1]);
+        }
+        return resultado.toString();
+    }
+
+    static String formatear(String plantilla, Object arg) {
+        int marcador = plantilla.indexOf("{}");
+        if (marcador < 0) {
+            return arg instanceof Throwable ? agregarExcepcion(new StringBuilder(plantilla), arg).toString() : plantilla;
+        }
+        return new StringBuilder(plantilla.length() + 16)
+            .append(plantilla, 0, marcador).append(arg)
+            .append(plantilla, marcador + 2, plantilla.length())
+            .toString();
     }
-    
+
+    static String formatear(String plantilla, Object arg1, Object arg2) {
+        int primero = plantilla.indexOf("{}");
+        if (primero < 0) {
+            return arg2 instanceof Throwable ? agregarExcepcion(new StringBuilder(plantilla), arg2).toString() : plantilla;
+        }
+        int segundo = plantilla.indexOf("{}", primero + 2);
+        StringBuilder resultado = new StringBuilder(plantilla.length() + 32)
+            .append(plantilla, 0, primero).append(arg1);
+        if (segundo < 0) {
+            return agregarExcepcion(resultado.append(plantilla, primero + 2, plantilla.length()), arg2).toString();
+        }
+        return resultado.append(plantilla, primero + 2, segundo).append(arg2)
+            .append(plantilla, segundo + 2, plantilla.length())
+            .toString();
+    }
+
+    /**
+     * Agrega el argumento sobrante si es un Throwable; si no, no hace nada.
+     */
+    private static StringBuilder agregarExcepcion(StringBuilder resultado, Object sobrante) {
+        if (sobrante instanceof Throwable) {
+            Throwable t = (Throwable) sobrante;
+            resultado.append(" - ").append(t.getClass().getSimpleName()).append(": ").append(t.getMessage());
+        }
+        return resultado;
+    }
+
     /**
      * Método interno para formatear y escribir logs.
+     * El nivel ya viene comprobado por el llamador.
      */
     private static void log(Nivel nivel, String mensaje) {
-        if (!enabled) return;
-        
-        String timestamp = LocalDateTime.now().format(FORMATTER);
-        String nivelStr = String.format("[%-7s]", nivel.name());
-        
-        System.out.println(timestamp + " " + nivelStr + " " + mensaje);
+        long instante = System.currentTimeMillis();
+        SalidaConsolaAsincrona actual = asincrona;
+        if (actual != null && actual.encolar(instante, nivel, mensaje)) {
+            return;
+        }
+        salida.println(linea(instante, nivel, mensaje));
+    }
+
+    /**
+     * Compone la línea completa: "yyyy-MM-dd HH:mm:ss [NIVEL  ] mensaje".
+     */
+    static String linea(long instante, Nivel nivel, String mensaje) {
+        return marcaTiempo(instante) + " " + nivel.getEtiqueta() + " " + mensaje;
+    }
+
+    /**
+     * Formatea el timestamp reutilizando el último mientras no cambie el segundo.
+     */
+    private static String marcaTiempo(long instante) {
+        long segundo = Math.floorDiv(instante, 1000);
+        MarcaTiempo marca = ultimaMarca;
+        if (marca.segundo != segundo) {
+            String texto = LocalDateTime.ofInstant(Instant.ofEpochSecond(segundo), ZoneId.systemDefault())
+                .format(FORMATTER);
+            marca = new MarcaTiempo(segundo, texto);
+            ultimaMarca = marca;
+        }
+        return marca.texto;
+    }
+
+    private static final class MarcaTiempo {
+        final long segundo;
+        final String texto;
+
+        MarcaTiempo(long segundo, String texto) {
+            this.segundo = segundo;
+            this.texto = texto;
+        }
     }
 }
@@ -1,8 +1,13 @@
 package com.wallet.infrastructure.logging;
 
+import com.wallet.infrastructure.metrics.Medidor;
+
 import java.io.*;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
@@ -16,16 +21,40 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  *
  * Características:
  * - Thread-safe (sincronizado)
- * - Escribe en archivo de log
- * - Formateo consistente
+ * - Escribe en archivo de log, con rotación por tamaño y por día
+ * - Segmentos cerrados comprimidos (.log.gz) y con retención
+ * - Índice de rangos de tiempo por segmento (buscarSegmentos())
+ * - Modo asíncrono opcional: buffer circular sin bloqueos y un hilo
+ *   escritor con el archivo abierto (-Dwallet.log.asincrono=true)
+ * - Formateo consistente: texto alineado o JSON lines (-Dwallet.log.formato=json)
  * - Niveles de log (INFO, ERROR, WARN)
  * - Timestamps
+ * - Estadísticas en vivo por nivel y por entidad (getEstadisticas())
  *
  * Uso:
  * OperationLogger.logCreate("Usuario", usuarioId, "Usuario Juan Pérez creado");
  * OperationLogger.logUpdate("Cuenta", cuentaId, "Saldo actualizado a 1000.00");
  * OperationLogger.logDelete("Transacción", transaccionId, "Transacción eliminada");
  * OperationLogger.logError("Cuenta", cuentaId, "Error: Saldo insuficiente");
+ *
+ * Modo asíncrono (propiedades del sistema):
+ * - wallet.log.asincrono=true       activa el escritor en segundo plano
+ * - wallet.log.capacidad=8192       entradas que caben en el buffer
+ * - wallet.log.politica=bloquear    bloquear | descartar-read | muestrear
+ * - wallet.log.muestreo=10          con muestrear, se conserva 1 de cada N
+ * Al apagar la aplicación debe llamarse a OperationLogger.cerrar().
+ *
+ * Formato (propiedad wallet.log.formato):
+ * - texto   [2025-01-31 10:00:00] READ   | Cuenta | id | descripción
+ * - json    {"ts":1738317600000,"nivel":"READ","entidad":"Cuenta","id":"id","desc":"descripción"}
+ * JSON lines no usa String.format y se vuelve a leer sin ambigüedad;
+ * ConsultaLog lee ambos formatos.
+ *
+ * Rotación (propiedades del sistema):
+ * - wallet.log.maxBytes=10485760        tamaño que provoca la rotación
+ * - wallet.log.rotacionDiaria=true      rotar también al cambiar de día
+ * - wallet.log.retencion.dias=30        borrar segmentos más antiguos
+ * - wallet.log.retencion.segmentos=100  máximo de segmentos cerrados
  */
 public class OperationLogger {
 
@@ -33,6 +62,29 @@ public class OperationLogger {
     private static final String DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
     private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATE_FORMAT);
     private static final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private static final long TIMEOUT_VACIADO_MS = 5000;
+    private static final EstadisticasLog estadisticas = new EstadisticasLog();
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final ArchivoLogRotativo archivo = ArchivoLogRotativo.desdePropiedades(Path.of(LOG_FILE));
+    // Solo se usa con lock.writeLock() tomado
+    private static final StringBuilder lineaSincrona = new StringBuilder(256);
+
+    private static volatile FormatoLog formato = FormatoLog.desde(System.getProperty("wallet.log.formato"));
+
+    // Escritor en segundo plano; null en modo síncrono
+    private static volatile EscritorLogAsincrono escritor;
+    private static PoliticaDesborde politicaActual;
+    private static int capacidadActual;
+    private static int tasaMuestreoActual;
+
+    static {
+        if (Boolean.getBoolean("wallet.log.asincrono")) {
+            activarAsincrono(
+                Integer.getInteger("wallet.log.capacidad", 8192),
+                PoliticaDesborde.desde(System.getProperty("wallet.log.politica")),
+                Integer.getInteger("wallet.log.muestreo", 10));
+        }
+    }
 
     // Niveles de log
     public enum LogLevel {
@@ -55,6 +107,207 @@ public class OperationLogger {
         }
     }
 
+    /**
+     * Qué hacer cuando el buffer del modo asíncrono está lleno.
+     * WARN y ERROR siempre esperan; nunca se descartan.
+     */
+    public enum PoliticaDesborde {
+        /** El hilo que registra espera a que haya espacio */
+        BLOQUEAR,
+        /** Las entradas READ se descartan; el resto espera */
+        DESCARTAR_READ,
+        /** Se conserva 1 de cada N entradas (salvo WARN/ERROR); el resto se descarta */
+        MUESTREAR;
+
+        /**
+         * Interpreta el nombre de una política ("bloquear", "descartar-read", "muestrear").
+         *
+         * @param nombre nombre; nulo o vacío equivale a BLOQUEAR
+         * @return la política
+         */
+        public static PoliticaDesborde desde(String nombre) {
+            if (nombre == null || nombre.isBlank()) {
+                return BLOQUEAR;
+            }
+            return valueOf(nombre.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+    }
+
+    /**
+     * Formato de las líneas del archivo de log.
+     */
+    public enum FormatoLog {
+        /** Línea de texto alineada, legible a simple vista */
+        TEXTO {
+            @Override
+            void formatear(EntradaLog entrada, StringBuilder destino) {
+                destino.append(formatLogEntry(entrada.momento().format(formatter), entrada.nivel,
+                    entrada.tipoEntidad, entrada.idEntidad, entrada.descripcion));
+            }
+        },
+        /** Un objeto JSON por línea; el instante va en milisegundos epoch */
+        JSON {
+            @Override
+            void formatear(EntradaLog entrada, StringBuilder destino) {
+                destino.append("{\"ts\":").append(entrada.instante)
+                    .append(",\"nivel\":\"").append(entrada.nivel.getLabel()).append('"');
+                destino.append(",\"entidad\":");
+                escribirJson(destino, entrada.tipoEntidad);
+                destino.append(",\"id\":");
+                escribirJson(destino, entrada.idEntidad);
+                destino.append(",\"desc\":");
+                escribirJson(destino, entrada.descripcion);
+                destino.append('}');
+            }
+        };
+
+        /**
+         * Añade la entrada formateada, sin salto de línea final.
+         */
+        abstract void formatear(EntradaLog entrada, StringBuilder destino);
+
+        /**
+         * Interpreta el nombre de un formato ("texto", "json").
+         *
+         * @param nombre nombre; nulo o vacío equivale a TEXTO
+         * @return el formato
+         */
+        public static FormatoLog desde(String nombre) {
+            if (nombre == null || nombre.isBlank()) {
+                return TEXTO;
+            }
+            return valueOf(nombre.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Cambia el formato de las entradas que se escriban a partir de ahora.
+     * Conviene rotar después para no mezclar formatos en un segmento,
+     * aunque ConsultaLog sabe leer ambos.
+     *
+     * @param nuevo formato
+     */
+    public static void setFormato(FormatoLog nuevo) {
+        flush();
+        formato = nuevo;
+    }
+
+    /**
+     * @return formato actual del archivo de log
+     */
+    public static FormatoLog getFormato() {
+        return formato;
+    }
+
+    /**
+     * Obtiene las estadísticas en vivo del log (conteos y tasas).
+     * Se mantienen en memoria: consultarlas no lee el archivo.
+     *
+     * @return estadísticas desde el arranque de la aplicación
+     */
+    public static EstadisticasLog getEstadisticas() {
+        return estadisticas;
+    }
+
+    // ==================== MODO ASÍNCRONO ====================
+
+    /**
+     * Activa el modo asíncrono. Si ya estaba activo, lo reinicia con la
+     * nueva configuración tras escribir lo pendiente.
+     *
+     * @param capacidad entradas que caben en el buffer
+     * @param politica qué hacer con el buffer lleno
+     * @param tasaMuestreo con MUESTREAR, se conserva 1 de cada tasaMuestreo entradas
+     */
+    public static synchronized void activarAsincrono(int capacidad, PoliticaDesborde politica, int tasaMuestreo) {
+        detenerEscritor();
+        escritor = new EscritorLogAsincrono(archivo, capacidad, politica, tasaMuestreo);
+        politicaActual = politica;
+        capacidadActual = capacidad;
+        tasaMuestreoActual = tasaMuestreo;
+    }
+
+    /**
+     * Vuelve al modo síncrono, escribiendo antes todo lo pendiente, cierra
+     * el archivo y espera a que terminen las compresiones en curso.
+     * Un registro posterior vuelve a abrir el archivo.
+     */
+    public static synchronized void cerrar() {
+        detenerEscritor();
+        archivo.cerrar();
+    }
+
+    // ==================== SEGMENTOS ====================
+
+    /**
+     * Devuelve los segmentos del log con entradas en el intervalo, del más
+     * antiguo al más reciente (el activo, si aplica, va al final).
+     * Se resuelve con el índice: no se abre ningún archivo.
+     *
+     * @param desde inicio inclusivo (null = sin límite)
+     * @param hasta fin inclusivo (null = sin límite)
+     * @return segmentos que solapan el intervalo
+     */
+    public static List<SegmentoLog> buscarSegmentos(LocalDateTime desde, LocalDateTime hasta) {
+        flush();
+        return archivo.buscarSegmentos(desde, hasta);
+    }
+
+    /**
+     * Cierra el segmento activo y lo manda a comprimir aunque no haya
+     * alcanzado el tamaño máximo.
+     */
+    public static void rotar() {
+        flush();
+        try {
+            archivo.rotarAhora();
+        } catch (IOException e) {
+            System.err.println("❌ Error rotando log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Espera a que las entradas registradas hasta ahora estén en el archivo.
+     * En modo síncrono no hace nada.
+     *
+     * @return true si todo lo pendiente se escribió
+     */
+    public static boolean flush() {
+        EscritorLogAsincrono actual = escritor;
+        return actual == null || actual.vaciar(TIMEOUT_VACIADO_MS);
+    }
+
+    /**
+     * @return true si el modo asíncrono está activo
+     */
+    public static boolean isAsincrono() {
+        return escritor != null;
+    }
+
+    /**
+     * @return entradas descartadas por desborde en el modo asíncrono actual
+     */
+    public static long getEntradasDescartadas() {
+        EscritorLogAsincrono actual = escritor;
+        return actual == null ? 0 : actual.getDescartadas();
+    }
+
+    /**
+     * @return entradas a la espera del hilo escritor
+     */
+    public static int getEntradasPendientes() {
+        EscritorLogAsincrono actual = escritor;
+        return actual == null ? 0 : actual.getPendientes();
+    }
+
+    private static void detenerEscritor() {
+        EscritorLogAsincrono actual = escritor;
+        if (actual != null) {
+            escritor = null;
+            actual.cerrar();
+        }
+    }
+
     /**
      * Registra una operación CREATE.
      *
@@ -142,28 +395,35 @@ public class OperationLogger {
     }
 
     /**
-     * Limpia el archivo de log.
+     * Limpia el archivo de log, sus segmentos comprimidos y el índice.
      * Útil para resets o tests.
      */
-    public static void clearLog() {
+    public static synchronized void clearLog() {
+        // El escritor asíncrono tiene el archivo abierto: se cierra y se reabre
+        boolean asincrono = escritor != null;
+        detenerEscritor();
         lock.writeLock().lock();
         try {
-            File logFile = new File(LOG_FILE);
-            if (logFile.exists()) {
-                logFile.delete();
+            boolean existia = new File(LOG_FILE).exists();
+            archivo.limpiar();
+            if (existia) {
                 System.out.println("✅ Log limpiado");
             }
         } finally {
             lock.writeLock().unlock();
         }
+        if (asincrono) {
+            activarAsincrono(capacidadActual, politicaActual, tasaMuestreoActual);
+        }
     }
 
     /**
-     * Obtiene el contenido actual del log.
+     * Obtiene el contenido actual del log (solo el segmento activo).
      *
      * @return contenido del archivo de log
      */
     public static String getLogContent() {
+        flush();
         lock.readLock().lock();
         try {
             File logFile = new File(LOG_FILE);
@@ -191,6 +451,7 @@ public class OperationLogger {
     /**
      * Método central de logging.
      * Escribe la entrada de log en archivo de forma thread-safe.
+     * En modo asíncrono solo la encola para el hilo escritor.
      *
      * @param level nivel de log
      * @param entityType tipo de entidad
@@ -198,24 +459,36 @@ public class OperationLogger {
      * @param description descripción
      */
     private static void log(LogLevel level, String entityType, String entityId, String description) {
+        estadisticas.registrar(level, entityType);
+        EntradaLog entrada = new EntradaLog(System.currentTimeMillis(), level, entityType, entityId, description);
+
+        // También imprimir en consola si es error
+        if (level == LogLevel.ERROR) {
+            StringBuilder consola = new StringBuilder(128);
+            FormatoLog.TEXTO.formatear(entrada, consola);
+            System.err.println("❌ [" + level.getLabel() + "] " + consola);
+        }
+
+        EscritorLogAsincrono actual = escritor;
+        if (actual != null && actual.encolar(entrada)) {
+            // El hilo escritor formatea la línea
+            return;
+        }
+        // Modo síncrono, o escritor cerrándose
+
         lock.writeLock().lock();
         try {
-            String timestamp = LocalDateTime.now().format(formatter);
-            String logEntry = formatLogEntry(timestamp, level, entityType, entityId, description);
-
-            // Escribir en archivo
-            try (FileWriter fw = new FileWriter(LOG_FILE, true);
-                 BufferedWriter bw = new BufferedWriter(fw)) {
-                bw.write(logEntry);
-                bw.newLine();
+            lineaSincrona.setLength(0);
+            formato.formatear(entrada, lineaSincrona);
+            lineaSincrona.append(System.lineSeparator());
+
+            // Escribir en archivo (rota si hace falta)
+            LocalDateTime momento = entrada.momento();
+            try {
+                archivo.escribir(lineaSincrona, momento, momento);
             } catch (IOException e) {
                 System.err.println("❌ Error escribiendo en log: " + e.getMessage());
             }
-
-            // También imprimir en consola si es error
-            if (level == LogLevel.ERROR) {
-                System.err.println("❌ [" + level.getLabel() + "] " + logEntry);
-            }
         } finally {
             lock.writeLock().unlock();
         }
@@ -243,49 +516,67 @@ public class OperationLogger {
         );
     }
 
+    /**
+     * Añade un texto como cadena JSON (o null), escapando lo necesario.
+     */
+    private static void escribirJson(StringBuilder destino, String texto) {
+        if (texto == null) {
+            destino.append("null");
+            return;
+        }
+        destino.append('"');
+        for (int i = 0; i < texto.length(); i++) {
+            char c = texto.charAt(i);
+            if (c == '"' || c == '\\') {
+                destino.append('\\').append(c);
+            } else if (c == '\n') {
+                destino.append("\\n");
+            } else if (c == '\r') {
+                destino.append("\\r");
+            } else if (c == '\t') {
+                destino.append("\\t");
+            } else if (c < 0x20) {
+                destino.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+            } else {
+                destino.append(c);
+            }
+        }
+        destino.append('"');
+    }
+
+
     /**
      * Escribe estadísticas del log.
-     * Cuenta operaciones por tipo.
+     * Cuenta operaciones por tipo desde el arranque, con sus tasas
+     * por segundo (medias de 1, 5 y 15 minutos) y el reparto por entidad.
      */
     public static void printStatistics() {
         System.out.println("\n╔════════════════════════════════════════╗");
         System.out.println("║     ESTADÍSTICAS DE OPERACIONES BD     ║");
         System.out.println("╚════════════════════════════════════════╝");
 
-        lock.readLock().lock();
-        try {
-            File logFile = new File(LOG_FILE);
-            if (!logFile.exists()) {
-                System.out.println("  [ Sin operaciones registradas ]");
-                return;
-            }
+        long total = estadisticas.getTotal();
+        if (total == 0) {
+            System.out.println("  [ Sin operaciones registradas ]");
+            return;
+        }
 
-            // Contar por tipo
-            int creates = 0, reads = 0, updates = 0, deletes = 0, errors = 0;
-            int totalLines = 0;
+        System.out.println("  Total de operaciones: " + total);
+        System.out.println("  Nivel     Total     1m/s     5m/s    15m/s");
+        for (LogLevel nivel : LogLevel.values()) {
+            Medidor medidor = estadisticas.getMedidor(nivel);
+            System.out.println(String.format("  %-6s %8d %8.2f %8.2f %8.2f",
+                nivel.getLabel(), medidor.getTotal(),
+                medidor.getTasa1m(), medidor.getTasa5m(), medidor.getTasa15m()));
+        }
 
-            try (BufferedReader reader = new BufferedReader(new FileReader(logFile))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    totalLines++;
-                    if (line.contains("CREATE")) creates++;
-                    else if (line.contains("READ")) reads++;
-                    else if (line.contains("UPDATE")) updates++;
-                    else if (line.contains("DELETE")) deletes++;
-                    else if (line.contains("ERROR")) errors++;
-                }
-            }
+        System.out.println("  Por entidad:");
+        estadisticas.getConteosPorEntidad().forEach((tipo, conteo) ->
+            System.out.println(String.format("  ├─ %-15s %d", tipo, conteo)));
 
-            System.out.println("  Total de líneas: " + totalLines);
-            System.out.println("  ├─ CREATE:  " + creates);
-            System.out.println("  ├─ READ:    " + reads);
-            System.out.println("  ├─ UPDATE:  " + updates);
-            System.out.println("  ├─ DELETE:  " + deletes);
-            System.out.println("  └─ ERROR:   " + errors);
-        } catch (IOException e) {
-            System.err.println("❌ Error leyendo estadísticas: " + e.getMessage());
-        } finally {
-            lock.readLock().unlock();
+        if (isAsincrono()) {
+            System.out.println("  Log asíncrono: " + getEntradasPendientes() + " pendientes, "
+                + getEntradasDescartadas() + " descartadas");
         }
     }
 }
@@ -0,0 +1,238 @@
+package com.wallet.infrastructure.logging;
+
+import com.wallet.infrastructure.logging.OperationLogger.LogLevel;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Entrada del log de operaciones leída de vuelta desde un segmento.
+ *
+ * parsear() entiende los dos formatos de OperationLogger:
+ * - texto: [2025-01-31 10:00:00] READ   | Cuenta | id | descripción
+ * - json:  {"ts":1738317600000,"nivel":"READ","entidad":"Cuenta","id":"id","desc":"descripción"}
+ */
+public final class RegistroLog {
+
+    private static final DateTimeFormatter FORMATO_TEXTO = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final LocalDateTime momento;
+    private final LogLevel nivel;
+    private final String tipoEntidad;
+    private final String idEntidad;
+    private final String descripcion;
+
+    RegistroLog(LocalDateTime momento, LogLevel nivel, String tipoEntidad, String idEntidad, String descripcion) {
+        this.momento = momento;
+        this.nivel = nivel;
+        this.tipoEntidad = tipoEntidad;
+        this.idEntidad = idEntidad;
+        this.descripcion = descripcion;
+    }
+
+    /**
+     * Interpreta una línea del log, en formato texto o JSON.
+     *
+     * @param linea línea sin salto final
+     * @return el registro, o null si la línea no tiene un formato reconocible
+     */
+    public static RegistroLog parsear(String linea) {
+        if (linea == null || linea.isEmpty()) {
+            return null;
+        }
+        try {
+            char primero = linea.charAt(0);
+            if (primero == '{') {
+                return parsearJson(linea);
+            }
+            if (primero == '[') {
+                return parsearTexto(linea);
+            }
+        } catch (RuntimeException e) {
+            // línea truncada o ajena al log
+        }
+        return null;
+    }
+
+    private static RegistroLog parsearTexto(String linea) {
+        int cierre = linea.indexOf("] ");
+        if (cierre < 0) {
+            return null;
+        }
+        LocalDateTime momento = LocalDateTime.parse(linea.substring(1, cierre), FORMATO_TEXTO);
+        String[] campos = linea.substring(cierre + 2).split(" \\| ", 4);
+        if (campos.length < 4) {
+            return null;
+        }
+        return new RegistroLog(momento, LogLevel.valueOf(campos[0].trim()),
+            campos[1].trim(), campos[2].trim(), campos[3]);
+    }
+
+    private static RegistroLog parsearJson(String linea) {
+        LectorJson lector = new LectorJson(linea);
+        long instante = -1;
+        LogLevel nivel = null;
+        String entidad = null;
+        String id = null;
+        String descripcion = null;
+
+        lector.esperar('{');
+        while (!lector.consumirSi('}')) {
+            String clave = lector.leerTexto();
+            lector.esperar(':');
+            switch (clave) {
+                case "ts":
+                    instante = lector.leerEntero();
+                    break;
+                case "nivel":
+                    nivel = LogLevel.valueOf(lector.leerTexto());
+                    break;
+                case "entidad":
+                    entidad = lector.leerTextoONulo();
+                    break;
+                case "id":
+                    id = lector.leerTextoONulo();
+                    break;
+                case "desc":
+                    descripcion = lector.leerTextoONulo();
+                    break;
+                default:
+                    lector.leerTextoONulo();
+            }
+            lector.consumirSi(',');
+        }
+        if (instante < 0 || nivel == null) {
+            return null;
+        }
+        LocalDateTime momento = LocalDateTime.ofInstant(Instant.ofEpochMilli(instante), ZoneId.systemDefault());
+        return new RegistroLog(momento, nivel, entidad, id, descripcion);
+    }
+
+    public LocalDateTime getMomento() {
+        return momento;
+    }
+
+    public LogLevel getNivel() {
+        return nivel;
+    }
+
+    public String getTipoEntidad() {
+        return tipoEntidad;
+    }
+
+    public String getIdEntidad() {
+        return idEntidad;
+    }
+
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + momento.format(FORMATO_TEXTO) + "] " + nivel.getLabel()
+            + " | " + tipoEntidad + " | " + idEntidad + " | " + descripcion;
+    }
+
+    /**
+     * Lector mínimo para los objetos planos que escribe OperationLogger:
+     * solo claves de texto con valores de texto, enteros o null.
+     */
+    private static final class LectorJson {
+
+        private final String texto;
+        private int pos;
+
+        LectorJson(String texto) {
+            this.texto = texto;
+        }
+
+        void esperar(char c) {
+            if (!consumirSi(c)) {
+                throw new IllegalArgumentException("Se esperaba '" + c + "' en la posición " + pos);
+            }
+        }
+
+        boolean consumirSi(char c) {
+            if (pos < texto.length() && texto.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        long leerEntero() {
+            int inicio = pos;
+            if (consumirSi('-')) {
+                inicio = pos - 1;
+            }
+            while (pos < texto.length() && Character.isDigit(texto.charAt(pos))) {
+                pos++;
+            }
+            return Long.parseLong(texto, inicio, pos, 10);
+        }
+
+        String leerTextoONulo() {
+            if (texto.startsWith("null", pos)) {
+                pos += 4;
+                return null;
+            }
+            if (pos < texto.length() && texto.charAt(pos) != '"') {
+                return Long.toString(leerEntero());
+            }
+            return leerTexto();
+        }
+
+        String leerTexto() {
+            esperar('"');
+            StringBuilder resultado = null;
+            int inicio = pos;
+            while (true) {
+                char c = texto.charAt(pos);
+                if (c == '"') {
+                    String valor = resultado == null
+                        ? texto.substring(inicio, pos)
+                        : resultado.append(texto, inicio, pos).toString();
+                    pos++;
+                    return valor;
+                }
+                if (c != '\\') {
+                    pos++;
+                    continue;
+                }
+                if (resultado == null) {
+                    resultado = new StringBuilder();
+                }
+                resultado.append(texto, inicio, pos);
+                char escapado = texto.charAt(pos + 1);
+                pos += 2;
+                switch (escapado) {
+                    case 'n':
+                        resultado.append('\n');
+                        break;
+                    case 'r':
+                        resultado.append('\r');
+                        break;
+                    case 't':
+                        resultado.append('\t');
+                        break;
+                    case 'b':
+                        resultado.append('\b');
+                        break;
+                    case 'f':
+                        resultado.append('\f');
+                        break;
+                    case 'u':
+                        resultado.append((char) Integer.parseInt(texto, pos, pos + 4, 16));
+                        pos += 4;
+                        break;
+                    default:
+                        resultado.append(escapado);
+                }
+                inicio = pos;
+            }
+        }
+    }
+}
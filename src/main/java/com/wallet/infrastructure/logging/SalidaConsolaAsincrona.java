@@ -0,0 +1,148 @@
+package com.wallet.infrastructure.logging;
+
+import com.wallet.infrastructure.logging.Logger.Nivel;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Salida asíncrona de Logger hacia la consola.
+ *
+ * El llamador deja el mensaje en un BufferCircular y sigue; un único hilo
+ * compone las líneas (timestamp y etiqueta) y las imprime por lotes, con un
+ * solo print y flush por lote. Con el buffer lleno el llamador espera: los
+ * mensajes de Logger no se descartan.
+ */
+final class SalidaConsolaAsincrona {
+
+    private static final int MAX_LOTE = 256;
+    private static final long ESPERA_OCIOSA_NS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long ESPERA_LLENO_NS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final BufferCircular<Mensaje> buffer;
+    private final PrintStream destino;
+    private final Thread hilo;
+    private final AtomicLong escritos = new AtomicLong();
+    private volatile boolean activo = true;
+    private volatile boolean durmiendo;
+
+    /**
+     * Arranca el hilo escritor.
+     *
+     * @param destino flujo donde se imprimen las líneas
+     * @param capacidad mensajes que caben en el buffer
+     */
+    SalidaConsolaAsincrona(PrintStream destino, int capacidad) {
+        this.buffer = new BufferCircular<>(capacidad);
+        this.destino = destino;
+        this.hilo = new Thread(this::ejecutar, "wallet-console-writer");
+        this.hilo.setDaemon(true);
+        this.hilo.start();
+    }
+
+    /**
+     * Encola un mensaje; espera si el buffer está lleno.
+     *
+     * @return false si la salida ya está cerrada y el mensaje no se aceptó
+     */
+    boolean encolar(long instante, Nivel nivel, String texto) {
+        if (!activo) {
+            return false;
+        }
+        Mensaje mensaje = new Mensaje(instante, nivel, texto);
+        while (!buffer.ofrecer(mensaje)) {
+            if (!activo) {
+                return false;
+            }
+            LockSupport.unpark(hilo);
+            LockSupport.parkNanos(this, ESPERA_LLENO_NS);
+        }
+        if (durmiendo) {
+            LockSupport.unpark(hilo);
+        }
+        return true;
+    }
+
+    /**
+     * Espera a que todo lo encolado hasta ahora esté impreso.
+     *
+     * @param timeoutMs tiempo máximo de espera
+     * @return true si se vació a tiempo
+     */
+    boolean vaciar(long timeoutMs) {
+        long objetivo = buffer.getTotalOfrecidos();
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (escritos.get() < objetivo) {
+            if (!hilo.isAlive() || System.nanoTime() > limite) {
+                return false;
+            }
+            LockSupport.unpark(hilo);
+            LockSupport.parkNanos(this, ESPERA_OCIOSA_NS);
+        }
+        return true;
+    }
+
+    /**
+     * Deja de aceptar mensajes e imprime los pendientes.
+     */
+    void cerrar() {
+        activo = false;
+        LockSupport.unpark(hilo);
+        try {
+            hilo.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    int getCapacidad() {
+        return buffer.getCapacidad();
+    }
+
+    private void ejecutar() {
+        StringBuilder lote = new StringBuilder(8 * 1024);
+        while (activo) {
+            if (imprimirLote(lote) == 0) {
+                durmiendo = true;
+                if (buffer.getTamano() == 0 && activo) {
+                    LockSupport.parkNanos(this, ESPERA_OCIOSA_NS);
+                }
+                durmiendo = false;
+            }
+        }
+        while (imprimirLote(lote) > 0) {
+            // continuar hasta vaciar
+        }
+    }
+
+    private int imprimirLote(StringBuilder lote) {
+        lote.setLength(0);
+        int cantidad = 0;
+        Mensaje mensaje;
+        while (cantidad < MAX_LOTE && (mensaje = buffer.extraer()) != null) {
+            lote.append(Logger.linea(mensaje.instante, mensaje.nivel, mensaje.texto))
+                .append(System.lineSeparator());
+            cantidad++;
+        }
+        if (cantidad > 0) {
+            destino.print(lote);
+            destino.flush();
+            escritos.addAndGet(cantidad);
+        }
+        return cantidad;
+    }
+
+    private static final class Mensaje {
+        final long instante;
+        final Nivel nivel;
+        final String texto;
+
+        Mensaje(long instante, Nivel nivel, String texto) {
+            this.instante = instante;
+            this.nivel = nivel;
+            this.texto = texto;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.wallet.infrastructure.logging;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Segmento del log de operaciones con su rango de tiempo.
+ *
+ * Un segmento cerrado vive como "nombre.log" hasta que el compresor lo
+ * convierte en "nombre.log.gz". El segmento activo es el propio
+ * wallet_operations.log. abrir() resuelve el archivo que exista en ese
+ * momento y descomprime si hace falta.
+ */
+public final class SegmentoLog {
+
+    private final Path directorio;
+    private final String nombre;
+    private final LocalDateTime desde;
+    private final LocalDateTime hasta;
+    private final boolean activo;
+
+    SegmentoLog(Path directorio, String nombre, LocalDateTime desde, LocalDateTime hasta, boolean activo) {
+        this.directorio = directorio;
+        this.nombre = nombre;
+        this.desde = desde;
+        this.hasta = hasta;
+        this.activo = activo;
+    }
+
+    /**
+     * Indica si el segmento tiene entradas dentro del intervalo.
+     *
+     * @param inicio inicio inclusivo (null = sin límite)
+     * @param fin fin inclusivo (null = sin límite)
+     * @return true si los rangos se solapan
+     */
+    public boolean solapa(LocalDateTime inicio, LocalDateTime fin) {
+        return (inicio == null || !hasta.isBefore(inicio)) && (fin == null || !desde.isAfter(fin));
+    }
+
+    /**
+     * Abre el segmento para lectura secuencial, comprimido o no.
+     *
+     * @return lector de líneas; el llamador debe cerrarlo
+     * @throws IOException si el segmento ya no existe o no se puede leer
+     */
+    public BufferedReader abrir() throws IOException {
+        return new BufferedReader(new InputStreamReader(abrirFlujo(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Abre el contenido del segmento como flujo de bytes, descomprimiendo si hace falta.
+     *
+     * @return flujo de bytes; el llamador debe cerrarlo
+     * @throws IOException si el segmento ya no existe o no se puede leer
+     */
+    public InputStream abrirFlujo() throws IOException {
+        // El compresor puede borrar el .log entre comprobar y abrir: se reintenta con el .gz
+        for (int intento = 0; intento < 2; intento++) {
+            Path comprimido = directorio.resolve(nombre + ".log.gz");
+            try {
+                return new GZIPInputStream(Files.newInputStream(comprimido));
+            } catch (NoSuchFileException e) {
+                // todavía sin comprimir
+            }
+            try {
+                return Files.newInputStream(directorio.resolve(nombre + ".log"));
+            } catch (NoSuchFileException e) {
+                // recién comprimido: reintentar
+            }
+        }
+        throw new NoSuchFileException(directorio.resolve(nombre + ".log").toString());
+    }
+
+    /**
+     * @return ruta actual del segmento (.log.gz si ya se comprimió)
+     */
+    public Path getRuta() {
+        Path comprimido = directorio.resolve(nombre + ".log.gz");
+        return Files.exists(comprimido) ? comprimido : directorio.resolve(nombre + ".log");
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public LocalDateTime getDesde() {
+        return desde;
+    }
+
+    public LocalDateTime getHasta() {
+        return hasta;
+    }
+
+    /**
+     * @return true si es el segmento en el que se escribe ahora
+     */
+    public boolean isActivo() {
+        return activo;
+    }
+
+    @Override
+    public String toString() {
+        return nombre + " [" + desde + " → " + hasta + "]";
+    }
+}
@@ -0,0 +1,110 @@
+package com.wallet.infrastructure.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de cubetas fijas, thread-safe y sin bloqueos.
+ *
+ * Cada cubeta cuenta las muestras menores o iguales a su límite superior;
+ * la última cubeta ("+inf") recoge el resto. Registrar una muestra es
+ * una búsqueda lineal sobre pocos límites más un LongAdder.increment().
+ *
+ * Uso:
+ * Histograma latencia = new Histograma("ms", 1, 5, 10, 50, 100);
+ * latencia.registrar(7);
+ * latencia.instantanea(); // {"<=1ms"=0, "<=5ms"=0, "<=10ms"=1, ...}
+ */
+public class Histograma {
+
+    private final String unidad;
+    private final long[] limites;
+    private final LongAdder[] cubetas;
+    private final LongAdder total = new LongAdder();
+    private final LongAdder suma = new LongAdder();
+
+    /**
+     * Crea un histograma con los límites superiores dados (ascendentes).
+     *
+     * @param unidad unidad de las muestras (solo para mostrar)
+     * @param limites límites superiores inclusivos de cada cubeta
+     */
+    public Histograma(String unidad, long... limites) {
+        if (limites == null || limites.length == 0) {
+            throw new IllegalArgumentException("El histograma necesita al menos un límite");
+        }
+        for (int i = 1; i < limites.length; i++) {
+            if (limites[i] <= limites[i - 1]) {
+                throw new IllegalArgumentException("Los límites deben ser estrictamente ascendentes");
+            }
+        }
+        this.unidad = unidad;
+        this.limites = limites.clone();
+        this.cubetas = new LongAdder[limites.length + 1];
+        for (int i = 0; i < cubetas.length; i++) {
+            cubetas[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Registra una muestra.
+     *
+     * @param valor valor observado
+     */
+    public void registrar(long valor) {
+        int i = 0;
+        while (i < limites.length && valor > limites[i]) {
+            i++;
+        }
+        cubetas[i].increment();
+        total.increment();
+        suma.add(valor);
+    }
+
+    /**
+     * @return número de muestras registradas
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * @return media de las muestras, o 0 si no hay ninguna
+     */
+    public double getMedia() {
+        long n = total.sum();
+        return n == 0 ? 0.0 : (double) suma.sum() / n;
+    }
+
+    /**
+     * Obtiene una copia de los conteos por cubeta, en orden.
+     *
+     * @return mapa etiqueta de cubeta -> conteo
+     */
+    public Map<String, Long> instantanea() {
+        Map<String, Long> resultado = new LinkedHashMap<>();
+        for (int i = 0; i < limites.length; i++) {
+            resultado.put("<=" + limites[i] + unidad, cubetas[i].sum());
+        }
+        resultado.put(">" + limites[limites.length - 1] + unidad, cubetas[limites.length].sum());
+        return resultado;
+    }
+
+    /**
+     * Reinicia todos los contadores.
+     */
+    public void reiniciar() {
+        for (LongAdder cubeta : cubetas) {
+            cubeta.reset();
+        }
+        total.reset();
+        suma.reset();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Histograma{n=%d, media=%.2f%s, cubetas=%s}",
+            getTotal(), getMedia(), unidad, instantanea());
+    }
+}
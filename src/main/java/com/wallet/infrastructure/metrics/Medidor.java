@@ -0,0 +1,132 @@
+package com.wallet.infrastructure.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Contador de eventos con tasas medias móviles de 1, 5 y 15 minutos.
+ *
+ * Las tasas son medias exponenciales (como el load average de Unix)
+ * recalculadas cada 5 segundos. No hay hilo de fondo: el primer hilo
+ * que marca o consulta tras el intervalo hace el recálculo, y el resto
+ * sigue de largo. Marcar es un LongAdder.increment(); consultar es O(1).
+ *
+ * Uso:
+ * Medidor lecturas = new Medidor();
+ * lecturas.marcar();
+ * lecturas.getTasa1m(); // eventos por segundo
+ */
+public class Medidor {
+
+    private static final long INTERVALO_NS = TimeUnit.SECONDS.toNanos(5);
+    private static final double INTERVALO_S = 5.0;
+
+    private final LongSupplier reloj;
+    private final LongAdder total = new LongAdder();
+    private final LongAdder pendientes = new LongAdder();
+    private final AtomicLong ultimoTick;
+    private final MediaExponencial m1 = new MediaExponencial(1);
+    private final MediaExponencial m5 = new MediaExponencial(5);
+    private final MediaExponencial m15 = new MediaExponencial(15);
+
+    public Medidor() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * @param reloj fuente de tiempo en nanosegundos (inyectable para tests)
+     */
+    public Medidor(LongSupplier reloj) {
+        this.reloj = reloj;
+        this.ultimoTick = new AtomicLong(reloj.getAsLong());
+    }
+
+    /**
+     * Registra un evento.
+     */
+    public void marcar() {
+        actualizarSiHaceFalta();
+        total.increment();
+        pendientes.increment();
+    }
+
+    /**
+     * @return eventos registrados desde la creación
+     */
+    public long getTotal() {
+        return total.sum();
+    }
+
+    /**
+     * @return eventos por segundo, media de 1 minuto
+     */
+    public double getTasa1m() {
+        actualizarSiHaceFalta();
+        return m1.tasa;
+    }
+
+    /**
+     * @return eventos por segundo, media de 5 minutos
+     */
+    public double getTasa5m() {
+        actualizarSiHaceFalta();
+        return m5.tasa;
+    }
+
+    /**
+     * @return eventos por segundo, media de 15 minutos
+     */
+    public double getTasa15m() {
+        actualizarSiHaceFalta();
+        return m15.tasa;
+    }
+
+    /**
+     * Recalcula las medias por cada intervalo vencido.
+     * Solo el hilo que gana el compareAndSet hace el trabajo.
+     */
+    private void actualizarSiHaceFalta() {
+        long anterior = ultimoTick.get();
+        long transcurrido = reloj.getAsLong() - anterior;
+        if (transcurrido < INTERVALO_NS) {
+            return;
+        }
+        long intervalos = transcurrido / INTERVALO_NS;
+        if (!ultimoTick.compareAndSet(anterior, anterior + intervalos * INTERVALO_NS)) {
+            return;
+        }
+        // Lo acumulado cae en el primer intervalo; los siguientes estuvieron vacíos
+        double tasaInstantanea = pendientes.sumThenReset() / INTERVALO_S;
+        for (long i = 0; i < intervalos; i++) {
+            m1.actualizar(tasaInstantanea);
+            m5.actualizar(tasaInstantanea);
+            m15.actualizar(tasaInstantanea);
+            tasaInstantanea = 0.0;
+        }
+    }
+
+    /**
+     * Media móvil exponencial con la ventana indicada en minutos.
+     */
+    private static final class MediaExponencial {
+
+        private final double alfa;
+        private volatile boolean iniciada;
+        private volatile double tasa;
+
+        MediaExponencial(int minutos) {
+            this.alfa = 1 - Math.exp(-INTERVALO_S / (60.0 * minutos));
+        }
+
+        void actualizar(double tasaInstantanea) {
+            if (iniciada) {
+                tasa += alfa * (tasaInstantanea - tasa);
+            } else {
+                tasa = tasaInstantanea;
+                iniciada = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.wallet.infrastructure.persistence;
+
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.repositories.ISaldoDiarioRepository;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.logging.Logger;
+import com.wallet.infrastructure.logging.OperationLogger;
+
+/**
+ * Herramienta de reconstrucción de los saldos diarios.
+ *
+ * Los saldos diarios se mantienen solos al registrar cada transacción;
+ * esta herramienta los calcula para los datos que ya existían antes de
+ * la tabla saldos_diarios, o los repara si se tocaron transacciones a
+ * mano. Cada cuenta se reconstruye en su propia transacción.
+ *
+ * Uso:
+ * java -cp ... com.wallet.infrastructure.persistence.ReconstruirSaldosDiarios [numeroCuenta ...]
+ *
+ * Sin argumentos reconstruye todas las cuentas.
+ */
+public class ReconstruirSaldosDiarios {
+
+    public static void main(String[] args) {
+        int codigo = 0;
+        try {
+            JPAConfiguration.initialize();
+            ISaldoDiarioRepository saldos = RepositoryFactory.getSaldoDiarioRepository();
+            long inicio = System.nanoTime();
+
+            long dias;
+            if (args.length == 0) {
+                System.out.println("🔄 Reconstruyendo saldos diarios de todas las cuentas...");
+                dias = saldos.reconstruirTodos();
+            } else {
+                dias = 0;
+                for (String numeroCuenta : args) {
+                    String cuentaId = RepositoryFactory.getCuentaRepository()
+                        .buscarPorNumeroCuenta(numeroCuenta)
+                        .orElseThrow(() -> CuentaNoEncontradaException.porNumero(numeroCuenta))
+                        .getId();
+                    System.out.println("🔄 Reconstruyendo saldos diarios de la cuenta " + numeroCuenta + "...");
+                    dias += saldos.reconstruir(cuentaId);
+                }
+            }
+
+            System.out.printf("✅ %d días escritos en %d ms%n", dias, (System.nanoTime() - inicio) / 1_000_000);
+        } catch (Exception e) {
+            System.err.println("❌ Error reconstruyendo saldos diarios: " + e.getMessage());
+            e.printStackTrace();
+            codigo = 1;
+        } finally {
+            RepositoryFactory.cerrar();
+            JPAConfiguration.close();
+            OperationLogger.cerrar();
+            Logger.cerrar();
+        }
+        System.exit(codigo);
+    }
+}
@@ -1,5 +1,7 @@
 package com.wallet.infrastructure.repositories;
 
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.queries.ICuentaLecturas;
 import com.wallet.domain.entities.Cuenta;
 import com.wallet.domain.exceptions.*;
 import com.wallet.domain.repositories.ICuentaRepository;
@@ -15,6 +17,7 @@ import jakarta.persistence.PersistenceException;
 import jakarta.persistence.Query;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -27,8 +30,15 @@ import java.util.Optional;
  * - Ejecutar operaciones CRUD en la base de datos
  * - Manejar transacciones
  * - Traducir excepciones JPA a excepciones de dominio
+ * - Proyectar listados directamente a CuentaDTO (ICuentaLecturas)
  */
-public class CuentaJPARepository implements ICuentaRepository {
+public class CuentaJPARepository implements ICuentaRepository, ICuentaLecturas {
+
+    /**
+     * Columnas de la cuenta (alias c) en el orden que espera {@link #filaADTO}.
+     */
+    static final String COLUMNAS_DTO =
+        "c.id, c.numeroCuenta, c.usuario.id, c.saldo, c.moneda, c.activa, c.createdAt, c.updatedAt";
 
     /**
      * Guarda una cuenta nueva o actualiza una existente.
@@ -89,9 +99,7 @@ public class CuentaJPARepository implements ICuentaRepository {
 
             em.flush();
             em.getTransaction().commit();
-            
-            // Pequeña pausa para asegurar que SQLite sincronice
-            Thread.sleep(100);
+            JPAConfiguration.confirmarEscritura();
 
             Cuenta cuentaResultado = jpaToDomain(cuentaGuardada);
             OperationLogger.logCreate("Cuenta", cuentaResultado.getId(),
@@ -317,6 +325,8 @@ public class CuentaJPARepository implements ICuentaRepository {
                 return false;
             }
 
+            // Los saldos diarios no tienen FK a la cuenta: se borran aparte
+            SaldoDiarioJPARepository.eliminarPorCuenta(em, id);
             em.remove(cuenta);
             em.flush();
             em.getTransaction().commit();
@@ -382,13 +392,93 @@ public class CuentaJPARepository implements ICuentaRepository {
 
     // ==================== MÉTODOS AUXILIARES ====================
 
+    /**
+     * Lista las cuentas de un usuario proyectando las columnas a CuentaDTO,
+     * sin cargar entidades JPA ni de dominio.
+     *
+     * @param usuarioId el ID del usuario
+     * @return lista de DTOs de cuentas del usuario
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public List<CuentaDTO> listarPorUsuario(String usuarioId) {
+        return listarDTO(usuarioId, false);
+    }
+
+    /**
+     * Lista las cuentas activas de un usuario proyectando las columnas a
+     * CuentaDTO, sin cargar entidades JPA ni de dominio.
+     *
+     * @param usuarioId el ID del usuario
+     * @return lista de DTOs de cuentas activas
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public List<CuentaDTO> listarActivasPorUsuario(String usuarioId) {
+        return listarDTO(usuarioId, true);
+    }
+
+    private List<CuentaDTO> listarDTO(String usuarioId, boolean soloActivas) {
+        EntityManager em = null;
+        try {
+            em = JPAConfiguration.getEntityManager();
+
+            List<Object[]> filas = em.createQuery("SELECT " + COLUMNAS_DTO + " FROM CuentaJPAEntity c"
+                    + " WHERE c.usuario.id = :usuarioId" + (soloActivas ? " AND c.activa = true" : "")
+                    + " ORDER BY c.createdAt DESC", Object[].class)
+                .setParameter("usuarioId", usuarioId)
+                .getResultList();
+
+            List<CuentaDTO> cuentas = new ArrayList<>(filas.size());
+            for (Object[] fila : filas) {
+                cuentas.add(filaADTO(fila, 0));
+            }
+
+            OperationLogger.logRead("Cuenta", usuarioId, "Se listaron " + cuentas.size()
+                + (soloActivas ? " cuentas activas" : " cuentas") + " del usuario");
+            return cuentas;
+
+        } catch (PersistenceException e) {
+            OperationLogger.logError("Cuenta", usuarioId, "Error de persistencia al listar por usuario", e);
+            throw RepositoryException.operacionFallida("Cuenta", "listar por usuario", e.getMessage());
+        } catch (Exception e) {
+            OperationLogger.logError("Cuenta", usuarioId, "Error inesperado al listar por usuario", e);
+            throw RepositoryException.operacionFallida("Cuenta", "listar por usuario", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Convierte una fila proyectada con {@link #COLUMNAS_DTO} a CuentaDTO.
+     * El saldo se normaliza como lo haría Dinero.
+     *
+     * @param fila fila de la consulta
+     * @param desde posición de la primera columna de la cuenta
+     * @return DTO de la cuenta
+     */
+    static CuentaDTO filaADTO(Object[] fila, int desde) {
+        return new CuentaDTO(
+            (String) fila[desde],
+            (String) fila[desde + 1],
+            (String) fila[desde + 2],
+            Dinero.redondear((BigDecimal) fila[desde + 3]),
+            (String) fila[desde + 4],
+            (Boolean) fila[desde + 5],
+            (LocalDateTime) fila[desde + 6],
+            (LocalDateTime) fila[desde + 7]
+        );
+    }
+
     /**
      * Convierte una entidad JPA a entidad de dominio.
      *
      * @param cuentaJPA entidad JPA
      * @return entidad de dominio
      */
-    private Cuenta jpaToDomain(CuentaJPAEntity cuentaJPA) {
+    static Cuenta jpaToDomain(CuentaJPAEntity cuentaJPA) {
         Dinero saldo = new Dinero(cuentaJPA.getSaldo(), cuentaJPA.getMoneda());
 
         return new Cuenta(
@@ -408,7 +498,7 @@ public class CuentaJPARepository implements ICuentaRepository {
      * @param cuenta entidad de dominio
      * @return entidad JPA
      */
-    private CuentaJPAEntity domainToJPA(Cuenta cuenta) {
+    static CuentaJPAEntity domainToJPA(Cuenta cuenta) {
         CuentaJPAEntity cuentaJPA = new CuentaJPAEntity(
             cuenta.getId(),
             cuenta.getNumeroCuenta(),
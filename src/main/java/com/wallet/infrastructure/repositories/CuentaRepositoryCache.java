@@ -0,0 +1,281 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.repositories.ICuentaRepository;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decorador de ICuentaRepository con caché LRU de cuentas.
+ *
+ * Las entradas se guardan por id, con un índice secundario número → id,
+ * así que buscarPorId y buscarPorNumeroCuenta comparten la misma copia.
+ * La capacidad es fija; al llenarse se desaloja la cuenta usada hace más
+ * tiempo.
+ *
+ * Coherencia:
+ * - guardar y eliminar invalidan la cuenta antes y después de escribir
+ * - las escrituras que no pasan por el repositorio (ledgers de
+ *   transferencias y movimientos) llaman a {@link #invalidar(String)}
+ *   tras su commit
+ * - una lectura fallida solo se guarda si no hubo ninguna invalidación
+ *   mientras se leía de la base de datos; así una lectura lenta no puede
+ *   dejar en caché un saldo anterior a un commit concurrente
+ * - se entregan copias: modificar la cuenta devuelta (depositar, retirar)
+ *   no altera la caché hasta que se guarda
+ *
+ * Las listas (por usuario, todas) no se cachean: van siempre al
+ * repositorio decorado.
+ */
+public class CuentaRepositoryCache implements ICuentaRepository {
+
+    private final ICuentaRepository delegado;
+    private final int capacidad;
+    private final LinkedHashMap<String, Cuenta> porId;
+    private final Map<String, String> idPorNumero = new HashMap<>();
+    private long generacion;
+
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder desalojos = new LongAdder();
+    private final LongAdder invalidaciones = new LongAdder();
+
+    /**
+     * @param delegado repositorio real
+     * @param capacidad máximo de cuentas en caché
+     */
+    public CuentaRepositoryCache(ICuentaRepository delegado, int capacidad) {
+        if (delegado == null) {
+            throw new IllegalArgumentException("El repositorio decorado no puede ser nulo");
+        }
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser al menos 1");
+        }
+        this.delegado = delegado;
+        this.capacidad = capacidad;
+        this.porId = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Crea la caché con la capacidad de -Dwallet.cache.cuentas (por defecto
+     * 10000). Con capacidad 0 devuelve el repositorio sin decorar.
+     *
+     * @param delegado repositorio real
+     * @return el repositorio, con o sin caché
+     */
+    public static ICuentaRepository desdePropiedades(ICuentaRepository delegado) {
+        int capacidad = Integer.getInteger("wallet.cache.cuentas", 10_000);
+        return capacidad > 0 ? new CuentaRepositoryCache(delegado, capacidad) : delegado;
+    }
+
+    @Override
+    public Cuenta guardar(Cuenta cuenta) {
+        invalidar(cuenta.getId());
+        try {
+            return delegado.guardar(cuenta);
+        } finally {
+            invalidar(cuenta.getId());
+        }
+    }
+
+    @Override
+    public Optional<Cuenta> buscarPorId(String id) {
+        if (id == null) {
+            return delegado.buscarPorId(id);
+        }
+        long leida;
+        synchronized (this) {
+            Cuenta cuenta = porId.get(id);
+            if (cuenta != null) {
+                aciertos.increment();
+                return Optional.of(copiar(cuenta));
+            }
+            leida = generacion;
+        }
+        fallos.increment();
+        Optional<Cuenta> resultado = delegado.buscarPorId(id);
+        resultado.ifPresent(cuenta -> almacenar(cuenta, leida));
+        return resultado;
+    }
+
+    @Override
+    public Optional<Cuenta> buscarPorNumeroCuenta(String numeroCuenta) {
+        if (numeroCuenta == null) {
+            return delegado.buscarPorNumeroCuenta(numeroCuenta);
+        }
+        long leida;
+        synchronized (this) {
+            String id = idPorNumero.get(numeroCuenta);
+            Cuenta cuenta = id != null ? porId.get(id) : null;
+            if (cuenta != null) {
+                aciertos.increment();
+                return Optional.of(copiar(cuenta));
+            }
+            leida = generacion;
+        }
+        fallos.increment();
+        Optional<Cuenta> resultado = delegado.buscarPorNumeroCuenta(numeroCuenta);
+        resultado.ifPresent(cuenta -> almacenar(cuenta, leida));
+        return resultado;
+    }
+
+    @Override
+    public List<Cuenta> buscarPorUsuarioId(String usuarioId) {
+        return delegado.buscarPorUsuarioId(usuarioId);
+    }
+
+    @Override
+    public List<Cuenta> obtenerActivasPorUsuario(String usuarioId) {
+        return delegado.obtenerActivasPorUsuario(usuarioId);
+    }
+
+    @Override
+    public List<Cuenta> obtenerTodas() {
+        return delegado.obtenerTodas();
+    }
+
+    @Override
+    public boolean eliminar(String id) {
+        invalidar(id);
+        try {
+            return delegado.eliminar(id);
+        } finally {
+            invalidar(id);
+        }
+    }
+
+    @Override
+    public boolean existeNumeroCuenta(String numeroCuenta) {
+        synchronized (this) {
+            String id = idPorNumero.get(numeroCuenta);
+            if (id != null && porId.containsKey(id)) {
+                aciertos.increment();
+                return true;
+            }
+        }
+        return delegado.existeNumeroCuenta(numeroCuenta);
+    }
+
+    /**
+     * Descarta la cuenta de la caché. Debe llamarse después de cualquier
+     * escritura sobre la cuenta que no pase por este repositorio.
+     *
+     * @param id ID de la cuenta
+     */
+    public void invalidar(String id) {
+        if (id == null) {
+            return;
+        }
+        synchronized (this) {
+            generacion++;
+            Cuenta anterior = porId.remove(id);
+            if (anterior != null) {
+                idPorNumero.remove(anterior.getNumeroCuenta());
+                invalidaciones.increment();
+            }
+        }
+    }
+
+    /**
+     * Vacía la caché (las estadísticas se conservan).
+     */
+    public synchronized void limpiar() {
+        generacion++;
+        porId.clear();
+        idPorNumero.clear();
+    }
+
+    /**
+     * @return métricas actuales de la caché
+     */
+    public Estadisticas getEstadisticas() {
+        int tamano;
+        synchronized (this) {
+            tamano = porId.size();
+        }
+        return new Estadisticas(aciertos.sum(), fallos.sum(), desalojos.sum(),
+            invalidaciones.sum(), tamano, capacidad);
+    }
+
+    private synchronized void almacenar(Cuenta cuenta, long leida) {
+        if (generacion != leida) {
+            // Hubo una escritura mientras se leía: la copia puede estar vieja
+            return;
+        }
+        Cuenta anterior = porId.put(cuenta.getId(), copiar(cuenta));
+        if (anterior != null && !anterior.getNumeroCuenta().equals(cuenta.getNumeroCuenta())) {
+            idPorNumero.remove(anterior.getNumeroCuenta());
+        }
+        idPorNumero.put(cuenta.getNumeroCuenta(), cuenta.getId());
+        if (porId.size() > capacidad) {
+            var masAntigua = porId.entrySet().iterator().next();
+            porId.remove(masAntigua.getKey());
+            idPorNumero.remove(masAntigua.getValue().getNumeroCuenta());
+            desalojos.increment();
+        }
+    }
+
+    private static Cuenta copiar(Cuenta cuenta) {
+        return new Cuenta(cuenta.getId(), cuenta.getNumeroCuenta(), cuenta.getUsuarioId(), cuenta.getSaldo(),
+            cuenta.getFechaCreacion(), cuenta.getFechaActualizacion(), cuenta.isActiva());
+    }
+
+    /**
+     * Instantánea de las métricas de la caché.
+     */
+    public static final class Estadisticas {
+        private final long aciertos;
+        private final long fallos;
+        private final long desalojos;
+        private final long invalidaciones;
+        private final int tamano;
+        private final int capacidad;
+
+        Estadisticas(long aciertos, long fallos, long desalojos, long invalidaciones,
+                     int tamano, int capacidad) {
+            this.aciertos = aciertos;
+            this.fallos = fallos;
+            this.desalojos = desalojos;
+            this.invalidaciones = invalidaciones;
+            this.tamano = tamano;
+            this.capacidad = capacidad;
+        }
+
+        public long getAciertos() {
+            return aciertos;
+        }
+
+        public long getFallos() {
+            return fallos;
+        }
+
+        public long getDesalojos() {
+            return desalojos;
+        }
+
+        public long getInvalidaciones() {
+            return invalidaciones;
+        }
+
+        public int getTamano() {
+            return tamano;
+        }
+
+        public int getCapacidad() {
+            return capacidad;
+        }
+
+        /**
+         * @return aciertos / (aciertos + fallos), o 0 sin consultas
+         */
+        public double getTasaAciertos() {
+            long consultas = aciertos + fallos;
+            return consultas == 0 ? 0.0 : (double) aciertos / consultas;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.exceptions.RepositoryException;
+import com.wallet.domain.services.IGeneradorNumeroCuenta;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.entities.SecuenciaJPAEntity;
+import com.wallet.infrastructure.logging.OperationLogger;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Generador de números de cuenta por bloques (hi/lo) respaldado por la BD.
+ *
+ * Cada bloque de cuerpos consecutivos se reserva en la tabla 'secuencias'
+ * con una sola transacción; dentro del bloque, cada número sale de un
+ * getAndIncrement sin bloqueos, así que crear cuentas desde muchos hilos
+ * no compite por nada salvo al agotarse el bloque. Varios procesos sobre
+ * la misma BD reciben bloques disjuntos, y un reinicio pierde como mucho
+ * el resto del bloque en curso.
+ *
+ * Las cuentas anteriores a este generador tienen números sin dígito
+ * verificador que pueden caer dentro de un bloque: al reservarlo se
+ * consultan y se saltan.
+ *
+ * La reserva usa el escritor: no debe llamarse a siguiente() con una
+ * transacción de escritura abierta en el mismo hilo.
+ */
+public class GeneradorNumeroCuentaJPA implements IGeneradorNumeroCuenta {
+
+    static final String SECUENCIA = "numero_cuenta";
+
+    private final int tamanoBloque;
+    private final AtomicReference<Bloque> bloqueActual = new AtomicReference<>();
+
+    /**
+     * @param tamanoBloque números reservados por transacción
+     * @throws IllegalArgumentException si el tamaño no es positivo
+     */
+    public GeneradorNumeroCuentaJPA(int tamanoBloque) {
+        if (tamanoBloque <= 0) {
+            throw new IllegalArgumentException("El tamaño de bloque debe ser positivo");
+        }
+        this.tamanoBloque = tamanoBloque;
+    }
+
+    /**
+     * Crea el generador con -Dwallet.cuentas.bloqueNumeros (1000 por defecto).
+     */
+    public static GeneradorNumeroCuentaJPA desdePropiedades() {
+        return new GeneradorNumeroCuentaJPA(Integer.getInteger("wallet.cuentas.bloqueNumeros", 1000));
+    }
+
+    /**
+     * Entrega el siguiente número del bloque en curso, reservando otro
+     * si se agotó.
+     *
+     * @throws IllegalStateException si la secuencia llegó al cuerpo máximo
+     * @throws RepositoryException si falla la reserva en BD
+     */
+    @Override
+    public String siguiente() {
+        while (true) {
+            Bloque bloque = bloqueActual.get();
+            if (bloque != null) {
+                long cuerpo = bloque.siguiente.getAndIncrement();
+                if (cuerpo < bloque.fin) {
+                    String numero = IGeneradorNumeroCuenta.conDigitoVerificador(cuerpo);
+                    if (bloque.ocupados.contains(numero)) {
+                        continue;
+                    }
+                    return numero;
+                }
+            }
+            renovar(bloque);
+        }
+    }
+
+    /**
+     * Reserva un bloque nuevo si nadie lo hizo ya: de los hilos que
+     * agotaron el mismo bloque, solo el primero va a la BD.
+     */
+    private synchronized void renovar(Bloque agotado) {
+        if (bloqueActual.get() == agotado) {
+            bloqueActual.set(reservar());
+        }
+    }
+
+    private Bloque reservar() {
+        EntityManager em = null;
+        try {
+            em = JPAConfiguration.getEntityManager();
+            em.getTransaction().begin();
+
+            int actualizadas = em.createQuery(
+                    "UPDATE SecuenciaJPAEntity s SET s.siguiente = s.siguiente + :tamano WHERE s.nombre = :nombre")
+                .setParameter("tamano", (long) tamanoBloque)
+                .setParameter("nombre", SECUENCIA)
+                .executeUpdate();
+            long fin;
+            if (actualizadas == 0) {
+                // Primera reserva: el cuerpo 0 queda sin usar
+                fin = 1 + tamanoBloque;
+                em.persist(new SecuenciaJPAEntity(SECUENCIA, fin));
+            } else {
+                fin = em.createQuery(
+                        "SELECT s.siguiente FROM SecuenciaJPAEntity s WHERE s.nombre = :nombre", Long.class)
+                    .setParameter("nombre", SECUENCIA)
+                    .getSingleResult();
+            }
+            long inicio = fin - tamanoBloque;
+            if (inicio > CUERPO_MAXIMO) {
+                throw new IllegalStateException("Se agotaron los números de cuenta");
+            }
+            fin = Math.min(fin, CUERPO_MAXIMO + 1);
+
+            Set<String> ocupados = new HashSet<>(em.createQuery(
+                    "SELECT c.numeroCuenta FROM CuentaJPAEntity c WHERE c.numeroCuenta BETWEEN :desde AND :hasta",
+                    String.class)
+                .setParameter("desde", String.format("%09d0", inicio))
+                .setParameter("hasta", String.format("%09d9", fin - 1))
+                .getResultList());
+
+            em.getTransaction().commit();
+            JPAConfiguration.confirmarEscritura();
+
+            OperationLogger.logUpdate("Secuencia", SECUENCIA,
+                String.format("Reservado bloque [%d, %d), %d números ya usados", inicio, fin, ocupados.size()));
+            return new Bloque(inicio, fin, ocupados);
+
+        } catch (PersistenceException e) {
+            if (em != null && em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            OperationLogger.logError("Secuencia", SECUENCIA, "Error de persistencia al reservar bloque", e);
+            throw RepositoryException.operacionFallida("Secuencia", "reservar bloque", e.getMessage());
+        } catch (RuntimeException e) {
+            if (em != null && em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            throw e;
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Rango de cuerpos [inicio, fin) reservado para este proceso.
+     */
+    private static final class Bloque {
+        final AtomicLong siguiente;
+        final long fin;
+        final Set<String> ocupados;
+
+        Bloque(long inicio, long fin, Set<String> ocupados) {
+            this.siguiente = new AtomicLong(inicio);
+            this.fin = fin;
+            this.ocupados = ocupados;
+        }
+    }
+}
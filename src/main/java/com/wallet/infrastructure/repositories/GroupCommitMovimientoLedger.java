@@ -0,0 +1,408 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.exceptions.RepositoryException;
+import com.wallet.domain.repositories.IMovimientoLedger;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.entities.CuentaJPAEntity;
+import com.wallet.infrastructure.entities.TransaccionJPAEntity;
+import com.wallet.infrastructure.logging.OperationLogger;
+import com.wallet.infrastructure.metrics.Histograma;
+import com.wallet.infrastructure.validation.ValidatorUtil;
+import jakarta.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Libro de movimientos con group commit para depósitos y retiros.
+ *
+ * Las solicitudes se encolan y un único hilo escritor las agrupa en lotes:
+ * un lote se cierra al llegar a maxLote solicitudes o cuando pasan
+ * maxEsperaMs desde la primera. Todo el lote se aplica en una sola
+ * transacción de SQLite, así N movimientos pagan un solo fsync.
+ *
+ * Garantías:
+ * - El futuro de cada solicitud se completa solo después del commit del lote
+ * - Orden por cuenta: la cola es FIFO y hay un solo escritor, así que los
+ *   movimientos de una cuenta se aplican en el orden en que se encolaron
+ * - Un error de negocio (saldo insuficiente, cuenta inactiva o inexistente)
+ *   falla solo su solicitud; un error de BD falla el lote completo
+ *
+ * Configuración (propiedades del sistema):
+ * - wallet.groupCommit=true              activa el modo (ver RepositoryFactory)
+ * - wallet.groupCommit.maxLote=64        solicitudes máximas por lote
+ * - wallet.groupCommit.maxEsperaMs=5     espera máxima para completar un lote
+ * - wallet.groupCommit.capacidadCola=10000
+ */
+public class GroupCommitMovimientoLedger implements IMovimientoLedger {
+
+    private final int maxLote;
+    private final long maxEsperaNanos;
+    private final BlockingQueue<Solicitud> cola;
+    private final Thread escritor;
+    private final Consumer<String> alModificarCuenta;
+    private volatile boolean activo = true;
+
+    // Métricas
+    private final Histograma tamanoLote = new Histograma("", 1, 2, 4, 8, 16, 32, 64, 128, 256);
+    private final Histograma latencia = new Histograma("ms", 1, 2, 5, 10, 20, 50, 100, 200, 500, 1000);
+
+    /**
+     * Crea el pipeline y arranca su hilo escritor.
+     *
+     * @param maxLote solicitudes máximas por lote
+     * @param maxEsperaMs espera máxima desde la primera solicitud del lote
+     * @param capacidadCola solicitudes pendientes antes de bloquear a quien encola
+     */
+    public GroupCommitMovimientoLedger(int maxLote, long maxEsperaMs, int capacidadCola) {
+        this(maxLote, maxEsperaMs, capacidadCola, id -> { });
+    }
+
+    /**
+     * Crea el pipeline y arranca su hilo escritor.
+     *
+     * @param maxLote solicitudes máximas por lote
+     * @param maxEsperaMs espera máxima desde la primera solicitud del lote
+     * @param capacidadCola solicitudes pendientes antes de bloquear a quien encola
+     * @param alModificarCuenta recibe el id de cada cuenta modificada, tras el
+     *                          commit y antes de completar sus futuros
+     */
+    public GroupCommitMovimientoLedger(int maxLote, long maxEsperaMs, int capacidadCola,
+                                       Consumer<String> alModificarCuenta) {
+        if (maxLote < 1) {
+            throw new IllegalArgumentException("El tamaño máximo de lote debe ser al menos 1");
+        }
+        if (maxEsperaMs < 0) {
+            throw new IllegalArgumentException("La espera máxima no puede ser negativa");
+        }
+        this.alModificarCuenta = alModificarCuenta;
+        this.maxLote = maxLote;
+        this.maxEsperaNanos = TimeUnit.MILLISECONDS.toNanos(maxEsperaMs);
+        this.cola = new LinkedBlockingQueue<>(capacidadCola);
+        this.escritor = new Thread(this::bucleEscritor, "wallet-group-commit");
+        this.escritor.setDaemon(true);
+        this.escritor.start();
+    }
+
+    /**
+     * Crea el pipeline con la configuración de las propiedades del sistema.
+     *
+     * @return pipeline iniciado
+     */
+    public static GroupCommitMovimientoLedger desdePropiedades() {
+        return desdePropiedades(id -> { });
+    }
+
+    /**
+     * Crea el ledger con la configuración de las propiedades del sistema.
+     *
+     * @param alModificarCuenta recibe el id de cada cuenta modificada
+     */
+    public static GroupCommitMovimientoLedger desdePropiedades(Consumer<String> alModificarCuenta) {
+        return new GroupCommitMovimientoLedger(
+            Integer.getInteger("wallet.groupCommit.maxLote", 64),
+            Long.getLong("wallet.groupCommit.maxEsperaMs", 5),
+            Integer.getInteger("wallet.groupCommit.capacidadCola", 10_000),
+            alModificarCuenta
+        );
+    }
+
+    /**
+     * Encola un movimiento sin esperar su commit.
+     *
+     * @param cuentaId ID de la cuenta
+     * @param tipo DEPOSITO o RETIRO
+     * @param monto monto del movimiento
+     * @param descripcion descripción de la transacción
+     * @return futuro que se completa cuando el lote es durable
+     * @throws IllegalStateException si el pipeline está cerrado
+     */
+    public CompletableFuture<Transaccion> enviar(String cuentaId, TipoTransaccion tipo,
+                                                 Dinero monto, String descripcion) {
+        if (tipo != TipoTransaccion.DEPOSITO && tipo != TipoTransaccion.RETIRO) {
+            throw new IllegalArgumentException("Solo se admiten depósitos y retiros: " + tipo);
+        }
+        ValidatorUtil.validarMonto(monto.getCantidad());
+        if (!activo) {
+            throw new IllegalStateException("El pipeline de group commit está cerrado");
+        }
+
+        Solicitud solicitud = new Solicitud(cuentaId, tipo, monto, descripcion);
+        try {
+            cola.put(solicitud);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrumpido al encolar el movimiento", e);
+        }
+        return solicitud.futuro;
+    }
+
+    /**
+     * Encola un movimiento y espera a que su lote sea durable.
+     */
+    @Override
+    public Transaccion registrarMovimiento(String cuentaId, TipoTransaccion tipo,
+                                           Dinero monto, String descripcion) {
+        try {
+            return enviar(cuentaId, tipo, monto, descripcion).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Deja de aceptar solicitudes, confirma las pendientes y detiene el escritor.
+     */
+    public void cerrar() {
+        activo = false;
+        try {
+            escritor.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Lo que quede sin procesar (cierre con timeout) se rechaza
+        List<Solicitud> restantes = new ArrayList<>();
+        cola.drainTo(restantes);
+        for (Solicitud solicitud : restantes) {
+            completarConError(solicitud, new IllegalStateException("El pipeline de group commit se cerró"));
+        }
+    }
+
+    // ==================== MÉTRICAS ====================
+
+    /**
+     * @return histograma de solicitudes por lote confirmado
+     */
+    public Histograma getHistogramaTamanoLote() {
+        return tamanoLote;
+    }
+
+    /**
+     * @return histograma de latencia encolado → completado, en milisegundos
+     */
+    public Histograma getHistogramaLatencia() {
+        return latencia;
+    }
+
+    /**
+     * @return solicitudes en cola pendientes de procesar
+     */
+    public int getPendientes() {
+        return cola.size();
+    }
+
+    // ==================== HILO ESCRITOR ====================
+
+    private void bucleEscritor() {
+        List<Solicitud> lote = new ArrayList<>(maxLote);
+        while (activo || !cola.isEmpty()) {
+            try {
+                Solicitud primera = cola.poll(100, TimeUnit.MILLISECONDS);
+                if (primera == null) {
+                    continue;
+                }
+                lote.add(primera);
+                completarLote(lote);
+                procesarLote(lote);
+            } catch (InterruptedException e) {
+                // Interrumpir al escritor equivale a cerrar: se confirma lo pendiente
+                activo = false;
+                if (!lote.isEmpty()) {
+                    procesarLote(lote);
+                }
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    /**
+     * Añade solicitudes al lote hasta llenarlo o agotar la espera máxima.
+     */
+    private void completarLote(List<Solicitud> lote) throws InterruptedException {
+        long limite = System.nanoTime() + maxEsperaNanos;
+        while (lote.size() < maxLote) {
+            long restante = limite - System.nanoTime();
+            if (restante <= 0) {
+                cola.drainTo(lote, maxLote - lote.size());
+                return;
+            }
+            Solicitud siguiente = cola.poll(restante, TimeUnit.NANOSECONDS);
+            if (siguiente == null) {
+                return;
+            }
+            lote.add(siguiente);
+        }
+    }
+
+    /**
+     * Aplica todas las solicitudes del lote en una transacción y completa sus futuros.
+     */
+    private void procesarLote(List<Solicitud> lote) {
+        List<Solicitud> aplicadas = new ArrayList<>(lote.size());
+        if (!confirmarLote(lote, aplicadas)) {
+            return;
+        }
+
+        // Confirmado: desde aquí nada puede informar el lote como fallido, o
+        // quien reintente aplicaría el movimiento dos veces. El checkpoint
+        // registra sus propios errores.
+        try {
+            JPAConfiguration.confirmarEscritura();
+        } finally {
+            for (Solicitud solicitud : aplicadas) {
+                alModificarCuenta.accept(solicitud.cuentaId);
+            }
+        }
+
+        tamanoLote.registrar(lote.size());
+        for (Solicitud solicitud : aplicadas) {
+            latencia.registrar(solicitud.milisegundosEnCola());
+            solicitud.futuro.complete(solicitud.resultado);
+        }
+        OperationLogger.logUpdate("Movimiento", "lote",
+            String.format("Lote de %d movimientos confirmado (%d rechazados)",
+                aplicadas.size(), lote.size() - aplicadas.size()));
+    }
+
+    /**
+     * Aplica el lote y hace commit. Si algo falla antes de que el commit
+     * termine, deshace el lote y falla todas sus solicitudes.
+     *
+     * @param aplicadas recibe las solicitudes aplicadas (sin error de negocio)
+     * @return true si el lote quedó confirmado
+     */
+    private boolean confirmarLote(List<Solicitud> lote, List<Solicitud> aplicadas) {
+        EntityManager em = null;
+        try {
+            em = JPAConfiguration.getEntityManager();
+            em.getTransaction().begin();
+
+            for (Solicitud solicitud : lote) {
+                Cuenta cuenta;
+                try {
+                    cuenta = aplicarMovimiento(em, solicitud);
+                } catch (CuentaNoEncontradaException | IllegalStateException | IllegalArgumentException e) {
+                    // Error de negocio: no se modificó nada, falla solo esta solicitud
+                    completarConError(solicitud, e);
+                    continue;
+                }
+                // Fuera del catch: un fallo al escribir el movimiento hace fallar el lote
+                persistir(em, solicitud, cuenta);
+                aplicadas.add(solicitud);
+            }
+
+            em.flush();
+            em.getTransaction().commit();
+            return true;
+
+        } catch (Exception e) {
+            if (em != null && em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            OperationLogger.logError("Movimiento", "lote", "Error al confirmar lote de " + lote.size(), e);
+            RepositoryException error = RepositoryException.operacionFallida("Movimiento", "confirmar lote", e.getMessage());
+            for (Solicitud solicitud : lote) {
+                completarConError(solicitud, error);
+            }
+            return false;
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Aplica un movimiento sobre la cuenta del dominio y deja la transacción
+     * en la solicitud, sin escribir nada todavía. Si la misma cuenta aparece
+     * varias veces en el lote, cada movimiento ve el saldo que dejó el anterior.
+     *
+     * @return la cuenta con el saldo nuevo
+     * @throws CuentaNoEncontradaException si la cuenta no existe
+     * @throws IllegalStateException si la cuenta no admite el movimiento
+     * @throws IllegalArgumentException si el monto no es válido para la cuenta
+     */
+    private Cuenta aplicarMovimiento(EntityManager em, Solicitud solicitud) {
+        CuentaJPAEntity cuentaJPA = em.find(CuentaJPAEntity.class, solicitud.cuentaId);
+        if (cuentaJPA == null) {
+            throw CuentaNoEncontradaException.porId(solicitud.cuentaId);
+        }
+
+        Cuenta cuenta = CuentaJPARepository.jpaToDomain(cuentaJPA);
+        Dinero saldoAnterior = cuenta.getSaldo();
+        if (solicitud.tipo == TipoTransaccion.DEPOSITO) {
+            cuenta.depositar(solicitud.monto);
+            solicitud.resultado = Transaccion.deposito(solicitud.monto, cuenta.getId(),
+                solicitud.descripcion != null ? solicitud.descripcion : "Depósito",
+                saldoAnterior, cuenta.getSaldo());
+        } else {
+            cuenta.retirar(solicitud.monto);
+            solicitud.resultado = Transaccion.retiro(solicitud.monto, cuenta.getId(),
+                solicitud.descripcion != null ? solicitud.descripcion : "Retiro",
+                saldoAnterior, cuenta.getSaldo());
+        }
+        return cuenta;
+    }
+
+    /**
+     * Escribe en el EntityManager del lote el saldo nuevo, la transacción y
+     * el saldo diario de un movimiento ya aplicado.
+     */
+    private void persistir(EntityManager em, Solicitud solicitud, Cuenta cuenta) {
+        // Ya está en el contexto de persistencia: no vuelve a la base de datos
+        CuentaJPAEntity cuentaJPA = em.find(CuentaJPAEntity.class, solicitud.cuentaId);
+        cuentaJPA.setSaldo(cuenta.getSaldo().getCantidad());
+        cuentaJPA.setUpdatedAt(cuenta.getFechaActualizacion());
+
+        TransaccionJPAEntity transaccionJPA = TransaccionJPARepository.domainToJPA(solicitud.resultado);
+        transaccionJPA.setCuenta(cuentaJPA);
+        em.persist(transaccionJPA);
+        SaldoDiarioJPARepository.registrar(em, transaccionJPA);
+    }
+
+    private void completarConError(Solicitud solicitud, RuntimeException error) {
+        if (solicitud.futuro.completeExceptionally(error)) {
+            latencia.registrar(solicitud.milisegundosEnCola());
+        }
+    }
+
+    /**
+     * Movimiento pendiente de aplicar.
+     */
+    private static final class Solicitud {
+        private final String cuentaId;
+        private final TipoTransaccion tipo;
+        private final Dinero monto;
+        private final String descripcion;
+        private final long encoladaNanos = System.nanoTime();
+        private final CompletableFuture<Transaccion> futuro = new CompletableFuture<>();
+        private Transaccion resultado;
+
+        private Solicitud(String cuentaId, TipoTransaccion tipo, Dinero monto, String descripcion) {
+            this.cuentaId = cuentaId;
+            this.tipo = tipo;
+            this.monto = monto;
+            this.descripcion = descripcion;
+        }
+
+        private long milisegundosEnCola() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - encoladaNanos);
+        }
+    }
+}
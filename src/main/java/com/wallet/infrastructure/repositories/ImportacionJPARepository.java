@@ -0,0 +1,185 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.exceptions.RepositoryException;
+import com.wallet.domain.repositories.IImportacionRepository;
+import com.wallet.domain.services.IGeneradorNumeroCuenta;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.entities.CuentaJPAEntity;
+import com.wallet.infrastructure.entities.UsuarioJPAEntity;
+import com.wallet.infrastructure.logging.OperationLogger;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.Session;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implementación JPA del alta masiva de usuarios y cuentas.
+ *
+ * Responsabilidades:
+ * - Comprobar duplicados con IN (...) en trozos, una consulta por trozo
+ * - Insertar un lote completo en una transacción, con inserts en batch
+ *   JDBC y vaciando el EntityManager periódicamente
+ *
+ * Primero se insertan todos los usuarios y luego todas las cuentas: si se
+ * alternaran, Hibernate cortaría el batch en cada cambio de tabla. Los
+ * números de cuenta se piden al generador antes de abrir la transacción,
+ * porque renovar su bloque también usa el escritor.
+ */
+public class ImportacionJPARepository implements IImportacionRepository {
+
+    /**
+     * Valores por consulta IN: holgadamente por debajo del límite de
+     * parámetros de SQLite.
+     */
+    private static final int MAX_PARAMETROS = 500;
+
+    /**
+     * Inserts por batch JDBC y por flush/clear del EntityManager.
+     */
+    private static final int TAMANO_LOTE_JDBC = 100;
+
+    private final IGeneradorNumeroCuenta generadorNumeroCuenta;
+
+    public ImportacionJPARepository(IGeneradorNumeroCuenta generadorNumeroCuenta) {
+        if (generadorNumeroCuenta == null) {
+            throw new IllegalArgumentException("El generador de números de cuenta no puede ser nulo");
+        }
+        this.generadorNumeroCuenta = generadorNumeroCuenta;
+    }
+
+    /**
+     * Busca qué emails ya están registrados.
+     *
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public Set<String> buscarEmailsExistentes(Collection<String> emails) {
+        return buscarExistentes("email", emails);
+    }
+
+    /**
+     * Busca qué números de documento ya están registrados.
+     *
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public Set<String> buscarDocumentosExistentes(Collection<String> documentos) {
+        return buscarExistentes("documento", documentos);
+    }
+
+    /**
+     * Registra los usuarios y una cuenta para cada uno en una sola
+     * transacción. Si falla, los números de cuenta ya generados se pierden.
+     *
+     * @throws RepositoryException si ocurre error en BD (p. ej. un
+     *                             duplicado insertado por otro proceso);
+     *                             no se guarda ninguno
+     */
+    @Override
+    public List<Cuenta> registrarConCuenta(List<Usuario> usuarios) {
+        LocalDateTime ahora = LocalDateTime.now();
+        List<Cuenta> cuentas = new ArrayList<>(usuarios.size());
+        for (Usuario usuario : usuarios) {
+            cuentas.add(new Cuenta(UUID.randomUUID().toString(), generadorNumeroCuenta.siguiente(),
+                usuario.getId(), Dinero.CERO, ahora, ahora, true));
+        }
+
+        EntityManager em = null;
+        try {
+            em = JPAConfiguration.getEntityManager();
+            em.unwrap(Session.class).setJdbcBatchSize(TAMANO_LOTE_JDBC);
+            em.getTransaction().begin();
+
+            for (int i = 0; i < usuarios.size(); i++) {
+                em.persist(UsuarioJPARepository.domainToJPA(usuarios.get(i)));
+                vaciarCadaLote(em, i + 1);
+            }
+            em.flush();
+            em.clear();
+
+            for (int i = 0; i < cuentas.size(); i++) {
+                CuentaJPAEntity cuentaJPA = CuentaJPARepository.domainToJPA(cuentas.get(i));
+                cuentaJPA.setUsuario(em.getReference(UsuarioJPAEntity.class, cuentas.get(i).getUsuarioId()));
+                em.persist(cuentaJPA);
+                vaciarCadaLote(em, i + 1);
+            }
+
+            em.flush();
+            em.getTransaction().commit();
+            JPAConfiguration.confirmarEscritura();
+
+            OperationLogger.logCreate("Usuario", "importación",
+                String.format("Importados %d usuarios con su cuenta", usuarios.size()));
+            return cuentas;
+
+        } catch (PersistenceException e) {
+            if (em != null && em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            OperationLogger.logError("Usuario", "importación", "Error de persistencia al importar lote", e);
+            throw RepositoryException.operacionFallida("Usuario", "importar", e.getMessage());
+        } catch (Exception e) {
+            if (em != null && em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            OperationLogger.logError("Usuario", "importación", "Error inesperado al importar lote", e);
+            throw RepositoryException.operacionFallida("Usuario", "importar", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private Set<String> buscarExistentes(String campo, Collection<String> valores) {
+        Set<String> existentes = new HashSet<>();
+        if (valores.isEmpty()) {
+            return existentes;
+        }
+        EntityManager em = null;
+        try {
+            em = JPAConfiguration.getEntityManager();
+
+            List<String> pendientes = new ArrayList<>(valores);
+            for (int desde = 0; desde < pendientes.size(); desde += MAX_PARAMETROS) {
+                List<String> trozo = pendientes.subList(desde, Math.min(desde + MAX_PARAMETROS, pendientes.size()));
+                existentes.addAll(em.createQuery(
+                        "SELECT u." + campo + " FROM UsuarioJPAEntity u WHERE u." + campo + " IN :valores",
+                        String.class)
+                    .setParameter("valores", trozo)
+                    .getResultList());
+            }
+
+            OperationLogger.logRead("Usuario", "importación",
+                String.format("%d de %d valores de %s ya existen", existentes.size(), valores.size(), campo));
+            return existentes;
+
+        } catch (PersistenceException e) {
+            OperationLogger.logError("Usuario", "importación", "Error de persistencia al buscar " + campo, e);
+            throw RepositoryException.operacionFallida("Usuario", "buscar " + campo, e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    private static void vaciarCadaLote(EntityManager em, int escritos) {
+        if (escritos % TAMANO_LOTE_JDBC == 0) {
+            em.flush();
+            em.clear();
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.exceptions.RepositoryException;
+import com.wallet.domain.repositories.ISaldoDiarioRepository;
+import com.wallet.domain.repositories.ResumenPeriodo;
+import com.wallet.domain.repositories.SaldoDiario;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.entities.SaldoDiarioJPAEntity;
+import com.wallet.infrastructure.entities.SaldoDiarioJPAEntity.Clave;
+import com.wallet.infrastructure.entities.TransaccionJPAEntity;
+import com.wallet.infrastructure.logging.OperationLogger;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Implementación JPA de los saldos diarios por cuenta.
+ *
+ * Responsabilidades:
+ * - Acumular cada transacción nueva en el día de su cuenta, dentro de la
+ *   misma transacción de BD que la inserta ({@link #registrar})
+ * - Responder resúmenes de período y saldos a una fecha leyendo un
+ *   registro por día, nunca las transacciones
+ * - Reconstruir los saldos diarios desde las transacciones existentes
+ *
+ * El día de una transacción es la fecha local de fechaTransaccion. La
+ * apertura es el saldo anterior de la primera transacción del día y el
+ * cierre el saldo nuevo de la última, por momento y no por orden de
+ * inserción: una transacción con fecha anterior a las ya acumuladas
+ * corrige la apertura en lugar del cierre.
+ */
+public class SaldoDiarioJPARepository implements ISaldoDiarioRepository {
+
+    /**
+     * Días que se escriben antes de vaciar el EntityManager al reconstruir.
+     */
+    private static final int TAMANO_LOTE_RECONSTRUCCION = 500;
+
+    // ==================== MANTENIMIENTO INCREMENTAL ====================
+
+    /**
+     * Acumula una transacción recién persistida en el saldo diario de su
+     * cuenta. Debe llamarse dentro de la transacción de BD que la inserta,
+     * una sola vez por transacción (no al actualizarla).
+     *
+     * @param em EntityManager de la transacción en curso
+     * @param transaccion entidad nueva, ya asociada a su cuenta
+     */
+    static void registrar(EntityManager em, TransaccionJPAEntity transaccion) {
+        LocalDateTime momento = transaccion.getFechaTransaccion();
+        Clave clave = new Clave(transaccion.getCuenta().getId(), momento.toLocalDate());
+        SaldoDiarioJPAEntity dia = em.find(SaldoDiarioJPAEntity.class, clave);
+        if (dia == null) {
+            em.persist(nuevoDia(clave, transaccion.getTipo(), transaccion.getMonto(),
+                transaccion.getSaldoAnterior(), transaccion.getSaldoNuevo(), momento));
+        } else {
+            acumular(dia, transaccion.getTipo(), transaccion.getMonto(),
+                transaccion.getSaldoAnterior(), transaccion.getSaldoNuevo(), momento);
+        }
+    }
+
+    /**
+     * Borra los saldos diarios de una cuenta (p. ej. al eliminarla).
+     *
+     * @param em EntityManager de la transacción en curso
+     * @param cuentaId el ID de la cuenta
+     * @return cantidad de días borrados
+     */
+    static int eliminarPorCuenta(EntityManager em, String cuentaId) {
+        return em.createQuery("DELETE FROM SaldoDiarioJPAEntity s WHERE s.clave.cuentaId = :cuentaId")
+            .setParameter("cuentaId", cuentaId)
+            .executeUpdate();
+    }
+
+    private static SaldoDiarioJPAEntity nuevoDia(Clave clave, String tipo, BigDecimal monto,
+                                                 BigDecimal saldoAnterior, BigDecimal saldoNuevo,
+                                                 LocalDateTime momento) {
+        boolean credito = TipoTransaccion.valueOf(tipo).esCredito();
+        return new SaldoDiarioJPAEntity(clave, saldoAnterior, saldoNuevo,
+            credito ? monto : BigDecimal.ZERO, credito ? BigDecimal.ZERO : monto,
+            1, momento, momento);
+    }
+
+    private static void acumular(SaldoDiarioJPAEntity dia, String tipo, BigDecimal monto,
+                                 BigDecimal saldoAnterior, BigDecimal saldoNuevo, LocalDateTime momento) {
+        if (momento.isBefore(dia.getPrimeraTransaccion())) {
+            dia.setPrimeraTransaccion(momento);
+            dia.setSaldoApertura(saldoAnterior);
+        }
+        // Con el mismo momento gana la insertada después
+        if (!momento.isBefore(dia.getUltimaTransaccion())) {
+            dia.setUltimaTransaccion(momento);
+            dia.setSaldoCierre(saldoNuevo);
+        }
+        if (TipoTransaccion.valueOf(tipo).esCredito()) {
+            dia.setCreditos(dia.getCreditos().add(monto));
+        } else {
+            dia.setDebitos(dia.getDebitos().add(monto));
+        }
+        dia.setCantidad(dia.getCantidad() + 1);
+    }
+
+    // ==================== CONSULTAS ====================
+
+    /**
+     * Obtiene los días con movimientos de una cuenta entre dos fechas.
+     *
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public List<SaldoDiario> buscarPorCuentaYFechas(String cuentaId, LocalDate desde, LocalDate hasta) {
+        EntityManager em = null;
+        try {
+            em = JPAConfiguration.getEntityManager();
+
+            List<SaldoDiario> dias = em.createQuery(
+                    "SELECT s FROM SaldoDiarioJPAEntity s WHERE s.clave.cuentaId = :cuentaId"
+                        + " AND s.clave.fecha BETWEEN :desde AND :hasta ORDER BY s.clave.fecha ASC",
+                    SaldoDiarioJPAEntity.class)
+                .setParameter("cuentaId", cuentaId)
+                .setParameter("desde", desde)
+                .setParameter("hasta", hasta)
+                .getResultList()
+                .stream()
+                .map(SaldoDiarioJPARepository::jpaToDomain)
+                .collect(Collectors.toList());
+
+            OperationLogger.logRead("SaldoDiario", cuentaId,
+                String.format("Encontrados %d días entre %s y %s", dias.size(), desde, hasta));
+            return dias;
+
+        } catch (PersistenceException e) {
+            OperationLogger.logError("SaldoDiario", cuentaId, "Error de persistencia al buscar por fechas", e);
+            throw RepositoryException.operacionFallida("SaldoDiario", "buscar por fechas", e.getMessage());
+        } catch (Exception e) {
+            OperationLogger.logError("SaldoDiario", cuentaId, "Error inesperado al buscar por fechas", e);
+            throw RepositoryException.operacionFallida("SaldoDiario", "buscar por fechas", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Obtiene el saldo de una cuenta al cierre de un día: una búsqueda por
+     * la clave (cuenta_id, fecha) del último día no posterior.
+     *
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public Optional<BigDecimal> obtenerSaldoAl(String cuentaId, LocalDate fecha) {
+        EntityManager em = null;
+        try {
+            em = JPAConfiguration.getEntityManager();
+
+            Optional<BigDecimal> saldo = saldoAl(em, cuentaId, fecha);
+
+            OperationLogger.logRead("SaldoDiario", cuentaId, "Saldo al " + fecha + ": " + saldo.orElse(null));
+            return saldo;
+
+        } catch (PersistenceException e) {
+            OperationLogger.logError("SaldoDiario", cuentaId, "Error de persistencia al obtener saldo a fecha", e);
+            throw RepositoryException.operacionFallida("SaldoDiario", "obtener saldo a fecha", e.getMessage());
+        } catch (Exception e) {
+            OperationLogger.logError("SaldoDiario", cuentaId, "Error inesperado al obtener saldo a fecha", e);
+            throw RepositoryException.operacionFallida("SaldoDiario", "obtener saldo a fecha", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Obtiene el resumen de una cuenta entre dos fechas con tres lecturas:
+     * el cierre anterior al período, la suma de sus días y el cierre del
+     * último día. El coste depende de los días del período, no de las
+     * transacciones.
+     *
+     * @throws IllegalArgumentException si el período está invertido
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public ResumenPeriodo obtenerResumen(String cuentaId, LocalDate desde, LocalDate hasta) {
+        if (desde.isAfter(hasta)) {
+            throw new IllegalArgumentException("La fecha inicial no puede ser posterior a la final");
+        }
+        EntityManager em = null;
+        try {
+            em = JPAConfiguration.getEntityManager();
+
+            Object[] totales = em.createQuery(
+                    "SELECT SUM(s.creditos), SUM(s.debitos), SUM(s.cantidad), MIN(s.clave.fecha)"
+                        + " FROM SaldoDiarioJPAEntity s WHERE s.clave.cuentaId = :cuentaId"
+                        + " AND s.clave.fecha BETWEEN :desde AND :hasta", Object[].class)
+                .setParameter("cuentaId", cuentaId)
+                .setParameter("desde", desde)
+                .setParameter("hasta", hasta)
+                .getSingleResult();
+
+            long cantidad = totales[2] != null ? ((Number) totales[2]).longValue() : 0;
+            BigDecimal saldoInicial = saldoAl(em, cuentaId, desde.minusDays(1)).orElse(null);
+            if (saldoInicial == null) {
+                // Sin días previos: la apertura del primer día del período, o cero
+                saldoInicial = cantidad == 0 ? BigDecimal.ZERO
+                    : em.find(SaldoDiarioJPAEntity.class, new Clave(cuentaId, (LocalDate) totales[3]))
+                        .getSaldoApertura();
+            }
+            BigDecimal saldoFinal = cantidad == 0 ? saldoInicial
+                : saldoAl(em, cuentaId, hasta).orElse(saldoInicial);
+
+            ResumenPeriodo resumen = new ResumenPeriodo(cuentaId, desde, hasta,
+                Dinero.redondear(saldoInicial), Dinero.redondear(saldoFinal),
+                importe(totales[0]), importe(totales[1]), cantidad);
+
+            OperationLogger.logRead("SaldoDiario", cuentaId,
+                String.format("Resumen %s..%s: %d transacciones", desde, hasta, cantidad));
+            return resumen;
+
+        } catch (PersistenceException e) {
+            OperationLogger.logError("SaldoDiario", cuentaId, "Error de persistencia al obtener resumen", e);
+            throw RepositoryException.operacionFallida("SaldoDiario", "obtener resumen", e.getMessage());
+        } catch (Exception e) {
+            OperationLogger.logError("SaldoDiario", cuentaId, "Error inesperado al obtener resumen", e);
+            throw RepositoryException.operacionFallida("SaldoDiario", "obtener resumen", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    // ==================== RECONSTRUCCIÓN ====================
+
+    /**
+     * Recalcula los saldos diarios de una cuenta en una sola transacción:
+     * borra los existentes y recorre sus transacciones en orden
+     * cronológico con un cursor, escribiendo cada día al pasar al
+     * siguiente. En memoria solo está el día en curso.
+     *
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public long reconstruir(String cuentaId) {
+        EntityManager em = null;
+        try {
+            em = JPAConfiguration.getEntityManager();
+            em.getTransaction().begin();
+
+            eliminarPorCuenta(em, cuentaId);
+
+            long dias = 0;
+            SaldoDiarioJPAEntity dia = null;
+            try (ScrollableResults<Object[]> filas = em.unwrap(Session.class)
+                    .createSelectionQuery("SELECT t.fechaTransaccion, t.tipo, t.monto, t.saldoAnterior, t.saldoNuevo"
+                        + " FROM TransaccionJPAEntity t WHERE t.cuenta.id = :cuentaId"
+                        + " ORDER BY t.fechaTransaccion ASC, t.id ASC", Object[].class)
+                    .setParameter("cuentaId", cuentaId)
+                    .setReadOnly(true)
+                    .setFetchSize(TAMANO_LOTE_RECONSTRUCCION)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                while (filas.next()) {
+                    Object[] fila = filas.get();
+                    LocalDateTime momento = (LocalDateTime) fila[0];
+                    String tipo = (String) fila[1];
+                    BigDecimal monto = (BigDecimal) fila[2];
+                    BigDecimal saldoAnterior = (BigDecimal) fila[3];
+                    BigDecimal saldoNuevo = (BigDecimal) fila[4];
+
+                    if (dia != null && dia.getClave().getFecha().equals(momento.toLocalDate())) {
+                        acumular(dia, tipo, monto, saldoAnterior, saldoNuevo, momento);
+                        continue;
+                    }
+                    if (dia != null) {
+                        em.persist(dia);
+                        if (++dias % TAMANO_LOTE_RECONSTRUCCION == 0) {
+                            em.flush();
+                            em.clear();
+                        }
+                    }
+                    dia = nuevoDia(new Clave(cuentaId, momento.toLocalDate()), tipo, monto,
+                        saldoAnterior, saldoNuevo, momento);
+                }
+            }
+            if (dia != null) {
+                em.persist(dia);
+                dias++;
+            }
+
+            em.flush();
+            em.getTransaction().commit();
+            JPAConfiguration.confirmarEscritura();
+
+            OperationLogger.logUpdate("SaldoDiario", cuentaId, "Reconstruidos " + dias + " días");
+            return dias;
+
+        } catch (PersistenceException e) {
+            if (em != null && em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            OperationLogger.logError("SaldoDiario", cuentaId, "Error de persistencia al reconstruir", e);
+            throw RepositoryException.operacionFallida("SaldoDiario", "reconstruir", e.getMessage());
+        } catch (Exception e) {
+            if (em != null && em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            OperationLogger.logError("SaldoDiario", cuentaId, "Error inesperado al reconstruir", e);
+            throw RepositoryException.operacionFallida("SaldoDiario", "reconstruir", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Recalcula los saldos diarios de todas las cuentas. Cada cuenta va en
+     * su propia transacción, así que el escritor no queda bloqueado durante
+     * toda la reconstrucción y un fallo no deshace las cuentas ya hechas.
+     *
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public long reconstruirTodos() {
+        List<String> cuentas;
+        EntityManager em = null;
+        try {
+            em = JPAConfiguration.getEntityManager();
+            cuentas = em.createQuery("SELECT c.id FROM CuentaJPAEntity c ORDER BY c.id", String.class)
+                .getResultList();
+        } catch (PersistenceException e) {
+            OperationLogger.logError("SaldoDiario", "TODAS", "Error de persistencia al listar cuentas", e);
+            throw RepositoryException.operacionFallida("SaldoDiario", "reconstruir", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+
+        long dias = 0;
+        for (String cuentaId : cuentas) {
+            dias += reconstruir(cuentaId);
+        }
+        OperationLogger.logUpdate("SaldoDiario", "TODAS",
+            String.format("Reconstruidos %d días de %d cuentas", dias, cuentas.size()));
+        return dias;
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static Optional<BigDecimal> saldoAl(EntityManager em, String cuentaId, LocalDate fecha) {
+        return em.createQuery(
+                "SELECT s.saldoCierre FROM SaldoDiarioJPAEntity s WHERE s.clave.cuentaId = :cuentaId"
+                    + " AND s.clave.fecha <= :fecha ORDER BY s.clave.fecha DESC", BigDecimal.class)
+            .setParameter("cuentaId", cuentaId)
+            .setParameter("fecha", fecha)
+            .setMaxResults(1)
+            .getResultStream()
+            .findFirst()
+            .map(Dinero::redondear);
+    }
+
+    /**
+     * Normaliza una suma de importes: SQLite guarda los montos como REAL,
+     * así que la suma se redondea a dos decimales; null (sin días) es cero.
+     */
+    private static BigDecimal importe(Object suma) {
+        if (suma == null) {
+            return Dinero.redondear(BigDecimal.ZERO);
+        }
+        BigDecimal valor = suma instanceof BigDecimal
+            ? (BigDecimal) suma
+            : new BigDecimal(suma.toString());
+        return Dinero.redondear(valor);
+    }
+
+    static SaldoDiario jpaToDomain(SaldoDiarioJPAEntity entidad) {
+        return new SaldoDiario(entidad.getClave().getCuentaId(), entidad.getClave().getFecha(),
+            Dinero.redondear(entidad.getSaldoApertura()), Dinero.redondear(entidad.getSaldoCierre()),
+            Dinero.redondear(entidad.getCreditos()), Dinero.redondear(entidad.getDebitos()),
+            entidad.getCantidad());
+    }
+}
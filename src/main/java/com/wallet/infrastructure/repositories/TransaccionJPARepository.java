@@ -1,8 +1,17 @@
 package com.wallet.infrastructure.repositories;
 
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.HistorialCuentaDTO;
+import com.wallet.application.dtos.HistorialCursorDTO;
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.queries.ITransaccionLecturas;
 import com.wallet.domain.entities.Transaccion;
 import com.wallet.domain.exceptions.*;
+import com.wallet.domain.repositories.ConsultaTransacciones;
+import com.wallet.domain.repositories.CursorTransaccion;
 import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.repositories.Pagina;
+import com.wallet.domain.repositories.PaginaCursor;
 import com.wallet.domain.valueobjects.Dinero;
 import com.wallet.domain.valueobjects.TipoTransaccion;
 import com.wallet.infrastructure.config.JPAConfiguration;
@@ -14,11 +23,17 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceException;
 import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Implementación JPA del repositorio de Transacciones.
@@ -28,8 +43,25 @@ import java.util.Optional;
  * - Ejecutar operaciones CRUD en la base de datos
  * - Manejar transacciones
  * - Traducir excepciones JPA a excepciones de dominio
+ * - Proyectar listados directamente a TransaccionDTO (ITransaccionLecturas)
  */
-public class TransaccionJPARepository implements ITransaccionRepository {
+public class TransaccionJPARepository implements ITransaccionRepository, ITransaccionLecturas {
+
+    /**
+     * Columnas de la transacción (alias t) en el orden que espera {@link #filaADTO}.
+     */
+    static final String COLUMNAS_DTO =
+        "t.id, t.cuentaOrigenId, t.tipo, t.monto, t.descripcion, t.fechaTransaccion, t.cuentaDestinoId";
+    private static final int TRANSACCION_COLUMNAS = 7;
+    private static final int CUENTA_COLUMNAS = 8;
+    // Filas por viaje al ResultSet al recorrer un historial completo
+    private static final int TAMANO_LOTE_RECORRIDO = 500;
+
+    /**
+     * Orden del historial paginado; coincide con el índice
+     * idx_transacciones_cuenta_fecha_id para que no haga falta ordenar.
+     */
+    private static final String ORDEN_HISTORIAL = " ORDER BY t.fechaTransaccion DESC, t.id ASC";
 
     /**
      * Guarda una nueva transacción.
@@ -70,6 +102,7 @@ public class TransaccionJPARepository implements ITransaccionRepository {
             TransaccionJPAEntity transaccionGuardada;
             if (transaccionExistente == null) {
                 em.persist(transaccionJPA);
+                SaldoDiarioJPARepository.registrar(em, transaccionJPA);
                 transaccionGuardada = transaccionJPA;
             } else {
                 transaccionGuardada = em.merge(transaccionJPA);
@@ -77,9 +110,7 @@ public class TransaccionJPARepository implements ITransaccionRepository {
 
             em.flush();
             em.getTransaction().commit();
-            
-            // Pequeña pausa para asegurar que SQLite sincronice
-            Thread.sleep(100);
+            JPAConfiguration.confirmarEscritura();
 
             Transaccion transaccionResultado = jpaToDomain(transaccionGuardada);
             OperationLogger.logCreate("Transacción", transaccionResultado.getId(),
@@ -325,15 +356,482 @@ public class TransaccionJPARepository implements ITransaccionRepository {
         }
     }
 
+    /**
+     * Obtiene una página del historial de una cuenta.
+     *
+     * Los filtros se traducen a la cláusula WHERE; el total se obtiene con
+     * COUNT(*) y la página con LIMIT/OFFSET, de modo que SQLite solo
+     * devuelve las filas que se muestran. Si la página pedida queda fuera
+     * del total no se ejecuta la segunda consulta.
+     *
+     * @param consulta cuenta, filtros y página
+     * @return página de transacciones, de la más reciente a la más antigua
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public Pagina<Transaccion> buscarPagina(ConsultaTransacciones consulta) {
+        EntityManager em = null;
+        String cuentaId = consulta.getCuentaId();
+        try {
+            em = JPAConfiguration.getEntityManager();
+
+            String filtro = construirFiltro(consulta);
+            Query conteo = em.createQuery("SELECT COUNT(t) FROM TransaccionJPAEntity t" + filtro);
+            asignarParametros(conteo, consulta);
+            long total = ((Number) conteo.getSingleResult()).longValue();
+
+            List<Transaccion> contenido = new ArrayList<>();
+            if (consulta.getDesplazamiento() < total) {
+                TypedQuery<TransaccionJPAEntity> query = em.createQuery(
+                    "SELECT t FROM TransaccionJPAEntity t" + filtro + ORDEN_HISTORIAL, TransaccionJPAEntity.class);
+                asignarParametros(query, consulta);
+                query.setFirstResult(consulta.getDesplazamiento());
+                query.setMaxResults(consulta.getTamano());
+                contenido = convertirListaDominio(query.getResultList());
+            }
+
+            String siguiente = null;
+            if (!contenido.isEmpty() && consulta.getDesplazamiento() + contenido.size() < total) {
+                siguiente = CursorTransaccion.despuesDe(contenido.get(contenido.size() - 1)).codificar();
+            }
+
+            OperationLogger.logRead("Transacción", cuentaId,
+                "Página " + consulta.getPagina() + ": " + contenido.size() + " de " + total + " transacciones");
+            return new Pagina<>(contenido, total, consulta.getPagina(), consulta.getTamano(), siguiente);
+
+        } catch (PersistenceException e) {
+            OperationLogger.logError("Transacción", cuentaId, "Error de persistencia al buscar página", e);
+            throw RepositoryException.operacionFallida("Transacción", "buscar página", e.getMessage());
+        } catch (Exception e) {
+            OperationLogger.logError("Transacción", cuentaId, "Error inesperado al buscar página", e);
+            throw RepositoryException.operacionFallida("Transacción", "buscar página", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Obtiene las transacciones que siguen a un cursor.
+     *
+     * La condición sobre (fecha, id) se escribe como un rango sobre la fecha
+     * más un desempate, para que SQLite busque directamente en el índice
+     * (cuenta_id, fecha_transaccion DESC, id) la posición del cursor y lea
+     * solo las filas de la página. Se pide una fila de más para saber si
+     * hay página siguiente sin contar el resto.
+     *
+     * @param consulta cuenta, filtros y tamaño de página
+     * @param cursor token de la página anterior (null = desde el principio)
+     * @return página con las transacciones y el cursor para continuar
+     * @throws IllegalArgumentException si el cursor no es válido
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public PaginaCursor<Transaccion> buscarSiguientes(ConsultaTransacciones consulta, String cursor) {
+        CursorTransaccion posicion = cursor == null ? null : CursorTransaccion.decodificar(cursor);
+        EntityManager em = null;
+        String cuentaId = consulta.getCuentaId();
+        try {
+            em = JPAConfiguration.getEntityManager();
+
+            String jpql = "SELECT t FROM TransaccionJPAEntity t" + construirFiltro(consulta);
+            if (posicion != null) {
+                jpql += " AND t.fechaTransaccion <= :cursorFecha"
+                    + " AND (t.fechaTransaccion < :cursorFecha OR t.id > :cursorId)";
+            }
+            TypedQuery<TransaccionJPAEntity> query = em.createQuery(jpql + ORDEN_HISTORIAL, TransaccionJPAEntity.class);
+            asignarParametros(query, consulta);
+            if (posicion != null) {
+                query.setParameter("cursorFecha", posicion.getFecha());
+                query.setParameter("cursorId", posicion.getId());
+            }
+            query.setMaxResults(consulta.getTamano() + 1);
+
+            List<Transaccion> contenido = convertirListaDominio(query.getResultList());
+            String siguiente = null;
+            if (contenido.size() > consulta.getTamano()) {
+                contenido = contenido.subList(0, consulta.getTamano());
+                siguiente = CursorTransaccion.despuesDe(contenido.get(contenido.size() - 1)).codificar();
+            }
+
+            OperationLogger.logRead("Transacción", cuentaId,
+                "Se obtuvieron " + contenido.size() + " transacciones por cursor");
+            return new PaginaCursor<>(new ArrayList<>(contenido), consulta.getTamano(), siguiente);
+
+        } catch (PersistenceException e) {
+            OperationLogger.logError("Transacción", cuentaId, "Error de persistencia al buscar por cursor", e);
+            throw RepositoryException.operacionFallida("Transacción", "buscar por cursor", e.getMessage());
+        } catch (Exception e) {
+            OperationLogger.logError("Transacción", cuentaId, "Error inesperado al buscar por cursor", e);
+            throw RepositoryException.operacionFallida("Transacción", "buscar por cursor", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    // ==================== LECTURAS PROYECTADAS A DTO ====================
+
+    /**
+     * Obtiene una página del historial proyectando las columnas a
+     * TransaccionDTO: mismo filtro, orden y total que {@link #buscarPagina},
+     * sin entidades JPA (ni su copia para dirty checking) ni de dominio.
+     *
+     * @param consulta cuenta, filtros y página
+     * @return página de DTOs con el total que cumple los filtros
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public Pagina<TransaccionDTO> listarPagina(ConsultaTransacciones consulta) {
+        EntityManager em = null;
+        String cuentaId = consulta.getCuentaId();
+        try {
+            em = JPAConfiguration.getEntityManager();
+
+            String filtro = construirFiltro(consulta);
+            Query conteo = em.createQuery("SELECT COUNT(t) FROM TransaccionJPAEntity t" + filtro);
+            asignarParametros(conteo, consulta);
+            long total = ((Number) conteo.getSingleResult()).longValue();
+
+            List<TransaccionDTO> contenido = new ArrayList<>();
+            if (consulta.getDesplazamiento() < total) {
+                Query query = em.createQuery("SELECT " + COLUMNAS_DTO + " FROM TransaccionJPAEntity t"
+                    + filtro + ORDEN_HISTORIAL);
+                asignarParametros(query, consulta);
+                query.setFirstResult(consulta.getDesplazamiento());
+                query.setMaxResults(consulta.getTamano());
+                @SuppressWarnings("unchecked")
+                List<Object[]> filas = query.getResultList();
+                contenido = new ArrayList<>(filas.size());
+                for (Object[] fila : filas) {
+                    contenido.add(filaADTO(fila, 0));
+                }
+            }
+
+            OperationLogger.logRead("Transacción", cuentaId,
+                "Página " + consulta.getPagina() + " (DTO): " + contenido.size() + " de " + total + " transacciones");
+            return new Pagina<>(contenido, total, consulta.getPagina(), consulta.getTamano(),
+                siguienteDTO(contenido, consulta, total));
+
+        } catch (PersistenceException e) {
+            OperationLogger.logError("Transacción", cuentaId, "Error de persistencia al listar página", e);
+            throw RepositoryException.operacionFallida("Transacción", "listar página", e.getMessage());
+        } catch (Exception e) {
+            OperationLogger.logError("Transacción", cuentaId, "Error inesperado al listar página", e);
+            throw RepositoryException.operacionFallida("Transacción", "listar página", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Obtiene la cuenta y una página de su historial como DTOs, en una sola
+     * consulta.
+     *
+     * La cuenta se busca por número y se une (LEFT JOIN) con sus
+     * transacciones filtradas, ordenadas y limitadas a la página; el total
+     * llega como subconsulta no correlacionada, que SQLite evalúa una sola
+     * vez. Cada fila trae las columnas de la cuenta, las de una transacción
+     * (null si la cuenta no tiene ninguna que cumpla los filtros) y el
+     * total. Sin filas, la cuenta no existe, salvo que la página pedida
+     * quede fuera del total: solo en ese caso se hace una segunda lectura
+     * para distinguirlo.
+     *
+     * @param consulta consulta por número de cuenta
+     * @return cuenta y página, o vacío si la cuenta no existe
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public Optional<HistorialCuentaDTO> listarHistorial(ConsultaTransacciones consulta) {
+        if (consulta.getNumeroCuenta() == null) {
+            throw new IllegalArgumentException("La consulta debe indicar el número de cuenta");
+        }
+        EntityManager em = null;
+        String numeroCuenta = consulta.getNumeroCuenta();
+        String columnas = CuentaJPARepository.COLUMNAS_DTO + ", " + COLUMNAS_DTO;
+        try {
+            em = JPAConfiguration.getEntityManager();
+
+            List<Object[]> filas = consultarHistorial(em, columnas, consulta,
+                consulta.getDesplazamiento(), consulta.getTamano());
+            boolean fueraDeRango = filas.isEmpty() && consulta.getDesplazamiento() > 0;
+            if (fueraDeRango) {
+                // Página fuera de rango: leer solo la cabecera y el total
+                filas = consultarHistorial(em, columnas, consulta, 0, 1);
+            }
+            if (filas.isEmpty()) {
+                OperationLogger.logRead("Transacción", numeroCuenta, "Historial (DTO): cuenta no encontrada");
+                return Optional.empty();
+            }
+
+            Object[] primera = filas.get(0);
+            CuentaDTO cuenta = CuentaJPARepository.filaADTO(primera, 0);
+            int inicioTransaccion = CUENTA_COLUMNAS;
+            long total = ((Number) primera[inicioTransaccion + TRANSACCION_COLUMNAS]).longValue();
+            List<TransaccionDTO> contenido = new ArrayList<>(filas.size());
+            if (!fueraDeRango) {
+                for (Object[] fila : filas) {
+                    if (fila[inicioTransaccion] != null) {
+                        contenido.add(filaADTO(fila, inicioTransaccion));
+                    }
+                }
+            }
+
+            OperationLogger.logRead("Transacción", cuenta.getId(),
+                "Historial página " + consulta.getPagina() + " (DTO): " + contenido.size() + " de " + total + " transacciones");
+            return Optional.of(new HistorialCuentaDTO(cuenta, new Pagina<>(contenido, total,
+                consulta.getPagina(), consulta.getTamano(), siguienteDTO(contenido, consulta, total))));
+
+        } catch (PersistenceException e) {
+            OperationLogger.logError("Transacción", numeroCuenta, "Error de persistencia al listar historial", e);
+            throw RepositoryException.operacionFallida("Transacción", "listar historial", e.getMessage());
+        } catch (Exception e) {
+            OperationLogger.logError("Transacción", numeroCuenta, "Error inesperado al listar historial", e);
+            throw RepositoryException.operacionFallida("Transacción", "listar historial", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Obtiene la cuenta y la página de su historial que sigue a un cursor,
+     * en una sola consulta: la misma unión (LEFT JOIN) por número de cuenta
+     * que {@link #listarHistorial}, con la condición del cursor de
+     * {@link #buscarSiguientes} dentro del ON. No calcula el total. Se pide
+     * una fila de más para saber si hay página siguiente; sin filas, la
+     * cuenta no existe.
+     *
+     * @param consulta consulta por número de cuenta
+     * @param cursor token de la página anterior (null = desde el principio)
+     * @return cuenta y página, o vacío si la cuenta no existe
+     * @throws IllegalArgumentException si el cursor no es válido
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public Optional<HistorialCursorDTO> listarHistorialDesdeCursor(ConsultaTransacciones consulta, String cursor) {
+        if (consulta.getNumeroCuenta() == null) {
+            throw new IllegalArgumentException("La consulta debe indicar el número de cuenta");
+        }
+        CursorTransaccion posicion = cursor == null ? null : CursorTransaccion.decodificar(cursor);
+        EntityManager em = null;
+        String numeroCuenta = consulta.getNumeroCuenta();
+        try {
+            em = JPAConfiguration.getEntityManager();
+
+            String condicionCursor = posicion == null ? ""
+                : " AND t.fechaTransaccion <= :cursorFecha"
+                    + " AND (t.fechaTransaccion < :cursorFecha OR t.id > :cursorId)";
+            TypedQuery<Object[]> query = em.createQuery("SELECT " + CuentaJPARepository.COLUMNAS_DTO + ", " + COLUMNAS_DTO
+                + " FROM CuentaJPAEntity c"
+                + " LEFT JOIN TransaccionJPAEntity t ON t.cuenta = c" + condicionesFiltro(consulta, "t") + condicionCursor
+                + " WHERE c.numeroCuenta = :numeroCuenta"
+                + ORDEN_HISTORIAL, Object[].class);
+            asignarParametros(query, consulta);
+            if (posicion != null) {
+                query.setParameter("cursorFecha", posicion.getFecha());
+                query.setParameter("cursorId", posicion.getId());
+            }
+            query.setMaxResults(consulta.getTamano() + 1);
+            List<Object[]> filas = query.getResultList();
+            if (filas.isEmpty()) {
+                OperationLogger.logRead("Transacción", numeroCuenta, "Historial por cursor (DTO): cuenta no encontrada");
+                return Optional.empty();
+            }
+
+            CuentaDTO cuenta = CuentaJPARepository.filaADTO(filas.get(0), 0);
+            List<TransaccionDTO> contenido = new ArrayList<>(filas.size());
+            for (Object[] fila : filas) {
+                if (fila[CUENTA_COLUMNAS] != null) {
+                    contenido.add(filaADTO(fila, CUENTA_COLUMNAS));
+                }
+            }
+            String siguiente = null;
+            if (contenido.size() > consulta.getTamano()) {
+                contenido = new ArrayList<>(contenido.subList(0, consulta.getTamano()));
+                TransaccionDTO ultima = contenido.get(contenido.size() - 1);
+                siguiente = new CursorTransaccion(ultima.getFecha(), ultima.getId()).codificar();
+            }
+
+            OperationLogger.logRead("Transacción", cuenta.getId(),
+                "Historial por cursor (DTO): " + contenido.size() + " transacciones");
+            return Optional.of(new HistorialCursorDTO(cuenta,
+                new PaginaCursor<>(contenido, consulta.getTamano(), siguiente)));
+
+        } catch (PersistenceException e) {
+            OperationLogger.logError("Transacción", numeroCuenta, "Error de persistencia al listar historial por cursor", e);
+            throw RepositoryException.operacionFallida("Transacción", "listar historial por cursor", e.getMessage());
+        } catch (Exception e) {
+            OperationLogger.logError("Transacción", numeroCuenta, "Error inesperado al listar historial por cursor", e);
+            throw RepositoryException.operacionFallida("Transacción", "listar historial por cursor", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    /**
+     * Recorre el historial completo de una cuenta con un cursor de solo
+     * avance (ScrollableResults) sobre columnas proyectadas.
+     *
+     * Las filas se leen del ResultSet a medida que se entregan, en lotes de
+     * {@link #TAMANO_LOTE_RECORRIDO}; al ser tuplas no quedan entidades en
+     * el contexto de persistencia, así que la memoria no crece con el
+     * historial. El orden (fecha ascendente, id descendente) es el índice
+     * idx_transacciones_cuenta_fecha_id recorrido al revés: SQLite no ordena.
+     *
+     * @param cuentaId el ID de la cuenta
+     * @param destino recibe cada transacción en orden
+     * @return cantidad de transacciones entregadas
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public long listarTodas(String cuentaId, Consumer<TransaccionDTO> destino) {
+        EntityManager em = null;
+        long entregadas = 0;
+        // Los errores del destino (p. ej. el cliente cerró la conexión) se propagan tal cual
+        try {
+            em = JPAConfiguration.getEntityManager();
+
+            try (ScrollableResults<Object[]> filas = em.unwrap(Session.class)
+                    .createSelectionQuery("SELECT " + COLUMNAS_DTO + " FROM TransaccionJPAEntity t"
+                        + " WHERE t.cuenta.id = :cuentaId"
+                        + " ORDER BY t.fechaTransaccion ASC, t.id DESC", Object[].class)
+                    .setParameter("cuentaId", cuentaId)
+                    .setReadOnly(true)
+                    .setFetchSize(TAMANO_LOTE_RECORRIDO)
+                    .scroll(ScrollMode.FORWARD_ONLY)) {
+                while (filas.next()) {
+                    destino.accept(filaADTO(filas.get(), 0));
+                    entregadas++;
+                }
+            }
+
+            OperationLogger.logRead("Transacción", cuentaId, "Recorridas " + entregadas + " transacciones");
+            return entregadas;
+
+        } catch (PersistenceException e) {
+            OperationLogger.logError("Transacción", cuentaId, "Error de persistencia al recorrer historial", e);
+            throw RepositoryException.operacionFallida("Transacción", "recorrer historial", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
+    private static String siguienteDTO(List<TransaccionDTO> contenido, ConsultaTransacciones consulta, long total) {
+        if (contenido.isEmpty() || consulta.getDesplazamiento() + contenido.size() >= total) {
+            return null;
+        }
+        TransaccionDTO ultima = contenido.get(contenido.size() - 1);
+        return new CursorTransaccion(ultima.getFecha(), ultima.getId()).codificar();
+    }
+
     // ==================== MÉTODOS AUXILIARES ====================
 
+    /**
+     * Arma la cláusula WHERE de una consulta paginada: la cuenta (por id o
+     * por número) más los filtros presentes.
+     */
+    private static String construirFiltro(ConsultaTransacciones consulta) {
+        String cuenta = consulta.getCuentaId() != null
+            ? " WHERE t.cuenta.id = :cuentaId"
+            : " WHERE t.cuenta.numeroCuenta = :numeroCuenta";
+        return cuenta + condicionesFiltro(consulta, "t");
+    }
+
+    /**
+     * Condiciones de tipo y fechas sobre el alias indicado, cada una
+     * precedida de AND; vacío si la consulta no filtra.
+     */
+    private static String condicionesFiltro(ConsultaTransacciones consulta, String alias) {
+        StringBuilder filtro = new StringBuilder();
+        if (consulta.getTipo() != null) {
+            filtro.append(" AND ").append(alias).append(".tipo = :tipo");
+        }
+        if (consulta.getDesde() != null) {
+            filtro.append(" AND ").append(alias).append(".fechaTransaccion >= :desde");
+        }
+        if (consulta.getHasta() != null) {
+            filtro.append(" AND ").append(alias).append(".fechaTransaccion <= :hasta");
+        }
+        return filtro.toString();
+    }
+
+    private static void asignarParametros(Query query, ConsultaTransacciones consulta) {
+        if (consulta.getCuentaId() != null) {
+            query.setParameter("cuentaId", consulta.getCuentaId());
+        } else {
+            query.setParameter("numeroCuenta", consulta.getNumeroCuenta());
+        }
+        if (consulta.getTipo() != null) {
+            query.setParameter("tipo", consulta.getTipo().name());
+        }
+        if (consulta.getDesde() != null) {
+            query.setParameter("desde", consulta.getDesde());
+        }
+        if (consulta.getHasta() != null) {
+            query.setParameter("hasta", consulta.getHasta());
+        }
+    }
+
+    /**
+     * Filas del historial por número: las columnas pedidas de la cuenta (c)
+     * y de la transacción (t, null si la cuenta no tiene ninguna que cumpla
+     * los filtros), seguidas del total.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Object[]> consultarHistorial(EntityManager em, String columnas, ConsultaTransacciones consulta,
+                                                     int desplazamiento, int limite) {
+        Query query = em.createQuery("SELECT " + columnas + ","
+            + " (SELECT COUNT(t2) FROM TransaccionJPAEntity t2"
+            + " WHERE t2.cuenta.numeroCuenta = :numeroCuenta" + condicionesFiltro(consulta, "t2") + ")"
+            + " FROM CuentaJPAEntity c"
+            + " LEFT JOIN TransaccionJPAEntity t ON t.cuenta = c" + condicionesFiltro(consulta, "t")
+            + " WHERE c.numeroCuenta = :numeroCuenta"
+            + ORDEN_HISTORIAL);
+        asignarParametros(query, consulta);
+        query.setFirstResult(desplazamiento);
+        query.setMaxResults(limite);
+        return query.getResultList();
+    }
+
+    /**
+     * Convierte una fila proyectada con {@link #COLUMNAS_DTO} a TransaccionDTO,
+     * con los mismos valores que daría TransaccionMapper sobre la entidad de
+     * dominio (monto con dos decimales, moneda por defecto de Dinero).
+     *
+     * @param fila fila de la consulta
+     * @param desde posición de la primera columna de la transacción
+     * @return DTO de la transacción
+     */
+    static TransaccionDTO filaADTO(Object[] fila, int desde) {
+        return new TransaccionDTO(
+            (String) fila[desde],
+            (String) fila[desde + 1],
+            (String) fila[desde + 2],
+            Dinero.redondear((BigDecimal) fila[desde + 3]),
+            Dinero.MONEDA_POR_DEFECTO,
+            (String) fila[desde + 4],
+            (LocalDateTime) fila[desde + 5],
+            (String) fila[desde + 6]
+        );
+    }
+
     /**
      * Convierte una entidad JPA a entidad de dominio.
      *
      * @param transaccionJPA entidad JPA
      * @return entidad de dominio
      */
-    private Transaccion jpaToDomain(TransaccionJPAEntity transaccionJPA) {
+    static Transaccion jpaToDomain(TransaccionJPAEntity transaccionJPA) {
         Dinero monto = new Dinero(transaccionJPA.getMonto());
         Dinero saldoAnterior = new Dinero(transaccionJPA.getSaldoAnterior());
         Dinero saldoNuevo = new Dinero(transaccionJPA.getSaldoNuevo());
@@ -358,7 +856,7 @@ public class TransaccionJPARepository implements ITransaccionRepository {
      * @param transaccion entidad de dominio
      * @return entidad JPA
      */
-    private TransaccionJPAEntity domainToJPA(Transaccion transaccion) {
+    static TransaccionJPAEntity domainToJPA(Transaccion transaccion) {
         TransaccionJPAEntity transaccionJPA = new TransaccionJPAEntity(
             transaccion.getId(),
             transaccion.getTipo().name(),
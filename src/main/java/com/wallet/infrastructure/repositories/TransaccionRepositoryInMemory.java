@@ -1,7 +1,11 @@
 package com.wallet.infrastructure.repositories;
 
 import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.repositories.ConsultaTransacciones;
+import com.wallet.domain.repositories.CursorTransaccion;
 import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.repositories.Pagina;
+import com.wallet.domain.repositories.PaginaCursor;
 import com.wallet.domain.valueobjects.TipoTransaccion;
 
 import java.time.LocalDateTime;
@@ -102,6 +106,55 @@ public class TransaccionRepositoryInMemory implements ITransaccionRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    public Pagina<Transaccion> buscarPagina(ConsultaTransacciones consulta) {
+        return paginar(filtrarHistorial(consulta), consulta);
+    }
+    
+    private static Pagina<Transaccion> paginar(List<Transaccion> filtradas, ConsultaTransacciones consulta) {
+        List<Transaccion> contenido = filtradas.stream()
+            .skip(consulta.getDesplazamiento())
+            .limit(consulta.getTamano())
+            .collect(Collectors.toList());
+        String siguiente = null;
+        if (!contenido.isEmpty() && consulta.getDesplazamiento() + contenido.size() < filtradas.size()) {
+            siguiente = CursorTransaccion.despuesDe(contenido.get(contenido.size() - 1)).codificar();
+        }
+        return new Pagina<>(contenido, filtradas.size(), consulta.getPagina(), consulta.getTamano(), siguiente);
+    }
+    
+    @Override
+    public PaginaCursor<Transaccion> buscarSiguientes(ConsultaTransacciones consulta, String cursor) {
+        CursorTransaccion posicion = cursor == null ? null : CursorTransaccion.decodificar(cursor);
+        List<Transaccion> restantes = filtrarHistorial(consulta).stream()
+            .filter(t -> posicion == null
+                || t.getFecha().isBefore(posicion.getFecha())
+                || (t.getFecha().equals(posicion.getFecha()) && t.getId().compareTo(posicion.getId()) > 0))
+            .limit(consulta.getTamano() + 1L)
+            .collect(Collectors.toList());
+        String siguiente = null;
+        if (restantes.size() > consulta.getTamano()) {
+            restantes = new ArrayList<>(restantes.subList(0, consulta.getTamano()));
+            siguiente = CursorTransaccion.despuesDe(restantes.get(restantes.size() - 1)).codificar();
+        }
+        return new PaginaCursor<>(restantes, consulta.getTamano(), siguiente);
+    }
+    
+    /**
+     * Transacciones de la cuenta que cumplen los filtros, en el orden del
+     * historial (fecha descendente, id ascendente).
+     */
+    private List<Transaccion> filtrarHistorial(ConsultaTransacciones consulta) {
+        return transacciones.values().stream()
+            .filter(t -> consulta.getCuentaId().equals(t.getCuentaOrigenId()))
+            .filter(t -> consulta.getTipo() == null || t.getTipo() == consulta.getTipo())
+            .filter(t -> consulta.getDesde() == null || !t.getFecha().isBefore(consulta.getDesde()))
+            .filter(t -> consulta.getHasta() == null || !t.getFecha().isAfter(consulta.getHasta()))
+            .sorted(Comparator.comparing(Transaccion::getFecha).reversed()
+                .thenComparing(Transaccion::getId))
+            .collect(Collectors.toList());
+    }
+    
     /**
      * Limpia todas las transacciones (útil para testing).
      */
@@ -0,0 +1,139 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.exceptions.*;
+import com.wallet.domain.repositories.ITransferLedger;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.entities.CuentaJPAEntity;
+import com.wallet.infrastructure.entities.TransaccionJPAEntity;
+import com.wallet.infrastructure.logging.OperationLogger;
+import com.wallet.infrastructure.validation.ValidatorUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Implementación JPA del libro de transferencias.
+ *
+ * Responsabilidades:
+ * - Actualizar el saldo de ambas cuentas
+ * - Insertar las transacciones ENVIADA y RECIBIDA
+ * - Acumularlas en el saldo diario de cada cuenta
+ * - Hacerlo todo en un único EntityManager y un único commit
+ *
+ * Antes, una transferencia eran cuatro llamadas a guardar(), cada una
+ * con su propia transacción y su propio fsync de SQLite. Un fallo
+ * entre commits podía dejar un saldo debitado sin su crédito.
+ */
+public class TransferJPALedger implements ITransferLedger {
+
+    private final Consumer<String> alModificarCuenta;
+
+    public TransferJPALedger() {
+        this(id -> { });
+    }
+
+    /**
+     * @param alModificarCuenta recibe el id de cada cuenta cuyo saldo se
+     *                          escribió (p. ej. para invalidar una caché)
+     */
+    public TransferJPALedger(Consumer<String> alModificarCuenta) {
+        this.alModificarCuenta = alModificarCuenta;
+    }
+
+    /**
+     * Registra la transferencia en una sola transacción de BD.
+     *
+     * Antes de escribir comprueba que el saldo guardado de cada cuenta
+     * sigue siendo el saldo anterior de su transacción. Si otra operación
+     * lo modificó entre la lectura y el commit, se aborta todo.
+     *
+     * @throws CuentaNoEncontradaException si alguna cuenta no existe en BD
+     * @throws OperacionNoValidaException si algún saldo cambió mientras tanto
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public List<Transaccion> registrarTransferencia(Cuenta cuentaOrigen, Cuenta cuentaDestino,
+                                                    Transaccion enviada, Transaccion recibida) {
+        try {
+            ValidatorUtil.validarSaldo(cuentaOrigen.getSaldo().getCantidad());
+            ValidatorUtil.validarMonto(enviada.getMonto().getCantidad());
+
+            JPAConfiguration.executeInTransaction(em -> {
+                CuentaJPAEntity origenJPA = aplicarSaldo(em, cuentaOrigen, enviada);
+                CuentaJPAEntity destinoJPA = aplicarSaldo(em, cuentaDestino, recibida);
+
+                TransaccionJPAEntity enviadaJPA = vincular(enviada, origenJPA);
+                TransaccionJPAEntity recibidaJPA = vincular(recibida, destinoJPA);
+                em.persist(enviadaJPA);
+                em.persist(recibidaJPA);
+                SaldoDiarioJPARepository.registrar(em, enviadaJPA);
+                SaldoDiarioJPARepository.registrar(em, recibidaJPA);
+            });
+            JPAConfiguration.confirmarEscritura();
+
+            OperationLogger.logUpdate("Transferencia", enviada.getId(),
+                String.format("Transferencia de %s de %s a %s confirmada",
+                    enviada.getMonto(), cuentaOrigen.getNumeroCuenta(), cuentaDestino.getNumeroCuenta()));
+
+            return List.of(enviada, recibida);
+
+        } catch (InvalidSaldoException | InvalidMontoException |
+                 CuentaNoEncontradaException | OperacionNoValidaException e) {
+            throw e;
+        } catch (PersistenceException e) {
+            OperationLogger.logError("Transferencia", enviada.getId(), "Error de persistencia al registrar", e);
+            throw RepositoryException.operacionFallida("Transferencia", "registrar", e.getMessage());
+        } catch (Exception e) {
+            OperationLogger.logError("Transferencia", enviada.getId(), "Error inesperado al registrar", e);
+            throw RepositoryException.operacionFallida("Transferencia", "registrar", e.getMessage());
+        } finally {
+            alModificarCuenta.accept(cuentaOrigen.getId());
+            alModificarCuenta.accept(cuentaDestino.getId());
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Carga la cuenta en el EntityManager y le asigna el saldo nuevo,
+     * verificando que el saldo persistido coincida con el saldo anterior.
+     *
+     * @param em EntityManager de la transacción en curso
+     * @param cuenta cuenta de dominio ya modificada
+     * @param transaccion transacción que describe el cambio de saldo
+     * @return la entidad JPA gestionada
+     */
+    private CuentaJPAEntity aplicarSaldo(EntityManager em, Cuenta cuenta, Transaccion transaccion) {
+        CuentaJPAEntity cuentaJPA = em.find(CuentaJPAEntity.class, cuenta.getId());
+        if (cuentaJPA == null) {
+            throw CuentaNoEncontradaException.porId(cuenta.getId());
+        }
+
+        if (cuentaJPA.getSaldo().compareTo(transaccion.getSaldoAnterior().getCantidad()) != 0) {
+            OperationLogger.logWarn("Saldo modificado concurrentemente en cuenta: " + cuenta.getNumeroCuenta());
+            throw OperacionNoValidaException.porque(
+                "El saldo de la cuenta " + cuenta.getNumeroCuenta() + " cambió durante la transferencia");
+        }
+
+        cuentaJPA.setSaldo(cuenta.getSaldo().getCantidad());
+        cuentaJPA.setUpdatedAt(cuenta.getFechaActualizacion());
+        return cuentaJPA;
+    }
+
+    /**
+     * Convierte la transacción de dominio y la asocia a la cuenta gestionada.
+     *
+     * @param transaccion transacción de dominio
+     * @param cuentaJPA cuenta gestionada por el EntityManager
+     * @return entidad JPA lista para persistir
+     */
+    private TransaccionJPAEntity vincular(Transaccion transaccion, CuentaJPAEntity cuentaJPA) {
+        TransaccionJPAEntity transaccionJPA = TransaccionJPARepository.domainToJPA(transaccion);
+        transaccionJPA.setCuenta(cuentaJPA);
+        return transaccionJPA;
+    }
+}
@@ -2,10 +2,13 @@ package com.wallet.infrastructure.repositories;
 
 import com.wallet.domain.entities.Usuario;
 import com.wallet.domain.exceptions.*;
+import com.wallet.domain.repositories.ConsultaUsuarios;
 import com.wallet.domain.repositories.IUsuarioRepository;
+import com.wallet.domain.repositories.Pagina;
 import com.wallet.domain.valueobjects.DocumentoIdentidad;
 import com.wallet.domain.valueobjects.Email;
 import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.entities.CuentaJPAEntity;
 import com.wallet.infrastructure.entities.UsuarioJPAEntity;
 import com.wallet.infrastructure.logging.OperationLogger;
 import com.wallet.infrastructure.validation.ValidatorUtil;
@@ -13,10 +16,12 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceException;
 import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Implementación JPA del repositorio de Usuarios.
@@ -29,6 +34,20 @@ import java.util.Optional;
  */
 public class UsuarioJPARepository implements IUsuarioRepository {
 
+    private final Consumer<String> alModificarCuenta;
+
+    public UsuarioJPARepository() {
+        this(id -> { });
+    }
+
+    /**
+     * @param alModificarCuenta recibe el id de cada cuenta borrada junto con
+     *                          su usuario (p. ej. para invalidar una caché)
+     */
+    public UsuarioJPARepository(Consumer<String> alModificarCuenta) {
+        this.alModificarCuenta = alModificarCuenta;
+    }
+
     /**
      * Guarda un usuario nuevo o actualiza uno existente.
      *
@@ -64,18 +83,7 @@ public class UsuarioJPARepository implements IUsuarioRepository {
             em.flush();
             
             em.getTransaction().commit();
-            
-            // Pequeña pausa para asegurar que SQLite sincronice
-            Thread.sleep(100);
-            
-            // Forzar sincronización de SQLite
-            try (java.sql.Connection sqlConn = java.sql.DriverManager.getConnection("jdbc:sqlite:wallet.db");
-                 java.sql.Statement stmt = sqlConn.createStatement()) {
-                stmt.execute("PRAGMA synchronous = FULL");
-                stmt.execute("PRAGMA wal_checkpoint(RESTART)");
-            } catch (Exception e) {
-                // Ignorar errores de sincronización
-            }
+            JPAConfiguration.confirmarEscritura();
 
             // Convertir de vuelta a dominio y retornar
             Usuario usuarioResultado = jpaToDomain(usuarioJPA);
@@ -282,6 +290,56 @@ public class UsuarioJPARepository implements IUsuarioRepository {
         }
     }
 
+    /**
+     * Obtiene una página del listado de usuarios.
+     *
+     * El total se obtiene con COUNT(*) y la página con LIMIT/OFFSET sobre
+     * el mismo filtro; solo se convierten a dominio los usuarios de la
+     * página. El email se guarda en minúsculas, así que el filtro por
+     * email es un LIKE con los comodines del texto escapados.
+     *
+     * @param consulta filtros y página
+     * @return página de usuarios ordenada por nombre y apellido
+     * @throws RepositoryException si ocurre error en BD
+     */
+    @Override
+    public Pagina<Usuario> buscarPagina(ConsultaUsuarios consulta) {
+        EntityManager em = null;
+        try {
+            em = JPAConfiguration.getEntityManager();
+
+            String filtro = construirFiltro(consulta);
+            Query conteo = em.createQuery("SELECT COUNT(u) FROM UsuarioJPAEntity u" + filtro);
+            asignarParametros(conteo, consulta);
+            long total = ((Number) conteo.getSingleResult()).longValue();
+
+            List<Usuario> contenido = new ArrayList<>();
+            if (consulta.getDesplazamiento() < total) {
+                TypedQuery<UsuarioJPAEntity> query = em.createQuery("SELECT u FROM UsuarioJPAEntity u" + filtro
+                    + " ORDER BY u.nombre, u.apellido, u.id", UsuarioJPAEntity.class);
+                asignarParametros(query, consulta);
+                query.setFirstResult(consulta.getDesplazamiento());
+                query.setMaxResults(consulta.getTamano());
+                contenido = convertirListaDominio(query.getResultList());
+            }
+
+            OperationLogger.logRead("Usuario", "pagina",
+                "Página " + consulta.getPagina() + ": " + contenido.size() + " de " + total + " usuarios");
+            return new Pagina<>(contenido, total, consulta.getPagina(), consulta.getTamano());
+
+        } catch (PersistenceException e) {
+            OperationLogger.logError("Usuario", "pagina", "Error de persistencia al buscar página", e);
+            throw RepositoryException.operacionFallida("Usuario", "buscar página", e.getMessage());
+        } catch (Exception e) {
+            OperationLogger.logError("Usuario", "pagina", "Error inesperado al buscar página", e);
+            throw RepositoryException.operacionFallida("Usuario", "buscar página", e.getMessage());
+        } finally {
+            if (em != null) {
+                em.close();
+            }
+        }
+    }
+
     /**
      * Elimina un usuario por su ID.
      *
@@ -292,6 +350,7 @@ public class UsuarioJPARepository implements IUsuarioRepository {
     @Override
     public boolean eliminar(String id) {
         EntityManager em = null;
+        List<String> cuentaIds = new ArrayList<>();
         try {
             em = JPAConfiguration.getEntityManager();
             em.getTransaction().begin();
@@ -304,9 +363,14 @@ public class UsuarioJPARepository implements IUsuarioRepository {
                 return false;
             }
 
+            // Las cuentas caen en cascada, pero sus saldos diarios no tienen FK
+            for (CuentaJPAEntity cuenta : usuario.getCuentas()) {
+                cuentaIds.add(cuenta.getId());
+                SaldoDiarioJPARepository.eliminarPorCuenta(em, cuenta.getId());
+            }
             em.remove(usuario);
-            em.getTransaction().commit();
             em.flush();
+            em.getTransaction().commit();
             
             OperationLogger.logDelete("Usuario", id, "Usuario eliminado exitosamente");
             return true;
@@ -324,6 +388,8 @@ public class UsuarioJPARepository implements IUsuarioRepository {
             OperationLogger.logError("Usuario", id, "Error inesperado al eliminar", e);
             throw RepositoryException.operacionFallida("Usuario", "eliminar", e.getMessage());
         } finally {
+            // Las cuentas se borran sin pasar por su repositorio: se avisa a la caché
+            cuentaIds.forEach(alModificarCuenta);
             if (em != null) {
                 em.close();
             }
@@ -406,6 +472,31 @@ public class UsuarioJPARepository implements IUsuarioRepository {
 
     // ==================== MÉTODOS AUXILIARES ====================
 
+    /**
+     * Arma la cláusula WHERE del listado paginado con los filtros presentes.
+     */
+    private static String construirFiltro(ConsultaUsuarios consulta) {
+        List<String> condiciones = new ArrayList<>();
+        if (consulta.getActivo() != null) {
+            condiciones.add("u.activo = :activo");
+        }
+        if (consulta.getEmailContiene() != null) {
+            condiciones.add("u.email LIKE :email ESCAPE '\\'");
+        }
+        return condiciones.isEmpty() ? "" : " WHERE " + String.join(" AND ", condiciones);
+    }
+
+    private static void asignarParametros(Query query, ConsultaUsuarios consulta) {
+        if (consulta.getActivo() != null) {
+            query.setParameter("activo", consulta.getActivo());
+        }
+        if (consulta.getEmailContiene() != null) {
+            String texto = consulta.getEmailContiene()
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+            query.setParameter("email", "%" + texto + "%");
+        }
+    }
+
     /**
      * Convierte una entidad JPA a entidad de dominio.
      *
@@ -437,7 +528,7 @@ public class UsuarioJPARepository implements IUsuarioRepository {
      * @param usuario entidad de dominio
      * @return entidad JPA
      */
-    private UsuarioJPAEntity domainToJPA(Usuario usuario) {
+    static UsuarioJPAEntity domainToJPA(Usuario usuario) {
         UsuarioJPAEntity usuarioJPA = new UsuarioJPAEntity(
             usuario.getId(),
             usuario.getNombre(),
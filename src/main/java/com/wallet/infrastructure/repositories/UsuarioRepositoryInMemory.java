@@ -1,7 +1,9 @@
 package com.wallet.infrastructure.repositories;
 
 import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.repositories.ConsultaUsuarios;
 import com.wallet.domain.repositories.IUsuarioRepository;
+import com.wallet.domain.repositories.Pagina;
 import com.wallet.domain.valueobjects.DocumentoIdentidad;
 import com.wallet.domain.valueobjects.Email;
 
@@ -73,6 +75,23 @@ public class UsuarioRepositoryInMemory implements IUsuarioRepository {
             .collect(Collectors.toList());
     }
     
+    @Override
+    public Pagina<Usuario> buscarPagina(ConsultaUsuarios consulta) {
+        List<Usuario> filtrados = usuarios.values().stream()
+            .filter(u -> consulta.getActivo() == null || u.isActivo() == consulta.getActivo())
+            .filter(u -> consulta.getEmailContiene() == null
+                || u.getEmail().getValor().contains(consulta.getEmailContiene()))
+            .sorted(Comparator.comparing(Usuario::getNombre)
+                .thenComparing(Usuario::getApellido)
+                .thenComparing(Usuario::getId))
+            .collect(Collectors.toList());
+        List<Usuario> contenido = filtrados.stream()
+            .skip(consulta.getDesplazamiento())
+            .limit(consulta.getTamano())
+            .collect(Collectors.toList());
+        return new Pagina<>(contenido, filtrados.size(), consulta.getPagina(), consulta.getTamano());
+    }
+    
     @Override
     public boolean eliminar(String id) {
         if (id == null || id.trim().isEmpty()) {
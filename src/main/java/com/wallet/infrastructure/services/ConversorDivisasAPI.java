@@ -4,16 +4,17 @@ import com.wallet.domain.services.IConversorDivisas;
 import com.wallet.domain.valueobjects.Dinero;
 import com.wallet.infrastructure.logging.Logger;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
 
 /**
  * Implementación del conversor de divisas usando API pública.
@@ -22,6 +23,23 @@ import java.util.regex.Pattern;
  * API: https://open.er-api.com/v6/latest/{currency}
  * Gratis, sin API key requerida, 1500 requests/mes
  * 
+ * Se descarga una sola tabla, la de la moneda base canónica (USD por
+ * defecto), y cualquier par A→B se deriva de ella con TasasCruzadas.
+ * 
+ * Caché de la tabla, segura entre hilos:
+ * - Tabla vigente (menos de TTL): se usa sin más
+ * - Tabla vencida pero dentro de la obsolescencia máxima: se sigue usando
+ *   mientras un hilo de fondo la refresca (stale-while-revalidate)
+ * - Sin tabla, o más vieja que la obsolescencia máxima: el llamador espera
+ *   la descarga
+ * Hay como mucho una descarga en curso: los llamadores concurrentes
+ * esperan la misma (single-flight) en lugar de lanzar la suya.
+ * 
+ * Cada tabla descargada se copia a disco (InstantaneaTasas) y se carga
+ * al crear el conversor, con su momento de descarga original: al
+ * arrancar, o sin conexión, se usan las últimas tasas conocidas mientras
+ * no superen la obsolescencia máxima.
+ * 
  * Principios aplicados:
  * - SRP: Solo responsable de conversión de divisas
  * - DIP: Implementa interfaz del dominio
@@ -29,25 +47,75 @@ import java.util.regex.Pattern;
 public class ConversorDivisasAPI implements IConversorDivisas {
     
     private static final String API_URL = "https://open.er-api.com/v6/latest/";
+    private static final String MONEDA_BASE = "USD";
     private static final int TIMEOUT_MS = 5000;
-    private static final int CACHE_DURATION_MS = 3600000; // 1 hora
+    private static final long CACHE_DURATION_MS = 3600000; // 1 hora
+    private static final long MAX_OBSOLESCENCIA_MS = 86400000; // 24 horas
+    private static final String INSTANTANEA = "wallet_tasas.tsv";
+    
+    private final String apiUrl;
+    private final String monedaBase;
+    private final long ttlMs;
+    private final long maxObsolescenciaMs;
+    private final LongSupplier reloj;
+    private final InstantaneaTasas instantanea;
+    private final AtomicReference<CachedRate> cache = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<CachedRate>> descargaEnCurso = new AtomicReference<>();
+    private final Executor refrescos;
+    
+    /**
+     * Crea el conversor con -Dwallet.divisas.url, -Dwallet.divisas.base,
+     * -Dwallet.divisas.ttlMs, -Dwallet.divisas.maxObsolescenciaMs y
+     * -Dwallet.divisas.instantanea (vacía, sin copia en disco).
+     */
+    public ConversorDivisasAPI() {
+        this(System.getProperty("wallet.divisas.url", API_URL),
+            System.getProperty("wallet.divisas.base", MONEDA_BASE),
+            Long.getLong("wallet.divisas.ttlMs", CACHE_DURATION_MS),
+            Long.getLong("wallet.divisas.maxObsolescenciaMs", MAX_OBSOLESCENCIA_MS),
+            System::currentTimeMillis,
+            rutaInstantanea(System.getProperty("wallet.divisas.instantanea", INSTANTANEA)));
+    }
     
-    private final Map<String, CachedRate> cache = new HashMap<>();
+    /**
+     * @param apiUrl URL a la que se agrega el código de la moneda base
+     * @param monedaBase moneda de la única tabla que se descarga
+     * @param ttlMs edad a partir de la cual la tabla se refresca
+     * @param maxObsolescenciaMs edad a partir de la cual la tabla ya no se usa
+     * @param reloj milisegundos actuales (epoch, como los de la copia en disco)
+     * @param instantanea archivo de la copia en disco, o null para no usarla
+     * @throws IllegalArgumentException si la base no es válida o los tiempos son inconsistentes
+     */
+    ConversorDivisasAPI(String apiUrl, String monedaBase, long ttlMs, long maxObsolescenciaMs,
+                        LongSupplier reloj, Path instantanea) {
+        validarMoneda(monedaBase);
+        if (ttlMs < 0 || maxObsolescenciaMs < ttlMs) {
+            throw new IllegalArgumentException("Se requiere 0 <= TTL <= obsolescencia máxima");
+        }
+        this.apiUrl = apiUrl;
+        this.monedaBase = monedaBase;
+        this.ttlMs = ttlMs;
+        this.maxObsolescenciaMs = maxObsolescenciaMs;
+        this.reloj = reloj;
+        this.instantanea = instantanea == null ? null : new InstantaneaTasas(instantanea);
+        cargarInstantanea();
+        this.refrescos = Executors.newSingleThreadExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "wallet-divisas-refresco");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+    }
     
     /**
-     * Clase interna para cachear tasas de cambio.
+     * Tabla de tasas descargada y su momento de descarga.
      */
     private static class CachedRate {
-        final Map<String, Double> rates;
+        final TasasCruzadas tasas;
         final long timestamp;
         
-        CachedRate(Map<String, Double> rates) {
-            this.rates = rates;
-            this.timestamp = System.currentTimeMillis();
-        }
-        
-        boolean isExpired() {
-            return System.currentTimeMillis() - timestamp > CACHE_DURATION_MS;
+        CachedRate(TasasCruzadas tasas, long timestamp) {
+            this.tasas = tasas;
+            this.timestamp = timestamp;
         }
     }
     
@@ -60,24 +128,7 @@ public class ConversorDivisasAPI implements IConversorDivisas {
             return 1.0;
         }
         
-        try {
-            Map<String, Double> rates = obtenerTasas(monedaOrigen);
-            
-            if (!rates.containsKey(monedaDestino)) {
-                throw new IllegalArgumentException(
-                    "Moneda destino no soportada: " + monedaDestino
-                );
-            }
-            
-            return rates.get(monedaDestino);
-            
-        } catch (Exception e) {
-            Logger.error("Error obteniendo tasa de cambio: " + e.getMessage());
-            throw new RuntimeException(
-                "No se pudo obtener la tasa de cambio. Verifique su conexión a internet.", 
-                e
-            );
-        }
+        return obtenerTablaONotificar().tasa(monedaOrigen, monedaDestino).doubleValue();
     }
     
     @Override
@@ -92,26 +143,54 @@ public class ConversorDivisasAPI implements IConversorDivisas {
             return dinero;
         }
         
-        double tasaCambio = obtenerTasaCambio(dinero.getMoneda(), monedaDestino);
-        
-        BigDecimal cantidadConvertida = dinero.getCantidad()
-            .multiply(BigDecimal.valueOf(tasaCambio))
-            .setScale(2, RoundingMode.HALF_UP);
+        TasasCruzadas tasas = obtenerTablaONotificar();
+        BigDecimal cantidadConvertida = tasas.convertir(
+            dinero.getCantidad(), dinero.getMoneda(), monedaDestino, 2);
         
-        Logger.info(String.format(
+        Logger.info(() -> String.format(
             "Conversión: %s %s → %s %s (Tasa: %.4f)",
             dinero.getCantidad(), dinero.getMoneda(),
             cantidadConvertida, monedaDestino,
-            tasaCambio
+            tasas.tasa(dinero.getMoneda(), monedaDestino)
         ));
         
         return new Dinero(cantidadConvertida, monedaDestino);
     }
     
+    /**
+     * Descarga la tabla sin mirar la caché, o espera la descarga que ya
+     * esté en curso. Lo usa RefrescoTasasDivisas para renovarla antes de
+     * que venza.
+     *
+     * @throws Exception si la descarga falla; la tabla anterior se conserva
+     */
+    void refrescar() throws Exception {
+        try {
+            descargar(false).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+    }
+    
+    /**
+     * @return edad a partir de la cual la tabla se refresca
+     */
+    long getTtlMs() {
+        return ttlMs;
+    }
+    
+    /**
+     * @return edad de la tabla en caché en milisegundos, o -1 si no hay tabla
+     */
+    long getEdadTablaMs() {
+        CachedRate cached = cache.get();
+        return cached == null ? -1 : reloj.getAsLong() - cached.timestamp;
+    }
+    
     @Override
     public boolean estaDisponible() {
         try {
-            obtenerTasas("USD");
+            obtenerTasas();
             return true;
         } catch (Exception e) {
             return false;
@@ -119,31 +198,104 @@ public class ConversorDivisasAPI implements IConversorDivisas {
     }
     
     /**
-     * Obtiene las tasas de cambio desde la API o caché.
+     * Obtiene la tabla; un fallo de descarga se registra y se informa como
+     * RuntimeException.
+     */
+    private TasasCruzadas obtenerTablaONotificar() {
+        try {
+            return obtenerTasas();
+        } catch (Exception e) {
+            Logger.error("Error obteniendo tasa de cambio: {}", e.getMessage());
+            throw new RuntimeException(
+                "No se pudo obtener la tasa de cambio. Verifique su conexión a internet.", 
+                e
+            );
+        }
+    }
+    
+    /**
+     * Obtiene la tabla de tasas desde la caché o, si hace falta, desde la
+     * API.
      */
-    private Map<String, Double> obtenerTasas(String monedaBase) throws Exception {
-        // Verificar caché
-        CachedRate cached = cache.get(monedaBase);
-        if (cached != null && !cached.isExpired()) {
-            Logger.info("Usando tasas de cambio desde caché para " + monedaBase);
-            return cached.rates;
+    private TasasCruzadas obtenerTasas() throws Exception {
+        CachedRate cached = cache.get();
+        if (cached != null) {
+            long edad = reloj.getAsLong() - cached.timestamp;
+            if (edad <= ttlMs) {
+                return cached.tasas;
+            }
+            if (edad <= maxObsolescenciaMs) {
+                Logger.debug("Tasas de {} vencidas hace {} ms, refrescando en segundo plano",
+                    monedaBase, edad - ttlMs);
+                descargar(true);
+                return cached.tasas;
+            }
         }
         
-        // Obtener desde API
-        Logger.info("Obteniendo tasas de cambio desde API para " + monedaBase);
-        Map<String, Double> rates = fetchRatesFromAPI(monedaBase);
-        
-        // Guardar en caché
-        cache.put(monedaBase, new CachedRate(rates));
+        refrescar();
+        return cache.get().tasas;
+    }
+    
+    /**
+     * Inicia la descarga de la tabla, o se une a la que ya está en curso.
+     * Quien la inicia la ejecuta en su propio hilo (si va a esperarla) o
+     * en el hilo de refrescos.
+     */
+    private CompletableFuture<CachedRate> descargar(boolean enSegundoPlano) {
+        CompletableFuture<CachedRate> nueva = new CompletableFuture<>();
+        CompletableFuture<CachedRate> enCurso = descargaEnCurso.compareAndExchange(null, nueva);
+        if (enCurso != null) {
+            return enCurso;
+        }
         
-        return rates;
+        Runnable descarga = () -> {
+            try {
+                Logger.info("Obteniendo tasas de cambio desde API para {}", monedaBase);
+                CachedRate tabla = new CachedRate(fetchRatesFromAPI(monedaBase), reloj.getAsLong());
+                cache.set(tabla);
+                descargaEnCurso.set(null);
+                if (instantanea != null) {
+                    instantanea.guardar(tabla.tasas, tabla.timestamp);
+                }
+                nueva.complete(tabla);
+            } catch (Throwable e) {
+                descargaEnCurso.set(null);
+                if (enSegundoPlano) {
+                    Logger.warning("No se pudieron refrescar las tasas de {}: {}", monedaBase, e.getMessage());
+                }
+                nueva.completeExceptionally(e);
+            }
+        };
+        if (enSegundoPlano) {
+            refrescos.execute(descarga);
+        } else {
+            descarga.run();
+        }
+        return nueva;
+    }
+    
+    private void cargarInstantanea() {
+        if (instantanea == null) {
+            return;
+        }
+        instantanea.leer(reloj.getAsLong())
+            .filter(leida -> leida.tasas.getBase().equals(monedaBase))
+            .ifPresent(leida -> {
+                cache.set(new CachedRate(leida.tasas, leida.timestamp));
+                Logger.info("Tasas de {} cargadas de disco ({} monedas)", monedaBase, leida.tasas.size());
+            });
+    }
+    
+    private static Path rutaInstantanea(String ruta) {
+        return ruta.isBlank() ? null : Path.of(ruta);
     }
     
     /**
-     * Realiza la petición HTTP a la API.
+     * Realiza la petición HTTP a la API y lee la respuesta a medida que
+     * llega, con LectorTasasJson.
      */
-    private Map<String, Double> fetchRatesFromAPI(String monedaBase) throws Exception {
-        String urlString = API_URL + monedaBase;
+    private TasasCruzadas fetchRatesFromAPI(String monedaBase) throws Exception {
+        String urlString = apiUrl + monedaBase;
         URL url = new URL(urlString);
         
         HttpURLConnection conn = (HttpURLConnection) url.openConnection();
@@ -159,57 +311,14 @@ public class ConversorDivisasAPI implements IConversorDivisas {
             );
         }
         
-        BufferedReader in = new BufferedReader(
-            new InputStreamReader(conn.getInputStream())
-        );
-        
-        StringBuilder response = new StringBuilder();
-        String inputLine;
-        
-        while ((inputLine = in.readLine()) != null) {
-            response.append(inputLine);
-        }
-        in.close();
-        conn.disconnect();
-        
-        return parseJSON(response.toString());
-    }
-    
-    /**
-     * Parse simple del JSON (sin librerías externas).
-     * Busca el objeto "rates" y extrae los pares clave-valor.
-     */
-    private Map<String, Double> parseJSON(String json) {
-        Map<String, Double> rates = new HashMap<>();
-        
-        // Buscar el objeto "rates"
-        Pattern ratesPattern = Pattern.compile("\"rates\"\\s*:\\s*\\{([^}]+)\\}");
-        Matcher ratesMatcher = ratesPattern.matcher(json);
-        
-        if (!ratesMatcher.find()) {
-            throw new RuntimeException("Formato de respuesta JSON inválido");
-        }
-        
-        String ratesContent = ratesMatcher.group(1);
-        
-        // Extraer cada par "MONEDA": valor
-        Pattern pairPattern = Pattern.compile("\"([A-Z]{3})\"\\s*:\\s*([0-9.]+)");
-        Matcher pairMatcher = pairPattern.matcher(ratesContent);
-        
-        while (pairMatcher.find()) {
-            String currency = pairMatcher.group(1);
-            double rate = Double.parseDouble(pairMatcher.group(2));
-            rates.put(currency, rate);
+        try (InputStream in = conn.getInputStream()) {
+            return LectorTasasJson.leer(in, monedaBase);
+        } finally {
+            conn.disconnect();
         }
-        
-        if (rates.isEmpty()) {
-            throw new RuntimeException("No se pudieron extraer tasas de cambio");
-        }
-        
-        return rates;
     }
     
-    private void validarMoneda(String moneda) {
+    private static void validarMoneda(String moneda) {
         if (moneda == null || moneda.trim().isEmpty()) {
             throw new IllegalArgumentException("La moneda no puede estar vacía");
         }
@@ -15,7 +15,6 @@ import com.wallet.infrastructure.logging.Logger;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Servicio de Cuentas (Facade Pattern).
@@ -36,8 +35,9 @@ public class CuentaService {
         var transaccionRepo = RepositoryFactory.getTransaccionRepository();
         
         this.crearCuentaUseCase = new CrearCuentaUseCase(cuentaRepo, usuarioRepo);
-        this.depositarDineroUseCase = new DepositarDineroUseCase(cuentaRepo, transaccionRepo);
-        this.retirarDineroUseCase = new RetirarDineroUseCase(cuentaRepo, transaccionRepo);
+        var movimientoLedger = RepositoryFactory.getMovimientoLedger().orElse(null);
+        this.depositarDineroUseCase = new DepositarDineroUseCase(cuentaRepo, transaccionRepo, movimientoLedger);
+        this.retirarDineroUseCase = new RetirarDineroUseCase(cuentaRepo, transaccionRepo, movimientoLedger);
         this.consultarSaldoUseCase = new ConsultarSaldoUseCase(cuentaRepo);
     }
     
@@ -45,11 +45,11 @@ public class CuentaService {
      * Crea una nueva cuenta para un usuario.
      */
     public CuentaDTO crearCuenta(String usuarioId) {
-        Logger.info("Creando cuenta para usuario: " + usuarioId);
+        Logger.info("Creando cuenta para usuario: {}", usuarioId);
         
         try {
             CuentaDTO cuenta = crearCuentaUseCase.ejecutar(usuarioId);
-            Logger.info("Cuenta creada exitosamente: " + cuenta.getNumeroCuenta());
+            Logger.info("Cuenta creada exitosamente: {}", cuenta.getNumeroCuenta());
             return cuenta;
         } catch (Exception e) {
             Logger.error("Error al crear cuenta", e);
@@ -61,7 +61,7 @@ public class CuentaService {
      * Crea una nueva cuenta buscando usuario por email.
      */
     public CuentaDTO crearCuentaPorEmail(String email) {
-        Logger.info("Creando cuenta para usuario con email: " + email);
+        Logger.info("Creando cuenta para usuario con email: {}", email);
         
         try {
             // Buscar usuario por email
@@ -74,7 +74,7 @@ public class CuentaService {
             
             Usuario usuario = usuarioOpt.get();
             CuentaDTO cuenta = crearCuentaUseCase.ejecutar(usuario.getId());
-            Logger.info("Cuenta creada exitosamente: " + cuenta.getNumeroCuenta());
+            Logger.info("Cuenta creada exitosamente: {}", cuenta.getNumeroCuenta());
             return cuenta;
         } catch (Exception e) {
             Logger.error("Error al crear cuenta", e);
@@ -86,7 +86,7 @@ public class CuentaService {
      * Deposita dinero en una cuenta.
      */
     public TransaccionDTO depositar(DepositarDineroRequest request) {
-        Logger.info("Depositando $" + request.getMonto() + " en cuenta: " + request.getCuentaId());
+        Logger.info("Depositando ${} en cuenta: {}", request.getMonto(), request.getCuentaId());
         
         try {
             TransaccionDTO transaccion = depositarDineroUseCase.ejecutar(request);
@@ -102,7 +102,7 @@ public class CuentaService {
      * Deposita dinero en una cuenta usando el número de cuenta.
      */
     public TransaccionDTO depositarPorNumero(String numeroCuenta, BigDecimal monto, String descripcion) {
-        Logger.info("Depositando $" + monto + " en cuenta: " + numeroCuenta);
+        Logger.info("Depositando ${} en cuenta: {}", monto, numeroCuenta);
         
         try {
             // Buscar cuenta por número para obtener el ID
@@ -133,7 +133,7 @@ public class CuentaService {
      * Retira dinero de una cuenta.
      */
     public TransaccionDTO retirar(RetirarDineroRequest request) {
-        Logger.info("Retirando $" + request.getMonto() + " de cuenta: " + request.getCuentaId());
+        Logger.info("Retirando ${} de cuenta: {}", request.getMonto(), request.getCuentaId());
         
         try {
             TransaccionDTO transaccion = retirarDineroUseCase.ejecutar(request);
@@ -149,7 +149,7 @@ public class CuentaService {
      * Retira dinero de una cuenta usando el número de cuenta.
      */
     public TransaccionDTO retirarPorNumero(String numeroCuenta, BigDecimal monto, String descripcion) {
-        Logger.info("Retirando $" + monto + " de cuenta: " + numeroCuenta);
+        Logger.info("Retirando ${} de cuenta: {}", monto, numeroCuenta);
         
         try {
             // Buscar cuenta por número para obtener el ID
@@ -180,7 +180,7 @@ public class CuentaService {
      * Consulta el saldo de una cuenta.
      */
     public CuentaDTO consultarSaldo(String numeroCuenta) {
-        Logger.debug("Consultando saldo de cuenta: " + numeroCuenta);
+        Logger.debug("Consultando saldo de cuenta: {}", numeroCuenta);
         
         return consultarSaldoUseCase.ejecutarPorNumero(numeroCuenta);
     }
@@ -189,7 +189,7 @@ public class CuentaService {
      * Busca una cuenta por número.
      */
     public Optional<CuentaDTO> buscarPorNumeroCuenta(String numeroCuenta) {
-        Logger.debug("Buscando cuenta: " + numeroCuenta);
+        Logger.debug("Buscando cuenta: {}", numeroCuenta);
         
         Optional<Cuenta> cuenta = RepositoryFactory.getCuentaRepository()
             .buscarPorNumeroCuenta(numeroCuenta);
@@ -200,25 +200,17 @@ public class CuentaService {
      * Busca cuentas por usuario.
      */
     public List<CuentaDTO> buscarPorUsuario(String usuarioId) {
-        Logger.debug("Buscando cuentas del usuario: " + usuarioId);
+        Logger.debug("Buscando cuentas del usuario: {}", usuarioId);
         
-        return RepositoryFactory.getCuentaRepository()
-            .buscarPorUsuarioId(usuarioId)
-            .stream()
-            .map(CuentaMapper::toDTO)
-            .collect(Collectors.toList());
+        return RepositoryFactory.getCuentaLecturas().listarPorUsuario(usuarioId);
     }
     
     /**
      * Obtiene todas las cuentas activas de un usuario.
      */
     public List<CuentaDTO> obtenerCuentasActivas(String usuarioId) {
-        Logger.debug("Obteniendo cuentas activas del usuario: " + usuarioId);
+        Logger.debug("Obteniendo cuentas activas del usuario: {}", usuarioId);
         
-        return RepositoryFactory.getCuentaRepository()
-            .obtenerActivasPorUsuario(usuarioId)
-            .stream()
-            .map(CuentaMapper::toDTO)
-            .collect(Collectors.toList());
+        return RepositoryFactory.getCuentaLecturas().listarActivasPorUsuario(usuarioId);
     }
 }
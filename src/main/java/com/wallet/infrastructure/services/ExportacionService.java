@@ -0,0 +1,238 @@
+package com.wallet.infrastructure.services;
+
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.logging.Logger;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Servicio de exportación del historial completo de una cuenta (extracto).
+ *
+ * Las transacciones se leen con un cursor de la base de datos y se escriben
+ * una a una en la salida a medida que llegan: nunca se arma una lista ni el
+ * documento completo en memoria, así que el consumo es el mismo para diez
+ * filas que para millones.
+ */
+public class ExportacionService {
+
+    private static final int TAMANO_BUFFER = 64 * 1024;
+
+    /**
+     * Formatos de exportación disponibles.
+     */
+    public enum Formato {
+        CSV("text/csv", "csv"),
+        JSON("application/json", "json");
+
+        private final String contentType;
+        private final String extension;
+
+        Formato(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * @param valor nombre del formato, sin distinguir mayúsculas
+         * @return el formato
+         * @throws IllegalArgumentException si no es un formato conocido
+         */
+        public static Formato desde(String valor) {
+            if (valor == null || valor.isBlank()) {
+                throw new IllegalArgumentException("El formato de exportación es requerido");
+            }
+            try {
+                return valueOf(valor.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Formato de exportación no soportado: " + valor);
+            }
+        }
+    }
+
+    /**
+     * Exporta el historial de una cuenta a un flujo (p. ej. la respuesta
+     * HTTP). El flujo se vacía pero no se cierra.
+     *
+     * @param numeroCuenta número de la cuenta
+     * @param formato CSV o JSON
+     * @param salida flujo de destino
+     * @return cantidad de transacciones exportadas
+     * @throws CuentaNoEncontradaException si la cuenta no existe
+     * @throws IOException si falla la escritura
+     */
+    public long exportar(String numeroCuenta, Formato formato, OutputStream salida) throws IOException {
+        Cuenta cuenta = RepositoryFactory.getCuentaRepository()
+            .buscarPorNumeroCuenta(numeroCuenta)
+            .orElseThrow(() -> CuentaNoEncontradaException.porNumero(numeroCuenta));
+
+        Logger.info("Exportando historial de cuenta {} en {}", numeroCuenta, formato);
+        Writer escritor = new BufferedWriter(new OutputStreamWriter(salida, StandardCharsets.UTF_8), TAMANO_BUFFER);
+        long total;
+        try {
+            total = formato == Formato.CSV ? escribirCsv(cuenta, escritor) : escribirJson(cuenta, escritor);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        escritor.flush();
+        Logger.info("Exportadas {} transacciones de la cuenta {}", total, numeroCuenta);
+        return total;
+    }
+
+    /**
+     * Exporta el historial de una cuenta a un archivo, que se crea o se
+     * reemplaza.
+     *
+     * @param numeroCuenta número de la cuenta
+     * @param formato CSV o JSON
+     * @param archivo ruta del archivo de destino
+     * @return cantidad de transacciones exportadas
+     * @throws CuentaNoEncontradaException si la cuenta no existe
+     * @throws IOException si falla la escritura
+     */
+    public long exportar(String numeroCuenta, Formato formato, Path archivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             OutputStream salida = Channels.newOutputStream(canal)) {
+            return exportar(numeroCuenta, formato, salida);
+        }
+    }
+
+    // ==================== FORMATOS ====================
+
+    private static long escribirCsv(Cuenta cuenta, Writer escritor) throws IOException {
+        escritor.write("id,fecha,tipo,monto,moneda,descripcion,cuenta_destino\r\n");
+        return RepositoryFactory.getTransaccionLecturas().listarTodas(cuenta.getId(), t -> {
+            try {
+                escritor.write(t.getId());
+                escritor.write(',');
+                escritor.write(t.getFecha().toString());
+                escritor.write(',');
+                escritor.write(t.getTipo());
+                escritor.write(',');
+                escritor.write(t.getMonto().toPlainString());
+                escritor.write(',');
+                escritor.write(t.getMoneda());
+                escritor.write(',');
+                campoCsv(escritor, t.getDescripcion());
+                escritor.write(',');
+                campoCsv(escritor, t.getCuentaDestinoId());
+                escritor.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static long escribirJson(Cuenta cuenta, Writer escritor) throws IOException {
+        escritor.write("{\"numeroCuenta\":");
+        cadenaJson(escritor, cuenta.getNumeroCuenta());
+        escritor.write(",\"moneda\":");
+        cadenaJson(escritor, cuenta.getSaldo().getMoneda());
+        escritor.write(",\"transacciones\":[");
+        boolean[] primera = {true};
+        long total = RepositoryFactory.getTransaccionLecturas().listarTodas(cuenta.getId(), t -> {
+            try {
+                escritor.write(primera[0] ? "\n{" : ",\n{");
+                primera[0] = false;
+                escribirTransaccionJson(escritor, t);
+                escritor.write('}');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        escritor.write("\n],\"total\":");
+        escritor.write(Long.toString(total));
+        escritor.write("}\n");
+        return total;
+    }
+
+    private static void escribirTransaccionJson(Writer escritor, TransaccionDTO t) throws IOException {
+        escritor.write("\"id\":");
+        cadenaJson(escritor, t.getId());
+        escritor.write(",\"fecha\":");
+        cadenaJson(escritor, t.getFecha().toString());
+        escritor.write(",\"tipo\":");
+        cadenaJson(escritor, t.getTipo());
+        escritor.write(",\"monto\":");
+        escritor.write(t.getMonto().toPlainString());
+        escritor.write(",\"moneda\":");
+        cadenaJson(escritor, t.getMoneda());
+        escritor.write(",\"descripcion\":");
+        cadenaJson(escritor, t.getDescripcion());
+        escritor.write(",\"cuentaDestino\":");
+        cadenaJson(escritor, t.getCuentaDestinoId());
+    }
+
+    /**
+     * Escribe un campo CSV (RFC 4180): entre comillas solo si contiene
+     * separador, comillas o saltos de línea; vacío si es null.
+     */
+    static void campoCsv(Writer escritor, String valor) throws IOException {
+        if (valor == null) {
+            return;
+        }
+        boolean citar = false;
+        for (int i = 0; i < valor.length() && !citar; i++) {
+            char c = valor.charAt(i);
+            citar = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!citar) {
+            escritor.write(valor);
+            return;
+        }
+        escritor.write('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '"') {
+                escritor.write('"');
+            }
+            escritor.write(c);
+        }
+        escritor.write('"');
+    }
+
+    /**
+     * Escribe una cadena JSON entre comillas, escapando lo necesario, o null.
+     */
+    static void cadenaJson(Writer escritor, String valor) throws IOException {
+        if (valor == null) {
+            escritor.write("null");
+            return;
+        }
+        escritor.write('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            if (c == '"' || c == '\\') {
+                escritor.write('\\');
+                escritor.write(c);
+            } else if (c < 0x20) {
+                escritor.write(String.format("\\u%04x", (int) c));
+            } else {
+                escritor.write(c);
+            }
+        }
+        escritor.write('"');
+    }
+}
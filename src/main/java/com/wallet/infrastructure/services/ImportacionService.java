@@ -0,0 +1,283 @@
+package com.wallet.infrastructure.services;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.exceptions.RepositoryException;
+import com.wallet.domain.repositories.IImportacionRepository;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.logging.Logger;
+import com.wallet.infrastructure.validation.ValidatorUtil;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Servicio de importación masiva de usuarios desde CSV, cada uno con una
+ * cuenta nueva.
+ *
+ * El archivo se lee fila a fila y se procesa por lotes: cada fila se
+ * valida con ValidatorUtil y contra las anteriores del archivo, los
+ * duplicados con la BD se buscan con una consulta por lote y los usuarios
+ * válidos se insertan en una sola transacción. Una fila con errores no
+ * detiene la importación: se informa con su número de línea.
+ *
+ * Formato (cabecera obligatoria, columnas en cualquier orden):
+ * nombre,apellido,email,tipo_documento,documento
+ */
+public class ImportacionService {
+
+    static final List<String> COLUMNAS = List.of("nombre", "apellido", "email", "tipo_documento", "documento");
+
+    private static final int TAMANO_LOTE = 500;
+
+    private final IImportacionRepository importacionRepository;
+
+    public ImportacionService() {
+        this(RepositoryFactory.getImportacionRepository());
+    }
+
+    public ImportacionService(IImportacionRepository importacionRepository) {
+        if (importacionRepository == null) {
+            throw new IllegalArgumentException("El repositorio de importación no puede ser nulo");
+        }
+        this.importacionRepository = importacionRepository;
+    }
+
+    /**
+     * Error de una fila del archivo.
+     */
+    public static final class ErrorFila {
+        private final int linea;
+        private final String mensaje;
+
+        ErrorFila(int linea, String mensaje) {
+            this.linea = linea;
+            this.mensaje = mensaje;
+        }
+
+        public int getLinea() {
+            return linea;
+        }
+
+        public String getMensaje() {
+            return mensaje;
+        }
+
+        @Override
+        public String toString() {
+            return "Línea " + linea + ": " + mensaje;
+        }
+    }
+
+    /**
+     * Resultado de una importación.
+     */
+    public static final class Resultado {
+        private long filas;
+        private long usuariosCreados;
+        private final List<ErrorFila> errores = new ArrayList<>();
+        private long milisegundos;
+
+        public long getFilas() {
+            return filas;
+        }
+
+        /**
+         * @return usuarios creados; cada uno con una cuenta
+         */
+        public long getUsuariosCreados() {
+            return usuariosCreados;
+        }
+
+        public List<ErrorFila> getErrores() {
+            return Collections.unmodifiableList(errores);
+        }
+
+        public long getMilisegundos() {
+            return milisegundos;
+        }
+
+        void error(int linea, String mensaje) {
+            errores.add(new ErrorFila(linea, mensaje));
+        }
+    }
+
+    /**
+     * Importa los usuarios de un CSV.
+     *
+     * @param entrada contenido CSV; no se cierra
+     * @return filas leídas, usuarios creados y errores por fila
+     * @throws IllegalArgumentException si la cabecera no tiene las columnas requeridas
+     * @throws IOException si falla la lectura o el CSV está mal formado
+     */
+    public Resultado importar(Reader entrada) throws IOException {
+        long inicio = System.nanoTime();
+        LectorCsv csv = new LectorCsv(entrada);
+        List<String> cabecera = csv.leerFila();
+        Map<String, Integer> columnas = leerCabecera(cabecera);
+        int campos = cabecera.size();
+
+        Resultado resultado = new Resultado();
+        Set<String> emailsVistos = new HashSet<>();
+        Set<String> documentosVistos = new HashSet<>();
+        List<Pendiente> lote = new ArrayList<>(TAMANO_LOTE);
+
+        List<String> fila;
+        while ((fila = csv.leerFila()) != null) {
+            resultado.filas++;
+            int linea = csv.getLineaFila();
+            try {
+                Usuario usuario = validar(fila, columnas, campos);
+                if (!emailsVistos.add(usuario.getEmail().getValor())) {
+                    resultado.error(linea, "Email repetido en el archivo: " + usuario.getEmail().getValor());
+                } else if (!documentosVistos.add(usuario.getDocumentoIdentidad().getNumero())) {
+                    resultado.error(linea, "Documento repetido en el archivo: "
+                        + usuario.getDocumentoIdentidad().getNumero());
+                } else {
+                    lote.add(new Pendiente(linea, usuario));
+                }
+            } catch (RuntimeException e) {
+                resultado.error(linea, e.getMessage());
+            }
+
+            if (lote.size() == TAMANO_LOTE) {
+                registrarLote(lote, resultado);
+                lote.clear();
+            }
+        }
+        registrarLote(lote, resultado);
+
+        resultado.milisegundos = (System.nanoTime() - inicio) / 1_000_000;
+        Logger.info("Importación: {} filas, {} usuarios creados, {} errores en {} ms",
+            resultado.filas, resultado.usuariosCreados, resultado.errores.size(), resultado.milisegundos);
+        return resultado;
+    }
+
+    /**
+     * Importa los usuarios de un archivo CSV en UTF-8.
+     *
+     * @see #importar(Reader)
+     */
+    public Resultado importar(Path archivo) throws IOException {
+        try (Reader entrada = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            return importar(entrada);
+        }
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static Map<String, Integer> leerCabecera(List<String> cabecera) {
+        if (cabecera == null) {
+            throw new IllegalArgumentException("El archivo está vacío");
+        }
+        Map<String, Integer> columnas = new HashMap<>();
+        for (int i = 0; i < cabecera.size(); i++) {
+            // Sin BOM: algunos editores lo agregan al guardar en UTF-8
+            String nombre = cabecera.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columnas.putIfAbsent(nombre, i);
+        }
+        List<String> faltantes = COLUMNAS.stream()
+            .filter(c -> !columnas.containsKey(c))
+            .collect(Collectors.toList());
+        if (!faltantes.isEmpty()) {
+            throw new IllegalArgumentException("Faltan columnas en la cabecera: " + String.join(", ", faltantes));
+        }
+        return columnas;
+    }
+
+    private static Usuario validar(List<String> fila, Map<String, Integer> columnas, int esperados) {
+        if (fila.size() != esperados) {
+            throw new IllegalArgumentException(
+                String.format("Se esperaban %d campos y hay %d", esperados, fila.size()));
+        }
+        String nombre = campo(fila, columnas, "nombre");
+        String apellido = campo(fila, columnas, "apellido");
+        String email = campo(fila, columnas, "email");
+        String tipo = campo(fila, columnas, "tipo_documento").toUpperCase(Locale.ROOT);
+        String documento = campo(fila, columnas, "documento");
+
+        ValidatorUtil.validarNombre(nombre);
+        ValidatorUtil.validarEmail(email);
+        ValidatorUtil.validarDocumento(documento, tipo);
+
+        return new Usuario(nombre, apellido, new Email(email),
+            new DocumentoIdentidad(documento, DocumentoIdentidad.TipoDocumento.valueOf(tipo)));
+    }
+
+    private static String campo(List<String> fila, Map<String, Integer> columnas, String nombre) {
+        return fila.get(columnas.get(nombre)).trim();
+    }
+
+    /**
+     * Descarta las filas que ya existen en la BD y registra el resto en
+     * una transacción. Si el lote falla (p. ej. otro proceso insertó un
+     * duplicado entretanto), se reintenta fila por fila para saber cuáles
+     * fallan.
+     */
+    private void registrarLote(List<Pendiente> lote, Resultado resultado) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        Set<String> emailsExistentes = importacionRepository.buscarEmailsExistentes(
+            lote.stream().map(p -> p.usuario.getEmail().getValor()).collect(Collectors.toList()));
+        Set<String> documentosExistentes = importacionRepository.buscarDocumentosExistentes(
+            lote.stream().map(p -> p.usuario.getDocumentoIdentidad().getNumero()).collect(Collectors.toList()));
+
+        List<Pendiente> nuevos = new ArrayList<>(lote.size());
+        for (Pendiente pendiente : lote) {
+            String email = pendiente.usuario.getEmail().getValor();
+            String documento = pendiente.usuario.getDocumentoIdentidad().getNumero();
+            if (emailsExistentes.contains(email)) {
+                resultado.error(pendiente.linea, "Ya existe un usuario con el email: " + email);
+            } else if (documentosExistentes.contains(documento)) {
+                resultado.error(pendiente.linea, "Ya existe un usuario con el documento: " + documento);
+            } else {
+                nuevos.add(pendiente);
+            }
+        }
+        if (nuevos.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Cuenta> cuentas = importacionRepository.registrarConCuenta(
+                nuevos.stream().map(p -> p.usuario).collect(Collectors.toList()));
+            resultado.usuariosCreados += cuentas.size();
+        } catch (RepositoryException e) {
+            Logger.warning("Lote de {} usuarios rechazado, reintentando fila por fila: {}",
+                nuevos.size(), e.getMessage());
+            for (Pendiente pendiente : nuevos) {
+                try {
+                    importacionRepository.registrarConCuenta(List.of(pendiente.usuario));
+                    resultado.usuariosCreados++;
+                } catch (RepositoryException errorFila) {
+                    resultado.error(pendiente.linea, errorFila.getMessage());
+                }
+            }
+        }
+    }
+
+    private static final class Pendiente {
+        final int linea;
+        final Usuario usuario;
+
+        Pendiente(int linea, Usuario usuario) {
+            this.linea = linea;
+            this.usuario = usuario;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.wallet.infrastructure.services;
+
+import com.wallet.infrastructure.logging.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Copia en disco de la última tabla de tasas descargada, para arrancar
+ * con tasas conocidas y seguir convirtiendo sin conexión.
+ *
+ * Formato de texto, una línea por moneda separada por tabuladores:
+ * <pre>
+ * USD	1718000000000      (moneda base y momento de descarga, epoch ms)
+ * EUR	0.92
+ * PEN	3.75
+ * </pre>
+ * Se escribe en un temporal que luego reemplaza al archivo de forma
+ * atómica, así que un lector nunca ve una tabla a medias.
+ */
+final class InstantaneaTasas {
+
+    private final Path archivo;
+
+    InstantaneaTasas(Path archivo) {
+        this.archivo = archivo;
+    }
+
+    /**
+     * Tabla leída y su momento de descarga.
+     */
+    static final class Leida {
+        final TasasCruzadas tasas;
+        final long timestamp;
+
+        Leida(TasasCruzadas tasas, long timestamp) {
+            this.tasas = tasas;
+            this.timestamp = timestamp;
+        }
+    }
+
+    /**
+     * Lee la tabla guardada. Un momento de descarga posterior a ahora (reloj
+     * cambiado, archivo copiado de otra máquina) haría pasar la tabla por
+     * vigente indefinidamente, así que se trata como copia inválida.
+     *
+     * @param ahora milisegundos actuales (epoch)
+     * @return la tabla, o vacío si no hay archivo o no se puede leer
+     */
+    Optional<Leida> leer(long ahora) {
+        try (BufferedReader lector = Files.newBufferedReader(archivo, StandardCharsets.UTF_8)) {
+            String[] cabecera = campos(lector.readLine());
+            TasasCruzadas.Constructor tasas = TasasCruzadas.constructor(cabecera[0]);
+            long timestamp = Long.parseLong(cabecera[1]);
+            if (timestamp > ahora) {
+                throw new IllegalArgumentException("momento de descarga en el futuro: " + timestamp);
+            }
+
+            String linea;
+            while ((linea = lector.readLine()) != null) {
+                if (!linea.isEmpty()) {
+                    String[] par = campos(linea);
+                    tasas.agregar(par[0], new BigDecimal(par[1]));
+                }
+            }
+            return Optional.of(new Leida(tasas.construir(), timestamp));
+
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            Logger.warning("Se ignora la copia de tasas {}: {}", archivo, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Reemplaza la tabla guardada. Un error se registra y no se propaga:
+     * la copia es una optimización.
+     */
+    void guardar(TasasCruzadas tasas, long timestamp) {
+        StringBuilder contenido = new StringBuilder(tasas.size() * 16);
+        contenido.append(tasas.getBase()).append('\t').append(timestamp).append('\n');
+        for (int ordinal = 0; ordinal < tasas.size(); ordinal++) {
+            contenido.append(tasas.codigo(ordinal)).append('\t')
+                .append(tasas.porUnidadBase(ordinal).toPlainString()).append('\n');
+        }
+        Path temporal = archivo.resolveSibling(archivo.getFileName() + ".tmp");
+        try {
+            Files.writeString(temporal, contenido, StandardCharsets.UTF_8);
+            Files.move(temporal, archivo, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Logger.warning("No se pudo guardar la copia de tasas {}: {}", archivo, e.getMessage());
+        }
+    }
+
+    private static String[] campos(String linea) {
+        if (linea == null) {
+            throw new IllegalArgumentException("archivo vacío");
+        }
+        String[] campos = linea.split("\t");
+        if (campos.length != 2) {
+            throw new IllegalArgumentException("línea inválida: " + linea);
+        }
+        return campos;
+    }
+}
@@ -0,0 +1,98 @@
+package com.wallet.infrastructure.services;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lector de CSV (RFC 4180) fila a fila, sin cargar el archivo.
+ *
+ * Acepta campos entre comillas con comas, comillas dobladas ("") y saltos
+ * de línea, y finales de línea CRLF o LF. Las líneas vacías se saltan.
+ */
+final class LectorCsv {
+
+    private final Reader entrada;
+    private final char[] buffer = new char[8192];
+    private int posicion;
+    private int limite;
+    private int linea = 1;
+    private int lineaFila;
+
+    LectorCsv(Reader entrada) {
+        this.entrada = entrada;
+    }
+
+    /**
+     * @return los campos de la siguiente fila, o null al final
+     * @throws IOException si falla la lectura o quedan comillas sin cerrar
+     */
+    List<String> leerFila() throws IOException {
+        int c = leer();
+        while (c == '\n' || c == '\r') {
+            if (c == '\n') {
+                linea++;
+            }
+            c = leer();
+        }
+        if (c == -1) {
+            return null;
+        }
+
+        lineaFila = linea;
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean citado = false;
+        while (true) {
+            if (citado) {
+                if (c == -1) {
+                    throw new IOException("Comillas sin cerrar desde la línea " + lineaFila);
+                }
+                if (c == '"') {
+                    c = leer();
+                    if (c != '"') {
+                        citado = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    linea++;
+                }
+                campo.append((char) c);
+            } else if (c == '"' && campo.length() == 0) {
+                citado = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    linea++;
+                }
+                campos.add(campo.toString());
+                return campos;
+            } else if (c != '\r') {
+                campo.append((char) c);
+            }
+            c = leer();
+        }
+    }
+
+    /**
+     * @return línea del archivo (desde 1) donde empieza la última fila leída
+     */
+    int getLineaFila() {
+        return lineaFila;
+    }
+
+    private int leer() throws IOException {
+        if (posicion == limite) {
+            limite = entrada.read(buffer, 0, buffer.length);
+            posicion = 0;
+            if (limite <= 0) {
+                limite = 0;
+                return -1;
+            }
+        }
+        return buffer[posicion++];
+    }
+}
@@ -0,0 +1,338 @@
+package com.wallet.infrastructure.services;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Lector en streaming de la respuesta JSON de la API de tasas.
+ *
+ * Lee los bytes directamente del InputStream con un buffer propio, sin
+ * armar el cuerpo en memoria ni usar expresiones regulares. De cada par
+ * del objeto "rates" calcula el índice de la moneda sobre los bytes de
+ * la clave (TasasCruzadas.indice) y copia los dígitos del número a un
+ * char[] reutilizado para crear el BigDecimal: por tasa solo se asigna
+ * el BigDecimal. Acepta cualquier número JSON, incluida la notación
+ * exponencial (1.2E-5).
+ *
+ * Del resto de la respuesta solo interesan "result", "error-type" y
+ * "base_code" del primer nivel; los demás valores se saltan. Claves de
+ * "rates" que no son un código de 3 letras mayúsculas, y tasas que no son
+ * un número (null, cadenas), se ignoran sin descartar el resto de la tabla.
+ */
+public final class LectorTasasJson {
+
+    private static final int FIN = -1;
+
+    private final InputStream entrada;
+    private final byte[] buffer = new byte[8192];
+    private int posicion;
+    private int limite;
+    private long leidos;
+    private char[] numero = new char[32];
+
+    private LectorTasasJson(InputStream entrada) {
+        this.entrada = entrada;
+    }
+
+    /**
+     * Lee una respuesta de la API. No cierra el flujo.
+     *
+     * @param entrada cuerpo de la respuesta, en UTF-8
+     * @param monedaBase moneda en la que deben venir las tasas
+     * @return la tabla de tasas
+     * @throws IOException si falla la lectura o el JSON está mal formado
+     * @throws IllegalStateException si la API informa un error, la base no
+     *                               coincide o no hay tasas
+     * @throws IllegalArgumentException si alguna tasa no es positiva
+     */
+    public static TasasCruzadas leer(InputStream entrada, String monedaBase) throws IOException {
+        return new LectorTasasJson(entrada).leerRespuesta(monedaBase);
+    }
+
+    private TasasCruzadas leerRespuesta(String monedaBase) throws IOException {
+        TasasCruzadas.Constructor tasas = null;
+        int cantidad = 0;
+        String resultado = null;
+        String tipoError = null;
+        String base = null;
+
+        esperar('{');
+        if (!consumirSi('}')) {
+            do {
+                String clave = leerCadena();
+                esperar(':');
+                switch (clave) {
+                    case "rates":
+                        tasas = TasasCruzadas.constructor(monedaBase);
+                        cantidad = leerTasas(tasas);
+                        break;
+                    case "result":
+                        resultado = leerCadenaONull();
+                        break;
+                    case "error-type":
+                        tipoError = leerCadenaONull();
+                        break;
+                    case "base_code":
+                        base = leerCadenaONull();
+                        break;
+                    default:
+                        saltarValor();
+                }
+            } while (consumirSi(','));
+            esperar('}');
+        }
+
+        if (resultado != null && !"success".equals(resultado)) {
+            throw new IllegalStateException("La API respondió " + resultado
+                + (tipoError == null ? "" : ": " + tipoError));
+        }
+        if (base != null && !base.equals(monedaBase)) {
+            throw new IllegalStateException("Se pidieron tasas de " + monedaBase + " y llegaron de " + base);
+        }
+        if (tasas == null) {
+            throw new IllegalStateException("Formato de respuesta JSON inválido");
+        }
+        if (cantidad == 0) {
+            throw new IllegalStateException("No se pudieron extraer tasas de cambio");
+        }
+        return tasas.construir();
+    }
+
+    /**
+     * Lee el objeto "rates".
+     *
+     * @return cantidad de tasas agregadas
+     */
+    private int leerTasas(TasasCruzadas.Constructor tasas) throws IOException {
+        int cantidad = 0;
+        esperar('{');
+        if (consumirSi('}')) {
+            return 0;
+        }
+        do {
+            esperar('"');
+            int indice = leerClaveMoneda();
+            esperar(':');
+            if (indice == TasasCruzadas.SIN_MONEDA) {
+                saltarValor();
+                continue;
+            }
+            BigDecimal tasa = leerNumero();
+            if (tasa != null) {
+                tasas.agregar(indice, tasa);
+                cantidad++;
+            }
+        } while (consumirSi(','));
+        esperar('}');
+        return cantidad;
+    }
+
+    /**
+     * Lee una clave ya abierta: si son exactamente 3 letras mayúsculas
+     * devuelve su índice, si no la salta.
+     */
+    private int leerClaveMoneda() throws IOException {
+        int a = 0;
+        int b = 0;
+        int c = 0;
+        int largo = 0;
+        boolean escapada = false;
+        int caracter;
+        while ((caracter = leerByte()) != '"') {
+            if (caracter == '\\') {
+                leerByte();
+                escapada = true;
+            }
+            a = b;
+            b = c;
+            c = caracter;
+            largo++;
+        }
+        return largo == 3 && !escapada ? TasasCruzadas.indice(a, b, c) : TasasCruzadas.SIN_MONEDA;
+    }
+
+    /**
+     * Lee el valor de una tasa.
+     *
+     * @return el número, o null si el valor no es numérico (queda saltado)
+     */
+    private BigDecimal leerNumero() throws IOException {
+        int primero = saltarEspacios();
+        int largo = 0;
+        int caracter = primero;
+        while (caracter == '-' || caracter == '+' || caracter == '.' || caracter == 'e' || caracter == 'E'
+                || (caracter >= '0' && caracter <= '9')) {
+            if (largo == numero.length) {
+                numero = Arrays.copyOf(numero, largo * 2);
+            }
+            numero[largo++] = (char) caracter;
+            posicion++;
+            caracter = verByte();
+        }
+        if (largo == 0) {
+            saltarValor();
+            return null;
+        }
+        try {
+            return new BigDecimal(numero, 0, largo);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String leerCadenaONull() throws IOException {
+        if (saltarEspacios() == 'n') {
+            saltarValor();
+            return null;
+        }
+        return leerCadena();
+    }
+
+    /**
+     * Lee una cadena con sus escapes. Solo se usa para las pocas claves y
+     * valores del primer nivel, que la API envía en ASCII.
+     */
+    private String leerCadena() throws IOException {
+        esperar('"');
+        StringBuilder texto = new StringBuilder();
+        while (true) {
+            int caracter = leerByte();
+            if (caracter == '"') {
+                return texto.toString();
+            }
+            if (caracter != '\\') {
+                texto.append((char) caracter);
+                continue;
+            }
+            int escape = leerByte();
+            switch (escape) {
+                case 'b': texto.append('\b'); break;
+                case 'f': texto.append('\f'); break;
+                case 'n': texto.append('\n'); break;
+                case 'r': texto.append('\r'); break;
+                case 't': texto.append('\t'); break;
+                case 'u':
+                    int codigo = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digito = Character.digit(leerByte(), 16);
+                        if (digito < 0) {
+                            throw error("escape \\u inválido");
+                        }
+                        codigo = codigo * 16 + digito;
+                    }
+                    texto.append((char) codigo);
+                    break;
+                default: texto.append((char) escape);
+            }
+        }
+    }
+
+    private void saltarRestoCadena() throws IOException {
+        int caracter;
+        while ((caracter = leerByte()) != '"') {
+            if (caracter == '\\') {
+                leerByte();
+            }
+        }
+    }
+
+    /**
+     * Salta un valor completo: objeto, arreglo, cadena, número o literal.
+     */
+    private void saltarValor() throws IOException {
+        int caracter = saltarEspacios();
+        if (caracter == '"') {
+            posicion++;
+            saltarRestoCadena();
+        } else if (caracter == '{' || caracter == '[') {
+            int profundidad = 0;
+            do {
+                caracter = leerByte();
+                if (caracter == '"') {
+                    saltarRestoCadena();
+                } else if (caracter == '{' || caracter == '[') {
+                    profundidad++;
+                } else if (caracter == '}' || caracter == ']') {
+                    profundidad--;
+                }
+            } while (profundidad > 0);
+        } else {
+            int largo = 0;
+            while (caracter != FIN && caracter != ',' && caracter != '}' && caracter != ']'
+                    && !esEspacio(caracter)) {
+                posicion++;
+                largo++;
+                caracter = verByte();
+            }
+            if (largo == 0) {
+                throw error("se esperaba un valor");
+            }
+        }
+    }
+
+    // ==================== LECTURA DE BYTES ====================
+
+    private void esperar(char esperado) throws IOException {
+        int caracter = saltarEspacios();
+        if (caracter != esperado) {
+            throw error(caracter == FIN ? "fin inesperado" : "se esperaba '" + esperado + "'");
+        }
+        posicion++;
+    }
+
+    private boolean consumirSi(char esperado) throws IOException {
+        if (saltarEspacios() == esperado) {
+            posicion++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Salta espacios y devuelve el siguiente byte sin consumirlo.
+     */
+    private int saltarEspacios() throws IOException {
+        int caracter = verByte();
+        while (esEspacio(caracter)) {
+            posicion++;
+            caracter = verByte();
+        }
+        return caracter;
+    }
+
+    private static boolean esEspacio(int caracter) {
+        return caracter == ' ' || caracter == '\n' || caracter == '\r' || caracter == '\t';
+    }
+
+    private int verByte() throws IOException {
+        if (posicion == limite && !llenar()) {
+            return FIN;
+        }
+        return buffer[posicion] & 0xFF;
+    }
+
+    private int leerByte() throws IOException {
+        if (posicion == limite && !llenar()) {
+            throw error("fin inesperado");
+        }
+        return buffer[posicion++] & 0xFF;
+    }
+
+    private boolean llenar() throws IOException {
+        leidos += limite;
+        posicion = 0;
+        limite = 0;
+        int n = entrada.read(buffer);
+        if (n <= 0) {
+            return false;
+        }
+        limite = n;
+        return true;
+    }
+
+    private IOException error(String mensaje) {
+        return new IOException("JSON inválido en el byte " + (leidos + posicion) + ": " + mensaje);
+    }
+}
@@ -0,0 +1,128 @@
+package com.wallet.infrastructure.services;
+
+import com.wallet.infrastructure.logging.Logger;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresco programado de la tabla de tasas de ConversorDivisasAPI.
+ *
+ * La tabla se descarga al iniciar y después cada 3/4 del TTL de la
+ * caché, de modo que las conversiones encuentran siempre una tabla
+ * vigente y no esperan a la red. Si al iniciar ya hay una tabla (la
+ * copia en disco), el primer refresco se programa según su edad. Los
+ * plazos llevan un ±10% aleatorio para que varias instancias no
+ * consulten la API a la vez. Tras un fallo se reintenta con espera
+ * exponencial (también con jitter) hasta un máximo; mientras tanto la
+ * caché sigue sirviendo la tabla anterior.
+ *
+ * Las descargas las hace un hilo daemon propio.
+ */
+public class RefrescoTasasDivisas {
+
+    private static final double JITTER = 0.1;
+
+    private final ConversorDivisasAPI conversor;
+    private final long intervaloMs;
+    private final long esperaInicialMs;
+    private final long esperaMaximaMs;
+    private int fallosConsecutivos;
+    private final ScheduledExecutorService planificador;
+
+    /**
+     * @param conversor conversor cuya caché se mantiene vigente
+     * @param intervaloMs plazo entre refrescos correctos
+     * @param esperaInicialMs espera tras el primer fallo; se duplica en cada fallo
+     * @param esperaMaximaMs tope de la espera tras fallos
+     * @throws IllegalArgumentException si algún parámetro no es válido
+     */
+    public RefrescoTasasDivisas(ConversorDivisasAPI conversor,
+                                long intervaloMs, long esperaInicialMs, long esperaMaximaMs) {
+        if (conversor == null) {
+            throw new IllegalArgumentException("El conversor no puede ser nulo");
+        }
+        if (intervaloMs <= 0 || esperaInicialMs <= 0 || esperaMaximaMs < esperaInicialMs) {
+            throw new IllegalArgumentException("Se requiere intervalo > 0 y 0 < espera inicial <= espera máxima");
+        }
+        this.conversor = conversor;
+        this.intervaloMs = intervaloMs;
+        this.esperaInicialMs = esperaInicialMs;
+        this.esperaMaximaMs = esperaMaximaMs;
+        this.planificador = Executors.newSingleThreadScheduledExecutor(tarea -> {
+            Thread hilo = new Thread(tarea, "wallet-divisas-prefetch");
+            hilo.setDaemon(true);
+            return hilo;
+        });
+    }
+
+    /**
+     * Crea el refresco con -Dwallet.divisas.esperaMaximaMs (5 minutos por
+     * defecto). El intervalo es 3/4 del TTL del conversor.
+     */
+    public static RefrescoTasasDivisas desdePropiedades(ConversorDivisasAPI conversor) {
+        return new RefrescoTasasDivisas(conversor,
+            Math.max(1, conversor.getTtlMs() * 3 / 4),
+            5_000,
+            Long.getLong("wallet.divisas.esperaMaximaMs", 300_000));
+    }
+
+    /**
+     * Programa la primera descarga: de inmediato si no hay tabla, o cuando
+     * la tabla cargada cumpla el intervalo.
+     */
+    public void iniciar() {
+        long edad = conversor.getEdadTablaMs();
+        long retraso = edad < 0 ? 0 : Math.max(0, intervaloMs - edad);
+        Logger.info("Refresco de tasas cada {} ms, el primero en {} ms", intervaloMs, retraso);
+        programar(retraso);
+    }
+
+    /**
+     * Detiene el refresco. Una descarga en curso se interrumpe.
+     */
+    public void cerrar() {
+        planificador.shutdownNow();
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void programar(long retrasoMs) {
+        if (!planificador.isShutdown()) {
+            planificador.schedule(this::refrescar, retrasoMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Solo corre en el hilo del planificador
+    private void refrescar() {
+        try {
+            conversor.refrescar();
+            fallosConsecutivos = 0;
+            programar(conJitter(intervaloMs));
+        } catch (Exception e) {
+            int fallos = ++fallosConsecutivos;
+            long espera = esperaTrasFallos(fallos);
+            Logger.warning("Refresco de tasas fallido ({} seguidos), reintento en {} ms: {}",
+                fallos, espera, e.getMessage());
+            programar(espera);
+        }
+    }
+
+    /**
+     * Espera exponencial: inicial, 2x, 4x... hasta el máximo, con jitter.
+     */
+    long esperaTrasFallos(int fallos) {
+        long espera = esperaInicialMs << Math.min(fallos - 1, 30);
+        if (espera <= 0 || espera > esperaMaximaMs) {
+            espera = esperaMaximaMs;
+        }
+        return conJitter(espera);
+    }
+
+    private static long conJitter(long ms) {
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+        return Math.max(1, Math.round(ms * factor));
+    }
+}
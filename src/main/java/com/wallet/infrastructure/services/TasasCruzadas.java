@@ -0,0 +1,240 @@
+package com.wallet.infrastructure.services;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tabla de tasas de una moneda base de la que se derivan todos los
+ * cruces: la tasa A→B es tasa(B) / tasa(A). Es inmutable.
+ *
+ * Un código ISO de 3 letras mayúsculas se convierte en un índice entre 0
+ * y 26³ - 1 con aritmética sobre sus letras, y ese índice da el ordinal
+ * de la moneda en arrays densos. Una consulta son dos accesos a arrays
+ * y una división, sin hashing de cadenas.
+ *
+ * Política de precisión:
+ * - Las tasas se guardan como BigDecimal con los dígitos exactos que
+ *   envía la API; nunca pasan por double
+ * - tasa() calcula el cruce con MathContext.DECIMAL128 (34 dígitos
+ *   significativos, HALF_EVEN), muy por encima de la precisión de origen
+ * - convertir() multiplica el monto por tasa(B) y divide por tasa(A)
+ *   redondeando una sola vez, directamente a la escala pedida (HALF_UP,
+ *   como Dinero), sin arrastrar el redondeo de una tasa intermedia
+ */
+public final class TasasCruzadas {
+
+    /**
+     * Índice o ordinal de una moneda que no está en la tabla.
+     */
+    public static final int SIN_MONEDA = -1;
+
+    /**
+     * Precisión de las tasas cruzadas.
+     */
+    public static final MathContext PRECISION = MathContext.DECIMAL128;
+
+    private static final int CODIGOS_POSIBLES = 26 * 26 * 26;
+
+    private final String base;
+    private final short[] ordinalPorIndice;
+    private final String[] codigos;
+    private final BigDecimal[] porUnidadBase;
+
+    private TasasCruzadas(String base, short[] ordinalPorIndice, String[] codigos, BigDecimal[] porUnidadBase) {
+        this.base = base;
+        this.ordinalPorIndice = ordinalPorIndice;
+        this.codigos = codigos;
+        this.porUnidadBase = porUnidadBase;
+    }
+
+    /**
+     * Índice de un código ISO 4217.
+     *
+     * @return índice entre 0 y 26³ - 1, o SIN_MONEDA si no son 3 letras mayúsculas
+     */
+    public static int indice(String codigo) {
+        if (codigo == null || codigo.length() != 3) {
+            return SIN_MONEDA;
+        }
+        return indice(codigo.charAt(0), codigo.charAt(1), codigo.charAt(2));
+    }
+
+    /**
+     * Índice de un código dado por sus tres caracteres (o bytes ASCII).
+     *
+     * @return índice entre 0 y 26³ - 1, o SIN_MONEDA si alguno no es A-Z
+     */
+    public static int indice(int a, int b, int c) {
+        if (a < 'A' || a > 'Z' || b < 'A' || b > 'Z' || c < 'A' || c > 'Z') {
+            return SIN_MONEDA;
+        }
+        return ((a - 'A') * 26 + (b - 'A')) * 26 + (c - 'A');
+    }
+
+    /**
+     * @return ordinal de la moneda en esta tabla, o SIN_MONEDA
+     */
+    public int ordinal(String codigo) {
+        int indice = indice(codigo);
+        return indice == SIN_MONEDA ? SIN_MONEDA : ordinalPorIndice[indice];
+    }
+
+    /**
+     * Tasa de cambio entre dos monedas de la tabla.
+     *
+     * @return unidades de destino por unidad de origen
+     * @throws IllegalArgumentException si alguna moneda no está en la tabla
+     */
+    public BigDecimal tasa(String origen, String destino) {
+        return tasa(ordinalSoportado(origen, "origen"), ordinalSoportado(destino, "destino"));
+    }
+
+    /**
+     * Tasa de cambio entre dos ordinales de esta tabla.
+     */
+    public BigDecimal tasa(int ordinalOrigen, int ordinalDestino) {
+        if (ordinalOrigen == ordinalDestino) {
+            return BigDecimal.ONE;
+        }
+        return porUnidadBase[ordinalDestino].divide(porUnidadBase[ordinalOrigen], PRECISION);
+    }
+
+    /**
+     * Convierte un monto redondeando una sola vez.
+     *
+     * @param escala decimales del resultado
+     * @throws IllegalArgumentException si alguna moneda no está en la tabla
+     */
+    public BigDecimal convertir(BigDecimal cantidad, String origen, String destino, int escala) {
+        int ordinalOrigen = ordinalSoportado(origen, "origen");
+        int ordinalDestino = ordinalSoportado(destino, "destino");
+        return cantidad.multiply(porUnidadBase[ordinalDestino])
+            .divide(porUnidadBase[ordinalOrigen], escala, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * @return moneda en la que están expresadas las tasas
+     */
+    public String getBase() {
+        return base;
+    }
+
+    /**
+     * @return cantidad de monedas en la tabla
+     */
+    public int size() {
+        return codigos.length;
+    }
+
+    /**
+     * @return código de la moneda con ese ordinal
+     */
+    public String codigo(int ordinal) {
+        return codigos[ordinal];
+    }
+
+    /**
+     * @return unidades de la moneda con ese ordinal por unidad de la base
+     */
+    public BigDecimal porUnidadBase(int ordinal) {
+        return porUnidadBase[ordinal];
+    }
+
+    /**
+     * Crea un constructor de tablas expresadas en la moneda base dada.
+     *
+     * @throws IllegalArgumentException si la base no es un código válido
+     */
+    public static Constructor constructor(String base) {
+        return new Constructor(base);
+    }
+
+    private int ordinalSoportado(String codigo, String rol) {
+        int ordinal = ordinal(codigo);
+        if (ordinal == SIN_MONEDA) {
+            throw new IllegalArgumentException("Moneda " + rol + " no soportada: " + codigo);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Acumula tasas y construye la tabla. No es seguro entre hilos.
+     */
+    public static final class Constructor {
+        private final String base;
+        private final short[] ordinalPorIndice = new short[CODIGOS_POSIBLES];
+        private final List<String> codigos = new ArrayList<>();
+        private final List<BigDecimal> tasas = new ArrayList<>();
+
+        private Constructor(String base) {
+            if (indice(base) == SIN_MONEDA) {
+                throw new IllegalArgumentException("Moneda base inválida: " + base);
+            }
+            this.base = base;
+            Arrays.fill(ordinalPorIndice, (short) SIN_MONEDA);
+        }
+
+        /**
+         * Agrega o reemplaza la tasa de una moneda.
+         *
+         * @param tasa unidades de la moneda por unidad de la base
+         * @throws IllegalArgumentException si el código no es válido o la tasa no es positiva
+         */
+        public Constructor agregar(String codigo, BigDecimal tasa) {
+            int indice = indice(codigo);
+            if (indice == SIN_MONEDA) {
+                throw new IllegalArgumentException("Código de moneda inválido: " + codigo);
+            }
+            return agregar(indice, tasa);
+        }
+
+        /**
+         * Agrega o reemplaza la tasa de una moneda dada por su índice.
+         *
+         * @see TasasCruzadas#indice(int, int, int)
+         */
+        public Constructor agregar(int indice, BigDecimal tasa) {
+            if (indice < 0 || indice >= CODIGOS_POSIBLES) {
+                throw new IllegalArgumentException("Índice de moneda fuera de rango: " + indice);
+            }
+            if (tasa == null || tasa.signum() <= 0) {
+                throw new IllegalArgumentException("La tasa debe ser positiva");
+            }
+            int ordinal = ordinalPorIndice[indice];
+            if (ordinal == SIN_MONEDA) {
+                ordinalPorIndice[indice] = (short) codigos.size();
+                codigos.add(codigoDe(indice));
+                tasas.add(tasa);
+            } else {
+                tasas.set(ordinal, tasa);
+            }
+            return this;
+        }
+
+        /**
+         * Construye la tabla. La base vale 1 aunque no se haya agregado.
+         *
+         * @throws IllegalArgumentException si la base tiene una tasa distinta de 1
+         */
+        public TasasCruzadas construir() {
+            int ordinalBase = ordinalPorIndice[indice(base)];
+            if (ordinalBase == SIN_MONEDA) {
+                agregar(base, BigDecimal.ONE);
+            } else if (tasas.get(ordinalBase).compareTo(BigDecimal.ONE) != 0) {
+                throw new IllegalArgumentException("La tasa de la moneda base debe ser 1");
+            }
+            return new TasasCruzadas(base, ordinalPorIndice.clone(),
+                codigos.toArray(new String[0]), tasas.toArray(new BigDecimal[0]));
+        }
+
+        private static String codigoDe(int indice) {
+            return new String(new char[] {
+                (char) ('A' + indice / 676), (char) ('A' + indice / 26 % 26), (char) ('A' + indice % 26)
+            });
+        }
+    }
+}
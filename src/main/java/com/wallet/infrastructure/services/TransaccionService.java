@@ -1,16 +1,23 @@
 package com.wallet.infrastructure.services;
 
+import com.wallet.application.dtos.HistorialCuentaDTO;
+import com.wallet.application.dtos.HistorialCursorDTO;
 import com.wallet.application.dtos.TransaccionDTO;
 import com.wallet.application.dtos.requests.TransferirDineroRequest;
 import com.wallet.application.mappers.TransaccionMapper;
 import com.wallet.application.usecases.TransferirDineroUseCase;
 import com.wallet.application.usecases.ConsultarHistorialUseCase;
 import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.repositories.ConsultaTransacciones;
+import com.wallet.domain.repositories.ResumenPeriodo;
+import com.wallet.domain.valueobjects.Dinero;
 import com.wallet.domain.valueobjects.TipoTransaccion;
 import com.wallet.infrastructure.factories.RepositoryFactory;
 import com.wallet.infrastructure.logging.Logger;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -30,7 +37,7 @@ public class TransaccionService {
         var cuentaRepo = RepositoryFactory.getCuentaRepository();
         var transaccionRepo = RepositoryFactory.getTransaccionRepository();
         
-        this.transferirDineroUseCase = new TransferirDineroUseCase(cuentaRepo, transaccionRepo);
+        this.transferirDineroUseCase = new TransferirDineroUseCase(cuentaRepo, RepositoryFactory.getTransferLedger());
         this.consultarHistorialUseCase = new ConsultarHistorialUseCase(cuentaRepo, transaccionRepo);
     }
     
@@ -39,9 +46,8 @@ public class TransaccionService {
      * Retorna la transacción de TRANSFERENCIA_SALIDA.
      */
     public List<TransaccionDTO> transferir(TransferirDineroRequest request) {
-        Logger.info("Transfiriendo $" + request.getMonto() + 
-                   " de " + request.getCuentaOrigenId() + 
-                   " a " + request.getCuentaDestinoId());
+        Logger.info("Transfiriendo ${} de {} a {}",
+                   request.getMonto(), request.getCuentaOrigenId(), request.getCuentaDestinoId());
         
         try {
             List<TransaccionDTO> transacciones = transferirDineroUseCase.ejecutar(request);
@@ -61,9 +67,8 @@ public class TransaccionService {
                                                      String numeroCuentaDestino,
                                                      BigDecimal monto, 
                                                      String descripcion) {
-        Logger.info("Transfiriendo $" + monto + 
-                   " de cuenta " + numeroCuentaOrigen + 
-                   " a cuenta " + numeroCuentaDestino);
+        Logger.info("Transfiriendo ${} de cuenta {} a cuenta {}",
+                   monto, numeroCuentaOrigen, numeroCuentaDestino);
         
         try {
             // Buscar cuenta origen
@@ -101,7 +106,7 @@ public class TransaccionService {
      * Consulta el historial completo de una cuenta.
      */
     public List<TransaccionDTO> consultarHistorial(String numeroCuenta) {
-        Logger.debug("Consultando historial de cuenta: " + numeroCuenta);
+        Logger.debug("Consultando historial de cuenta: {}", numeroCuenta);
         
         // Buscar cuenta por número
         var cuenta = RepositoryFactory.getCuentaRepository()
@@ -111,11 +116,42 @@ public class TransaccionService {
         return consultarHistorialUseCase.ejecutar(cuenta.getId());
     }
     
+    /**
+     * Consulta la cuenta y una página de su historial, con filtros opcionales
+     * por tipo y rango de fechas resueltos en la base de datos. La cuenta y
+     * la página se leen en la misma consulta, sin construir entidades.
+     */
+    public HistorialCuentaDTO consultarHistorialPaginado(String numeroCuenta, TipoTransaccion tipo,
+                                                         LocalDateTime desde, LocalDateTime hasta,
+                                                         int pagina, int tamano) {
+        Logger.debug("Consultando página {} del historial de cuenta: {}", pagina, numeroCuenta);
+        
+        // Pantalla de solo lectura: las columnas se proyectan directamente a DTOs
+        return RepositoryFactory.getTransaccionLecturas()
+            .listarHistorial(ConsultaTransacciones.porNumeroCuenta(numeroCuenta, tipo, desde, hasta, pagina, tamano))
+            .orElseThrow(() -> CuentaNoEncontradaException.porNumero(numeroCuenta));
+    }
+    
+    /**
+     * Consulta la cuenta y la página del historial que sigue a un cursor
+     * devuelto por la página anterior, en la misma consulta. No cuenta el
+     * total ni salta filas.
+     */
+    public HistorialCursorDTO consultarHistorialDesdeCursor(String numeroCuenta, TipoTransaccion tipo,
+                                                            LocalDateTime desde, LocalDateTime hasta,
+                                                            String cursor, int tamano) {
+        Logger.debug("Consultando historial de cuenta {} desde cursor", numeroCuenta);
+        
+        return RepositoryFactory.getTransaccionLecturas()
+            .listarHistorialDesdeCursor(ConsultaTransacciones.porNumeroCuenta(numeroCuenta, tipo, desde, hasta, 1, tamano), cursor)
+            .orElseThrow(() -> CuentaNoEncontradaException.porNumero(numeroCuenta));
+    }
+    
     /**
      * Consulta las últimas N transacciones de una cuenta.
      */
     public List<TransaccionDTO> consultarUltimas(String cuentaId, int limite) {
-        Logger.debug("Consultando últimas " + limite + " transacciones de cuenta: " + cuentaId);
+        Logger.debug("Consultando últimas {} transacciones de cuenta: {}", limite, cuentaId);
         
         return RepositoryFactory.getTransaccionRepository()
             .buscarPorCuentaId(cuentaId)
@@ -129,7 +165,7 @@ public class TransaccionService {
      * Consulta transacciones por tipo.
      */
     public List<TransaccionDTO> consultarPorTipo(String numeroCuenta, TipoTransaccion tipo) {
-        Logger.debug("Consultando transacciones de tipo " + tipo + " para cuenta: " + numeroCuenta);
+        Logger.debug("Consultando transacciones de tipo {} para cuenta: {}", tipo, numeroCuenta);
         
         // Primero buscar la cuenta por número
         var cuenta = RepositoryFactory.getCuentaRepository()
@@ -149,7 +185,7 @@ public class TransaccionService {
     public List<TransaccionDTO> consultarPorFechas(String cuentaId, 
                                                     LocalDateTime fechaInicio, 
                                                     LocalDateTime fechaFin) {
-        Logger.debug("Consultando transacciones entre " + fechaInicio + " y " + fechaFin);
+        Logger.debug("Consultando transacciones entre {} y {}", fechaInicio, fechaFin);
         
         return RepositoryFactory.getTransaccionRepository()
             .obtenerPorCuentaYFechas(cuentaId, fechaInicio, fechaFin)
@@ -157,4 +193,34 @@ public class TransaccionService {
             .map(TransaccionMapper::toDTO)
             .collect(Collectors.toList());
     }
+    
+    /**
+     * Consulta el resumen de una cuenta entre dos días (saldo inicial y
+     * final, créditos, débitos y cantidad), leído de los saldos diarios.
+     */
+    public ResumenPeriodo consultarResumen(String numeroCuenta, LocalDate desde, LocalDate hasta) {
+        Logger.debug("Consultando resumen de cuenta {} entre {} y {}", numeroCuenta, desde, hasta);
+        
+        var cuenta = RepositoryFactory.getCuentaRepository()
+            .buscarPorNumeroCuenta(numeroCuenta)
+            .orElseThrow(() -> CuentaNoEncontradaException.porNumero(numeroCuenta));
+        
+        return RepositoryFactory.getSaldoDiarioRepository().obtenerResumen(cuenta.getId(), desde, hasta);
+    }
+    
+    /**
+     * Consulta el saldo de una cuenta al cierre de un día; cero si todavía
+     * no tenía movimientos.
+     */
+    public BigDecimal consultarSaldoAl(String numeroCuenta, LocalDate fecha) {
+        Logger.debug("Consultando saldo de cuenta {} al {}", numeroCuenta, fecha);
+        
+        var cuenta = RepositoryFactory.getCuentaRepository()
+            .buscarPorNumeroCuenta(numeroCuenta)
+            .orElseThrow(() -> CuentaNoEncontradaException.porNumero(numeroCuenta));
+        
+        return RepositoryFactory.getSaldoDiarioRepository()
+            .obtenerSaldoAl(cuenta.getId(), fecha)
+            .orElse(Dinero.redondear(BigDecimal.ZERO));
+    }
 }
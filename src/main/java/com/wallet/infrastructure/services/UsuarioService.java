@@ -6,6 +6,8 @@ import com.wallet.application.mappers.UsuarioMapper;
 import com.wallet.application.usecases.CrearUsuarioUseCase;
 import com.wallet.application.usecases.BuscarUsuarioUseCase;
 import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.repositories.ConsultaUsuarios;
+import com.wallet.domain.repositories.Pagina;
 import com.wallet.infrastructure.factories.RepositoryFactory;
 import com.wallet.infrastructure.logging.Logger;
 
@@ -38,11 +40,11 @@ public class UsuarioService {
      * Crea un nuevo usuario.
      */
     public UsuarioDTO crearUsuario(CrearUsuarioRequest request) {
-        Logger.info("Creando usuario: " + request.getEmail());
+        Logger.info("Creando usuario: {}", request.getEmail());
         
         try {
             UsuarioDTO usuario = crearUsuarioUseCase.ejecutar(request);
-            Logger.info("Usuario creado exitosamente: " + usuario.getId());
+            Logger.info("Usuario creado exitosamente: {}", usuario.getId());
             return usuario;
         } catch (Exception e) {
             Logger.error("Error al crear usuario", e);
@@ -54,7 +56,7 @@ public class UsuarioService {
      * Busca un usuario por ID.
      */
     public Optional<UsuarioDTO> buscarPorId(String usuarioId) {
-        Logger.debug("Buscando usuario por ID: " + usuarioId);
+        Logger.debug("Buscando usuario por ID: {}", usuarioId);
         
         UsuarioDTO usuario = buscarUsuarioUseCase.ejecutarPorId(usuarioId);
         return Optional.ofNullable(usuario);
@@ -64,7 +66,7 @@ public class UsuarioService {
      * Busca un usuario por email.
      */
     public Optional<UsuarioDTO> buscarPorEmail(String email) {
-        Logger.debug("Buscando usuario por email: " + email);
+        Logger.debug("Buscando usuario por email: {}", email);
         
         UsuarioDTO usuario = buscarUsuarioUseCase.ejecutarPorEmail(email);
         return Optional.ofNullable(usuario);
@@ -95,4 +97,18 @@ public class UsuarioService {
             .map(UsuarioMapper::toDTO)
             .collect(Collectors.toList());
     }
+    
+    /**
+     * Obtiene una página del listado de usuarios, filtrada en la base de datos.
+     * 
+     * @param emailContiene texto buscado en el email (null = todos)
+     * @param activo true/false para filtrar por estado, null = todos
+     */
+    public Pagina<UsuarioDTO> listarPaginado(String emailContiene, Boolean activo, int pagina, int tamano) {
+        Logger.debug("Listando usuarios, página {}", pagina);
+        
+        return RepositoryFactory.getUsuarioRepository()
+            .buscarPagina(new ConsultaUsuarios(emailContiene, activo, pagina, tamano))
+            .map(UsuarioMapper::toDTO);
+    }
 }
@@ -2,9 +2,12 @@ package com.wallet.presentation.controllers;
 
 import com.wallet.application.dtos.UsuarioDTO;
 import com.wallet.application.dtos.requests.CrearUsuarioRequest;
+import com.wallet.infrastructure.services.ImportacionService;
 import com.wallet.infrastructure.services.UsuarioService;
 import com.wallet.presentation.utils.ConsoleUtils;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +20,8 @@ import java.util.Optional;
  */
 public class UsuarioController {
     
+    private static final int MAX_ERRORES_MOSTRADOS = 20;
+    
     private final UsuarioService usuarioService;
     
     public UsuarioController(UsuarioService usuarioService) {
@@ -142,6 +147,37 @@ public class UsuarioController {
         }
     }
     
+    /**
+     * Importa usuarios desde un archivo CSV, cada uno con una cuenta nueva.
+     */
+    public void importarUsuarios() {
+        ConsoleUtils.printHeader("IMPORTAR USUARIOS DESDE CSV");
+        System.out.println("Columnas: nombre,apellido,email,tipo_documento,documento");
+        
+        Path archivo = Path.of(ConsoleUtils.readLine("Ruta del archivo: ").trim());
+        if (!Files.isRegularFile(archivo)) {
+            ConsoleUtils.printError("No existe el archivo: " + archivo);
+            return;
+        }
+        
+        try {
+            ImportacionService.Resultado resultado = new ImportacionService().importar(archivo);
+            ConsoleUtils.printSuccess(String.format("%d usuarios creados de %d filas en %d ms",
+                resultado.getUsuariosCreados(), resultado.getFilas(), resultado.getMilisegundos()));
+            
+            List<ImportacionService.ErrorFila> errores = resultado.getErrores();
+            if (!errores.isEmpty()) {
+                ConsoleUtils.printWarning(errores.size() + " filas con errores:");
+                errores.stream().limit(MAX_ERRORES_MOSTRADOS).forEach(e -> System.out.println("  " + e));
+                if (errores.size() > MAX_ERRORES_MOSTRADOS) {
+                    System.out.println("  ... y " + (errores.size() - MAX_ERRORES_MOSTRADOS) + " más");
+                }
+            }
+        } catch (Exception e) {
+            ConsoleUtils.printError("Error al importar usuarios: " + e.getMessage());
+        }
+    }
+    
     /**
      * Muestra los detalles de un usuario.
      */
@@ -55,8 +55,11 @@ public class MenuDivisas {
     };
     
     public MenuDivisas(Scanner scanner) {
+        this(scanner, new ConversorDivisasAPI());
+    }
+    
+    public MenuDivisas(Scanner scanner, IConversorDivisas conversor) {
         this.scanner = scanner;
-        IConversorDivisas conversor = new ConversorDivisasAPI();
         this.convertirDivisaUseCase = new ConvertirDivisaUseCase(conversor);
     }
     
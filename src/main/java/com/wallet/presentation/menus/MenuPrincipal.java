@@ -1,8 +1,17 @@
 package com.wallet.presentation.menus;
 
+import com.wallet.domain.services.IConversorDivisas;
 import com.wallet.presentation.controllers.*;
 import com.wallet.presentation.utils.ConsoleUtils;
 import com.wallet.infrastructure.services.*;
+import com.wallet.infrastructure.logging.ConsultaLog;
+import com.wallet.infrastructure.logging.OperationLogger;
+import com.wallet.infrastructure.logging.OperationLogger.LogLevel;
+import com.wallet.infrastructure.logging.RegistroLog;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.stream.Stream;
 
 /**
  * Menú principal de la aplicación.
@@ -25,6 +34,14 @@ public class MenuPrincipal {
     private boolean salir = false;
     
     public MenuPrincipal() {
+        this(new ConversorDivisasAPI());
+    }
+    
+    /**
+     * @param conversor conversor de divisas compartido (su caché se
+     *                  mantiene vigente desde Main)
+     */
+    public MenuPrincipal(IConversorDivisas conversor) {
         // Inicializar servicios
         UsuarioService usuarioService = new UsuarioService();
         CuentaService cuentaService = new CuentaService();
@@ -39,7 +56,7 @@ public class MenuPrincipal {
         this.menuUsuarios = new MenuUsuarios(usuarioController);
         this.menuCuentas = new MenuCuentas(cuentaController);
         this.menuTransacciones = new MenuTransacciones(transaccionController);
-        this.menuDivisas = new MenuDivisas(ConsoleUtils.getScanner());
+        this.menuDivisas = new MenuDivisas(ConsoleUtils.getScanner(), conversor);
     }
     
     /**
@@ -120,10 +137,12 @@ public class MenuPrincipal {
             System.out.println("3. Ver Ultimas Transacciones");
             System.out.println("4. Buscar Usuario por Email");
             System.out.println("5. Buscar Cuenta por Numero");
+            System.out.println("6. Estadisticas de Operaciones");
+            System.out.println("7. Consultar Log de Operaciones");
             System.out.println("0. Volver");
             ConsoleUtils.printLine();
             
-            int opcion = ConsoleUtils.readIntInRange("Seleccione una opcion: ", 0, 5);
+            int opcion = ConsoleUtils.readIntInRange("Seleccione una opcion: ", 0, 7);
             ConsoleUtils.printLine();
             
             switch (opcion) {
@@ -147,6 +166,14 @@ public class MenuPrincipal {
                     cuentaController.buscarPorNumero();
                     ConsoleUtils.pause();
                     break;
+                case 6:
+                    OperationLogger.printStatistics();
+                    ConsoleUtils.pause();
+                    break;
+                case 7:
+                    consultarLog();
+                    ConsoleUtils.pause();
+                    break;
                 case 0:
                     volver = true;
                     break;
@@ -154,6 +181,43 @@ public class MenuPrincipal {
         }
     }
     
+    private void consultarLog() {
+        ConsultaLog consulta = new ConsultaLog()
+            .entidad(ConsoleUtils.readLine("Tipo de entidad (vacio = todas): "))
+            .id(ConsoleUtils.readLine("ID de entidad (vacio = todos): "));
+        
+        String nivel = ConsoleUtils.readLine("Nivel (CREATE/READ/UPDATE/DELETE/INFO/WARN/ERROR, vacio = todos): ");
+        if (!nivel.isEmpty()) {
+            try {
+                consulta.nivel(LogLevel.valueOf(nivel.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                ConsoleUtils.printError("Nivel no valido: " + nivel);
+                return;
+            }
+        }
+        
+        int horas = ConsoleUtils.readIntInRange("Ultimas N horas (0 = todo): ", 0, 24 * 365);
+        if (horas > 0) {
+            consulta.desde(LocalDateTime.now().minusHours(horas));
+        }
+        
+        int maximo = 50;
+        int mostrados = 0;
+        ConsoleUtils.printLine();
+        try (Stream<RegistroLog> registros = consulta.ejecutar()) {
+            for (RegistroLog registro : (Iterable<RegistroLog>) registros.limit(maximo)::iterator) {
+                System.out.println(registro);
+                mostrados++;
+            }
+        }
+        ConsoleUtils.printLine();
+        if (mostrados == 0) {
+            ConsoleUtils.printInfo("Sin entradas para esos filtros.");
+        } else if (mostrados == maximo) {
+            ConsoleUtils.printInfo("Mostrando las primeras " + maximo + " entradas.");
+        }
+    }
+    
     private void mostrarDespedida() {
         ConsoleUtils.clearScreen();
         ConsoleUtils.printSeparator();
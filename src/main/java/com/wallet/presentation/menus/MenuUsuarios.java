@@ -31,10 +31,11 @@ public class MenuUsuarios {
             System.out.println("1. Registrar Nuevo Usuario");
             System.out.println("2. Listar Usuarios Activos");
             System.out.println("3. Buscar Usuario por Email");
+            System.out.println("4. Importar Usuarios desde CSV");
             System.out.println("0. Volver al Menu Principal");
             ConsoleUtils.printLine();
             
-            int opcion = ConsoleUtils.readIntInRange("Seleccione una opcion: ", 0, 3);
+            int opcion = ConsoleUtils.readIntInRange("Seleccione una opcion: ", 0, 4);
             ConsoleUtils.printLine();
             
             switch (opcion) {
@@ -60,6 +61,11 @@ public class MenuUsuarios {
                     ConsoleUtils.pause();
                     break;
                     
+                case 4:
+                    usuarioController.importarUsuarios();
+                    ConsoleUtils.pause();
+                    break;
+                    
                 case 0:
                     volver = true;
                     break;
@@ -1,6 +1,10 @@
 package com.wallet.presentation.web;
 
+import com.wallet.domain.entities.Cuenta;
 import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.logging.Logger;
+import com.wallet.infrastructure.logging.OperationLogger;
 import com.wallet.infrastructure.persistence.DatabaseInitializer;
 import jakarta.persistence.EntityManager;
 import jakarta.servlet.ServletContextEvent;
@@ -29,10 +33,16 @@ public class AppBootstrapListener implements ServletContextListener {
                 entityManager.close();
             }
         }
+        // Account numbers come from blocks reserved in the database
+        Cuenta.setGeneradorNumeroCuenta(RepositoryFactory.getGeneradorNumeroCuenta());
     }
 
     @Override
     public void contextDestroyed(ServletContextEvent sce) {
+        RepositoryFactory.cerrar();
         JPAConfiguration.close();
+        // Último: lo anterior todavía puede registrar operaciones
+        OperationLogger.cerrar();
+        Logger.cerrar();
     }
 }
@@ -0,0 +1,99 @@
+package com.wallet.presentation.web;
+
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.logging.EstadisticasLog;
+import com.wallet.infrastructure.logging.OperationLogger;
+import com.wallet.infrastructure.logging.OperationLogger.LogLevel;
+import com.wallet.infrastructure.metrics.Medidor;
+import com.wallet.infrastructure.repositories.CuentaRepositoryCache;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Web endpoint exposing live operation-log and account-cache statistics as JSON.
+ * Reads in-memory counters only; never touches the log file.
+ */
+@WebServlet(name = "EstadisticasServlet", urlPatterns = {"/estadisticas"})
+public class EstadisticasServlet extends HttpServlet {
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        response.setContentType("application/json");
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-store");
+        response.getWriter().write(toJson(OperationLogger.getEstadisticas(),
+            RepositoryFactory.getCuentaCache().map(CuentaRepositoryCache::getEstadisticas).orElse(null)));
+    }
+
+    static String toJson(EstadisticasLog estadisticas, CuentaRepositoryCache.Estadisticas cache) {
+        StringBuilder json = new StringBuilder(512);
+        json.append("{\"total\":").append(estadisticas.getTotal());
+
+        json.append(",\"niveles\":{");
+        boolean primero = true;
+        for (LogLevel nivel : LogLevel.values()) {
+            Medidor medidor = estadisticas.getMedidor(nivel);
+            if (!primero) {
+                json.append(',');
+            }
+            primero = false;
+            json.append('"').append(nivel.getLabel()).append("\":{")
+                .append("\"total\":").append(medidor.getTotal())
+                .append(",\"tasa1m\":").append(formatear(medidor.getTasa1m()))
+                .append(",\"tasa5m\":").append(formatear(medidor.getTasa5m()))
+                .append(",\"tasa15m\":").append(formatear(medidor.getTasa15m()))
+                .append('}');
+        }
+        json.append('}');
+
+        json.append(",\"entidades\":{");
+        primero = true;
+        for (Map.Entry<String, Long> entrada : estadisticas.getConteosPorEntidad().entrySet()) {
+            if (!primero) {
+                json.append(',');
+            }
+            primero = false;
+            json.append('"').append(escapar(entrada.getKey())).append("\":").append(entrada.getValue());
+        }
+        json.append('}');
+
+        if (cache != null) {
+            json.append(",\"cacheCuentas\":{")
+                .append("\"aciertos\":").append(cache.getAciertos())
+                .append(",\"fallos\":").append(cache.getFallos())
+                .append(",\"tasaAciertos\":").append(formatear(cache.getTasaAciertos()))
+                .append(",\"desalojos\":").append(cache.getDesalojos())
+                .append(",\"invalidaciones\":").append(cache.getInvalidaciones())
+                .append(",\"tamano\":").append(cache.getTamano())
+                .append(",\"capacidad\":").append(cache.getCapacidad())
+                .append('}');
+        }
+        json.append('}');
+        return json.toString();
+    }
+
+    private static String formatear(double tasa) {
+        return String.format(Locale.ROOT, "%.3f", tasa);
+    }
+
+    private static String escapar(String texto) {
+        StringBuilder resultado = new StringBuilder(texto.length());
+        for (char c : texto.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                resultado.append('\\').append(c);
+            } else if (c < 0x20) {
+                resultado.append(String.format("\\u%04x", (int) c));
+            } else {
+                resultado.append(c);
+            }
+        }
+        return resultado.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package com.wallet.presentation.web;
+
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.infrastructure.logging.Logger;
+import com.wallet.infrastructure.services.ExportacionService;
+import com.wallet.infrastructure.services.ExportacionService.Formato;
+import jakarta.servlet.annotation.WebServlet;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+/**
+ * Web endpoint that downloads an account's full transaction history as CSV
+ * or JSON. Rows are streamed to the response as they are read, so memory
+ * does not depend on the size of the history.
+ */
+@WebServlet(name = "ExportarHistorialServlet", urlPatterns = {"/historial/exportar"})
+public class ExportarHistorialServlet extends HttpServlet {
+
+    private final ExportacionService exportacionService = new ExportacionService();
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String numeroCuenta = WebFormUtils.trimmed(request, "numeroCuenta");
+        if (WebFormUtils.isBlank(numeroCuenta) || !numeroCuenta.matches("[0-9A-Za-z-]+")) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Numero de cuenta requerido.");
+            return;
+        }
+        Formato formato;
+        try {
+            String valor = WebFormUtils.trimmed(request, "formato");
+            formato = Formato.desde(WebFormUtils.isBlank(valor) ? "csv" : valor);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, e.getMessage());
+            return;
+        }
+
+        response.setContentType(formato.getContentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader("Cache-Control", "no-store");
+        response.setHeader("Content-Disposition",
+            "attachment; filename=\"historial-" + numeroCuenta + "." + formato.getExtension() + "\"");
+
+        try {
+            exportacionService.exportar(numeroCuenta, formato, response.getOutputStream());
+        } catch (CuentaNoEncontradaException e) {
+            // Nothing has been written yet: the lookup runs before the first row
+            response.reset();
+            response.sendError(HttpServletResponse.SC_NOT_FOUND, e.getMessage());
+        } catch (IOException e) {
+            // Usually the client closed the connection mid-download
+            Logger.warning("Exportacion de la cuenta {} interrumpida: {}", numeroCuenta, e.getMessage());
+        } catch (RuntimeException e) {
+            // E.g. a RepositoryException while scrolling the history
+            Logger.error("Exportacion de la cuenta {} fallida", numeroCuenta, e);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+                    "No se pudo exportar el historial.");
+                return;
+            }
+            // Part of the file is already out: rethrow so the container aborts
+            // the connection instead of ending the download as if complete
+            throw e;
+        }
+    }
+}
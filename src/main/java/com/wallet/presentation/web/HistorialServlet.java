@@ -1,6 +1,11 @@
 package com.wallet.presentation.web;
 
+import com.wallet.application.dtos.HistorialCuentaDTO;
+import com.wallet.application.dtos.HistorialCursorDTO;
 import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.domain.repositories.Pagina;
+import com.wallet.domain.repositories.PaginaCursor;
+import com.wallet.domain.valueobjects.TipoTransaccion;
 import com.wallet.infrastructure.services.TransaccionService;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletException;
@@ -13,7 +18,6 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Web controller for transaction history with pagination and filters.
@@ -72,29 +76,36 @@ public class HistorialServlet extends HttpServlet {
         }
 
         try {
-            List<TransaccionDTO> transacciones = transaccionService.consultarHistorial(numeroCuenta);
-            
-            // Apply filters
-            transacciones = aplicarFiltros(transacciones, tipoFiltro, fechaInicioStr, fechaFinStr);
-            
-            int totalTransacciones = transacciones.size();
-            
-            // Apply pagination
-            int totalPaginas = (int) Math.ceil((double) totalTransacciones / tamano);
-            if (totalPaginas == 0) totalPaginas = 1; // At least 1 page
-            int inicio = (pagina - 1) * tamano;
-            int fin = Math.min(inicio + tamano, totalTransacciones);
-            
-            if (inicio < totalTransacciones) {
-                transacciones = transacciones.subList(inicio, fin);
+            TipoTransaccion tipo = parseTipo(tipoFiltro);
+            LocalDateTime desde = parseFecha(fechaInicioStr, false);
+            LocalDateTime hasta = parseFecha(fechaFinStr, true);
+            String cursor = WebFormUtils.trimmed(request, "cursor");
+            Integer totalConocido = parseTotal(request);
+
+            if (!WebFormUtils.isBlank(cursor) && totalConocido != null) {
+                // "Next" from a previous page: account header and the rows after the cursor,
+                // seeking past it instead of skipping rows.
+                // The total was counted on the first page and is carried by the form.
+                HistorialCursorDTO historial = transaccionService.consultarHistorialDesdeCursor(
+                    numeroCuenta, tipo, desde, hasta, cursor, tamano);
+                PaginaCursor<TransaccionDTO> resultado = historial.getTransacciones();
+                request.setAttribute("cuenta", historial.getCuenta());
+                request.setAttribute("transacciones", resultado.getContenido());
+                request.setAttribute("totalTransacciones", totalConocido);
+                request.setAttribute("totalPaginas", Math.max(1, (totalConocido + tamano - 1) / tamano));
+                request.setAttribute("cursorSiguiente", resultado.getSiguiente());
             } else {
-                transacciones = List.of();
+                // Account header, filtering, ordering, paging and counting in one query
+                HistorialCuentaDTO historial = transaccionService.consultarHistorialPaginado(
+                    numeroCuenta, tipo, desde, hasta, pagina, tamano);
+                Pagina<TransaccionDTO> resultado = historial.getTransacciones();
+                request.setAttribute("cuenta", historial.getCuenta());
+                request.setAttribute("transacciones", resultado.getContenido());
+                request.setAttribute("totalTransacciones", (int) resultado.getTotal());
+                request.setAttribute("totalPaginas", resultado.getTotalPaginas());
+                request.setAttribute("cursorSiguiente", resultado.getSiguiente());
             }
             
-            request.setAttribute("transacciones", transacciones);
-            request.setAttribute("totalTransacciones", totalTransacciones);
-            request.setAttribute("totalPaginas", totalPaginas);
-            
         } catch (Exception e) {
             request.setAttribute("error", e.getMessage());
             request.setAttribute("transacciones", List.of());
@@ -129,41 +140,46 @@ public class HistorialServlet extends HttpServlet {
         }
     }
 
-    private List<TransaccionDTO> aplicarFiltros(List<TransaccionDTO> transacciones, 
-                                                 String tipoFiltro, 
-                                                 String fechaInicioStr, 
-                                                 String fechaFinStr) {
-        // Filter by type
-        if (!WebFormUtils.isBlank(tipoFiltro) && !tipoFiltro.equals("TODOS")) {
-            transacciones = transacciones.stream()
-                .filter(t -> t.getTipo().equals(tipoFiltro))
-                .collect(Collectors.toList());
+    private Integer parseTotal(HttpServletRequest request) {
+        String totalStr = WebFormUtils.trimmed(request, "total");
+        if (WebFormUtils.isBlank(totalStr)) {
+            return null;
         }
-        
-        // Filter by date range
-        if (!WebFormUtils.isBlank(fechaInicioStr)) {
-            try {
-                LocalDateTime fechaInicio = LocalDateTime.parse(fechaInicioStr + ":00", DATE_FORMAT);
-                transacciones = transacciones.stream()
-                    .filter(t -> !t.getFecha().isBefore(fechaInicio))
-                    .collect(Collectors.toList());
-            } catch (Exception e) {
-                // Ignore invalid date
-            }
+        try {
+            int total = Integer.parseInt(totalStr);
+            return total >= 0 ? total : null;
+        } catch (Exception e) {
+            return null;
         }
-        
-        if (!WebFormUtils.isBlank(fechaFinStr)) {
-            try {
-                LocalDateTime fechaFin = LocalDateTime.parse(fechaFinStr + ":59", DATE_FORMAT);
-                transacciones = transacciones.stream()
-                    .filter(t -> !t.getFecha().isAfter(fechaFin))
-                    .collect(Collectors.toList());
-            } catch (Exception e) {
-                // Ignore invalid date
-            }
+    }
+
+    private TipoTransaccion parseTipo(String tipoFiltro) {
+        if (WebFormUtils.isBlank(tipoFiltro) || tipoFiltro.equals("TODOS")) {
+            return null;
+        }
+        try {
+            return TipoTransaccion.valueOf(tipoFiltro);
+        } catch (IllegalArgumentException e) {
+            // Ignore unknown type
+            return null;
+        }
+    }
+
+    /**
+     * Parses a datetime-local value (minute precision). The end of the range
+     * is extended to the last instant of that minute so it stays inclusive.
+     */
+    private LocalDateTime parseFecha(String fechaStr, boolean finDeRango) {
+        if (WebFormUtils.isBlank(fechaStr)) {
+            return null;
+        }
+        try {
+            LocalDateTime fecha = LocalDateTime.parse(fechaStr, DATE_FORMAT);
+            return finDeRango ? fecha.plusMinutes(1).minusNanos(1) : fecha;
+        } catch (Exception e) {
+            // Ignore invalid date
+            return null;
         }
-        
-        return transacciones;
     }
 
     private void forward(HttpServletRequest request, HttpServletResponse response)
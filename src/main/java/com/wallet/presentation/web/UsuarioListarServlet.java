@@ -1,6 +1,7 @@
 package com.wallet.presentation.web;
 
 import com.wallet.application.dtos.UsuarioDTO;
+import com.wallet.domain.repositories.Pagina;
 import com.wallet.infrastructure.services.UsuarioService;
 import jakarta.servlet.RequestDispatcher;
 import jakarta.servlet.ServletException;
@@ -11,7 +12,6 @@ import jakarta.servlet.http.HttpServletResponse;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Web controller for listing users with pagination and filters.
@@ -54,29 +54,13 @@ public class UsuarioListarServlet extends HttpServlet {
         request.setAttribute("estadoFiltro", estadoFiltro != null ? estadoFiltro : "TODOS");
 
         try {
-            // Get all users
-            List<UsuarioDTO> usuarios = usuarioService.obtenerTodos();
+            // Filtering, ordering, paging and counting run in the database
+            Pagina<UsuarioDTO> resultado = usuarioService.listarPaginado(
+                emailFiltro, parseEstado(estadoFiltro), pagina, tamano);
 
-            // Apply filters
-            usuarios = aplicarFiltros(usuarios, emailFiltro, estadoFiltro);
-
-            int totalUsuarios = usuarios.size();
-
-            // Apply pagination
-            int totalPaginas = (int) Math.ceil((double) totalUsuarios / tamano);
-            if (totalPaginas == 0) totalPaginas = 1; // At least 1 page
-            int inicio = (pagina - 1) * tamano;
-            int fin = Math.min(inicio + tamano, totalUsuarios);
-
-            if (inicio < totalUsuarios) {
-                usuarios = usuarios.subList(inicio, fin);
-            } else {
-                usuarios = List.of();
-            }
-
-            request.setAttribute("usuarios", usuarios);
-            request.setAttribute("totalUsuarios", totalUsuarios);
-            request.setAttribute("totalPaginas", totalPaginas);
+            request.setAttribute("usuarios", resultado.getContenido());
+            request.setAttribute("totalUsuarios", (int) resultado.getTotal());
+            request.setAttribute("totalPaginas", resultado.getTotalPaginas());
 
         } catch (Exception e) {
             request.setAttribute("error", e.getMessage());
@@ -112,24 +96,14 @@ public class UsuarioListarServlet extends HttpServlet {
         }
     }
 
-    private List<UsuarioDTO> aplicarFiltros(List<UsuarioDTO> usuarios, String emailFiltro, String estadoFiltro) {
-        // Filter by email
-        if (!WebFormUtils.isBlank(emailFiltro)) {
-            String emailLower = emailFiltro.toLowerCase();
-            usuarios = usuarios.stream()
-                .filter(u -> u.getEmail().toLowerCase().contains(emailLower))
-                .collect(Collectors.toList());
+    /**
+     * Maps the status filter (TODOS, ACTIVOS, INACTIVOS) to the query value.
+     */
+    private Boolean parseEstado(String estadoFiltro) {
+        if (WebFormUtils.isBlank(estadoFiltro) || estadoFiltro.equals("TODOS")) {
+            return null;
         }
-
-        // Filter by estado (TODOS, ACTIVOS, INACTIVOS)
-        if (!WebFormUtils.isBlank(estadoFiltro) && !estadoFiltro.equals("TODOS")) {
-            boolean soloActivos = estadoFiltro.equals("ACTIVOS");
-            usuarios = usuarios.stream()
-                .filter(u -> u.isActivo() == soloActivos)
-                .collect(Collectors.toList());
-        }
-
-        return usuarios;
+        return estadoFiltro.equals("ACTIVOS");
     }
 
     private void forward(HttpServletRequest request, HttpServletResponse response)
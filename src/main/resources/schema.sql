@@ -23,7 +23,9 @@ CREATE TABLE IF NOT EXISTS usuarios (
 -- Índices para búsquedas rápidas
 CREATE UNIQUE INDEX IF NOT EXISTS idx_usuarios_email ON usuarios(email);
 CREATE UNIQUE INDEX IF NOT EXISTS idx_usuarios_documento ON usuarios(documento);
-CREATE INDEX IF NOT EXISTS idx_usuarios_activo ON usuarios(activo);
+-- Listado paginado: por estado y nombre, y solo por nombre cuando no se filtra el estado
+CREATE INDEX IF NOT EXISTS idx_usuarios_activo_nombre ON usuarios(activo, nombre, apellido, id);
+CREATE INDEX IF NOT EXISTS idx_usuarios_nombre ON usuarios(nombre, apellido, id);
 CREATE INDEX IF NOT EXISTS idx_usuarios_created_at ON usuarios(created_at);
 
 -- ============================================
@@ -76,11 +78,45 @@ CREATE TABLE IF NOT EXISTS transacciones (
 -- Índices para búsquedas y reportes
 CREATE INDEX IF NOT EXISTS idx_transacciones_cuenta_id ON transacciones(cuenta_id);
 CREATE INDEX IF NOT EXISTS idx_transacciones_fecha ON transacciones(fecha_transaccion);
+-- Historial paginado (offset y cursor): mismo orden que ORDER BY fecha DESC, id
+CREATE INDEX IF NOT EXISTS idx_transacciones_cuenta_fecha_id ON transacciones(cuenta_id, fecha_transaccion DESC, id);
 CREATE INDEX IF NOT EXISTS idx_transacciones_tipo ON transacciones(tipo);
 CREATE INDEX IF NOT EXISTS idx_transacciones_created_at ON transacciones(created_at);
 CREATE INDEX IF NOT EXISTS idx_transacciones_cuenta_origen ON transacciones(cuenta_origen_id);
 CREATE INDEX IF NOT EXISTS idx_transacciones_cuenta_destino ON transacciones(cuenta_destino_id);
 
+-- ============================================
+-- TABLA: SALDOS_DIARIOS
+-- ============================================
+-- Una fila por cuenta y día con movimientos, actualizada en la misma
+-- transacción que inserta cada transacción. Resúmenes de período y saldo
+-- a una fecha se leen de aquí sin recorrer transacciones.
+-- Reconstrucción: com.wallet.infrastructure.persistence.ReconstruirSaldosDiarios
+CREATE TABLE IF NOT EXISTS saldos_diarios (
+    cuenta_id VARCHAR(36) NOT NULL,
+    fecha DATE NOT NULL,
+    saldo_apertura DECIMAL(19, 2) NOT NULL,
+    saldo_cierre DECIMAL(19, 2) NOT NULL,
+    creditos DECIMAL(19, 2) NOT NULL,
+    debitos DECIMAL(19, 2) NOT NULL,
+    cantidad BIGINT NOT NULL,
+    primera_transaccion TIMESTAMP NOT NULL,
+    ultima_transaccion TIMESTAMP NOT NULL,
+    -- La clave (cuenta_id, fecha) es también el índice de rangos y de saldo a fecha
+    PRIMARY KEY (cuenta_id, fecha),
+    CHECK (cantidad > 0)
+);
+
+-- ============================================
+-- TABLA: SECUENCIAS
+-- ============================================
+-- Siguiente valor libre de cada secuencia. Los generadores reservan un
+-- bloque de valores por transacción y lo reparten en memoria.
+CREATE TABLE IF NOT EXISTS secuencias (
+    nombre VARCHAR(50) PRIMARY KEY,
+    siguiente BIGINT NOT NULL
+);
+
 -- ============================================
 -- VISTAS ÚTILES (Opcional)
 -- ============================================
@@ -86,8 +86,22 @@
                     String tipoFiltro = (String) request.getAttribute("tipoFiltro");
                     String fechaInicio = (String) request.getAttribute("fechaInicio");
                     String fechaFin = (String) request.getAttribute("fechaFin");
+                    String cursorSiguiente = (String) request.getAttribute("cursorSiguiente");
                 %>
                 
+                <% com.wallet.application.dtos.CuentaDTO cuenta =
+                    (com.wallet.application.dtos.CuentaDTO) request.getAttribute("cuenta"); %>
+                <% if (cuenta != null) { %>
+                    <div class="results-info" aria-label="Cuenta consultada">
+                        <span class="text-muted">Cuenta <strong><%= cuenta.getNumeroCuenta() %></strong></span>
+                        <span class="badge badge-info">Saldo: <strong><%= cuenta.getSaldo() %></strong> <%= cuenta.getMoneda() %></span>
+                        <span class="text-muted">Exportar historial completo:
+                            <a href="<%= request.getContextPath() %>/historial/exportar?numeroCuenta=<%= cuenta.getNumeroCuenta() %>&amp;formato=csv">CSV</a> ·
+                            <a href="<%= request.getContextPath() %>/historial/exportar?numeroCuenta=<%= cuenta.getNumeroCuenta() %>&amp;formato=json">JSON</a>
+                        </span>
+                    </div>
+                <% } %>
+                
                 <div class="results-info" role="status" aria-live="polite">
                     <span class="badge">Total: <strong><%= totalTransacciones %></strong> transacciones</span>
                     <span class="text-muted">Página <strong><%= paginaActual %></strong> de <strong><%= totalPaginas %></strong></span>
@@ -155,6 +169,10 @@
                                 <input type="hidden" name="tipo" value="<%= tipoFiltro != null ? tipoFiltro : "" %>">
                                 <input type="hidden" name="fechaInicio" value="<%= fechaInicio != null ? fechaInicio : "" %>">
                                 <input type="hidden" name="fechaFin" value="<%= fechaFin != null ? fechaFin : "" %>">
+                                <% if (cursorSiguiente != null) { %>
+                                    <input type="hidden" name="cursor" value="<%= cursorSiguiente %>">
+                                    <input type="hidden" name="total" value="<%= totalTransacciones %>">
+                                <% } %>
                                 <button type="submit" class="btn-secondary" aria-label="Ir a página siguiente">Siguiente →</button>
                             </form>
                         <% } %>
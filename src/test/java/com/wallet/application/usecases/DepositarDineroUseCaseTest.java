@@ -7,11 +7,13 @@ import com.wallet.domain.entities.Transaccion;
 import com.wallet.domain.entities.Usuario;
 import com.wallet.domain.exceptions.CuentaNoEncontradaException;
 import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.IMovimientoLedger;
 import com.wallet.domain.repositories.ITransaccionRepository;
 import com.wallet.domain.valueobjects.Dinero;
 import com.wallet.domain.valueobjects.DocumentoIdentidad;
 import com.wallet.domain.valueobjects.DocumentoIdentidad.TipoDocumento;
 import com.wallet.domain.valueobjects.Email;
+import com.wallet.domain.valueobjects.TipoTransaccion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -92,4 +94,26 @@ class DepositarDineroUseCaseTest {
     void debeLanzarExcepcionSiRequestNulo() {
         assertThrows(IllegalArgumentException.class, () -> useCase.ejecutar(null));
     }
+    
+    @Test
+    @DisplayName("Debe delegar en el ledger de movimientos si está configurado")
+    void debeDelegarEnLedgerDeMovimientos() {
+        // Arrange
+        IMovimientoLedger ledger = mock(IMovimientoLedger.class);
+        useCase = new DepositarDineroUseCase(cuentaRepository, transaccionRepository, ledger);
+        Dinero monto = Dinero.de(new BigDecimal("100.00"));
+        DepositarDineroRequest request = new DepositarDineroRequest(cuenta.getId(), new BigDecimal("100.00"), "Deposito en lote");
+        
+        when(ledger.registrarMovimiento(cuenta.getId(), TipoTransaccion.DEPOSITO, monto, "Deposito en lote"))
+            .thenReturn(Transaccion.deposito(monto, cuenta.getId(), "Deposito en lote", Dinero.CERO, monto));
+        
+        // Act
+        TransaccionDTO resultado = useCase.ejecutar(request);
+        
+        // Assert
+        assertEquals("DEPOSITO", resultado.getTipo());
+        verify(ledger).registrarMovimiento(cuenta.getId(), TipoTransaccion.DEPOSITO, monto, "Deposito en lote");
+        verify(cuentaRepository, never()).guardar(any(Cuenta.class));
+        verify(transaccionRepository, never()).guardar(any(Transaccion.class));
+    }
 }
@@ -8,11 +8,13 @@ import com.wallet.domain.entities.Usuario;
 import com.wallet.domain.exceptions.CuentaNoEncontradaException;
 import com.wallet.domain.exceptions.OperacionNoValidaException;
 import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.IMovimientoLedger;
 import com.wallet.domain.repositories.ITransaccionRepository;
 import com.wallet.domain.valueobjects.Dinero;
 import com.wallet.domain.valueobjects.DocumentoIdentidad;
 import com.wallet.domain.valueobjects.DocumentoIdentidad.TipoDocumento;
 import com.wallet.domain.valueobjects.Email;
+import com.wallet.domain.valueobjects.TipoTransaccion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -102,4 +104,26 @@ class RetirarDineroUseCaseTest {
         // Act & Assert
         assertThrows(CuentaNoEncontradaException.class, () -> useCase.ejecutar(request));
     }
+    
+    @Test
+    @DisplayName("Debe delegar en el ledger de movimientos si está configurado")
+    void debeDelegarEnLedgerDeMovimientos() {
+        // Arrange
+        IMovimientoLedger ledger = mock(IMovimientoLedger.class);
+        useCase = new RetirarDineroUseCase(cuentaRepository, transaccionRepository, ledger);
+        Dinero monto = Dinero.de(new BigDecimal("100.00"));
+        RetirarDineroRequest request = new RetirarDineroRequest(cuenta.getId(), new BigDecimal("100.00"), "Retiro en lote");
+        
+        when(ledger.registrarMovimiento(cuenta.getId(), TipoTransaccion.RETIRO, monto, "Retiro en lote"))
+            .thenReturn(Transaccion.retiro(monto, cuenta.getId(), "Retiro en lote", Dinero.de(new BigDecimal("500.00")), Dinero.de(new BigDecimal("400.00"))));
+        
+        // Act
+        TransaccionDTO resultado = useCase.ejecutar(request);
+        
+        // Assert
+        assertEquals("RETIRO", resultado.getTipo());
+        verify(ledger).registrarMovimiento(cuenta.getId(), TipoTransaccion.RETIRO, monto, "Retiro en lote");
+        verify(cuentaRepository, never()).guardar(any(Cuenta.class));
+        verify(transaccionRepository, never()).guardar(any(Transaccion.class));
+    }
 }
@@ -0,0 +1,113 @@
+package com.wallet.application.usecases;
+
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.exceptions.OperacionNoValidaException;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.repositories.ITransferLedger;
+import com.wallet.domain.valueobjects.Dinero;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests para TransferirDineroUseCase.
+ */
+@DisplayName("TransferirDineroUseCase Tests")
+class TransferirDineroUseCaseTest {
+
+    private ICuentaRepository cuentaRepository;
+    private ITransaccionRepository transaccionRepository;
+    private ITransferLedger transferLedger;
+    private TransferirDineroUseCase useCase;
+    private Cuenta origen;
+    private Cuenta destino;
+
+    @BeforeEach
+    void setUp() {
+        cuentaRepository = mock(ICuentaRepository.class);
+        transaccionRepository = mock(ITransaccionRepository.class);
+        transferLedger = mock(ITransferLedger.class);
+        useCase = new TransferirDineroUseCase(cuentaRepository, transferLedger);
+
+        origen = new Cuenta("usuario-origen");
+        origen.depositar(Dinero.de(new BigDecimal("1000.00")));
+        destino = new Cuenta("usuario-destino");
+
+        when(cuentaRepository.buscarPorId(origen.getId())).thenReturn(Optional.of(origen));
+        when(cuentaRepository.buscarPorId(destino.getId())).thenReturn(Optional.of(destino));
+    }
+
+    @Test
+    @DisplayName("Debe registrar la transferencia en una sola llamada al ledger")
+    void debeRegistrarEnUnaSolaUnidadDeTrabajo() {
+        // Arrange
+        when(transferLedger.registrarTransferencia(any(), any(), any(), any()))
+            .thenAnswer(invocation -> List.of(invocation.getArgument(2), invocation.getArgument(3)));
+        TransferirDineroRequest request = new TransferirDineroRequest(
+            origen.getId(), destino.getId(), new BigDecimal("250.00"), "Pago"
+        );
+
+        // Act
+        List<TransaccionDTO> resultado = useCase.ejecutar(request);
+
+        // Assert
+        assertEquals(2, resultado.size());
+        assertEquals("TRANSFERENCIA_ENVIADA", resultado.get(0).getTipo());
+        assertEquals("TRANSFERENCIA_RECIBIDA", resultado.get(1).getTipo());
+        assertEquals(new BigDecimal("750.00"), origen.getSaldo().getCantidad());
+        assertEquals(new BigDecimal("250.00"), destino.getSaldo().getCantidad());
+
+        verify(transferLedger, times(1)).registrarTransferencia(
+            eq(origen), eq(destino), any(Transaccion.class), any(Transaccion.class));
+        verify(cuentaRepository, never()).guardar(any(Cuenta.class));
+    }
+
+    @Test
+    @DisplayName("Debe usar los repositorios si se construye sin ledger")
+    void debeUsarLedgerSecuencialSinLedger() {
+        // Arrange
+        useCase = new TransferirDineroUseCase(cuentaRepository, transaccionRepository);
+        when(cuentaRepository.guardar(any(Cuenta.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transaccionRepository.guardar(any(Transaccion.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        TransferirDineroRequest request = new TransferirDineroRequest(
+            origen.getId(), destino.getId(), new BigDecimal("100.00"), null
+        );
+
+        // Act
+        List<TransaccionDTO> resultado = useCase.ejecutar(request);
+
+        // Assert
+        assertEquals(2, resultado.size());
+        verify(cuentaRepository, times(2)).guardar(any(Cuenta.class));
+        verify(transaccionRepository, times(2)).guardar(any(Transaccion.class));
+    }
+
+    @Test
+    @DisplayName("No debe tocar el ledger si la transferencia es a la misma cuenta")
+    void debeRechazarMismaCuenta() {
+        TransferirDineroRequest request = new TransferirDineroRequest(
+            origen.getId(), origen.getId(), new BigDecimal("10.00"), null
+        );
+
+        assertThrows(OperacionNoValidaException.class, () -> useCase.ejecutar(request));
+        verifyNoInteractions(transferLedger);
+    }
+
+    @Test
+    @DisplayName("Debe lanzar excepción si el ledger es nulo")
+    void debeLanzarExcepcionSiLedgerNulo() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new TransferirDineroUseCase(cuentaRepository, (ITransferLedger) null));
+    }
+}
@@ -0,0 +1,131 @@
+package com.wallet.benchmarks;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.repositories.ConsultaTransacciones;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.repositories.CuentaJPARepository;
+import com.wallet.infrastructure.repositories.TransaccionJPARepository;
+import com.wallet.infrastructure.services.TransaccionService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la latencia de una página del historial por número de
+ * cuenta, como la pide /historial.
+ *
+ * - separado: buscar la cuenta por número, contar y leer la página, en
+ *   tres consultas (sin la caché de cuentas)
+ * - combinado: TransaccionJPARepository.listarHistorial, cuenta, página y
+ *   total en una sola consulta
+ * - servicio: TransaccionService.consultarHistorialPaginado, el camino
+ *   completo del endpoint con el mapeo a DTO
+ *
+ * La cuenta tiene 1000 transacciones; se mide la primera página y una
+ * intermedia.
+ *
+ * Ejecución:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" com.wallet.benchmarks.HistorialBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 1, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class HistorialBenchmark {
+
+    private static final int TRANSACCIONES = 1000;
+    private static final int TAMANO = 20;
+
+    @Param({"1", "25"})
+    public int pagina;
+
+    private CuentaJPARepository cuentaRepository;
+    private TransaccionJPARepository transaccionRepository;
+    private TransaccionService transaccionService;
+    private String usuarioId;
+    private String cuentaId;
+    private String numeroCuenta;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JPAConfiguration.initialize();
+        long sufijo = System.nanoTime() % 1_000_000_000L;
+        Usuario usuario = RepositoryFactory.getUsuarioRepository().guardar(new Usuario("Bench", "Historial",
+            new Email("historial" + sufijo + "@example.com"),
+            new DocumentoIdentidad(String.format("%010d", sufijo), DocumentoIdentidad.TipoDocumento.CEDULA)));
+        usuarioId = usuario.getId();
+        cuentaRepository = new CuentaJPARepository();
+        Cuenta cuenta = cuentaRepository.guardar(new Cuenta(usuarioId));
+        cuentaId = cuenta.getId();
+        numeroCuenta = cuenta.getNumeroCuenta();
+
+        transaccionRepository = new TransaccionJPARepository();
+        LocalDateTime base = LocalDateTime.now().minusDays(TRANSACCIONES);
+        for (int i = 0; i < TRANSACCIONES; i++) {
+            TipoTransaccion tipo = i % 2 == 0 ? TipoTransaccion.DEPOSITO : TipoTransaccion.RETIRO;
+            transaccionRepository.guardar(new Transaccion(UUID.randomUUID().toString(), tipo,
+                Dinero.de(new BigDecimal("1.00")), cuentaId, null, "Bench " + i,
+                base.plusDays(i), Dinero.CERO, Dinero.CERO));
+        }
+        transaccionService = new TransaccionService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createNativeQuery("DELETE FROM transacciones WHERE cuenta_id = ?1")
+                .setParameter(1, cuentaId).executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas WHERE usuario_id = ?1")
+                .setParameter(1, usuarioId).executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios WHERE id = ?1")
+                .setParameter(1, usuarioId).executeUpdate();
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+            JPAConfiguration.close();
+        }
+    }
+
+    @Benchmark
+    public Object separado() {
+        Cuenta cuenta = cuentaRepository.buscarPorNumeroCuenta(numeroCuenta).orElseThrow();
+        return transaccionRepository.buscarPagina(
+            new ConsultaTransacciones(cuenta.getId(), null, null, null, pagina, TAMANO));
+    }
+
+    @Benchmark
+    public Object combinado() {
+        return transaccionRepository.listarHistorial(
+            ConsultaTransacciones.porNumeroCuenta(numeroCuenta, null, null, null, pagina, TAMANO)).orElseThrow();
+    }
+
+    @Benchmark
+    public Object servicio() {
+        return transaccionService.consultarHistorialPaginado(numeroCuenta, null, null, null, pagina, TAMANO);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(HistorialBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,160 @@
+package com.wallet.benchmarks;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.entities.TransaccionJPAEntity;
+import com.wallet.infrastructure.repositories.CuentaJPARepository;
+import com.wallet.infrastructure.repositories.TransaccionJPARepository;
+import com.wallet.infrastructure.repositories.UsuarioJPARepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de lecturas concurrentes del historial sobre SQLite WAL.
+ *
+ * Ocho hilos leen las últimas 20 transacciones de una cuenta:
+ * - historialEscritor: todas las lecturas comparten la única conexión del
+ *   escritor (equivale al antiguo maximumPoolSize=1)
+ * - historialLectores: cada hilo toma una conexión del pool de solo lectura
+ *
+ * Los grupos mixtos añaden un hilo que registra depósitos mientras siete
+ * hilos leen. Es el caso que motiva la separación: con un solo pool, cada
+ * lectura espera a que termine el commit (y el fsync) en curso.
+ * - mixtoEscritor: lecturas y escrituras por la conexión del escritor
+ * - mixtoLectores: lecturas por el pool de lectores
+ *
+ * El tamaño del pool de lectores se controla con -Dwallet.db.lectores
+ * (por ejemplo: -jvmArgsAppend -Dwallet.db.lectores=4).
+ *
+ * Ejecución:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" com.wallet.benchmarks.LecturaConcurrenteBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Threads(8)
+@Fork(1)
+public class LecturaConcurrenteBenchmark {
+
+    private static final int TRANSACCIONES = 200;
+    private static final int PAGINA = 20;
+    private static final Dinero MONTO = Dinero.de(BigDecimal.ONE);
+
+    private String usuarioId;
+    private String cuentaId;
+    private TransaccionJPARepository transaccionRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JPAConfiguration.initialize();
+
+        long sufijo = System.nanoTime() % 1_000_000_000L;
+        Usuario usuario = new UsuarioJPARepository().guardar(new Usuario("Bench", "Lectura",
+            new Email("lectura" + sufijo + "@example.com"),
+            new DocumentoIdentidad(String.format("%010d", sufijo), DocumentoIdentidad.TipoDocumento.CEDULA)));
+        usuarioId = usuario.getId();
+
+        Cuenta cuenta = new CuentaJPARepository().guardar(new Cuenta(usuarioId));
+        cuentaId = cuenta.getId();
+
+        transaccionRepository = new TransaccionJPARepository();
+        for (int i = 0; i < TRANSACCIONES; i++) {
+            escribir();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createNativeQuery("DELETE FROM transacciones WHERE cuenta_id = ?1")
+                .setParameter(1, cuentaId).executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas WHERE usuario_id = ?1")
+                .setParameter(1, usuarioId).executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios WHERE id = ?1")
+                .setParameter(1, usuarioId).executeUpdate();
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+            JPAConfiguration.close();
+        }
+    }
+
+    @Benchmark
+    public List<TransaccionJPAEntity> historialEscritor() {
+        return ultimas(JPAConfiguration.getEntityManager());
+    }
+
+    @Benchmark
+    public List<TransaccionJPAEntity> historialLectores() {
+        return ultimas(JPAConfiguration.getEntityManagerLectura());
+    }
+
+    @Benchmark
+    @Group("mixtoEscritor")
+    @GroupThreads(1)
+    public Transaccion mixtoEscritorEscribe() {
+        return escribir();
+    }
+
+    @Benchmark
+    @Group("mixtoEscritor")
+    @GroupThreads(7)
+    public List<TransaccionJPAEntity> mixtoEscritorLee() {
+        return ultimas(JPAConfiguration.getEntityManager());
+    }
+
+    @Benchmark
+    @Group("mixtoLectores")
+    @GroupThreads(1)
+    public Transaccion mixtoLectoresEscribe() {
+        return escribir();
+    }
+
+    @Benchmark
+    @Group("mixtoLectores")
+    @GroupThreads(7)
+    public List<TransaccionJPAEntity> mixtoLectoresLee() {
+        return ultimas(JPAConfiguration.getEntityManagerLectura());
+    }
+
+    private Transaccion escribir() {
+        return transaccionRepository.guardar(
+            Transaccion.deposito(MONTO, cuentaId, "Bench", Dinero.CERO, MONTO));
+    }
+
+    private List<TransaccionJPAEntity> ultimas(EntityManager em) {
+        try {
+            return em.createQuery(
+                    "SELECT t FROM TransaccionJPAEntity t WHERE t.cuenta.id = :cuentaId "
+                        + "ORDER BY t.fechaTransaccion DESC", TransaccionJPAEntity.class)
+                .setParameter("cuentaId", cuentaId)
+                .setMaxResults(PAGINA)
+                .getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(LecturaConcurrenteBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,144 @@
+package com.wallet.benchmarks;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.logging.Logger;
+import com.wallet.infrastructure.services.CuentaService;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark del coste de Logger en el camino del depósito, con DEBUG
+ * encendido y apagado y con salida síncrona o asíncrona.
+ *
+ * - concatenado: los mensajes del depósito construidos como antes
+ *   ("Depositando $" + monto + ...), con el String armado siempre
+ * - parametrizado: los mismos mensajes con marcadores {}, que no se
+ *   construyen si el nivel está apagado
+ * - debugConcatenado / debugParametrizado: solo las dos llamadas DEBUG,
+ *   para aislar lo que cuesta un nivel apagado
+ * - depositoCompleto: CuentaService.depositarPorNumero seguido de
+ *   consultarSaldo, para ver el peso del log frente a la base de datos
+ *
+ * Los mensajes van a un flujo nulo: se mide formatear y encolar, no la
+ * terminal. Con -prof gc se ve la asignación por operación.
+ *
+ * Ejecución:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" com.wallet.benchmarks.LoggerBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 1, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class LoggerBenchmark {
+
+    private static final BigDecimal MONTO = new BigDecimal("1.00");
+
+    @Param({"DEBUG", "INFO"})
+    public String nivel;
+
+    @Param({"sincrona", "asincrona"})
+    public String salida;
+
+    private CuentaService cuentaService;
+    private String usuarioId;
+    private String cuentaId;
+    private String numeroCuenta;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Logger.setSalida(new PrintStream(OutputStream.nullOutputStream()));
+        Logger.setNivelMinimo(Logger.Nivel.valueOf(nivel));
+        if ("asincrona".equals(salida)) {
+            Logger.activarAsincrono(4096);
+        }
+
+        JPAConfiguration.initialize();
+        long sufijo = System.nanoTime() % 1_000_000_000L;
+        Usuario usuario = RepositoryFactory.getUsuarioRepository().guardar(new Usuario("Bench", "Logger",
+            new Email("logger" + sufijo + "@example.com"),
+            new DocumentoIdentidad(String.format("%010d", sufijo), DocumentoIdentidad.TipoDocumento.CEDULA)));
+        usuarioId = usuario.getId();
+        Cuenta cuenta = RepositoryFactory.getCuentaRepository().guardar(new Cuenta(usuarioId));
+        cuentaId = cuenta.getId();
+        numeroCuenta = cuenta.getNumeroCuenta();
+        cuentaService = new CuentaService();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Logger.cerrar();
+        Logger.setSalida(System.out);
+        Logger.setNivelMinimo(Logger.Nivel.DEBUG);
+
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createNativeQuery("DELETE FROM transacciones WHERE cuenta_id = ?1")
+                .setParameter(1, cuentaId).executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas WHERE usuario_id = ?1")
+                .setParameter(1, usuarioId).executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios WHERE id = ?1")
+                .setParameter(1, usuarioId).executeUpdate();
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+            JPAConfiguration.close();
+        }
+    }
+
+    @Benchmark
+    public void concatenado() {
+        Logger.info("Depositando $" + MONTO + " en cuenta: " + numeroCuenta);
+        Logger.info("Deposito exitoso. Saldo actualizado.");
+        Logger.debug("Consultando saldo de cuenta: " + numeroCuenta);
+        Logger.debug("Buscando cuenta: " + numeroCuenta);
+    }
+
+    @Benchmark
+    public void parametrizado() {
+        Logger.info("Depositando ${} en cuenta: {}", MONTO, numeroCuenta);
+        Logger.info("Deposito exitoso. Saldo actualizado.");
+        Logger.debug("Consultando saldo de cuenta: {}", numeroCuenta);
+        Logger.debug("Buscando cuenta: {}", numeroCuenta);
+    }
+
+    @Benchmark
+    public void debugConcatenado() {
+        Logger.debug("Consultando saldo de cuenta: " + numeroCuenta);
+        Logger.debug("Buscando cuenta: " + numeroCuenta);
+    }
+
+    @Benchmark
+    public void debugParametrizado() {
+        Logger.debug("Consultando saldo de cuenta: {}", numeroCuenta);
+        Logger.debug("Buscando cuenta: {}", numeroCuenta);
+    }
+
+    @Benchmark
+    public Object depositoCompleto() {
+        cuentaService.depositarPorNumero(numeroCuenta, MONTO, "Bench");
+        return cuentaService.consultarSaldo(numeroCuenta);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(LoggerBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,104 @@
+package com.wallet.benchmarks;
+
+import com.wallet.infrastructure.services.LectorTasasJson;
+import com.wallet.infrastructure.services.TasasCruzadas;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Benchmark del parseo de una respuesta de la API de tasas con 160
+ * monedas, formateada en varias líneas como la envía open.er-api.com.
+ *
+ * - regex: el parseo anterior de ConversorDivisasAPI; lee el cuerpo
+ *   línea a línea en un StringBuilder, compila los dos Pattern y
+ *   recorre "rates" con un Matcher, creando un String por código y por
+ *   número
+ * - streaming: LectorTasasJson sobre el mismo flujo de bytes, sin armar
+ *   el cuerpo ni crear Strings por tasa
+ *
+ * Ambos construyen la misma TasasCruzadas. Con -prof gc se ve la
+ * asignación por respuesta.
+ *
+ * Ejecución:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" org.openjdk.jmh.Main ParseoTasasBenchmark -prof gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 1, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ParseoTasasBenchmark {
+
+    private static final int MONEDAS = 160;
+
+    private byte[] respuesta;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\n  \"result\": \"success\",\n")
+            .append("  \"provider\": \"https://www.exchangerate-api.com\",\n")
+            .append("  \"time_last_update_unix\": 1718064151,\n")
+            .append("  \"base_code\": \"USD\",\n  \"rates\": {\n    \"USD\": 1");
+        for (int i = 1; i < MONEDAS; i++) {
+            int indice = i * 109;
+            String codigo = new String(new char[] {
+                (char) ('A' + indice / 676 % 26), (char) ('A' + indice / 26 % 26), (char) ('A' + indice % 26)
+            });
+            json.append(",\n    \"").append(codigo).append("\": ")
+                .append(BigDecimal.valueOf(i * 7_919L + 13, i % 6).toPlainString());
+        }
+        json.append("\n  }\n}\n");
+        respuesta = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public TasasCruzadas regex() throws IOException {
+        BufferedReader in = new BufferedReader(
+            new InputStreamReader(new ByteArrayInputStream(respuesta))
+        );
+        StringBuilder response = new StringBuilder();
+        String inputLine;
+        while ((inputLine = in.readLine()) != null) {
+            response.append(inputLine);
+        }
+        in.close();
+
+        TasasCruzadas.Constructor rates = TasasCruzadas.constructor("USD");
+        Pattern ratesPattern = Pattern.compile("\"rates\"\\s*:\\s*\\{([^}]+)\\}");
+        Matcher ratesMatcher = ratesPattern.matcher(response.toString());
+        if (!ratesMatcher.find()) {
+            throw new IllegalStateException("Formato de respuesta JSON inválido");
+        }
+        Pattern pairPattern = Pattern.compile("\"([A-Z]{3})\"\\s*:\\s*([0-9.]+)");
+        Matcher pairMatcher = pairPattern.matcher(ratesMatcher.group(1));
+        while (pairMatcher.find()) {
+            rates.agregar(pairMatcher.group(1), new BigDecimal(pairMatcher.group(2)));
+        }
+        return rates.construir();
+    }
+
+    @Benchmark
+    public TasasCruzadas streaming() throws IOException {
+        return LectorTasasJson.leer(new ByteArrayInputStream(respuesta), "USD");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ParseoTasasBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,125 @@
+package com.wallet.benchmarks;
+
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.application.usecases.TransferirDineroUseCase;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de los perfiles de PRAGMA de SQLite (PerfilSQLite).
+ *
+ * Para cada perfil mide:
+ * - transferencia: TransferirDineroUseCase con el ledger atómico (un commit)
+ * - historial: últimas 20 transacciones de una cuenta con 500 movimientos
+ *
+ * Ambos pasan por RepositoryFactory, es decir, por el escritor y el pool
+ * de lectores tal como los usa la aplicación.
+ *
+ * Ejecución:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" com.wallet.benchmarks.PerfilSQLiteBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PerfilSQLiteBenchmark {
+
+    private static final int TRANSACCIONES = 500;
+    private static final BigDecimal MONTO = new BigDecimal("1.00");
+
+    @Param({"durable", "equilibrado", "carga-masiva"})
+    public String perfil;
+
+    private String usuarioId;
+    private String origenId;
+    private String destinoId;
+    private ITransaccionRepository transaccionRepository;
+    private TransferirDineroUseCase transferir;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        System.setProperty("wallet.db.perfil", perfil);
+        JPAConfiguration.initialize();
+
+        ICuentaRepository cuentaRepository = RepositoryFactory.getCuentaRepository();
+        transaccionRepository = RepositoryFactory.getTransaccionRepository();
+
+        long sufijo = System.nanoTime() % 1_000_000_000L;
+        Usuario usuario = RepositoryFactory.getUsuarioRepository().guardar(new Usuario("Bench", "Perfil",
+            new Email("perfil" + sufijo + "@example.com"),
+            new DocumentoIdentidad(String.format("%010d", sufijo), DocumentoIdentidad.TipoDocumento.CEDULA)));
+        usuarioId = usuario.getId();
+
+        Cuenta origen = new Cuenta(usuarioId);
+        origen.depositar(Dinero.de(new BigDecimal("100000000.00")));
+        origenId = cuentaRepository.guardar(origen).getId();
+
+        Cuenta destino = new Cuenta(UUID.randomUUID().toString(),
+            String.format("8%010d", sufijo), usuarioId, Dinero.CERO,
+            origen.getFechaCreacion(), origen.getFechaActualizacion(), true);
+        destinoId = cuentaRepository.guardar(destino).getId();
+
+        Dinero monto = Dinero.de(MONTO);
+        for (int i = 0; i < TRANSACCIONES; i++) {
+            transaccionRepository.guardar(Transaccion.deposito(monto, destinoId, "Bench", Dinero.CERO, monto));
+        }
+
+        transferir = new TransferirDineroUseCase(cuentaRepository, RepositoryFactory.getTransferLedger());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createNativeQuery("DELETE FROM transacciones WHERE cuenta_id IN (?1, ?2)")
+                .setParameter(1, origenId).setParameter(2, destinoId).executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas WHERE usuario_id = ?1")
+                .setParameter(1, usuarioId).executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios WHERE id = ?1")
+                .setParameter(1, usuarioId).executeUpdate();
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+            JPAConfiguration.close();
+            System.clearProperty("wallet.db.perfil");
+        }
+    }
+
+    @Benchmark
+    public Object transferencia() {
+        return transferir.ejecutar(new TransferirDineroRequest(origenId, destinoId, MONTO, "Bench"));
+    }
+
+    @Benchmark
+    public List<Transaccion> historial() {
+        return transaccionRepository.obtenerUltimasPorCuenta(destinoId, 20);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(PerfilSQLiteBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
@@ -0,0 +1,117 @@
+package com.wallet.benchmarks;
+
+import com.wallet.application.mappers.TransaccionMapper;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.repositories.ConsultaTransacciones;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.repositories.CuentaJPARepository;
+import com.wallet.infrastructure.repositories.TransaccionJPARepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de la asignación por fila al listar el historial.
+ *
+ * - entidades: buscarPagina (entidad JPA, jpaToDomain con tres Dinero) y
+ *   TransaccionMapper.toDTO por fila
+ * - proyeccion: listarPagina, columnas proyectadas directamente a
+ *   TransaccionDTO
+ *
+ * Se ejecuta con -prof gc: gc.alloc.rate.norm dividido por el tamaño de
+ * página da los bytes asignados por fila (incluye la parte fija de la
+ * consulta, que pesa menos cuanto mayor es la página).
+ *
+ * Ejecución:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" com.wallet.benchmarks.ProyeccionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 1, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ProyeccionBenchmark {
+
+    private static final int TRANSACCIONES = 500;
+
+    @Param({"20", "200"})
+    public int tamano;
+
+    private TransaccionJPARepository transaccionRepository;
+    private ConsultaTransacciones consulta;
+    private String usuarioId;
+    private String cuentaId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JPAConfiguration.initialize();
+        long sufijo = System.nanoTime() % 1_000_000_000L;
+        Usuario usuario = RepositoryFactory.getUsuarioRepository().guardar(new Usuario("Bench", "Proyeccion",
+            new Email("proyeccion" + sufijo + "@example.com"),
+            new DocumentoIdentidad(String.format("%010d", sufijo), DocumentoIdentidad.TipoDocumento.CEDULA)));
+        usuarioId = usuario.getId();
+        Cuenta cuenta = new CuentaJPARepository().guardar(new Cuenta(usuarioId));
+        cuentaId = cuenta.getId();
+
+        transaccionRepository = new TransaccionJPARepository();
+        LocalDateTime base = LocalDateTime.now().minusDays(TRANSACCIONES);
+        for (int i = 0; i < TRANSACCIONES; i++) {
+            TipoTransaccion tipo = i % 2 == 0 ? TipoTransaccion.DEPOSITO : TipoTransaccion.RETIRO;
+            transaccionRepository.guardar(new Transaccion(UUID.randomUUID().toString(), tipo,
+                Dinero.de(new BigDecimal("1.00")), cuentaId, null, "Bench " + i,
+                base.plusDays(i), Dinero.CERO, Dinero.CERO));
+        }
+        consulta = new ConsultaTransacciones(cuentaId, null, null, null, 1, tamano);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createNativeQuery("DELETE FROM transacciones WHERE cuenta_id = ?1")
+                .setParameter(1, cuentaId).executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas WHERE usuario_id = ?1")
+                .setParameter(1, usuarioId).executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios WHERE id = ?1")
+                .setParameter(1, usuarioId).executeUpdate();
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+            JPAConfiguration.close();
+        }
+    }
+
+    @Benchmark
+    public Object entidades() {
+        return transaccionRepository.buscarPagina(consulta).map(TransaccionMapper::toDTO);
+    }
+
+    @Benchmark
+    public Object proyeccion() {
+        return transaccionRepository.listarPagina(consulta);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(ProyeccionBenchmark.class.getSimpleName())
+            .addProfiler("gc")
+            .build()).run();
+    }
+}
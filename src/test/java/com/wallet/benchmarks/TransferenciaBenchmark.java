@@ -0,0 +1,114 @@
+package com.wallet.benchmarks;
+
+import com.wallet.application.dtos.requests.TransferirDineroRequest;
+import com.wallet.application.usecases.TransferirDineroUseCase;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.repositories.CuentaJPARepository;
+import com.wallet.infrastructure.repositories.TransaccionJPARepository;
+import com.wallet.infrastructure.repositories.TransferJPALedger;
+import com.wallet.infrastructure.repositories.UsuarioJPARepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark de transferencias por segundo sobre SQLite.
+ *
+ * Compara:
+ * - secuencial: cuatro guardar(), cada uno con su propio commit
+ * - atomica: TransferJPALedger, un único commit por transferencia
+ *
+ * Trabaja sobre wallet.db con un usuario y dos cuentas propios,
+ * que se eliminan al terminar.
+ *
+ * Ejecución:
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -cp "target/test-classes:target/classes:$(cat target/cp.txt)" com.wallet.benchmarks.TransferenciaBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class TransferenciaBenchmark {
+
+    private static final BigDecimal MONTO = new BigDecimal("1.00");
+
+    private String usuarioId;
+    private String origenId;
+    private String destinoId;
+    private TransferirDineroUseCase secuencial;
+    private TransferirDineroUseCase atomica;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JPAConfiguration.initialize();
+
+        CuentaJPARepository cuentaRepository = new CuentaJPARepository();
+        TransaccionJPARepository transaccionRepository = new TransaccionJPARepository();
+
+        long sufijo = System.nanoTime() % 1_000_000_000L;
+        Usuario usuario = new UsuarioJPARepository().guardar(new Usuario("Bench", "Transfer",
+            new Email("bench" + sufijo + "@example.com"),
+            new DocumentoIdentidad(String.format("%010d", sufijo), DocumentoIdentidad.TipoDocumento.CEDULA)));
+        usuarioId = usuario.getId();
+
+        Cuenta origen = new Cuenta(usuarioId);
+        origen.depositar(Dinero.de(new BigDecimal("100000000.00")));
+        origenId = cuentaRepository.guardar(origen).getId();
+
+        Cuenta destino = new Cuenta(UUID.randomUUID().toString(),
+            String.format("9%010d", sufijo), usuarioId, Dinero.CERO,
+            origen.getFechaCreacion(), origen.getFechaActualizacion(), true);
+        destinoId = cuentaRepository.guardar(destino).getId();
+
+        secuencial = new TransferirDineroUseCase(cuentaRepository, transaccionRepository);
+        atomica = new TransferirDineroUseCase(cuentaRepository, new TransferJPALedger());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createNativeQuery("DELETE FROM transacciones WHERE cuenta_id IN (?1, ?2)")
+                .setParameter(1, origenId).setParameter(2, destinoId).executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas WHERE usuario_id = ?1")
+                .setParameter(1, usuarioId).executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios WHERE id = ?1")
+                .setParameter(1, usuarioId).executeUpdate();
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+            JPAConfiguration.close();
+        }
+    }
+
+    @Benchmark
+    public Object transferenciaSecuencial() {
+        return secuencial.ejecutar(new TransferirDineroRequest(origenId, destinoId, MONTO, "Bench"));
+    }
+
+    @Benchmark
+    public Object transferenciaAtomica() {
+        return atomica.ejecutar(new TransferirDineroRequest(origenId, destinoId, MONTO, "Bench"));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+            .include(TransferenciaBenchmark.class.getSimpleName())
+            .build()).run();
+    }
+}
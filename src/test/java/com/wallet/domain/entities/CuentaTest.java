@@ -1,5 +1,6 @@
 package com.wallet.domain.entities;
 
+import com.wallet.domain.services.IGeneradorNumeroCuenta;
 import com.wallet.domain.valueobjects.Dinero;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
@@ -146,4 +147,30 @@ class CuentaTest {
         assertThrows(IllegalArgumentException.class, () ->
             new Cuenta(null));
     }
+    
+    @Test
+    void deberiaGenerarNumerosDistintosConDigitoVerificador() {
+        // Arrange & Act
+        Cuenta primera = new Cuenta("usuario-123");
+        Cuenta segunda = new Cuenta("usuario-123");
+        
+        // Assert
+        assertNotEquals(primera.getNumeroCuenta(), segunda.getNumeroCuenta());
+        assertTrue(IGeneradorNumeroCuenta.esValido(primera.getNumeroCuenta()));
+        assertTrue(IGeneradorNumeroCuenta.esValido(segunda.getNumeroCuenta()));
+    }
+    
+    @Test
+    void deberiaDetectarDigitoCambiadoOTranspuesto() {
+        // Arrange
+        String numero = IGeneradorNumeroCuenta.conDigitoVerificador(123456789L);
+        
+        // Act & Assert
+        assertEquals("1234567897", numero);
+        assertFalse(IGeneradorNumeroCuenta.esValido("1234567887"));
+        assertFalse(IGeneradorNumeroCuenta.esValido("2134567897"));
+        assertFalse(IGeneradorNumeroCuenta.esValido("123456789"));
+        assertThrows(IllegalArgumentException.class, () ->
+            IGeneradorNumeroCuenta.conDigitoVerificador(1_000_000_000L));
+    }
 }
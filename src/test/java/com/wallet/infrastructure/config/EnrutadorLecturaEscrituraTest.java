@@ -0,0 +1,157 @@
+package com.wallet.infrastructure.config;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.repositories.ICuentaRepository;
+import com.wallet.domain.repositories.IUsuarioRepository;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.infrastructure.repositories.CuentaJPARepository;
+import com.wallet.infrastructure.repositories.UsuarioJPARepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Tests de integración del pool de lectores y del enrutado automático.
+ *
+ * Prueba:
+ * - Los métodos de consulta se ejecutan marcados como lectura
+ * - Las escrituras pasan por el escritor único
+ * - Las conexiones del pool de lectores no admiten escrituras
+ * - Lo escrito es visible de inmediato desde los lectores
+ */
+@DisplayName("EnrutadorLecturaEscritura - Tests de Integración")
+public class EnrutadorLecturaEscrituraTest {
+
+    private IUsuarioRepository usuarioRepository;
+    private ICuentaRepository cuentaRepository;
+
+    @BeforeAll
+    static void setupAll() {
+        if (!JPAConfiguration.isInitialized()) {
+            JPAConfiguration.initialize();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        usuarioRepository = EnrutadorLecturaEscritura.envolver(
+            IUsuarioRepository.class, new UsuarioJPARepository());
+        cuentaRepository = EnrutadorLecturaEscritura.envolver(
+            ICuentaRepository.class, new CuentaJPARepository());
+        limpiarBD();
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpiarBD();
+    }
+
+    @AfterAll
+    static void cleanupAll() {
+        JPAConfiguration.close();
+    }
+
+    @Test
+    @DisplayName("✅ Clasifica los métodos por prefijo")
+    void testClasificacionPorNombre() {
+        Assertions.assertTrue(EnrutadorLecturaEscritura.esLectura("buscarPorId"));
+        Assertions.assertTrue(EnrutadorLecturaEscritura.esLectura("obtenerTodas"));
+        Assertions.assertTrue(EnrutadorLecturaEscritura.esLectura("existeNumeroCuenta"));
+        Assertions.assertFalse(EnrutadorLecturaEscritura.esLectura("guardar"));
+        Assertions.assertFalse(EnrutadorLecturaEscritura.esLectura("eliminar"));
+    }
+
+    @Test
+    @DisplayName("✅ Consultas marcadas como lectura, escrituras no")
+    void testMarcaDeLecturaPorMetodo() {
+        List<String> observado = new ArrayList<>();
+        ICuentaRepository espia = EnrutadorLecturaEscritura.envolver(ICuentaRepository.class,
+            new CuentaJPARepository() {
+                @Override
+                public Optional<Cuenta> buscarPorId(String id) {
+                    observado.add("buscarPorId=" + JPAConfiguration.isEnLectura());
+                    return Optional.empty();
+                }
+
+                @Override
+                public Cuenta guardar(Cuenta cuenta) {
+                    observado.add("guardar=" + JPAConfiguration.isEnLectura());
+                    return cuenta;
+                }
+            });
+
+        espia.buscarPorId("x");
+        espia.guardar(new Cuenta("usuario"));
+
+        Assertions.assertEquals(List.of("buscarPorId=true", "guardar=false"), observado);
+        Assertions.assertFalse(JPAConfiguration.isEnLectura());
+    }
+
+    @Test
+    @DisplayName("✅ Escritura visible de inmediato desde los lectores")
+    void testLecturaTrasEscritura() {
+        Usuario usuario = usuarioRepository.guardar(new Usuario("Usuario", "Lector",
+            new Email("lector@example.com"),
+            new DocumentoIdentidad("4444444", DocumentoIdentidad.TipoDocumento.CEDULA)));
+        Cuenta cuenta = cuentaRepository.guardar(new Cuenta(usuario.getId()));
+
+        Assertions.assertTrue(cuentaRepository.buscarPorId(cuenta.getId()).isPresent());
+        Assertions.assertEquals(1, cuentaRepository.buscarPorUsuarioId(usuario.getId()).size());
+        Assertions.assertTrue(cuentaRepository.existeNumeroCuenta(cuenta.getNumeroCuenta()));
+    }
+
+    @Test
+    @DisplayName("❌ El pool de lectores rechaza escrituras")
+    void testLectoresSoloLectura() {
+        EntityManager em = JPAConfiguration.getEntityManagerLectura();
+        try {
+            em.getTransaction().begin();
+            Assertions.assertThrows(RuntimeException.class, () ->
+                em.createNativeQuery("DELETE FROM usuarios").executeUpdate());
+        } finally {
+            if (em.getTransaction().isActive()) {
+                em.getTransaction().rollback();
+            }
+            em.close();
+        }
+    }
+
+    @Test
+    @DisplayName("✅ Excepciones del repositorio llegan sin envolver")
+    void testExcepcionSinEnvolver() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+            EnrutadorLecturaEscritura.envolver(Runnable.class, null));
+        ICuentaRepository fallido = EnrutadorLecturaEscritura.envolver(ICuentaRepository.class,
+            new CuentaJPARepository() {
+                @Override
+                public List<Cuenta> obtenerTodas() {
+                    throw new IllegalStateException("fallo");
+                }
+            });
+
+        Assertions.assertThrows(IllegalStateException.class, fallido::obtenerTodas);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void limpiarBD() {
+        try {
+            EntityManager em = JPAConfiguration.getEntityManager();
+            em.getTransaction().begin();
+
+            em.createNativeQuery("DELETE FROM transacciones").executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas").executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios").executeUpdate();
+
+            em.getTransaction().commit();
+            em.close();
+        } catch (Exception e) {
+            System.err.println("Error limpiando BD: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.wallet.infrastructure.config;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.*;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.function.Supplier;
+
+/**
+ * Tests de integración de los perfiles de PRAGMA de SQLite.
+ *
+ * Prueba:
+ * - Los nombres de perfil se interpretan sin importar mayúsculas ni guiones
+ * - Las PRAGMA del perfil llegan a las conexiones del escritor y de los lectores
+ * - El perfil se elige con -Dwallet.db.perfil
+ */
+@DisplayName("PerfilSQLite - Tests de Integración")
+public class PerfilSQLiteTest {
+
+    @AfterEach
+    void tearDown() {
+        System.clearProperty("wallet.db.perfil");
+        JPAConfiguration.close();
+    }
+
+    @Test
+    @DisplayName("✅ Interpreta los nombres de perfil")
+    void testDesdeNombre() {
+        Assertions.assertEquals(PerfilSQLite.DURABLE, PerfilSQLite.desde(null));
+        Assertions.assertEquals(PerfilSQLite.DURABLE, PerfilSQLite.desde("durable"));
+        Assertions.assertEquals(PerfilSQLite.EQUILIBRADO, PerfilSQLite.desde("Equilibrado"));
+        Assertions.assertEquals(PerfilSQLite.CARGA_MASIVA, PerfilSQLite.desde("carga-masiva"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PerfilSQLite.desde("turbo"));
+    }
+
+    @Test
+    @DisplayName("✅ Perfil DURABLE por defecto en el escritor")
+    void testPerfilPorDefectoEnEscritor() {
+        JPAConfiguration.initialize();
+
+        Assertions.assertEquals(PerfilSQLite.DURABLE, JPAConfiguration.getPerfil());
+        verificarPragmas(JPAConfiguration::getEntityManager, PerfilSQLite.DURABLE);
+        Assertions.assertEquals("wal", pragma(JPAConfiguration::getEntityManager, "journal_mode"));
+    }
+
+    @Test
+    @DisplayName("✅ Perfil aplicado también a los lectores")
+    void testPerfilEnLectores() {
+        JPAConfiguration.initialize();
+
+        verificarPragmas(JPAConfiguration::getEntityManagerLectura, PerfilSQLite.DURABLE);
+    }
+
+    @Test
+    @DisplayName("✅ Perfil elegido por propiedad del sistema")
+    void testPerfilPorPropiedad() {
+        System.setProperty("wallet.db.perfil", "carga-masiva");
+        JPAConfiguration.initialize();
+
+        Assertions.assertEquals(PerfilSQLite.CARGA_MASIVA, JPAConfiguration.getPerfil());
+        verificarPragmas(JPAConfiguration::getEntityManager, PerfilSQLite.CARGA_MASIVA);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void verificarPragmas(Supplier<EntityManager> origen, PerfilSQLite perfil) {
+        String[] niveles = {"OFF", "NORMAL", "FULL"};
+        int synchronous = Integer.parseInt(pragma(origen, "synchronous"));
+
+        Assertions.assertEquals(perfil.getSynchronous(), niveles[synchronous]);
+        Assertions.assertEquals(String.valueOf(-perfil.getCacheKb()), pragma(origen, "cache_size"));
+        Assertions.assertEquals(String.valueOf(perfil.getMmapBytes()), pragma(origen, "mmap_size"));
+        Assertions.assertEquals("1", pragma(origen, "foreign_keys"));
+        Assertions.assertEquals("2", pragma(origen, "temp_store"));
+        Assertions.assertEquals("5000", pragma(origen, "busy_timeout"));
+    }
+
+    private String pragma(Supplier<EntityManager> origen, String nombre) {
+        EntityManager em = origen.get();
+        try {
+            return em.unwrap(Session.class).doReturningWork(conn -> {
+                try (Statement stmt = conn.createStatement();
+                     ResultSet rs = stmt.executeQuery("PRAGMA " + nombre)) {
+                    rs.next();
+                    return rs.getString(1);
+                }
+            });
+        } finally {
+            em.close();
+        }
+    }
+}
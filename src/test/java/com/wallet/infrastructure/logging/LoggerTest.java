@@ -0,0 +1,144 @@
+package com.wallet.infrastructure.logging;
+
+import com.wallet.infrastructure.logging.Logger.Nivel;
+import org.junit.jupiter.api.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests del Logger de consola.
+ *
+ * Prueba:
+ * - Los niveles se habilitan por umbral o uno a uno
+ * - Un nivel apagado no construye el mensaje
+ * - Los marcadores {} se sustituyen en orden
+ * - Una excepción como último argumento se agrega al mensaje
+ * - La salida asíncrona imprime todo, en orden por hilo
+ */
+@DisplayName("Logger - Tests")
+public class LoggerTest {
+
+    private ByteArrayOutputStream capturado;
+
+    @BeforeEach
+    void setUp() {
+        capturado = new ByteArrayOutputStream();
+        Logger.setSalida(new PrintStream(capturado, true, StandardCharsets.UTF_8));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Logger.cerrar();
+        Logger.setSalida(System.out);
+        Logger.setNivelMinimo(Nivel.DEBUG);
+        Logger.setEnabled(true);
+    }
+
+    private String salida() {
+        Logger.flush();
+        return capturado.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("✅ El nivel mínimo apaga los niveles menos graves")
+    void testNivelMinimo() {
+        Logger.setNivelMinimo(Nivel.INFO);
+
+        Assertions.assertFalse(Logger.isDebugEnabled());
+        Assertions.assertTrue(Logger.isEnabled(Nivel.INFO));
+        Assertions.assertTrue(Logger.isEnabled(Nivel.ERROR));
+
+        Logger.debug("oculto {}", 1);
+        Logger.info("visible {}", 2);
+
+        String texto = salida();
+        Assertions.assertFalse(texto.contains("oculto"));
+        Assertions.assertTrue(texto.contains("[INFO   ] visible 2"), texto);
+    }
+
+    @Test
+    @DisplayName("✅ Un nivel apagado no evalúa el Supplier")
+    void testSupplierPerezoso() {
+        AtomicInteger evaluaciones = new AtomicInteger();
+        Logger.setNivelHabilitado(Nivel.DEBUG, false);
+
+        Logger.debug(() -> "debug " + evaluaciones.incrementAndGet());
+        Logger.warning(() -> "aviso " + evaluaciones.incrementAndGet());
+
+        Assertions.assertEquals(1, evaluaciones.get());
+        Assertions.assertTrue(salida().contains("[WARNING] aviso 1"));
+
+        Logger.setEnabled(false);
+        Logger.error(() -> "error " + evaluaciones.incrementAndGet());
+        Assertions.assertEquals(1, evaluaciones.get());
+    }
+
+    @Test
+    @DisplayName("✅ Sustituye los marcadores {} en orden")
+    void testFormatear() {
+        Assertions.assertEquals("Depositando $10.50 en cuenta: 7",
+            Logger.formatear("Depositando ${} en cuenta: {}", "10.50", 7));
+        Assertions.assertEquals("a=1", Logger.formatear("a={}", 1));
+        Assertions.assertEquals("a=1 b={}", Logger.formatear("a={} b={}", 1));
+        Assertions.assertEquals("sin marcadores", Logger.formatear("sin marcadores", 1, 2));
+        Assertions.assertEquals("1-2-3 {}", Logger.formatearVarios("{}-{}-{} {}", 1, 2, 3));
+        Assertions.assertEquals("x=null", Logger.formatear("x={}", (Object) null));
+    }
+
+    @Test
+    @DisplayName("✅ La excepción al final se agrega tras el mensaje")
+    void testExcepcionAlFinal() {
+        IllegalStateException e = new IllegalStateException("sin conexión");
+
+        Logger.error("Fallo al guardar", e);
+        Logger.error("Fallo en cuenta {}", "123", e);
+        Logger.warning("Fallo {} de {}", 2, 5, e);
+        Logger.error("Fallo en {}", e);
+
+        String texto = salida();
+        Assertions.assertTrue(texto.contains("[ERROR  ] Fallo al guardar - IllegalStateException: sin conexión"), texto);
+        Assertions.assertTrue(texto.contains("[ERROR  ] Fallo en cuenta 123 - IllegalStateException: sin conexión"), texto);
+        Assertions.assertTrue(texto.contains("[WARNING] Fallo 2 de 5 - IllegalStateException: sin conexión"), texto);
+        // Con un {} propio la excepción es un parámetro más
+        Assertions.assertTrue(texto.contains("[ERROR  ] Fallo en java.lang.IllegalStateException: sin conexión"), texto);
+        Assertions.assertEquals("a=1", Logger.formatear("a={}", 1, "no es excepción"));
+    }
+
+    @Test
+    @DisplayName("✅ La salida asíncrona imprime todo en orden por hilo")
+    void testSalidaAsincrona() throws InterruptedException {
+        Logger.activarAsincrono(8);
+        Assertions.assertTrue(Logger.isAsincrono());
+
+        int hilos = 4;
+        int porHilo = 250;
+        List<Thread> productores = new ArrayList<>();
+        for (int h = 0; h < hilos; h++) {
+            int id = h;
+            Thread t = new Thread(() -> {
+                for (int i = 0; i < porHilo; i++) {
+                    Logger.info("hilo {} mensaje {}", id, i);
+                }
+            });
+            productores.add(t);
+            t.start();
+        }
+        for (Thread t : productores) {
+            t.join();
+        }
+
+        String[] lineas = salida().split(System.lineSeparator());
+        Assertions.assertEquals(hilos * porHilo, lineas.length);
+        int[] siguiente = new int[hilos];
+        for (String linea : lineas) {
+            String[] partes = linea.substring(linea.indexOf("hilo ")).split(" ");
+            int hilo = Integer.parseInt(partes[1]);
+            Assertions.assertEquals(siguiente[hilo]++, Integer.parseInt(partes[3]));
+        }
+    }
+}
@@ -0,0 +1,498 @@
+package com.wallet.infrastructure.logging;
+
+import com.wallet.infrastructure.logging.OperationLogger.FormatoLog;
+import com.wallet.infrastructure.logging.OperationLogger.LogLevel;
+import com.wallet.infrastructure.logging.OperationLogger.PoliticaDesborde;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests del log de operaciones: modo asíncrono, rotación, formatos,
+ * consultas y estadísticas en vivo.
+ *
+ * Prueba:
+ * - El buffer circular respeta orden y capacidad
+ * - Varios productores con un buffer pequeño no pierden entradas (BLOQUEAR)
+ * - Cerrar el escritor mientras se encola no deja entradas aceptadas sin escribir
+ * - Las políticas de desborde solo descartan lo permitido
+ * - OperationLogger escribe en el archivo tras flush() y cerrar()
+ * - Los contadores por nivel y entidad se actualizan sin leer el archivo
+ * - La rotación por tamaño y por día, la compresión, la retención y el índice
+ * - El índice se reconstruye desde los segmentos si falta o está dañado
+ * - Los formatos texto y JSON se vuelven a leer sin pérdida
+ * - ConsultaLog filtra por entidad, id, nivel y tiempo sobre segmentos rotados
+ */
+@DisplayName("OperationLogger - Tests")
+public class OperationLoggerTest {
+
+    @TempDir
+    Path directorio;
+
+    @AfterEach
+    void tearDown() {
+        OperationLogger.cerrar();
+    }
+
+    private ArchivoLogRotativo archivo(String nombre) {
+        return new ArchivoLogRotativo(directorio.resolve(nombre),
+            ArchivoLogRotativo.MAX_BYTES_POR_DEFECTO, false, 30, 100);
+    }
+
+    private static String linea(LocalDateTime momento, String descripcion) {
+        StringBuilder texto = new StringBuilder();
+        FormatoLog.TEXTO.formatear(new EntradaLog(momento.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+            LogLevel.INFO, "Sistema", "-", descripcion), texto);
+        return texto.append(System.lineSeparator()).toString();
+    }
+
+    private static List<String> leer(List<SegmentoLog> segmentos) throws IOException {
+        List<String> lineas = new ArrayList<>();
+        for (SegmentoLog segmento : segmentos) {
+            try (BufferedReader reader = segmento.abrir()) {
+                String linea;
+                while ((linea = reader.readLine()) != null) {
+                    lineas.add(linea);
+                }
+            }
+        }
+        return lineas;
+    }
+
+    @Test
+    @DisplayName("✅ Buffer circular FIFO con capacidad acotada")
+    void testBufferCircular() {
+        BufferCircular<Integer> buffer = new BufferCircular<>(3);
+
+        Assertions.assertEquals(4, buffer.getCapacidad());
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(buffer.ofrecer(i));
+        }
+        Assertions.assertFalse(buffer.ofrecer(99));
+        Assertions.assertEquals(0, buffer.extraer());
+        Assertions.assertTrue(buffer.ofrecer(4));
+        for (int i = 1; i <= 4; i++) {
+            Assertions.assertEquals(i, buffer.extraer());
+        }
+        Assertions.assertNull(buffer.extraer());
+    }
+
+    @Test
+    @DisplayName("✅ Productores concurrentes sin pérdidas con BLOQUEAR")
+    void testProductoresConcurrentes() throws Exception {
+        ArchivoLogRotativo archivo = archivo("concurrente.log");
+        EscritorLogAsincrono escritor = new EscritorLogAsincrono(archivo, 16, PoliticaDesborde.BLOQUEAR, 1);
+
+        int hilos = 8;
+        int porHilo = 2000;
+        List<Thread> productores = new ArrayList<>();
+        for (int h = 0; h < hilos; h++) {
+            int id = h;
+            Thread t = new Thread(() -> {
+                for (int i = 0; i < porHilo; i++) {
+                    escritor.encolar(new EntradaLog(System.currentTimeMillis(), LogLevel.READ, "Prueba", id + ":" + i, "x"));
+                }
+            });
+            productores.add(t);
+            t.start();
+        }
+        for (Thread t : productores) {
+            t.join();
+        }
+        escritor.cerrar();
+        archivo.cerrar();
+
+        List<String> lineas = Files.readAllLines(archivo.getActivo());
+        Assertions.assertEquals(hilos * porHilo, lineas.size());
+        Assertions.assertEquals(hilos * porHilo, new HashSet<>(lineas).size());
+        Assertions.assertEquals(0, escritor.getDescartadas());
+    }
+
+    @Test
+    @DisplayName("✅ Cerrar con productores en curso no pierde entradas aceptadas")
+    void testCerrarConProductoresEnCurso() throws Exception {
+        for (int ronda = 0; ronda < 20; ronda++) {
+            ArchivoLogRotativo archivo = archivo("cierre" + ronda + ".log");
+            EscritorLogAsincrono escritor = new EscritorLogAsincrono(archivo, 64, PoliticaDesborde.BLOQUEAR, 1);
+            AtomicInteger aceptadas = new AtomicInteger();
+            List<Thread> productores = new ArrayList<>();
+            for (int h = 0; h < 4; h++) {
+                int id = h;
+                Thread t = new Thread(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        if (escritor.encolar(new EntradaLog(System.currentTimeMillis(), LogLevel.UPDATE,
+                                "Prueba", id + ":" + i, "x"))) {
+                            aceptadas.incrementAndGet();
+                        }
+                    }
+                });
+                productores.add(t);
+                t.start();
+            }
+            escritor.cerrar();
+            for (Thread t : productores) {
+                t.join();
+            }
+            archivo.cerrar();
+
+            // Si cerrar() ganó a todos los productores el archivo ni se creó
+            int escritas = Files.exists(archivo.getActivo()) ? Files.readAllLines(archivo.getActivo()).size() : 0;
+            Assertions.assertEquals(aceptadas.get(), escritas);
+            Assertions.assertEquals(0, escritor.getPendientes());
+        }
+    }
+
+    @Test
+    @DisplayName("✅ El escritor ocioso despierta al encolar sin esperar su plazo")
+    void testDespertarEscritorOcioso() throws Exception {
+        EscritorLogAsincrono escritor = new EscritorLogAsincrono(archivo("ocioso.log"), 16, PoliticaDesborde.BLOQUEAR, 1);
+        try {
+            long total = 0;
+            for (int i = 1; i <= 10; i++) {
+                Thread.sleep(20);
+                long inicio = System.nanoTime();
+                escritor.encolar(new EntradaLog(System.currentTimeMillis(), LogLevel.UPDATE, "Prueba", "o" + i, "x"));
+                while (escritor.getEscritas() < i) {
+                    Thread.onSpinWait();
+                }
+                total += System.nanoTime() - inicio;
+            }
+            // Esperando el plazo ocioso (100 ms) cada entrada tardaría de media unos 50 ms
+            Assertions.assertTrue(TimeUnit.NANOSECONDS.toMillis(total) < 250, total / 1_000_000 + " ms");
+        } finally {
+            escritor.cerrar();
+        }
+    }
+
+    @Test
+    @DisplayName("✅ DESCARTAR_READ solo descarta lecturas")
+    void testPoliticaDescartarRead() {
+        EscritorLogAsincrono escritor = new EscritorLogAsincrono(
+            archivo("read.log"), 16, PoliticaDesborde.DESCARTAR_READ, 1);
+        try {
+            Assertions.assertTrue(escritor.sePuedeDescartar(LogLevel.READ));
+            Assertions.assertFalse(escritor.sePuedeDescartar(LogLevel.UPDATE));
+            Assertions.assertFalse(escritor.sePuedeDescartar(LogLevel.ERROR));
+        } finally {
+            escritor.cerrar();
+        }
+    }
+
+    @Test
+    @DisplayName("✅ MUESTREAR conserva 1 de cada N y nunca descarta errores")
+    void testPoliticaMuestrear() {
+        EscritorLogAsincrono escritor = new EscritorLogAsincrono(
+            archivo("muestreo.log"), 16, PoliticaDesborde.MUESTREAR, 4);
+        try {
+            int conservadas = 0;
+            for (int i = 0; i < 40; i++) {
+                if (!escritor.sePuedeDescartar(LogLevel.CREATE)) {
+                    conservadas++;
+                }
+            }
+            Assertions.assertEquals(10, conservadas);
+            Assertions.assertFalse(escritor.sePuedeDescartar(LogLevel.ERROR));
+            Assertions.assertFalse(escritor.sePuedeDescartar(LogLevel.WARN));
+        } finally {
+            escritor.cerrar();
+        }
+    }
+
+    @Test
+    @DisplayName("✅ OperationLogger asíncrono escribe tras flush")
+    void testOperationLoggerAsincrono() {
+        OperationLogger.activarAsincrono(1024, PoliticaDesborde.BLOQUEAR, 1);
+        Assertions.assertTrue(OperationLogger.isAsincrono());
+
+        String marca = "asincrono-" + System.nanoTime();
+        OperationLogger.logRead("Prueba", marca, "Lectura de prueba");
+        OperationLogger.logUpdate("Prueba", marca, "Actualización de prueba");
+
+        Assertions.assertTrue(OperationLogger.flush());
+        Set<String> niveles = new HashSet<>();
+        for (String linea : OperationLogger.getLogContent().split("\n")) {
+            if (linea.contains(marca)) {
+                niveles.add(linea.contains("READ") ? "READ" : "UPDATE");
+            }
+        }
+        Assertions.assertEquals(Set.of("READ", "UPDATE"), niveles);
+
+        OperationLogger.cerrar();
+        Assertions.assertFalse(OperationLogger.isAsincrono());
+    }
+
+    @Test
+    @DisplayName("✅ Estadísticas en vivo por nivel y entidad")
+    void testEstadisticasEnVivo() {
+        EstadisticasLog estadisticas = OperationLogger.getEstadisticas();
+        String entidad = "Estadistica" + System.nanoTime();
+        long lecturas = estadisticas.getConteo(LogLevel.READ);
+        long total = estadisticas.getTotal();
+
+        OperationLogger.logRead(entidad, "1", "Lectura");
+        OperationLogger.logRead(entidad, "2", "Lectura");
+        OperationLogger.logDelete(entidad, "1", "Borrado");
+
+        Assertions.assertEquals(lecturas + 2, estadisticas.getConteo(LogLevel.READ));
+        Assertions.assertEquals(total + 3, estadisticas.getTotal());
+        Assertions.assertEquals(3, estadisticas.getConteoPorEntidad(entidad));
+        Assertions.assertEquals(3L, estadisticas.getConteosPorEntidad().get(entidad));
+    }
+
+    @Test
+    @DisplayName("✅ Interpreta los nombres de política")
+    void testPoliticaDesde() {
+        Assertions.assertEquals(PoliticaDesborde.BLOQUEAR, PoliticaDesborde.desde(null));
+        Assertions.assertEquals(PoliticaDesborde.DESCARTAR_READ, PoliticaDesborde.desde("descartar-read"));
+        Assertions.assertEquals(PoliticaDesborde.MUESTREAR, PoliticaDesborde.desde("Muestrear"));
+    }
+
+    @Test
+    @DisplayName("✅ Rota por tamaño, comprime y conserva el orden")
+    void testRotacionPorTamano() throws IOException {
+        ArchivoLogRotativo archivo = new ArchivoLogRotativo(directorio.resolve("tamano.log"), 200, false, 30, 100);
+        LocalDateTime inicio = LocalDateTime.now().withNano(0);
+        List<String> escritas = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            String linea = "entrada-" + i + "-" + "x".repeat(30);
+            archivo.escribir(linea + System.lineSeparator(), inicio.plusSeconds(i), inicio.plusSeconds(i));
+            escritas.add(linea);
+        }
+        archivo.cerrar();
+
+        List<SegmentoLog> segmentos = archivo.buscarSegmentos(null, null);
+        Assertions.assertTrue(segmentos.size() > 5, "Debería haber rotado varias veces: " + segmentos);
+        Assertions.assertTrue(segmentos.get(segmentos.size() - 1).isActivo());
+        for (SegmentoLog segmento : segmentos.subList(0, segmentos.size() - 1)) {
+            Assertions.assertTrue(segmento.getRuta().toString().endsWith(".log.gz"), segmento.getRuta().toString());
+        }
+        Assertions.assertEquals(escritas, leer(segmentos));
+    }
+
+    @Test
+    @DisplayName("✅ Rota al cambiar de día y el índice acota la búsqueda")
+    void testRotacionDiariaEIndice() throws IOException {
+        ArchivoLogRotativo archivo = new ArchivoLogRotativo(directorio.resolve("diario.log"),
+            ArchivoLogRotativo.MAX_BYTES_POR_DEFECTO, true, 30, 100);
+        LocalDateTime ayer = LocalDateTime.now().minusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        LocalDateTime hoy = ayer.plusDays(1);
+        archivo.escribir("ayer-1" + System.lineSeparator(), ayer, ayer);
+        archivo.escribir("ayer-2" + System.lineSeparator(), ayer.plusHours(1), ayer.plusHours(1));
+        archivo.escribir("hoy-1" + System.lineSeparator(), hoy, hoy);
+        archivo.cerrar();
+
+        Assertions.assertTrue(Files.exists(directorio.resolve("diario." + ayer.toLocalDate() + ".1.log.gz")));
+
+        List<SegmentoLog> deAyer = archivo.buscarSegmentos(ayer.minusMinutes(5), ayer.plusMinutes(5));
+        Assertions.assertEquals(1, deAyer.size());
+        Assertions.assertEquals(List.of("ayer-1", "ayer-2"), leer(deAyer));
+
+        List<SegmentoLog> deHoy = archivo.buscarSegmentos(hoy, null);
+        Assertions.assertEquals(1, deHoy.size());
+        Assertions.assertTrue(deHoy.get(0).isActivo());
+        Assertions.assertEquals(List.of("hoy-1"), leer(deHoy));
+
+        // Una nueva instancia recupera el índice y el rango del archivo activo
+        ArchivoLogRotativo reabierto = new ArchivoLogRotativo(directorio.resolve("diario.log"),
+            ArchivoLogRotativo.MAX_BYTES_POR_DEFECTO, true, 30, 100);
+        Assertions.assertEquals(List.of("ayer-1", "ayer-2", "hoy-1"), leer(reabierto.buscarSegmentos(null, null)));
+        reabierto.cerrar();
+    }
+
+    @Test
+    @DisplayName("✅ Sin índice o con el índice dañado se recuperan los segmentos del directorio")
+    void testReconstruirIndice() throws IOException {
+        ArchivoLogRotativo archivo = new ArchivoLogRotativo(directorio.resolve("indice.log"),
+            ArchivoLogRotativo.MAX_BYTES_POR_DEFECTO, true, 30, 100);
+        LocalDateTime antier = LocalDateTime.now().minusDays(2).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        LocalDateTime ayer = antier.plusDays(1);
+        LocalDateTime hoy = ayer.plusDays(1);
+        archivo.escribir(linea(antier, "antier"), antier, antier);
+        archivo.escribir(linea(ayer, "ayer-1"), ayer, ayer);
+        archivo.escribir(linea(ayer.plusHours(2), "ayer-2"), ayer.plusHours(2), ayer.plusHours(2));
+        archivo.escribir(linea(hoy, "hoy"), hoy, hoy);
+        archivo.cerrar();
+        Path indice = directorio.resolve("indice.index");
+
+        // Sin índice
+        Files.delete(indice);
+        ArchivoLogRotativo sinIndice = new ArchivoLogRotativo(directorio.resolve("indice.log"),
+            ArchivoLogRotativo.MAX_BYTES_POR_DEFECTO, true, 30, 100);
+        List<SegmentoLog> deAyer = sinIndice.buscarSegmentos(ayer.plusHours(1), ayer.plusHours(1));
+        Assertions.assertEquals(1, deAyer.size());
+        Assertions.assertEquals(ayer, deAyer.get(0).getDesde());
+        Assertions.assertEquals(ayer.plusHours(2), deAyer.get(0).getHasta());
+        Assertions.assertEquals(3, sinIndice.buscarSegmentos(null, null).size());
+        sinIndice.cerrar();
+        Assertions.assertTrue(Files.exists(indice), "El índice reconstruido debería guardarse");
+
+        // Índice dañado
+        Files.writeString(indice, "indice." + antier.toLocalDate() + ".1\tno-es-fecha\tx\n");
+        ArchivoLogRotativo danado = new ArchivoLogRotativo(directorio.resolve("indice.log"),
+            ArchivoLogRotativo.MAX_BYTES_POR_DEFECTO, true, 30, 100);
+        List<SegmentoLog> todos = danado.buscarSegmentos(null, null);
+        Assertions.assertEquals(3, todos.size());
+        Assertions.assertEquals(antier, todos.get(0).getDesde());
+        Assertions.assertTrue(leer(todos).get(0).endsWith("antier"));
+        danado.cerrar();
+    }
+
+    @Test
+    @DisplayName("✅ Un archivo activo en JSON recupera su primera marca al reabrirse")
+    void testReabrirArchivoJson() throws IOException {
+        LocalDateTime ayer = LocalDateTime.now().minusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+        StringBuilder json = new StringBuilder();
+        FormatoLog.JSON.formatear(new EntradaLog(
+            ayer.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(),
+            LogLevel.INFO, "Sistema", "-", "de ayer"), json);
+        Files.writeString(directorio.resolve("json.log"), json + System.lineSeparator());
+
+        ArchivoLogRotativo archivo = new ArchivoLogRotativo(directorio.resolve("json.log"),
+            ArchivoLogRotativo.MAX_BYTES_POR_DEFECTO, true, 30, 100);
+        LocalDateTime hoy = ayer.plusDays(1);
+        archivo.escribir("hoy-1" + System.lineSeparator(), hoy, hoy);
+        archivo.cerrar();
+
+        // La entrada de ayer marca el día del archivo: la de hoy lo rota
+        Assertions.assertTrue(Files.exists(directorio.resolve("json." + ayer.toLocalDate() + ".1.log.gz")));
+        Assertions.assertEquals(List.of("hoy-1"), Files.readAllLines(directorio.resolve("json.log")));
+    }
+
+    @Test
+    @DisplayName("✅ La retención borra los segmentos más antiguos")
+    void testRetencion() throws IOException {
+        ArchivoLogRotativo archivo = new ArchivoLogRotativo(directorio.resolve("retencion.log"),
+            ArchivoLogRotativo.MAX_BYTES_POR_DEFECTO, false, 30, 2);
+        LocalDateTime ahora = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            archivo.escribir("segmento-" + i + System.lineSeparator(), ahora, ahora);
+            archivo.rotarAhora();
+        }
+        archivo.escribir("antigua" + System.lineSeparator(), ahora.minusDays(60), ahora.minusDays(60));
+        archivo.cerrar();
+
+        List<SegmentoLog> segmentos = archivo.buscarSegmentos(null, null);
+        Assertions.assertEquals(List.of("segmento-3", "segmento-4", "antigua"), leer(segmentos));
+        try (var archivos = Files.list(directorio)) {
+            Assertions.assertEquals(2, archivos.filter(p -> p.toString().endsWith(".log.gz")).count());
+        }
+    }
+
+    @Test
+    @DisplayName("✅ clearLog borra también los segmentos rotados")
+    void testClearLogBorraSegmentos() {
+        OperationLogger.logInfo("antes de rotar " + System.nanoTime());
+        OperationLogger.rotar();
+        OperationLogger.logInfo("después de rotar " + System.nanoTime());
+        Assertions.assertTrue(OperationLogger.buscarSegmentos(null, null).size() >= 2);
+
+        OperationLogger.clearLog();
+
+        Assertions.assertTrue(OperationLogger.buscarSegmentos(null, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("✅ JSON y texto se vuelven a leer sin pérdida")
+    void testFormatosIdaYVuelta() {
+        long instante = System.currentTimeMillis() / 1000 * 1000;
+        String descripcion = "Saldo \"raro\" \\ con\nsalto, tab\t y ünicode \u0001";
+        EntradaLog entrada = new EntradaLog(instante, LogLevel.UPDATE, "Cuenta", "abc-123", descripcion);
+
+        StringBuilder json = new StringBuilder();
+        FormatoLog.JSON.formatear(entrada, json);
+        Assertions.assertFalse(json.toString().contains("\n"), "Una entrada JSON debe ocupar una sola línea");
+        RegistroLog deJson = RegistroLog.parsear(json.toString());
+        Assertions.assertNotNull(deJson);
+        Assertions.assertEquals(entrada.momento(), deJson.getMomento());
+        Assertions.assertEquals(LogLevel.UPDATE, deJson.getNivel());
+        Assertions.assertEquals("Cuenta", deJson.getTipoEntidad());
+        Assertions.assertEquals("abc-123", deJson.getIdEntidad());
+        Assertions.assertEquals(descripcion, deJson.getDescripcion());
+
+        StringBuilder texto = new StringBuilder();
+        FormatoLog.TEXTO.formatear(new EntradaLog(instante, LogLevel.ERROR, "Usuario", "u-1", "Fallo | con barra"), texto);
+        RegistroLog deTexto = RegistroLog.parsear(texto.toString());
+        Assertions.assertNotNull(deTexto);
+        Assertions.assertEquals(entrada.momento(), deTexto.getMomento());
+        Assertions.assertEquals(LogLevel.ERROR, deTexto.getNivel());
+        Assertions.assertEquals("Usuario", deTexto.getTipoEntidad());
+        Assertions.assertEquals("u-1", deTexto.getIdEntidad());
+        Assertions.assertEquals("Fallo | con barra", deTexto.getDescripcion());
+
+        Assertions.assertNull(RegistroLog.parsear("línea ajena al log"));
+        Assertions.assertNull(RegistroLog.parsear("{\"ts\":12"));
+    }
+
+    @Test
+    @DisplayName("✅ ConsultaLog filtra sobre segmentos rotados y comprimidos")
+    void testConsultaSobreSegmentos() throws IOException {
+        ArchivoLogRotativo archivo = new ArchivoLogRotativo(directorio.resolve("consulta.log"), 300, false, 30, 100);
+        long inicio = System.currentTimeMillis() / 1000 * 1000 - 3_600_000;
+        LogLevel[] niveles = {LogLevel.CREATE, LogLevel.READ, LogLevel.UPDATE};
+        for (int i = 0; i < 60; i++) {
+            EntradaLog entrada = new EntradaLog(inicio + i * 1000L, niveles[i % 3],
+                i % 2 == 0 ? "Cuenta" : "Usuario", "id-" + (i % 5), "operación " + i);
+            StringBuilder linea = new StringBuilder();
+            // Mezcla de formatos, como tras cambiar wallet.log.formato
+            (i < 30 ? FormatoLog.TEXTO : FormatoLog.JSON).formatear(entrada, linea);
+            linea.append(System.lineSeparator());
+            archivo.escribir(linea, entrada.momento(), entrada.momento());
+        }
+        archivo.cerrar();
+
+        List<SegmentoLog> todos = archivo.buscarSegmentos(null, null);
+        Assertions.assertTrue(todos.size() > 3);
+
+        try (Stream<RegistroLog> registros = new ConsultaLog()
+                .entidad("Cuenta").id("id-0").nivel(LogLevel.CREATE, LogLevel.UPDATE).ejecutar(todos)) {
+            // Cuenta = i par; id-0 = i múltiplo de 5; CREATE/UPDATE = i % 3 != 1
+            List<String> descripciones = registros.map(RegistroLog::getDescripcion).collect(Collectors.toList());
+            Assertions.assertEquals(List.of("operación 0", "operación 20", "operación 30", "operación 50"), descripciones);
+        }
+
+        LocalDateTime desde = new EntradaLog(inicio + 40_000, LogLevel.INFO, null, null, null).momento();
+        LocalDateTime hasta = desde.plusSeconds(4);
+        List<SegmentoLog> enRango = archivo.buscarSegmentos(desde, hasta);
+        Assertions.assertTrue(enRango.size() < todos.size(), "El índice debería descartar segmentos");
+        try (Stream<RegistroLog> registros = new ConsultaLog().desde(desde).hasta(hasta).ejecutar(enRango)) {
+            Assertions.assertEquals(
+                List.of("operación 40", "operación 41", "operación 42", "operación 43", "operación 44"),
+                registros.map(RegistroLog::getDescripcion).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    @DisplayName("✅ OperationLogger en JSON se consulta por id")
+    void testOperationLoggerJson() {
+        OperationLogger.activarAsincrono(1024, PoliticaDesborde.BLOQUEAR, 1);
+        OperationLogger.setFormato(FormatoLog.JSON);
+        try {
+            String marca = "json-" + System.nanoTime();
+            OperationLogger.logCreate("Cuenta", marca, "Cuenta \"nueva\"");
+            OperationLogger.logRead("Cuenta", marca, "Lectura");
+
+            try (Stream<RegistroLog> registros = new ConsultaLog().id(marca).nivel(LogLevel.CREATE)
+                    .desde(LocalDateTime.now().minusMinutes(1)).ejecutar()) {
+                List<RegistroLog> encontrados = registros.collect(Collectors.toList());
+                Assertions.assertEquals(1, encontrados.size());
+                Assertions.assertEquals("Cuenta \"nueva\"", encontrados.get(0).getDescripcion());
+            }
+        } finally {
+            OperationLogger.setFormato(FormatoLog.TEXTO);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.wallet.infrastructure.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para Medidor e Histograma.
+ */
+@DisplayName("Métricas - Tests")
+class MedidorTest {
+
+    private final AtomicLong reloj = new AtomicLong();
+
+    private void avanzarSegundos(long segundos) {
+        reloj.addAndGet(TimeUnit.SECONDS.toNanos(segundos));
+    }
+
+    @Test
+    @DisplayName("Tasas en cero antes del primer intervalo")
+    void tasasEnCeroAntesDelPrimerIntervalo() {
+        Medidor medidor = new Medidor(reloj::get);
+
+        medidor.marcar();
+        medidor.marcar();
+
+        assertEquals(2, medidor.getTotal());
+        assertEquals(0.0, medidor.getTasa1m());
+    }
+
+    @Test
+    @DisplayName("Primer intervalo fija la tasa instantánea")
+    void primerIntervaloFijaLaTasa() {
+        Medidor medidor = new Medidor(reloj::get);
+        for (int i = 0; i < 50; i++) {
+            medidor.marcar();
+        }
+
+        avanzarSegundos(5);
+
+        assertEquals(10.0, medidor.getTasa1m(), 1e-9);
+        assertEquals(10.0, medidor.getTasa5m(), 1e-9);
+        assertEquals(10.0, medidor.getTasa15m(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Sin eventos la media de 1m decae más rápido que la de 15m")
+    void decaimientoSinEventos() {
+        Medidor medidor = new Medidor(reloj::get);
+        for (int i = 0; i < 50; i++) {
+            medidor.marcar();
+        }
+        avanzarSegundos(5);
+        medidor.getTasa1m();
+
+        avanzarSegundos(60);
+
+        double tasa1m = medidor.getTasa1m();
+        double tasa15m = medidor.getTasa15m();
+        assertTrue(tasa1m < 10.0 * Math.exp(-0.9), "1m debería decaer ~e^-1: " + tasa1m);
+        assertTrue(tasa15m > 9.0, "15m apenas debería moverse: " + tasa15m);
+        assertTrue(tasa1m < tasa15m);
+    }
+
+    @Test
+    @DisplayName("Histograma reparte las muestras por cubeta")
+    void histogramaRepartePorCubeta() {
+        Histograma histograma = new Histograma("ms", 1, 10, 100);
+
+        histograma.registrar(0);
+        histograma.registrar(5);
+        histograma.registrar(10);
+        histograma.registrar(500);
+
+        assertEquals(4, histograma.getTotal());
+        assertEquals(1L, histograma.instantanea().get("<=1ms"));
+        assertEquals(2L, histograma.instantanea().get("<=10ms"));
+        assertEquals(0L, histograma.instantanea().get("<=100ms"));
+        assertEquals(1L, histograma.instantanea().get(">100ms"));
+        assertThrows(IllegalArgumentException.class, () -> new Histograma("ms", 10, 5));
+    }
+}
@@ -0,0 +1,162 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.valueobjects.Dinero;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests para CuentaRepositoryCache.
+ */
+@DisplayName("CuentaRepositoryCache Tests")
+class CuentaRepositoryCacheTest {
+
+    private RepositorioContado delegado;
+    private CuentaRepositoryCache cache;
+    private Cuenta cuenta;
+
+    @BeforeEach
+    void setUp() {
+        delegado = new RepositorioContado();
+        cache = new CuentaRepositoryCache(delegado, 2);
+        cuenta = delegado.guardar(nueva("0000000001"));
+    }
+
+    @Test
+    @DisplayName("Debe servir desde caché por id y por número con una sola lectura")
+    void debeCompartirEntradaPorIdYNumero() {
+        cache.buscarPorId(cuenta.getId());
+        Optional<Cuenta> porNumero = cache.buscarPorNumeroCuenta(cuenta.getNumeroCuenta());
+        cache.buscarPorId(cuenta.getId());
+
+        assertTrue(porNumero.isPresent());
+        assertEquals(1, delegado.lecturas.get());
+        CuentaRepositoryCache.Estadisticas estadisticas = cache.getEstadisticas();
+        assertEquals(2, estadisticas.getAciertos());
+        assertEquals(1, estadisticas.getFallos());
+        assertEquals(2.0 / 3, estadisticas.getTasaAciertos(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Debe entregar copias que no alteran la caché")
+    void debeEntregarCopias() {
+        Cuenta leida = cache.buscarPorId(cuenta.getId()).orElseThrow();
+        leida.depositar(Dinero.de(new BigDecimal("50.00")));
+
+        Cuenta releida = cache.buscarPorId(cuenta.getId()).orElseThrow();
+
+        assertEquals(0, releida.getSaldo().getCantidad().compareTo(BigDecimal.ZERO));
+    }
+
+    @Test
+    @DisplayName("Debe invalidar al guardar para no devolver saldos viejos")
+    void debeInvalidarAlGuardar() {
+        Cuenta leida = cache.buscarPorNumeroCuenta(cuenta.getNumeroCuenta()).orElseThrow();
+        leida.depositar(Dinero.de(new BigDecimal("25.00")));
+        cache.guardar(leida);
+
+        Cuenta releida = cache.buscarPorNumeroCuenta(cuenta.getNumeroCuenta()).orElseThrow();
+
+        assertEquals(new BigDecimal("25.00"), releida.getSaldo().getCantidad());
+        assertEquals(2, delegado.lecturas.get());
+    }
+
+    @Test
+    @DisplayName("Debe reflejar escrituras externas tras invalidar")
+    void debeInvalidarEscriturasExternas() {
+        cache.buscarPorId(cuenta.getId());
+        // Como hace un ledger: escribe sin pasar por la caché y avisa
+        Cuenta externa = delegado.buscarPorId(cuenta.getId()).orElseThrow();
+        externa.depositar(Dinero.de(new BigDecimal("10.00")));
+        cache.invalidar(cuenta.getId());
+
+        assertEquals(new BigDecimal("10.00"),
+            cache.buscarPorId(cuenta.getId()).orElseThrow().getSaldo().getCantidad());
+        assertEquals(1, cache.getEstadisticas().getInvalidaciones());
+    }
+
+    @Test
+    @DisplayName("Debe desalojar la cuenta usada hace más tiempo")
+    void debeDesalojarLru() {
+        Cuenta segunda = delegado.guardar(nueva("0000000002"));
+        Cuenta tercera = delegado.guardar(nueva("0000000003"));
+
+        cache.buscarPorId(cuenta.getId());
+        cache.buscarPorId(segunda.getId());
+        cache.buscarPorId(cuenta.getId());      // segunda pasa a ser la menos reciente
+        cache.buscarPorId(tercera.getId());     // desaloja a segunda
+        int lecturas = delegado.lecturas.get();
+
+        cache.buscarPorNumeroCuenta(cuenta.getNumeroCuenta());
+        assertEquals(lecturas, delegado.lecturas.get());
+        cache.buscarPorNumeroCuenta(segunda.getNumeroCuenta());
+        assertEquals(lecturas + 1, delegado.lecturas.get());
+        assertEquals(2, cache.getEstadisticas().getTamano());
+        assertTrue(cache.getEstadisticas().getDesalojos() >= 1);
+    }
+
+    @Test
+    @DisplayName("No debe guardar una lectura que se cruzó con una escritura")
+    void noDebeGuardarLecturaConcurrenteConEscritura() {
+        // La escritura llega mientras la caché espera la lectura de la BD
+        delegado.alLeer = () -> cache.invalidar(cuenta.getId());
+        cache.buscarPorId(cuenta.getId());
+        delegado.alLeer = () -> { };
+
+        cache.buscarPorId(cuenta.getId());
+
+        assertEquals(2, delegado.lecturas.get());
+        assertEquals(0, cache.getEstadisticas().getAciertos());
+    }
+
+    @Test
+    @DisplayName("Debe olvidar la cuenta eliminada")
+    void debeInvalidarAlEliminar() {
+        cache.buscarPorId(cuenta.getId());
+
+        assertTrue(cache.eliminar(cuenta.getId()));
+
+        assertFalse(cache.buscarPorId(cuenta.getId()).isPresent());
+        assertFalse(cache.buscarPorNumeroCuenta(cuenta.getNumeroCuenta()).isPresent());
+    }
+
+    /**
+     * Cuenta con número fijo: new Cuenta() deriva el número del reloj y
+     * dos cuentas creadas en el mismo milisegundo lo repiten.
+     */
+    private static Cuenta nueva(String numero) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return new Cuenta(UUID.randomUUID().toString(), numero, "usuario-" + numero, Dinero.CERO, ahora, ahora, true);
+    }
+
+    /**
+     * Repositorio en memoria que cuenta las lecturas puntuales.
+     */
+    private static class RepositorioContado extends CuentaRepositoryInMemory {
+        final AtomicInteger lecturas = new AtomicInteger();
+        Runnable alLeer = () -> { };
+
+        @Override
+        public Optional<Cuenta> buscarPorId(String id) {
+            lecturas.incrementAndGet();
+            alLeer.run();
+            return super.buscarPorId(id);
+        }
+
+        @Override
+        public Optional<Cuenta> buscarPorNumeroCuenta(String numeroCuenta) {
+            lecturas.incrementAndGet();
+            alLeer.run();
+            return super.buscarPorNumeroCuenta(numeroCuenta);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.entities.CuentaJPAEntity;
+import com.wallet.infrastructure.entities.TransaccionJPAEntity;
+import com.wallet.infrastructure.entities.UsuarioJPAEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Tests de integración del contrato de durabilidad de los repositorios JPA.
+ *
+ * Prueba:
+ * - Lo guardado es visible para un EntityManager nuevo en cuanto guardar() retorna
+ * - Las escrituras no tienen pausas fijas tras el commit
+ * - El modo opcional de checkpoint WAL mantiene la visibilidad
+ * - Un checkpoint fallido no convierte en error una escritura confirmada
+ */
+@DisplayName("Durabilidad de escrituras JPA - Tests de Integración")
+public class DurabilidadEscrituraJPATest {
+
+    private UsuarioJPARepository usuarioRepository;
+    private CuentaJPARepository cuentaRepository;
+    private TransaccionJPARepository transaccionRepository;
+    private Usuario usuario;
+
+    @BeforeAll
+    static void setupAll() {
+        if (!JPAConfiguration.isInitialized()) {
+            JPAConfiguration.initialize();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        usuarioRepository = new UsuarioJPARepository();
+        cuentaRepository = new CuentaJPARepository();
+        transaccionRepository = new TransaccionJPARepository();
+        limpiarBD();
+
+        usuario = usuarioRepository.guardar(new Usuario("Usuario", "Durable",
+            new Email("durable@example.com"),
+            new DocumentoIdentidad("5555555", DocumentoIdentidad.TipoDocumento.CEDULA)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        JPAConfiguration.setCheckpointTrasCommit(false);
+        limpiarBD();
+    }
+
+    @AfterAll
+    static void cleanupAll() {
+        JPAConfiguration.close();
+    }
+
+    @Test
+    @DisplayName("✅ Usuario visible en un EntityManager nuevo tras guardar")
+    void testUsuarioVisibleTrasGuardar() {
+        UsuarioJPAEntity leido = leer(UsuarioJPAEntity.class, usuario.getId());
+
+        Assertions.assertNotNull(leido);
+        Assertions.assertEquals("durable@example.com", leido.getEmail());
+    }
+
+    @Test
+    @DisplayName("✅ Saldo actualizado visible en un EntityManager nuevo tras guardar")
+    void testCuentaVisibleTrasGuardar() {
+        Cuenta cuenta = cuentaRepository.guardar(new Cuenta(usuario.getId()));
+        cuenta.depositar(Dinero.de(new BigDecimal("42.50")));
+        cuentaRepository.guardar(cuenta);
+
+        CuentaJPAEntity leida = leer(CuentaJPAEntity.class, cuenta.getId());
+
+        Assertions.assertNotNull(leida);
+        Assertions.assertEquals(0, new BigDecimal("42.50").compareTo(leida.getSaldo()));
+    }
+
+    @Test
+    @DisplayName("✅ Transacción visible en un EntityManager nuevo tras guardar")
+    void testTransaccionVisibleTrasGuardar() {
+        Cuenta cuenta = cuentaRepository.guardar(new Cuenta(usuario.getId()));
+        Dinero monto = Dinero.de(new BigDecimal("10.00"));
+        Transaccion transaccion = transaccionRepository.guardar(
+            Transaccion.deposito(monto, cuenta.getId(), "Durable", Dinero.CERO, monto));
+
+        TransaccionJPAEntity leida = leer(TransaccionJPAEntity.class, transaccion.getId());
+
+        Assertions.assertNotNull(leida);
+        Assertions.assertEquals("DEPOSITO", leida.getTipo());
+    }
+
+    @Test
+    @DisplayName("✅ Checkpoint WAL opcional mantiene la visibilidad")
+    void testCheckpointTrasCommit() {
+        JPAConfiguration.setCheckpointTrasCommit(true);
+
+        Cuenta cuenta = cuentaRepository.guardar(new Cuenta(usuario.getId()));
+
+        Assertions.assertNotNull(leer(CuentaJPAEntity.class, cuenta.getId()));
+    }
+
+    @Test
+    @DisplayName("✅ Un checkpoint fallido no informa la escritura como fallida")
+    void testCheckpointFallidoNoPropaga() {
+        JPAConfiguration.setCheckpointTrasCommit(true);
+        JPAConfiguration.close();
+        try {
+            // Sin pool, el checkpoint falla: solo se registra
+            Assertions.assertDoesNotThrow(JPAConfiguration::confirmarEscritura);
+        } finally {
+            JPAConfiguration.initialize();
+        }
+    }
+
+    @Test
+    @DisplayName("✅ Escrituras sin pausas fijas tras el commit")
+    void testEscriturasSinPausaFija() {
+        Cuenta cuenta = cuentaRepository.guardar(new Cuenta(usuario.getId()));
+
+        // Con la antigua pausa de 100 ms, 10 escrituras tardaban al menos 1 s
+        Assertions.assertTimeout(Duration.ofMillis(900), () -> {
+            for (int i = 0; i < 10; i++) {
+                cuenta.depositar(Dinero.de(new BigDecimal("1.00")));
+                cuentaRepository.guardar(cuenta);
+            }
+        });
+
+        Assertions.assertEquals(0, new BigDecimal("10.00").compareTo(
+            leer(CuentaJPAEntity.class, cuenta.getId()).getSaldo()));
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private <T> T leer(Class<T> tipo, String id) {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            return em.find(tipo, id);
+        } finally {
+            em.close();
+        }
+    }
+
+    private void limpiarBD() {
+        try {
+            EntityManager em = JPAConfiguration.getEntityManager();
+            em.getTransaction().begin();
+
+            em.createNativeQuery("DELETE FROM transacciones").executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas").executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios").executeUpdate();
+
+            em.getTransaction().commit();
+            em.close();
+        } catch (Exception e) {
+            System.err.println("Error limpiando BD: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.services.IGeneradorNumeroCuenta;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests de integración para GeneradorNumeroCuentaJPA.
+ *
+ * Prueba:
+ * - Muchos hilos a la vez no reciben números repetidos, y todos llevan
+ *   un dígito verificador correcto
+ * - Dos generadores sobre la misma BD (dos procesos) reciben bloques
+ *   disjuntos
+ * - Los números ya usados por cuentas existentes se saltan
+ */
+@DisplayName("GeneradorNumeroCuentaJPA - Tests de Integración")
+public class GeneradorNumeroCuentaJPATest {
+
+    @BeforeAll
+    static void setupAll() {
+        if (!JPAConfiguration.isInitialized()) {
+            JPAConfiguration.initialize();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        limpiarBD();
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpiarBD();
+    }
+
+    @Test
+    @DisplayName("✅ Hilos concurrentes reciben números únicos y válidos")
+    void testConcurrenciaSinRepetidos() throws Exception {
+        // Arrange
+        GeneradorNumeroCuentaJPA generador = new GeneradorNumeroCuentaJPA(50);
+        int hilos = 8;
+        int porHilo = 2000;
+        Set<String> numeros = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<?>> tareas = new ArrayList<>();
+
+        // Act
+        for (int h = 0; h < hilos; h++) {
+            tareas.add(executor.submit(() -> {
+                salida.await();
+                for (int i = 0; i < porHilo; i++) {
+                    String numero = generador.siguiente();
+                    Assertions.assertTrue(numeros.add(numero), "Número repetido: " + numero);
+                }
+                return null;
+            }));
+        }
+        salida.countDown();
+        for (Future<?> tarea : tareas) {
+            tarea.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        Assertions.assertEquals(hilos * porHilo, numeros.size());
+        Assertions.assertTrue(numeros.stream().allMatch(IGeneradorNumeroCuenta::esValido));
+        Assertions.assertTrue(siguienteEnBD() >= 1 + hilos * porHilo);
+    }
+
+    @Test
+    @DisplayName("✅ Dos generadores sobre la misma BD no se solapan")
+    void testGeneradoresDisjuntos() {
+        // Arrange
+        GeneradorNumeroCuentaJPA nodoA = new GeneradorNumeroCuentaJPA(10);
+        GeneradorNumeroCuentaJPA nodoB = new GeneradorNumeroCuentaJPA(10);
+        Set<String> numeros = new HashSet<>();
+
+        // Act: alternados, cada uno agota varios bloques
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertTrue(numeros.add(nodoA.siguiente()));
+            Assertions.assertTrue(numeros.add(nodoB.siguiente()));
+        }
+
+        // Assert
+        Assertions.assertEquals(200, numeros.size());
+        Assertions.assertEquals(1 + 200, siguienteEnBD());
+    }
+
+    @Test
+    @DisplayName("✅ Salta los números de cuentas que ya existen")
+    void testSaltaNumerosExistentes() {
+        // Arrange: una cuenta ya tiene el segundo número de la secuencia
+        Usuario usuario = new UsuarioJPARepository().guardar(new Usuario("Usuario", "Secuencia",
+            new Email("secuencia@example.com"),
+            new DocumentoIdentidad("2000020", DocumentoIdentidad.TipoDocumento.CEDULA)));
+        String ocupado = IGeneradorNumeroCuenta.conDigitoVerificador(2);
+        new CuentaJPARepository().guardar(new Cuenta(UUID.randomUUID().toString(), ocupado,
+            usuario.getId(), Dinero.CERO, LocalDateTime.now(), LocalDateTime.now(), true));
+        GeneradorNumeroCuentaJPA generador = new GeneradorNumeroCuentaJPA(100);
+
+        // Act
+        List<String> numeros = List.of(generador.siguiente(), generador.siguiente(), generador.siguiente());
+
+        // Assert
+        Assertions.assertEquals(List.of(
+            IGeneradorNumeroCuenta.conDigitoVerificador(1),
+            IGeneradorNumeroCuenta.conDigitoVerificador(3),
+            IGeneradorNumeroCuenta.conDigitoVerificador(4)), numeros);
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private long siguienteEnBD() {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            return ((Number) em.createNativeQuery("SELECT siguiente FROM secuencias WHERE nombre = ?1")
+                .setParameter(1, GeneradorNumeroCuentaJPA.SECUENCIA)
+                .getSingleResult()).longValue();
+        } finally {
+            em.close();
+        }
+    }
+
+    private void limpiarBD() {
+        try {
+            EntityManager em = JPAConfiguration.getEntityManager();
+            em.getTransaction().begin();
+
+            em.createNativeQuery("DELETE FROM secuencias").executeUpdate();
+            em.createNativeQuery("DELETE FROM saldos_diarios").executeUpdate();
+            em.createNativeQuery("DELETE FROM transacciones").executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas").executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios").executeUpdate();
+
+            em.getTransaction().commit();
+            em.close();
+        } catch (Exception e) {
+            System.err.println("Error limpiando BD: " + e.getMessage());
+        }
+    }
+}
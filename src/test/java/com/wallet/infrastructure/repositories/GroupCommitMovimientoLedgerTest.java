@@ -0,0 +1,177 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.entities.CuentaJPAEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Tests de integración del pipeline de group commit.
+ *
+ * Prueba:
+ * - Muchos movimientos concurrentes se agrupan en menos commits
+ * - Un movimiento inválido falla solo, sin abortar su lote
+ * - Los movimientos de una misma cuenta se aplican en orden de llegada
+ */
+@DisplayName("GroupCommitMovimientoLedger - Tests de Integración")
+public class GroupCommitMovimientoLedgerTest {
+
+    private GroupCommitMovimientoLedger ledger;
+    private Cuenta cuenta;
+
+    @BeforeAll
+    static void setupAll() {
+        if (!JPAConfiguration.isInitialized()) {
+            JPAConfiguration.initialize();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        limpiarBD();
+        Usuario usuario = new UsuarioJPARepository().guardar(new Usuario("Usuario", "Lote",
+            new Email("lote@example.com"),
+            new DocumentoIdentidad("6666666", DocumentoIdentidad.TipoDocumento.CEDULA)));
+        cuenta = new CuentaJPARepository().guardar(new Cuenta(usuario.getId()));
+
+        // Espera generosa para que los envíos seguidos caigan en el mismo lote
+        ledger = new GroupCommitMovimientoLedger(64, 50, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ledger.cerrar();
+        limpiarBD();
+    }
+
+    @AfterAll
+    static void cleanupAll() {
+        JPAConfiguration.close();
+    }
+
+    @Test
+    @DisplayName("✅ Depósitos concurrentes se agrupan en menos commits")
+    void testDepositosAgrupados() {
+        List<CompletableFuture<Transaccion>> futuros = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            futuros.add(ledger.enviar(cuenta.getId(), TipoTransaccion.DEPOSITO,
+                Dinero.de(new BigDecimal("2.00")), null));
+        }
+        CompletableFuture.allOf(futuros.toArray(new CompletableFuture[0])).join();
+
+        Assertions.assertEquals(0, new BigDecimal("100.00").compareTo(saldoEnBD()));
+        Assertions.assertEquals(50, contarTransacciones());
+        Assertions.assertTrue(ledger.getHistogramaTamanoLote().getTotal() < 50,
+            "Se esperaban menos commits que movimientos: " + ledger.getHistogramaTamanoLote());
+        Assertions.assertEquals(50, ledger.getHistogramaLatencia().getTotal());
+    }
+
+    @Test
+    @DisplayName("✅ Retiro sin fondos falla sin abortar el resto del lote")
+    void testFalloAisladoEnLote() {
+        CompletableFuture<Transaccion> deposito = ledger.enviar(cuenta.getId(),
+            TipoTransaccion.DEPOSITO, Dinero.de(new BigDecimal("10.00")), "Depósito");
+        CompletableFuture<Transaccion> retiro = ledger.enviar(cuenta.getId(),
+            TipoTransaccion.RETIRO, Dinero.de(new BigDecimal("500.00")), "Retiro");
+        CompletableFuture<Transaccion> otroDeposito = ledger.enviar(cuenta.getId(),
+            TipoTransaccion.DEPOSITO, Dinero.de(new BigDecimal("5.00")), "Depósito");
+
+        Assertions.assertNotNull(deposito.join());
+        Assertions.assertNotNull(otroDeposito.join());
+        CompletionException error = Assertions.assertThrows(CompletionException.class, retiro::join);
+        Assertions.assertInstanceOf(IllegalStateException.class, error.getCause());
+
+        Assertions.assertEquals(0, new BigDecimal("15.00").compareTo(saldoEnBD()));
+        Assertions.assertEquals(2, contarTransacciones());
+    }
+
+    @Test
+    @DisplayName("✅ Movimientos de una cuenta se aplican en orden de llegada")
+    void testOrdenPorCuenta() {
+        CompletableFuture<Transaccion> deposito = ledger.enviar(cuenta.getId(),
+            TipoTransaccion.DEPOSITO, Dinero.de(new BigDecimal("100.00")), null);
+        CompletableFuture<Transaccion> retiro = ledger.enviar(cuenta.getId(),
+            TipoTransaccion.RETIRO, Dinero.de(new BigDecimal("100.00")), null);
+        CompletableFuture<Transaccion> sobregiro = ledger.enviar(cuenta.getId(),
+            TipoTransaccion.RETIRO, Dinero.de(new BigDecimal("1.00")), null);
+
+        Transaccion t1 = deposito.join();
+        Transaccion t2 = retiro.join();
+        Assertions.assertThrows(CompletionException.class, sobregiro::join);
+
+        Assertions.assertEquals(0, t2.getSaldoAnterior().getCantidad().compareTo(
+            t1.getSaldoNuevo().getCantidad()));
+        Assertions.assertEquals(0, BigDecimal.ZERO.compareTo(saldoEnBD()));
+    }
+
+    @Test
+    @DisplayName("✅ registrarMovimiento bloquea hasta el commit")
+    void testRegistrarMovimientoSincrono() {
+        Transaccion transaccion = ledger.registrarMovimiento(cuenta.getId(),
+            TipoTransaccion.DEPOSITO, Dinero.de(new BigDecimal("7.00")), "Síncrono");
+
+        Assertions.assertEquals(TipoTransaccion.DEPOSITO, transaccion.getTipo());
+        Assertions.assertEquals(0, new BigDecimal("7.00").compareTo(saldoEnBD()));
+    }
+
+    @Test
+    @DisplayName("❌ Ledger cerrado rechaza nuevos movimientos")
+    void testLedgerCerrado() {
+        ledger.cerrar();
+
+        Assertions.assertThrows(IllegalStateException.class, () ->
+            ledger.enviar(cuenta.getId(), TipoTransaccion.DEPOSITO, Dinero.de(BigDecimal.ONE), null));
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private BigDecimal saldoEnBD() {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            return em.find(CuentaJPAEntity.class, cuenta.getId()).getSaldo();
+        } finally {
+            em.close();
+        }
+    }
+
+    private long contarTransacciones() {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            return ((Number) em.createNativeQuery(
+                "SELECT COUNT(*) FROM transacciones WHERE cuenta_id = ?1")
+                .setParameter(1, cuenta.getId())
+                .getSingleResult()).longValue();
+        } finally {
+            em.close();
+        }
+    }
+
+    private void limpiarBD() {
+        try {
+            EntityManager em = JPAConfiguration.getEntityManager();
+            em.getTransaction().begin();
+
+            em.createNativeQuery("DELETE FROM transacciones").executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas").executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios").executeUpdate();
+
+            em.getTransaction().commit();
+            em.close();
+        } catch (Exception e) {
+            System.err.println("Error limpiando BD: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,444 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.application.dtos.CuentaDTO;
+import com.wallet.application.dtos.HistorialCuentaDTO;
+import com.wallet.application.dtos.HistorialCursorDTO;
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.application.mappers.CuentaMapper;
+import com.wallet.application.mappers.TransaccionMapper;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.repositories.ConsultaTransacciones;
+import com.wallet.domain.repositories.CursorTransaccion;
+import com.wallet.domain.repositories.ITransaccionRepository;
+import com.wallet.domain.repositories.Pagina;
+import com.wallet.domain.repositories.PaginaCursor;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tests de integración del historial paginado de TransaccionJPARepository.
+ *
+ * Prueba:
+ * - Total y páginas calculados con COUNT en la base de datos
+ * - Orden del más reciente al más antiguo, sin repetir filas entre páginas
+ * - Filtros por tipo y rango de fechas, solos y combinados
+ * - Mismo resultado que la implementación en memoria
+ * - Paginación por cursor (fecha, id) sin huecos ni repetidos, y su plan en SQLite
+ * - Historial combinado por número de cuenta: cabecera, página y cuenta inexistente
+ * - Historial por cursor y número de cuenta, con la cabecera en cada página
+ * - Proyecciones a DTO con los mismos valores que entidad + mapper
+ */
+@DisplayName("Historial paginado JPA - Tests de Integración")
+public class HistorialPaginadoJPATest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 10, 0);
+    private static final int TOTAL = 25;
+
+    private TransaccionJPARepository transaccionRepository;
+    private TransaccionRepositoryInMemory transaccionesEnMemoria;
+    private Cuenta cuenta;
+
+    @BeforeAll
+    static void setupAll() {
+        if (!JPAConfiguration.isInitialized()) {
+            JPAConfiguration.initialize();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        transaccionRepository = new TransaccionJPARepository();
+        transaccionesEnMemoria = new TransaccionRepositoryInMemory();
+        limpiarBD();
+
+        Usuario usuario = new UsuarioJPARepository().guardar(new Usuario("Usuario", "Historial",
+            new Email("historial@example.com"),
+            new DocumentoIdentidad("3333333", DocumentoIdentidad.TipoDocumento.CEDULA)));
+        cuenta = new CuentaJPARepository().guardar(new Cuenta(usuario.getId()));
+
+        // Hora i: DEPOSITO en horas pares, RETIRO en impares
+        for (int i = 0; i < TOTAL; i++) {
+            TipoTransaccion tipo = i % 2 == 0 ? TipoTransaccion.DEPOSITO : TipoTransaccion.RETIRO;
+            Transaccion transaccion = new Transaccion(UUID.randomUUID().toString(), tipo,
+                Dinero.de(new BigDecimal("1.00")), cuenta.getId(), null, "Movimiento " + i,
+                BASE.plusHours(i), Dinero.CERO, Dinero.CERO);
+            transaccionRepository.guardar(transaccion);
+            transaccionesEnMemoria.guardar(transaccion);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpiarBD();
+    }
+
+    @AfterAll
+    static void cleanupAll() {
+        JPAConfiguration.close();
+    }
+
+    @Test
+    @DisplayName("✅ Primera página con total y número de páginas")
+    void testPrimeraPagina() {
+        Pagina<Transaccion> pagina = transaccionRepository.buscarPagina(consulta(null, null, null, 1, 10));
+
+        Assertions.assertEquals(TOTAL, pagina.getTotal());
+        Assertions.assertEquals(3, pagina.getTotalPaginas());
+        Assertions.assertEquals(10, pagina.getContenido().size());
+        Assertions.assertTrue(pagina.tieneSiguiente());
+        Assertions.assertEquals(BASE.plusHours(24), pagina.getContenido().get(0).getFecha());
+        Assertions.assertEquals(BASE.plusHours(15), pagina.getContenido().get(9).getFecha());
+    }
+
+    @Test
+    @DisplayName("✅ Recorrer las páginas no repite ni omite transacciones")
+    void testRecorrerPaginas() {
+        Set<String> vistas = new HashSet<>();
+        LocalDateTime anterior = null;
+        for (int numero = 1; numero <= 3; numero++) {
+            for (Transaccion t : transaccionRepository.buscarPagina(consulta(null, null, null, numero, 10)).getContenido()) {
+                Assertions.assertTrue(vistas.add(t.getId()), "Transacción repetida: " + t.getId());
+                if (anterior != null) {
+                    Assertions.assertTrue(t.getFecha().isBefore(anterior));
+                }
+                anterior = t.getFecha();
+            }
+        }
+        Assertions.assertEquals(TOTAL, vistas.size());
+    }
+
+    @Test
+    @DisplayName("✅ Página fuera de rango vacía, con el total correcto")
+    void testPaginaFueraDeRango() {
+        Pagina<Transaccion> pagina = transaccionRepository.buscarPagina(consulta(null, null, null, 9, 10));
+
+        Assertions.assertTrue(pagina.getContenido().isEmpty());
+        Assertions.assertEquals(TOTAL, pagina.getTotal());
+        Assertions.assertFalse(pagina.tieneSiguiente());
+    }
+
+    @Test
+    @DisplayName("✅ Filtros por tipo y por fechas, solos y combinados")
+    void testFiltros() {
+        Pagina<Transaccion> retiros = transaccionRepository.buscarPagina(
+            consulta(TipoTransaccion.RETIRO, null, null, 1, 20));
+        Assertions.assertEquals(12, retiros.getTotal());
+        Assertions.assertTrue(retiros.getContenido().stream().allMatch(t -> t.getTipo() == TipoTransaccion.RETIRO));
+
+        Pagina<Transaccion> rango = transaccionRepository.buscarPagina(
+            consulta(null, BASE.plusHours(5), BASE.plusHours(9), 1, 20));
+        Assertions.assertEquals(5, rango.getTotal());
+
+        Pagina<Transaccion> combinado = transaccionRepository.buscarPagina(
+            consulta(TipoTransaccion.DEPOSITO, BASE.plusHours(5), BASE.plusHours(9), 1, 20));
+        Assertions.assertEquals(2, combinado.getTotal());
+        Assertions.assertEquals(BASE.plusHours(8), combinado.getContenido().get(0).getFecha());
+        Assertions.assertEquals(BASE.plusHours(6), combinado.getContenido().get(1).getFecha());
+    }
+
+    @Test
+    @DisplayName("✅ Mismo resultado que el repositorio en memoria")
+    void testEquivalenteEnMemoria() {
+        ConsultaTransacciones consulta = consulta(TipoTransaccion.DEPOSITO, BASE.plusHours(3), null, 2, 4);
+
+        Assertions.assertEquals(ids(transaccionesEnMemoria, consulta), ids(transaccionRepository, consulta));
+        Assertions.assertEquals(transaccionesEnMemoria.buscarPagina(consulta).getTotal(),
+            transaccionRepository.buscarPagina(consulta).getTotal());
+    }
+
+    @Test
+    @DisplayName("✅ Recorrer por cursor da lo mismo que por número de página")
+    void testRecorrerPorCursor() {
+        List<String> porPagina = new ArrayList<>();
+        for (int numero = 1; numero <= 4; numero++) {
+            porPagina.addAll(ids(transaccionRepository, consulta(null, null, null, numero, 7)));
+        }
+
+        List<String> porCursor = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            PaginaCursor<Transaccion> pagina = transaccionRepository.buscarSiguientes(
+                consulta(null, null, null, 1, 7), cursor);
+            pagina.getContenido().forEach(t -> porCursor.add(t.getId()));
+            cursor = pagina.getSiguiente();
+            paginas++;
+        } while (cursor != null);
+
+        Assertions.assertEquals(4, paginas);
+        Assertions.assertEquals(porPagina, porCursor);
+    }
+
+    @Test
+    @DisplayName("✅ El cursor desempata por id las transacciones con la misma fecha")
+    void testCursorMismaFecha() {
+        LocalDateTime repetida = BASE.plusHours(12);
+        for (int i = 0; i < 5; i++) {
+            transaccionRepository.guardar(new Transaccion(UUID.randomUUID().toString(), TipoTransaccion.DEPOSITO,
+                Dinero.de(new BigDecimal("2.00")), cuenta.getId(), null, "Misma fecha " + i,
+                repetida, Dinero.CERO, Dinero.CERO));
+        }
+
+        Set<String> vistas = new HashSet<>();
+        String cursor = null;
+        do {
+            PaginaCursor<Transaccion> pagina = transaccionRepository.buscarSiguientes(
+                consulta(null, BASE.plusHours(11), BASE.plusHours(13), 1, 2), cursor);
+            for (Transaccion t : pagina.getContenido()) {
+                Assertions.assertTrue(vistas.add(t.getId()), "Transacción repetida: " + t.getId());
+            }
+            cursor = pagina.getSiguiente();
+        } while (cursor != null);
+
+        Assertions.assertEquals(8, vistas.size());
+    }
+
+    @Test
+    @DisplayName("✅ La página por número entrega el cursor para seguir por clave")
+    void testCursorDesdePaginaNumerada() {
+        Pagina<Transaccion> primera = transaccionRepository.buscarPagina(consulta(TipoTransaccion.RETIRO, null, null, 1, 5));
+        PaginaCursor<Transaccion> siguiente = transaccionRepository.buscarSiguientes(
+            consulta(TipoTransaccion.RETIRO, null, null, 1, 5), primera.getSiguiente());
+
+        Assertions.assertNotNull(primera.getSiguiente());
+        Assertions.assertEquals(ids(transaccionRepository, consulta(TipoTransaccion.RETIRO, null, null, 2, 5)),
+            siguiente.getContenido().stream().map(Transaccion::getId).toList());
+        Assertions.assertNull(transaccionRepository.buscarPagina(consulta(null, null, null, 3, 10)).getSiguiente());
+    }
+
+    @Test
+    @DisplayName("✅ El plan de SQLite busca el cursor en el índice compuesto")
+    void testPlanUsaIndiceCompuesto() {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            List<?> filas = em.createNativeQuery("EXPLAIN QUERY PLAN SELECT id FROM transacciones"
+                    + " WHERE cuenta_id = ?1 AND fecha_transaccion <= ?2 AND (fecha_transaccion < ?2 OR id > ?3)"
+                    + " ORDER BY fecha_transaccion DESC, id ASC LIMIT 11")
+                .setParameter(1, cuenta.getId())
+                .setParameter(2, BASE.plusHours(10))
+                .setParameter(3, "")
+                .getResultList();
+            StringBuilder plan = new StringBuilder();
+            for (Object fila : filas) {
+                plan.append(((Object[]) fila)[3]).append('\n');
+            }
+            Assertions.assertTrue(plan.toString().contains("idx_transacciones_cuenta_fecha_id"), plan.toString());
+            Assertions.assertFalse(plan.toString().contains("TEMP B-TREE"), plan.toString());
+        } finally {
+            em.close();
+        }
+    }
+
+    @Test
+    @DisplayName("❌ Cursor manipulado")
+    void testCursorInvalido() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> transaccionRepository.buscarSiguientes(consulta(null, null, null, 1, 5), "no-es-un-cursor"));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> CursorTransaccion.decodificar("%%%"));
+    }
+
+    @Test
+    @DisplayName("❌ Consulta con rango de fechas invertido")
+    void testRangoInvertido() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> consulta(null, BASE.plusHours(2), BASE, 1, 10));
+    }
+
+    @Test
+    @DisplayName("✅ Historial combinado: cabecera de la cuenta y página en una consulta")
+    void testHistorialCombinado() {
+        ConsultaTransacciones porNumero = ConsultaTransacciones.porNumeroCuenta(
+            cuenta.getNumeroCuenta(), TipoTransaccion.DEPOSITO, null, null, 2, 5);
+
+        HistorialCuentaDTO historial = transaccionRepository.listarHistorial(porNumero).orElseThrow();
+
+        Assertions.assertEquals(cuenta.getId(), historial.getCuenta().getId());
+        Assertions.assertEquals(cuenta.getNumeroCuenta(), historial.getCuenta().getNumeroCuenta());
+        Pagina<Transaccion> esperada = transaccionRepository.buscarPagina(consulta(TipoTransaccion.DEPOSITO, null, null, 2, 5));
+        Pagina<TransaccionDTO> pagina = historial.getTransacciones();
+        Assertions.assertEquals(13, pagina.getTotal());
+        Assertions.assertEquals(esperada.getContenido().stream().map(Transaccion::getId).toList(),
+            pagina.getContenido().stream().map(TransaccionDTO::getId).toList());
+        Assertions.assertEquals(esperada.getSiguiente(), pagina.getSiguiente());
+    }
+
+    @Test
+    @DisplayName("✅ Historial combinado: cuenta sin transacciones que cumplan los filtros")
+    void testHistorialCombinadoSinTransacciones() {
+        HistorialCuentaDTO historial = transaccionRepository.listarHistorial(ConsultaTransacciones.porNumeroCuenta(
+            cuenta.getNumeroCuenta(), null, BASE.plusDays(30), null, 1, 10)).orElseThrow();
+
+        Assertions.assertEquals(cuenta.getId(), historial.getCuenta().getId());
+        Assertions.assertEquals(0, historial.getTransacciones().getTotal());
+        Assertions.assertTrue(historial.getTransacciones().getContenido().isEmpty());
+    }
+
+    @Test
+    @DisplayName("✅ Historial combinado: página fuera de rango conserva cabecera y total")
+    void testHistorialCombinadoFueraDeRango() {
+        HistorialCuentaDTO historial = transaccionRepository.listarHistorial(ConsultaTransacciones.porNumeroCuenta(
+            cuenta.getNumeroCuenta(), null, null, null, 9, 10)).orElseThrow();
+
+        Assertions.assertEquals(cuenta.getId(), historial.getCuenta().getId());
+        Assertions.assertEquals(TOTAL, historial.getTransacciones().getTotal());
+        Assertions.assertTrue(historial.getTransacciones().getContenido().isEmpty());
+        Assertions.assertNull(historial.getTransacciones().getSiguiente());
+    }
+
+    @Test
+    @DisplayName("❌ Historial combinado: cuenta inexistente da resultado vacío")
+    void testHistorialCombinadoCuentaInexistente() {
+        Assertions.assertTrue(transaccionRepository.listarHistorial(ConsultaTransacciones.porNumeroCuenta(
+            "0000000000", null, null, null, 1, 10)).isEmpty());
+        Assertions.assertTrue(transaccionRepository.listarHistorial(ConsultaTransacciones.porNumeroCuenta(
+            "0000000000", null, null, null, 3, 10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("✅ Proyección a DTO: misma página que entidad + mapper")
+    void testProyeccionPagina() {
+        ConsultaTransacciones consulta = consulta(TipoTransaccion.RETIRO, BASE.plusHours(3), null, 2, 4);
+
+        Pagina<TransaccionDTO> esperada = transaccionRepository.buscarPagina(consulta).map(TransaccionMapper::toDTO);
+        Pagina<TransaccionDTO> proyectada = transaccionRepository.listarPagina(consulta);
+
+        Assertions.assertEquals(esperada.getTotal(), proyectada.getTotal());
+        Assertions.assertEquals(esperada.getSiguiente(), proyectada.getSiguiente());
+        Assertions.assertEquals(describir(esperada.getContenido()), describir(proyectada.getContenido()));
+        Assertions.assertEquals(new BigDecimal("1.00"), proyectada.getContenido().get(0).getMonto());
+    }
+
+    @Test
+    @DisplayName("✅ Proyección a DTO: historial combinado igual a entidades + mapper")
+    void testProyeccionHistorial() {
+        ConsultaTransacciones porNumero = ConsultaTransacciones.porNumeroCuenta(
+            cuenta.getNumeroCuenta(), null, null, null, 3, 10);
+
+        HistorialCuentaDTO proyectado = transaccionRepository.listarHistorial(porNumero).orElseThrow();
+        Pagina<Transaccion> esperada = transaccionRepository.buscarPagina(consulta(null, null, null, 3, 10));
+
+        CuentaDTO cuentaEsperada = CuentaMapper.toDTO(new CuentaJPARepository().buscarPorId(cuenta.getId()).orElseThrow());
+        Assertions.assertEquals(cuentaEsperada.getId(), proyectado.getCuenta().getId());
+        Assertions.assertEquals(cuentaEsperada.getNumeroCuenta(), proyectado.getCuenta().getNumeroCuenta());
+        Assertions.assertEquals(cuentaEsperada.getUsuarioId(), proyectado.getCuenta().getUsuarioId());
+        Assertions.assertEquals(cuentaEsperada.getSaldo(), proyectado.getCuenta().getSaldo());
+        Assertions.assertEquals(cuentaEsperada.getMoneda(), proyectado.getCuenta().getMoneda());
+        Assertions.assertEquals(TOTAL, proyectado.getTransacciones().getTotal());
+        Assertions.assertEquals(describir(esperada.map(TransaccionMapper::toDTO).getContenido()),
+            describir(proyectado.getTransacciones().getContenido()));
+
+        Assertions.assertTrue(transaccionRepository.listarHistorial(ConsultaTransacciones.porNumeroCuenta(
+            cuenta.getNumeroCuenta(), null, null, null, 9, 10)).orElseThrow().getTransacciones().getContenido().isEmpty());
+        Assertions.assertTrue(transaccionRepository.listarHistorial(ConsultaTransacciones.porNumeroCuenta(
+            "0000000000", null, null, null, 1, 10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("✅ Historial por cursor: cabecera de la cuenta en cada página")
+    void testHistorialPorCursor() {
+        List<String> porPagina = new ArrayList<>();
+        for (int numero = 1; numero <= 4; numero++) {
+            porPagina.addAll(ids(transaccionRepository, consulta(null, null, null, numero, 7)));
+        }
+
+        List<String> porCursor = new ArrayList<>();
+        String cursor = null;
+        do {
+            HistorialCursorDTO historial = transaccionRepository.listarHistorialDesdeCursor(
+                ConsultaTransacciones.porNumeroCuenta(cuenta.getNumeroCuenta(), null, null, null, 1, 7), cursor)
+                .orElseThrow();
+            Assertions.assertEquals(cuenta.getId(), historial.getCuenta().getId());
+            Assertions.assertEquals(cuenta.getNumeroCuenta(), historial.getCuenta().getNumeroCuenta());
+            historial.getTransacciones().getContenido().forEach(t -> porCursor.add(t.getId()));
+            cursor = historial.getTransacciones().getSiguiente();
+        } while (cursor != null);
+
+        Assertions.assertEquals(porPagina, porCursor);
+    }
+
+    @Test
+    @DisplayName("❌ Historial por cursor: cuenta inexistente da resultado vacío")
+    void testHistorialPorCursorCuentaInexistente() {
+        String cursor = new CursorTransaccion(BASE, "0").codificar();
+
+        Assertions.assertTrue(transaccionRepository.listarHistorialDesdeCursor(ConsultaTransacciones.porNumeroCuenta(
+            "0000000000", null, null, null, 1, 10), cursor).isEmpty());
+        // Cursor más allá de la última transacción: cuenta sin filas de página
+        HistorialCursorDTO vacio = transaccionRepository.listarHistorialDesdeCursor(ConsultaTransacciones.porNumeroCuenta(
+            cuenta.getNumeroCuenta(), null, null, null, 1, 10), new CursorTransaccion(BASE.minusDays(1), "0").codificar())
+            .orElseThrow();
+        Assertions.assertEquals(cuenta.getId(), vacio.getCuenta().getId());
+        Assertions.assertTrue(vacio.getTransacciones().getContenido().isEmpty());
+        Assertions.assertNull(vacio.getTransacciones().getSiguiente());
+    }
+
+    @Test
+    @DisplayName("✅ Proyección a DTO: cuentas del usuario")
+    void testProyeccionCuentas() {
+        CuentaJPARepository cuentaRepository = new CuentaJPARepository();
+        Cuenta inactiva = new Cuenta(UUID.randomUUID().toString(), "3333333001", cuenta.getUsuarioId(),
+            Dinero.de("12.5"), BASE, BASE, false);
+        cuentaRepository.guardar(inactiva);
+
+        List<CuentaDTO> todas = cuentaRepository.listarPorUsuario(cuenta.getUsuarioId());
+        List<CuentaDTO> activas = cuentaRepository.listarActivasPorUsuario(cuenta.getUsuarioId());
+
+        Assertions.assertEquals(List.of(cuenta.getId(), inactiva.getId()), todas.stream().map(CuentaDTO::getId).toList());
+        Assertions.assertEquals(List.of(cuenta.getId()), activas.stream().map(CuentaDTO::getId).toList());
+        CuentaDTO proyectada = todas.get(1);
+        Assertions.assertEquals(new BigDecimal("12.50"), proyectada.getSaldo());
+        Assertions.assertEquals("PEN", proyectada.getMoneda());
+        Assertions.assertFalse(proyectada.isActiva());
+        Assertions.assertEquals(cuenta.getUsuarioId(), proyectada.getUsuarioId());
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private ConsultaTransacciones consulta(TipoTransaccion tipo, LocalDateTime desde, LocalDateTime hasta,
+                                           int pagina, int tamano) {
+        return new ConsultaTransacciones(cuenta.getId(), tipo, desde, hasta, pagina, tamano);
+    }
+
+    private static List<String> ids(ITransaccionRepository repositorio, ConsultaTransacciones consulta) {
+        return repositorio.buscarPagina(consulta).getContenido().stream().map(Transaccion::getId).toList();
+    }
+
+    private static List<String> describir(List<TransaccionDTO> transacciones) {
+        return transacciones.stream()
+            .map(t -> String.join("|", t.getId(), t.getCuentaId(), t.getTipo(), t.getMonto().toPlainString(),
+                t.getMoneda(), t.getDescripcion(), t.getFecha().toString(), String.valueOf(t.getCuentaDestinoId())))
+            .toList();
+    }
+
+    private void limpiarBD() {
+        try {
+            EntityManager em = JPAConfiguration.getEntityManager();
+            em.getTransaction().begin();
+
+            em.createNativeQuery("DELETE FROM transacciones").executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas").executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios").executeUpdate();
+
+            em.getTransaction().commit();
+            em.close();
+        } catch (Exception e) {
+            System.err.println("Error limpiando BD: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.repositories.ResumenPeriodo;
+import com.wallet.domain.repositories.SaldoDiario;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Tests de integración para SaldoDiarioJPARepository.
+ *
+ * Prueba:
+ * - Cada transacción guardada se acumula en el día de su cuenta, aunque
+ *   llegue desordenada dentro del día
+ * - Las transferencias acumulan en ambas cuentas en el mismo commit
+ * - Resumen de período y saldo a una fecha, con y sin movimientos
+ * - La reconstrucción produce lo mismo que el mantenimiento incremental
+ * - Eliminar la cuenta o su usuario elimina sus saldos diarios
+ */
+@DisplayName("SaldoDiarioJPARepository - Tests de Integración")
+public class SaldoDiarioJPARepositoryTest {
+
+    private static final LocalDate DIA_1 = LocalDate.of(2024, 5, 1);
+    private static final LocalDate DIA_2 = LocalDate.of(2024, 5, 3);
+    private static final LocalDate DIA_3 = LocalDate.of(2024, 5, 6);
+
+    private SaldoDiarioJPARepository saldoDiarioRepository;
+    private CuentaJPARepository cuentaRepository;
+    private TransaccionJPARepository transaccionRepository;
+    private Usuario usuario;
+    private Cuenta cuenta;
+
+    @BeforeAll
+    static void setupAll() {
+        if (!JPAConfiguration.isInitialized()) {
+            JPAConfiguration.initialize();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        saldoDiarioRepository = new SaldoDiarioJPARepository();
+        cuentaRepository = new CuentaJPARepository();
+        transaccionRepository = new TransaccionJPARepository();
+        limpiarBD();
+
+        usuario = new UsuarioJPARepository().guardar(new Usuario("Usuario", "Saldos",
+            new Email("saldos@example.com"),
+            new DocumentoIdentidad("9999999", DocumentoIdentidad.TipoDocumento.CEDULA)));
+        cuenta = cuentaRepository.guardar(new Cuenta(usuario.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpiarBD();
+    }
+
+    @AfterAll
+    static void cleanupAll() {
+        JPAConfiguration.close();
+    }
+
+    @Test
+    @DisplayName("✅ Acumula cada transacción en su día, aunque llegue desordenada")
+    void testMantenimientoIncremental() {
+        // Act
+        registrarMovimientos();
+
+        // Assert
+        List<SaldoDiario> dias = saldoDiarioRepository.buscarPorCuentaYFechas(cuenta.getId(), DIA_1, DIA_3);
+        Assertions.assertEquals(3, dias.size());
+
+        SaldoDiario primero = dias.get(0);
+        Assertions.assertEquals(DIA_1, primero.getFecha());
+        Assertions.assertEquals(new BigDecimal("0.00"), primero.getSaldoApertura());
+        Assertions.assertEquals(new BigDecimal("70.00"), primero.getSaldoCierre());
+        Assertions.assertEquals(new BigDecimal("100.00"), primero.getCreditos());
+        Assertions.assertEquals(new BigDecimal("30.00"), primero.getDebitos());
+        Assertions.assertEquals(2, primero.getCantidad());
+
+        Assertions.assertEquals(DIA_2, dias.get(1).getFecha());
+        Assertions.assertEquals(new BigDecimal("120.00"), dias.get(1).getSaldoCierre());
+        Assertions.assertEquals(new BigDecimal("20.00"), dias.get(2).getDebitos());
+        Assertions.assertEquals(1, saldoDiarioRepository.buscarPorCuentaYFechas(cuenta.getId(), DIA_2, DIA_2).size());
+    }
+
+    @Test
+    @DisplayName("✅ Una transferencia acumula en ambas cuentas")
+    void testTransferencia() {
+        // Arrange
+        Cuenta origen = cuentaRepository.guardar(new Cuenta(UUID.randomUUID().toString(), "3333333002",
+            usuario.getId(), Dinero.de(new BigDecimal("500.00")), cuenta.getFechaCreacion(),
+            cuenta.getFechaActualizacion(), true));
+        Cuenta destino = new Cuenta(UUID.randomUUID().toString(), "3333333003", usuario.getId(),
+            Dinero.CERO, cuenta.getFechaCreacion(), cuenta.getFechaActualizacion(), true);
+        destino = cuentaRepository.guardar(destino);
+
+        Dinero monto = Dinero.de(new BigDecimal("200.00"));
+        Dinero anteriorOrigen = origen.getSaldo();
+        Dinero anteriorDestino = destino.getSaldo();
+        origen.retirar(monto);
+        destino.depositar(monto);
+
+        // Act
+        new TransferJPALedger().registrarTransferencia(origen, destino,
+            Transaccion.transferenciaEnviada(monto, origen.getId(), destino.getId(), "Test",
+                anteriorOrigen, origen.getSaldo()),
+            Transaccion.transferenciaRecibida(monto, destino.getId(), origen.getId(), "Test",
+                anteriorDestino, destino.getSaldo()));
+
+        // Assert
+        LocalDate hoy = LocalDate.now();
+        Assertions.assertEquals(Optional.of(new BigDecimal("300.00")),
+            saldoDiarioRepository.obtenerSaldoAl(origen.getId(), hoy));
+        Assertions.assertEquals(Optional.of(new BigDecimal("200.00")),
+            saldoDiarioRepository.obtenerSaldoAl(destino.getId(), hoy));
+        SaldoDiario diaDestino = saldoDiarioRepository.buscarPorCuentaYFechas(destino.getId(), hoy, hoy).get(0);
+        Assertions.assertEquals(new BigDecimal("200.00"), diaDestino.getCreditos());
+        Assertions.assertEquals(new BigDecimal("0.00"), diaDestino.getSaldoApertura());
+    }
+
+    @Test
+    @DisplayName("✅ Resumen de período y saldo a una fecha")
+    void testResumenYSaldoAFecha() {
+        // Arrange
+        registrarMovimientos();
+
+        // Act
+        ResumenPeriodo intermedio = saldoDiarioRepository.obtenerResumen(cuenta.getId(),
+            DIA_1.plusDays(1), DIA_3.minusDays(1));
+        ResumenPeriodo sinMovimientos = saldoDiarioRepository.obtenerResumen(cuenta.getId(),
+            DIA_2.plusDays(1), DIA_3.minusDays(1));
+        ResumenPeriodo completo = saldoDiarioRepository.obtenerResumen(cuenta.getId(),
+            DIA_1.withDayOfMonth(1).minusMonths(1), DIA_3.plusDays(10));
+        ResumenPeriodo anterior = saldoDiarioRepository.obtenerResumen(cuenta.getId(),
+            DIA_1.minusDays(30), DIA_1.minusDays(1));
+
+        // Assert
+        Assertions.assertEquals(new BigDecimal("70.00"), intermedio.getSaldoInicial());
+        Assertions.assertEquals(new BigDecimal("120.00"), intermedio.getSaldoFinal());
+        Assertions.assertEquals(new BigDecimal("50.00"), intermedio.getCreditos());
+        Assertions.assertEquals(new BigDecimal("0.00"), intermedio.getDebitos());
+        Assertions.assertEquals(1, intermedio.getCantidad());
+
+        Assertions.assertEquals(new BigDecimal("120.00"), sinMovimientos.getSaldoInicial());
+        Assertions.assertEquals(new BigDecimal("120.00"), sinMovimientos.getSaldoFinal());
+        Assertions.assertEquals(0, sinMovimientos.getCantidad());
+
+        Assertions.assertEquals(new BigDecimal("0.00"), completo.getSaldoInicial());
+        Assertions.assertEquals(new BigDecimal("100.00"), completo.getSaldoFinal());
+        Assertions.assertEquals(new BigDecimal("150.00"), completo.getCreditos());
+        Assertions.assertEquals(new BigDecimal("50.00"), completo.getDebitos());
+        Assertions.assertEquals(4, completo.getCantidad());
+
+        Assertions.assertEquals(new BigDecimal("0.00"), anterior.getSaldoFinal());
+        Assertions.assertEquals(Optional.empty(), saldoDiarioRepository.obtenerSaldoAl(cuenta.getId(), DIA_1.minusDays(1)));
+        Assertions.assertEquals(Optional.of(new BigDecimal("120.00")),
+            saldoDiarioRepository.obtenerSaldoAl(cuenta.getId(), DIA_3.minusDays(1)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> saldoDiarioRepository.obtenerResumen(cuenta.getId(), DIA_3, DIA_1));
+    }
+
+    @Test
+    @DisplayName("✅ La reconstrucción coincide con el mantenimiento incremental")
+    void testReconstruir() {
+        // Arrange
+        registrarMovimientos();
+        List<SaldoDiario> incrementales = saldoDiarioRepository.buscarPorCuentaYFechas(cuenta.getId(), DIA_1, DIA_3);
+        ejecutarNativo("DELETE FROM saldos_diarios");
+
+        // Act
+        long dias = saldoDiarioRepository.reconstruir(cuenta.getId());
+
+        // Assert
+        Assertions.assertEquals(3, dias);
+        List<SaldoDiario> reconstruidos = saldoDiarioRepository.buscarPorCuentaYFechas(cuenta.getId(), DIA_1, DIA_3);
+        Assertions.assertEquals(incrementales.toString(), reconstruidos.toString());
+        Assertions.assertEquals(3, saldoDiarioRepository.reconstruirTodos());
+        Assertions.assertEquals(incrementales.toString(),
+            saldoDiarioRepository.buscarPorCuentaYFechas(cuenta.getId(), DIA_1, DIA_3).toString());
+    }
+
+    @Test
+    @DisplayName("✅ Eliminar la cuenta elimina sus saldos diarios")
+    void testEliminarCuenta() {
+        // Arrange
+        registrarMovimientos();
+
+        // Act
+        cuentaRepository.eliminar(cuenta.getId());
+
+        // Assert
+        Assertions.assertTrue(saldoDiarioRepository.buscarPorCuentaYFechas(cuenta.getId(), DIA_1, DIA_3).isEmpty());
+    }
+
+    @Test
+    @DisplayName("✅ Eliminar el usuario elimina los saldos diarios de sus cuentas")
+    void testEliminarUsuario() {
+        // Arrange
+        registrarMovimientos();
+
+        // Act
+        new UsuarioJPARepository().eliminar(usuario.getId());
+
+        // Assert
+        Assertions.assertTrue(saldoDiarioRepository.buscarPorCuentaYFechas(cuenta.getId(), DIA_1, DIA_3).isEmpty());
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    /**
+     * Cuatro movimientos en tres días; el del cierre del primer día se
+     * guarda antes que el de la apertura.
+     */
+    private void registrarMovimientos() {
+        guardar(TipoTransaccion.RETIRO, "30", DIA_1.atTime(15, 0), "100", "70");
+        guardar(TipoTransaccion.DEPOSITO, "100", DIA_1.atTime(10, 0), "0", "100");
+        guardar(TipoTransaccion.DEPOSITO, "50", DIA_2.atTime(9, 0), "70", "120");
+        guardar(TipoTransaccion.TRANSFERENCIA_ENVIADA, "20", DIA_3.atTime(12, 0), "120", "100");
+    }
+
+    private void guardar(TipoTransaccion tipo, String monto, LocalDateTime fecha,
+                         String saldoAnterior, String saldoNuevo) {
+        transaccionRepository.guardar(new Transaccion(UUID.randomUUID().toString(), tipo,
+            Dinero.de(new BigDecimal(monto)), cuenta.getId(),
+            tipo == TipoTransaccion.TRANSFERENCIA_ENVIADA ? UUID.randomUUID().toString() : null,
+            "Test", fecha, Dinero.de(new BigDecimal(saldoAnterior)), Dinero.de(new BigDecimal(saldoNuevo))));
+    }
+
+    private void ejecutarNativo(String sql) {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.createNativeQuery(sql).executeUpdate();
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+
+    private void limpiarBD() {
+        try {
+            EntityManager em = JPAConfiguration.getEntityManager();
+            em.getTransaction().begin();
+
+            em.createNativeQuery("DELETE FROM saldos_diarios").executeUpdate();
+            em.createNativeQuery("DELETE FROM transacciones").executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas").executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios").executeUpdate();
+
+            em.getTransaction().commit();
+            em.close();
+        } catch (Exception e) {
+            System.err.println("Error limpiando BD: " + e.getMessage());
+        }
+    }
+}
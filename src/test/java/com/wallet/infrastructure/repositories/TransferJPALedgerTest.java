@@ -0,0 +1,151 @@
+package com.wallet.infrastructure.repositories;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.exceptions.OperacionNoValidaException;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.entities.CuentaJPAEntity;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tests de integración para TransferJPALedger.
+ *
+ * Prueba:
+ * - Débito, crédito y ambas transacciones en un único commit
+ * - Rollback completo si un saldo cambió entre la lectura y el commit
+ */
+@DisplayName("TransferJPALedger - Tests de Integración")
+public class TransferJPALedgerTest {
+
+    private TransferJPALedger ledger;
+    private CuentaJPARepository cuentaRepository;
+    private TransaccionJPARepository transaccionRepository;
+    private Cuenta origen;
+    private Cuenta destino;
+
+    @BeforeAll
+    static void setupAll() {
+        if (!JPAConfiguration.isInitialized()) {
+            JPAConfiguration.initialize();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        ledger = new TransferJPALedger();
+        cuentaRepository = new CuentaJPARepository();
+        transaccionRepository = new TransaccionJPARepository();
+        UsuarioJPARepository usuarioRepository = new UsuarioJPARepository();
+        limpiarBD();
+
+        Usuario usuario = usuarioRepository.guardar(new Usuario("Usuario", "Ledger",
+            new Email("ledger@example.com"),
+            new DocumentoIdentidad("7777777", DocumentoIdentidad.TipoDocumento.CEDULA)));
+
+        origen = new Cuenta(usuario.getId());
+        origen.depositar(Dinero.de(new BigDecimal("500.00")));
+        origen = cuentaRepository.guardar(origen);
+
+        destino = new Cuenta(UUID.randomUUID().toString(), "1111111111", usuario.getId(),
+            Dinero.CERO, origen.getFechaCreacion(), origen.getFechaActualizacion(), true);
+        destino = cuentaRepository.guardar(destino);
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpiarBD();
+    }
+
+    @AfterAll
+    static void cleanupAll() {
+        JPAConfiguration.close();
+    }
+
+    @Test
+    @DisplayName("✅ Registrar transferencia en un solo commit")
+    void testRegistrarTransferencia() {
+        // Arrange
+        Dinero monto = Dinero.de(new BigDecimal("200.00"));
+        Transaccion[] transacciones = prepararTransferencia(monto);
+
+        // Act
+        List<Transaccion> guardadas = ledger.registrarTransferencia(origen, destino, transacciones[0], transacciones[1]);
+
+        // Assert
+        Assertions.assertEquals(2, guardadas.size());
+        Assertions.assertEquals(0, new BigDecimal("300.00").compareTo(saldoEnBD(origen.getId())));
+        Assertions.assertEquals(0, new BigDecimal("200.00").compareTo(saldoEnBD(destino.getId())));
+        Assertions.assertEquals(1, transaccionRepository.buscarPorCuentaId(origen.getId()).size());
+        Assertions.assertEquals(1, transaccionRepository.buscarPorCuentaId(destino.getId()).size());
+    }
+
+    @Test
+    @DisplayName("❌ Saldo modificado concurrentemente revierte toda la transferencia")
+    void testSaldoConcurrenteRevierte() {
+        // Arrange
+        Dinero monto = Dinero.de(new BigDecimal("200.00"));
+        Transaccion[] transacciones = prepararTransferencia(monto);
+
+        // Otro proceso acredita el destino antes del commit
+        Cuenta destinoConcurrente = cuentaRepository.buscarPorId(destino.getId()).orElseThrow();
+        destinoConcurrente.depositar(Dinero.de(new BigDecimal("5.00")));
+        cuentaRepository.guardar(destinoConcurrente);
+
+        // Act & Assert
+        Assertions.assertThrows(OperacionNoValidaException.class,
+            () -> ledger.registrarTransferencia(origen, destino, transacciones[0], transacciones[1]));
+
+        Assertions.assertEquals(0, new BigDecimal("500.00").compareTo(saldoEnBD(origen.getId())));
+        Assertions.assertEquals(0, new BigDecimal("5.00").compareTo(saldoEnBD(destino.getId())));
+        Assertions.assertTrue(transaccionRepository.buscarPorCuentaId(origen.getId()).isEmpty());
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private Transaccion[] prepararTransferencia(Dinero monto) {
+        Dinero saldoAnteriorOrigen = origen.getSaldo();
+        Dinero saldoAnteriorDestino = destino.getSaldo();
+        origen.retirar(monto);
+        destino.depositar(monto);
+        return new Transaccion[] {
+            Transaccion.transferenciaEnviada(monto, origen.getId(), destino.getId(), "Test",
+                saldoAnteriorOrigen, origen.getSaldo()),
+            Transaccion.transferenciaRecibida(monto, destino.getId(), origen.getId(), "Test",
+                saldoAnteriorDestino, destino.getSaldo())
+        };
+    }
+
+    private BigDecimal saldoEnBD(String cuentaId) {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            return em.find(CuentaJPAEntity.class, cuentaId).getSaldo();
+        } finally {
+            em.close();
+        }
+    }
+
+    private void limpiarBD() {
+        try {
+            EntityManager em = JPAConfiguration.getEntityManager();
+            em.getTransaction().begin();
+
+            em.createNativeQuery("DELETE FROM transacciones").executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas").executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios").executeUpdate();
+
+            em.getTransaction().commit();
+            em.close();
+        } catch (Exception e) {
+            System.err.println("Error limpiando BD: " + e.getMessage());
+        }
+    }
+}
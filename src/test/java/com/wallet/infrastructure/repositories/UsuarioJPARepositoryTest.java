@@ -1,5 +1,7 @@
 package com.wallet.infrastructure.repositories;
 
+import com.wallet.domain.repositories.ConsultaUsuarios;
+import com.wallet.domain.repositories.Pagina;
 import com.wallet.domain.valueobjects.DocumentoIdentidad;
 import com.wallet.domain.valueobjects.Email;
 import com.wallet.domain.entities.Usuario;
@@ -10,17 +12,21 @@ import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.*;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Tests de integración para UsuarioJPARepository.
  *
  * Prueba:
  * - Operaciones CRUD (Create, Read, Update, Delete)
+ * - Aviso de las cuentas borradas junto con su usuario
  * - Búsquedas por email y documento
  * - Validaciones de unicidad
  * - Transacciones y rollback
+ * - Listado paginado con filtros por estado y email
  *
  * Nota: Utiliza la BD real (SQLite wallet.db)
  */
@@ -192,6 +198,25 @@ public class UsuarioJPARepositoryTest {
         Assertions.assertFalse(usuarioBuscado.isPresent());
     }
 
+    @Test
+    @DisplayName("✅ Eliminar usuario avisa de cada cuenta borrada")
+    void testEliminarAvisaCuentas() {
+        // Arrange
+        List<String> avisadas = new ArrayList<>();
+        UsuarioJPARepository conAviso = new UsuarioJPARepository(avisadas::add);
+        Usuario usuario = conAviso.guardar(new Usuario("Pedro", "Sánchez", new Email(EMAIL_TEST),
+            new DocumentoIdentidad("1234567", DocumentoIdentidad.TipoDocumento.CEDULA)));
+        CuentaJPARepository cuentaRepository = new CuentaJPARepository();
+        Cuenta primera = cuentaRepository.guardar(new Cuenta(usuario.getId()));
+        Cuenta segunda = cuentaRepository.guardar(new Cuenta(usuario.getId()));
+
+        // Act
+        conAviso.eliminar(usuario.getId());
+
+        // Assert
+        Assertions.assertEquals(Set.of(primera.getId(), segunda.getId()), Set.copyOf(avisadas));
+    }
+
     // ==================== TESTS DE VALIDACIÓN ====================
 
     @Test
@@ -261,8 +286,87 @@ public class UsuarioJPARepositoryTest {
         Assertions.assertFalse(usuario.isPresent());
     }
 
+    // ==================== TESTS LISTADO PAGINADO ====================
+
+    @Test
+    @DisplayName("✅ Listado paginado ordenado por nombre con total")
+    void testBuscarPagina() {
+        // Arrange: 12 usuarios, uno de cada tres inactivo
+        guardarUsuariosListado(12);
+
+        // Act
+        Pagina<Usuario> primera = repository.buscarPagina(new ConsultaUsuarios(null, null, 1, 5));
+        Pagina<Usuario> ultima = repository.buscarPagina(new ConsultaUsuarios(null, null, 3, 5));
+
+        // Assert
+        Assertions.assertEquals(12, primera.getTotal());
+        Assertions.assertEquals(3, primera.getTotalPaginas());
+        Assertions.assertEquals(5, primera.getContenido().size());
+        Assertions.assertEquals("Nombre00", primera.getContenido().get(0).getNombre());
+        Assertions.assertEquals(2, ultima.getContenido().size());
+        Assertions.assertEquals("Nombre11", ultima.getContenido().get(1).getNombre());
+    }
+
+    @Test
+    @DisplayName("✅ Listado paginado filtrado por estado y email")
+    void testBuscarPaginaConFiltros() {
+        // Arrange
+        guardarUsuariosListado(12);
+
+        // Act
+        Pagina<Usuario> inactivos = repository.buscarPagina(new ConsultaUsuarios(null, false, 1, 10));
+        Pagina<Usuario> porEmail = repository.buscarPagina(new ConsultaUsuarios("LISTADO1", null, 1, 10));
+        Pagina<Usuario> activosPorEmail = repository.buscarPagina(new ConsultaUsuarios("listado1", true, 1, 10));
+        Pagina<Usuario> comodin = repository.buscarPagina(new ConsultaUsuarios("listado_", null, 1, 10));
+
+        // Assert
+        Assertions.assertEquals(4, inactivos.getTotal());
+        Assertions.assertTrue(inactivos.getContenido().stream().noneMatch(Usuario::isActivo));
+        Assertions.assertEquals(3, porEmail.getTotal()); // listado1, listado10, listado11
+        Assertions.assertEquals(2, activosPorEmail.getTotal()); // listado1, listado10
+        Assertions.assertEquals(0, comodin.getTotal(), "El _ se busca literal, no como comodín");
+    }
+
+    @Test
+    @DisplayName("✅ El plan de SQLite recorre el listado en orden de índice")
+    void testPlanListadoSinOrdenarAparte() {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            String todos = plan(em, "SELECT id FROM usuarios ORDER BY nombre, apellido, id LIMIT 10");
+            String activos = plan(em, "SELECT id FROM usuarios WHERE activo = 1"
+                + " ORDER BY nombre, apellido, id LIMIT 10");
+
+            Assertions.assertTrue(todos.contains("idx_usuarios_nombre"), todos);
+            Assertions.assertFalse(todos.contains("TEMP B-TREE"), todos);
+            Assertions.assertTrue(activos.contains("idx_usuarios_activo_nombre"), activos);
+            Assertions.assertFalse(activos.contains("TEMP B-TREE"), activos);
+        } finally {
+            em.close();
+        }
+    }
+
     // ==================== MÉTODOS AUXILIARES ====================
 
+    private static String plan(EntityManager em, String sql) {
+        StringBuilder plan = new StringBuilder();
+        for (Object fila : em.createNativeQuery("EXPLAIN QUERY PLAN " + sql).getResultList()) {
+            plan.append(((Object[]) fila)[3]).append('\n');
+        }
+        return plan.toString();
+    }
+
+    private void guardarUsuariosListado(int cantidad) {
+        for (int i = 0; i < cantidad; i++) {
+            Usuario usuario = new Usuario(String.format("Nombre%02d", i), "Listado",
+                new Email("listado" + i + "@example.com"),
+                new DocumentoIdentidad(String.valueOf(2000000 + i), DocumentoIdentidad.TipoDocumento.CEDULA));
+            if (i % 3 == 2) {
+                usuario.desactivar();
+            }
+            repository.guardar(usuario);
+        }
+    }
+
     private void limpiarBD() {
         try {
             EntityManager em = JPAConfiguration.getEntityManager();
@@ -0,0 +1,165 @@
+package com.wallet.infrastructure.services;
+
+import com.wallet.domain.valueobjects.Dinero;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.wallet.infrastructure.services.ServidorTasasFalso.esperarHasta;
+
+/**
+ * Tests de la caché de tasas de ConversorDivisasAPI contra un servidor
+ * HTTP local.
+ *
+ * Prueba:
+ * - Muchas conversiones concurrentes sin caché hacen una sola descarga
+ * - Los pares entre otras monedas se derivan de la misma tabla
+ * - Una tabla vencida se sigue usando mientras se refresca una sola vez
+ *   en segundo plano
+ * - Si el refresco falla se siguen usando las tasas conocidas, pero no
+ *   más allá de la obsolescencia máxima
+ * - Un conversor nuevo arranca con la copia en disco y convierte sin red
+ */
+@DisplayName("ConversorDivisasAPI - Caché de tasas")
+public class ConversorDivisasAPITest {
+
+    private static final long TTL_MS = 1_000;
+    private static final long MAX_OBSOLESCENCIA_MS = 10_000;
+
+    private ServidorTasasFalso servidor;
+    private final AtomicLong reloj = new AtomicLong(1_000_000);
+    private ConversorDivisasAPI conversor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        servidor = new ServidorTasasFalso("0.92", "3.75");
+        conversor = new ConversorDivisasAPI(servidor.getUrl(),
+            "USD", TTL_MS, MAX_OBSOLESCENCIA_MS, reloj::get, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        servidor.close();
+    }
+
+    @Test
+    @DisplayName("✅ N conversiones concurrentes hacen una sola descarga")
+    void testSingleFlight() throws Exception {
+        // Arrange: el servidor retiene la respuesta hasta que todos esperan
+        servidor.bloquear();
+        int hilos = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        CountDownLatch salida = new CountDownLatch(1);
+        List<Future<Double>> tasas = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < hilos; i++) {
+            tasas.add(executor.submit(() -> {
+                salida.await();
+                return conversor.obtenerTasaCambio("USD", "EUR");
+            }));
+        }
+        salida.countDown();
+        Thread.sleep(300);
+        servidor.liberar();
+
+        // Assert
+        for (Future<Double> tasa : tasas) {
+            Assertions.assertEquals(0.92, tasa.get(10, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        Assertions.assertEquals(1, servidor.getDescargas());
+    }
+
+    @Test
+    @DisplayName("✅ Cualquier par se deriva de la tabla USD, sin más descargas")
+    void testTasasCruzadas() {
+        // Act
+        double eurPen = conversor.obtenerTasaCambio("EUR", "PEN");
+        double penUsd = conversor.obtenerTasaCambio("PEN", "USD");
+        Dinero soles = conversor.convertir(new Dinero(new BigDecimal("100.00"), "EUR"), "PEN");
+
+        // Assert
+        Assertions.assertEquals(3.75 / 0.92, eurPen, 1e-12);
+        Assertions.assertEquals(1 / 3.75, penUsd, 1e-12);
+        Assertions.assertEquals(new BigDecimal("407.61"), soles.getCantidad());
+        Assertions.assertEquals(1, servidor.getDescargas());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> conversor.obtenerTasaCambio("EUR", "XYZ"));
+    }
+
+    @Test
+    @DisplayName("✅ Tabla vencida: se usa mientras se refresca una vez en segundo plano")
+    void testStaleWhileRevalidate() throws Exception {
+        // Arrange
+        Assertions.assertEquals(0.92, conversor.obtenerTasaCambio("USD", "EUR"));
+        servidor.setTasaEur("0.95");
+        servidor.bloquear();
+        reloj.addAndGet(TTL_MS + 1);
+
+        // Act & Assert: responde al instante con la tabla vencida
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            for (int i = 0; i < 20; i++) {
+                Assertions.assertEquals(0.92, conversor.obtenerTasaCambio("USD", "EUR"));
+            }
+        });
+        esperarHasta(() -> servidor.getDescargas() == 2);
+        servidor.liberar();
+        esperarHasta(() -> conversor.obtenerTasaCambio("USD", "EUR") == 0.95);
+        Assertions.assertEquals(2, servidor.getDescargas());
+    }
+
+    @Test
+    @DisplayName("❌ Refresco fallido: tasas conocidas hasta la obsolescencia máxima")
+    void testObsolescenciaMaxima() throws Exception {
+        // Arrange
+        Assertions.assertEquals(0.92, conversor.obtenerTasaCambio("USD", "EUR"));
+        servidor.setCodigo(503);
+
+        // Act & Assert: dentro del límite, el refresco falla en segundo plano
+        reloj.addAndGet(MAX_OBSOLESCENCIA_MS);
+        Assertions.assertEquals(0.92, conversor.obtenerTasaCambio("USD", "EUR"));
+        esperarHasta(() -> servidor.getDescargas() == 2);
+
+        // Más allá del límite, la tabla no se usa y el error llega al llamador
+        reloj.addAndGet(1);
+        Assertions.assertThrows(RuntimeException.class, () -> conversor.obtenerTasaCambio("USD", "EUR"));
+    }
+
+    @Test
+    @DisplayName("✅ Arranque con la copia en disco: convierte sin red")
+    void testArranqueDesdeCopiaEnDisco(@TempDir Path directorio) throws Exception {
+        // Arrange: un conversor descarga y guarda la tabla
+        Path archivo = directorio.resolve("tasas.tsv");
+        String url = servidor.getUrl();
+        new ConversorDivisasAPI(url, "USD", TTL_MS, MAX_OBSOLESCENCIA_MS, reloj::get, archivo)
+            .obtenerTasaCambio("USD", "EUR");
+        Assertions.assertTrue(Files.exists(archivo));
+
+        // Act: otro conversor arranca con una API inalcanzable
+        ConversorDivisasAPI sinRed = new ConversorDivisasAPI("http://127.0.0.1:1/latest/", "USD", TTL_MS, MAX_OBSOLESCENCIA_MS,
+            reloj::get, archivo);
+
+        // Assert: usa la copia mientras no supere la obsolescencia máxima
+        Assertions.assertTrue(sinRed.estaDisponible());
+        Assertions.assertEquals(new BigDecimal("407.61"),
+            sinRed.convertir(new Dinero(new BigDecimal("100.00"), "EUR"), "PEN").getCantidad());
+        reloj.addAndGet(MAX_OBSOLESCENCIA_MS);
+        Assertions.assertEquals(3.75, sinRed.obtenerTasaCambio("USD", "PEN"));
+        reloj.addAndGet(1);
+        Assertions.assertThrows(RuntimeException.class, () -> sinRed.obtenerTasaCambio("USD", "PEN"));
+        Assertions.assertEquals(1, servidor.getDescargas());
+    }
+}
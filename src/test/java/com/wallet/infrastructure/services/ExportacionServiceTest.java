@@ -0,0 +1,183 @@
+package com.wallet.infrastructure.services;
+
+import com.wallet.application.dtos.TransaccionDTO;
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Transaccion;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.exceptions.CuentaNoEncontradaException;
+import com.wallet.domain.valueobjects.Dinero;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.domain.valueobjects.TipoTransaccion;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.services.ExportacionService.Formato;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Tests de la exportación del historial completo de una cuenta.
+ *
+ * Prueba:
+ * - CSV con cabecera, una línea por transacción en orden cronológico y
+ *   campos con comas, comillas o saltos de línea citados
+ * - JSON con todas las transacciones y el total al final
+ * - Exportación a archivo
+ * - El recorrido entrega las filas una a una y se corta si el destino falla
+ * - Cuenta inexistente: error sin escribir nada
+ */
+@DisplayName("ExportacionService - Tests de Integración")
+public class ExportacionServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 9, 0);
+    private static final int TOTAL = 25;
+
+    private ExportacionService exportacionService;
+    private Cuenta cuenta;
+
+    @BeforeAll
+    static void setupAll() {
+        if (!JPAConfiguration.isInitialized()) {
+            JPAConfiguration.initialize();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        limpiarBD();
+        exportacionService = new ExportacionService();
+
+        Usuario usuario = RepositoryFactory.getUsuarioRepository().guardar(new Usuario("Usuario", "Exportacion",
+            new Email("exportacion@example.com"),
+            new DocumentoIdentidad("8888888", DocumentoIdentidad.TipoDocumento.CEDULA)));
+        cuenta = RepositoryFactory.getCuentaRepository().guardar(new Cuenta(usuario.getId()));
+
+        for (int i = 0; i < TOTAL; i++) {
+            TipoTransaccion tipo = i % 2 == 0 ? TipoTransaccion.DEPOSITO : TipoTransaccion.RETIRO;
+            String descripcion = i == 3 ? "Pago \"especial\", cuota 1\nsegunda línea" : "Movimiento " + i;
+            RepositoryFactory.getTransaccionRepository().guardar(new Transaccion(UUID.randomUUID().toString(), tipo,
+                Dinero.de(new BigDecimal(i + 1)), cuenta.getId(), null, descripcion,
+                BASE.plusHours(i), Dinero.CERO, Dinero.CERO));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpiarBD();
+    }
+
+    @AfterAll
+    static void cleanupAll() {
+        JPAConfiguration.close();
+    }
+
+    @Test
+    @DisplayName("✅ CSV con cabecera, orden cronológico y campos citados")
+    void testExportarCsv() throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        long total = exportacionService.exportar(cuenta.getNumeroCuenta(), Formato.CSV, salida);
+
+        Assertions.assertEquals(TOTAL, total);
+        String csv = salida.toString(StandardCharsets.UTF_8);
+        String[] lineas = csv.split("\r\n");
+        Assertions.assertEquals(TOTAL + 1, lineas.length);
+        Assertions.assertEquals("id,fecha,tipo,monto,moneda,descripcion,cuenta_destino", lineas[0]);
+        Assertions.assertTrue(lineas[1].contains("," + BASE + ",DEPOSITO,1.00,PEN,Movimiento 0,"), lineas[1]);
+        Assertions.assertTrue(lineas[TOTAL].contains("," + BASE.plusHours(TOTAL - 1) + ","), lineas[TOTAL]);
+        Assertions.assertTrue(lineas[4].endsWith(",RETIRO,4.00,PEN,\"Pago \"\"especial\"\", cuota 1\nsegunda línea\","),
+            lineas[4]);
+    }
+
+    @Test
+    @DisplayName("✅ JSON con todas las transacciones y el total")
+    void testExportarJson() throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        exportacionService.exportar(cuenta.getNumeroCuenta(), Formato.JSON, salida);
+
+        String json = salida.toString(StandardCharsets.UTF_8).trim();
+        Assertions.assertTrue(json.startsWith("{\"numeroCuenta\":\"" + cuenta.getNumeroCuenta() + "\""), json);
+        Assertions.assertTrue(json.endsWith("],\"total\":" + TOTAL + "}"), json);
+        Assertions.assertEquals(TOTAL, json.split("\"id\":").length - 1);
+        Assertions.assertTrue(json.contains("\"descripcion\":\"Pago \\\"especial\\\", cuota 1\\u000asegunda línea\""));
+        Assertions.assertTrue(json.contains("\"monto\":25.00,"));
+        Assertions.assertTrue(json.contains("\"cuentaDestino\":null"));
+    }
+
+    @Test
+    @DisplayName("✅ Exportación a archivo")
+    void testExportarArchivo(@TempDir Path directorio) throws IOException {
+        Path archivo = directorio.resolve("historial.csv");
+        Files.writeString(archivo, "contenido anterior que debe desaparecer por completo\n".repeat(100));
+
+        long total = exportacionService.exportar(cuenta.getNumeroCuenta(), Formato.CSV, archivo);
+
+        List<String> lineas = Files.readAllLines(archivo, StandardCharsets.UTF_8);
+        Assertions.assertEquals(TOTAL, total);
+        Assertions.assertTrue(lineas.get(0).startsWith("id,fecha"));
+        Assertions.assertFalse(Files.readString(archivo).contains("contenido anterior"));
+    }
+
+    @Test
+    @DisplayName("✅ El recorrido entrega fila a fila y se corta si el destino falla")
+    void testRecorridoSeCortaConElDestino() {
+        List<TransaccionDTO> recibidas = new ArrayList<>();
+
+        IllegalStateException error = Assertions.assertThrows(IllegalStateException.class, () ->
+            RepositoryFactory.getTransaccionLecturas().listarTodas(cuenta.getId(), t -> {
+                recibidas.add(t);
+                if (recibidas.size() == 3) {
+                    throw new IllegalStateException("destino cerrado");
+                }
+            }));
+
+        Assertions.assertEquals("destino cerrado", error.getMessage());
+        Assertions.assertEquals(3, recibidas.size());
+        Assertions.assertEquals(BASE, recibidas.get(0).getFecha());
+        Assertions.assertEquals(TOTAL, RepositoryFactory.getTransaccionLecturas().listarTodas(cuenta.getId(), t -> { }));
+    }
+
+    @Test
+    @DisplayName("❌ Cuenta inexistente: error sin escribir nada")
+    void testCuentaInexistente() {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        Assertions.assertThrows(CuentaNoEncontradaException.class,
+            () -> exportacionService.exportar("0000000000", Formato.CSV, salida));
+        Assertions.assertEquals(0, salida.size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Formato.desde("xml"));
+        Assertions.assertEquals(Formato.JSON, Formato.desde(" json "));
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private void limpiarBD() {
+        try {
+            EntityManager em = JPAConfiguration.getEntityManager();
+            em.getTransaction().begin();
+
+            em.createNativeQuery("DELETE FROM transacciones").executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas").executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios").executeUpdate();
+
+            em.getTransaction().commit();
+            em.close();
+        } catch (Exception e) {
+            System.err.println("Error limpiando BD: " + e.getMessage());
+        }
+        RepositoryFactory.limpiarTodos();
+    }
+}
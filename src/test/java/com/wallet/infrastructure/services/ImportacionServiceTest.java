@@ -0,0 +1,227 @@
+package com.wallet.infrastructure.services;
+
+import com.wallet.domain.entities.Cuenta;
+import com.wallet.domain.entities.Usuario;
+import com.wallet.domain.exceptions.RepositoryException;
+import com.wallet.domain.repositories.IImportacionRepository;
+import com.wallet.domain.valueobjects.DocumentoIdentidad;
+import com.wallet.domain.valueobjects.Email;
+import com.wallet.infrastructure.config.JPAConfiguration;
+import com.wallet.infrastructure.factories.RepositoryFactory;
+import com.wallet.infrastructure.services.ImportacionService.ErrorFila;
+import com.wallet.infrastructure.services.ImportacionService.Resultado;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests de la importación masiva de usuarios desde CSV.
+ *
+ * Prueba:
+ * - Cada fila válida crea un usuario con su cuenta, en varios lotes
+ * - CSV con BOM, CRLF, columnas en otro orden y campos entre comillas
+ * - Errores por fila con su número de línea, sin detener la importación
+ * - Duplicados dentro del archivo y contra la BD
+ * - Un lote rechazado se reintenta fila por fila
+ * - Cabecera sin las columnas requeridas
+ */
+@DisplayName("ImportacionService - Tests de Integración")
+public class ImportacionServiceTest {
+
+    private static final String CABECERA = "nombre,apellido,email,tipo_documento,documento\n";
+
+    private ImportacionService importacionService;
+
+    @BeforeAll
+    static void setupAll() {
+        if (!JPAConfiguration.isInitialized()) {
+            JPAConfiguration.initialize();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        limpiarBD();
+        importacionService = new ImportacionService();
+    }
+
+    @AfterEach
+    void tearDown() {
+        limpiarBD();
+    }
+
+    @AfterAll
+    static void cleanupAll() {
+        JPAConfiguration.close();
+    }
+
+    @Test
+    @DisplayName("✅ Crea un usuario con su cuenta por fila, en varios lotes")
+    void testImportarVariosLotes() throws IOException {
+        // Arrange
+        int total = 1200;
+        StringBuilder csv = new StringBuilder(CABECERA);
+        for (int i = 0; i < total; i++) {
+            csv.append(fila(i));
+        }
+
+        // Act
+        Resultado resultado = importacionService.importar(new StringReader(csv.toString()));
+
+        // Assert
+        Assertions.assertEquals(total, resultado.getFilas());
+        Assertions.assertEquals(total, resultado.getUsuariosCreados());
+        Assertions.assertTrue(resultado.getErrores().isEmpty(), resultado.getErrores().toString());
+        Assertions.assertEquals(total, contar("SELECT COUNT(*) FROM usuarios"));
+        Assertions.assertEquals(total, contar("SELECT COUNT(DISTINCT numero_cuenta) FROM cuentas"));
+        Assertions.assertTrue(RepositoryFactory.getUsuarioRepository()
+            .buscarPorEmail(new Email("importado1199@example.com")).isPresent());
+    }
+
+    @Test
+    @DisplayName("✅ BOM, CRLF, columnas en otro orden y campos entre comillas")
+    void testFormatoCsv() throws IOException {
+        // Arrange
+        String csv = "\uFEFFemail,documento,tipo_documento,apellido,nombre\r\n"
+            + "ana@example.com,50000001,cedula,\"Pérez, de la Vega\",Ana\r\n"
+            + "\r\n"
+            + "\"luis@example.com\",50000002,CEDULA,\"O\"\"Brien\",Luis\r\n";
+
+        // Act
+        Resultado resultado = importacionService.importar(new StringReader(csv));
+
+        // Assert
+        Assertions.assertEquals(2, resultado.getUsuariosCreados(), resultado.getErrores().toString());
+        Usuario ana = RepositoryFactory.getUsuarioRepository().buscarPorEmail(new Email("ana@example.com")).orElseThrow();
+        Assertions.assertEquals("Pérez, de la Vega", ana.getApellido());
+        Usuario luis = RepositoryFactory.getUsuarioRepository().buscarPorEmail(new Email("luis@example.com")).orElseThrow();
+        Assertions.assertEquals("O\"Brien", luis.getApellido());
+        Assertions.assertEquals(1, RepositoryFactory.getCuentaRepository().buscarPorUsuarioId(luis.getId()).size());
+    }
+
+    @Test
+    @DisplayName("❌ Errores por fila con su línea, sin detener la importación")
+    void testErroresPorFila() throws IOException {
+        // Arrange
+        RepositoryFactory.getUsuarioRepository().guardar(new Usuario("Existente", "Previo",
+            new Email("existente@example.com"),
+            new DocumentoIdentidad("50000100", DocumentoIdentidad.TipoDocumento.CEDULA)));
+        String csv = CABECERA
+            + fila(1)                                                    // línea 2: válida
+            + "Mal,Email,no-es-un-email,CEDULA,50000201\n"               // línea 3
+            + "Doc,Corto,corto@example.com,CEDULA,12\n"                  // línea 4
+            + "Faltan,Campos,faltan@example.com\n"                       // línea 5
+            + "Repetido,Email,importado1@example.com,CEDULA,50000202\n"  // línea 6
+            + "Ya,Existe,existente@example.com,CEDULA,50000203\n"        // línea 7
+            + "Doc,Existe,otro@example.com,CEDULA,50000100\n"            // línea 8
+            + fila(2);                                                   // línea 9: válida
+
+        // Act
+        Resultado resultado = importacionService.importar(new StringReader(csv));
+
+        // Assert
+        Assertions.assertEquals(8, resultado.getFilas());
+        Assertions.assertEquals(2, resultado.getUsuariosCreados());
+        List<Integer> lineas = resultado.getErrores().stream().map(ErrorFila::getLinea).sorted()
+            .collect(Collectors.toList());
+        Assertions.assertEquals(List.of(3, 4, 5, 6, 7, 8), lineas);
+        Assertions.assertTrue(mensaje(resultado, 5).contains("Se esperaban 5 campos"), mensaje(resultado, 5));
+        Assertions.assertTrue(mensaje(resultado, 6).contains("repetido en el archivo"), mensaje(resultado, 6));
+        Assertions.assertTrue(mensaje(resultado, 7).contains("email"), mensaje(resultado, 7));
+        Assertions.assertTrue(mensaje(resultado, 8).contains("documento"), mensaje(resultado, 8));
+        Assertions.assertEquals(3, contar("SELECT COUNT(*) FROM usuarios"));
+    }
+
+    @Test
+    @DisplayName("✅ Un lote rechazado se reintenta fila por fila")
+    void testReintentoFilaPorFila() throws IOException {
+        // Arrange: el repositorio rechaza el lote y además la fila del documento 50000003
+        IImportacionRepository real = RepositoryFactory.getImportacionRepository();
+        ImportacionService service = new ImportacionService(new IImportacionRepository() {
+            @Override
+            public Set<String> buscarEmailsExistentes(Collection<String> emails) {
+                return new HashSet<>();
+            }
+
+            @Override
+            public Set<String> buscarDocumentosExistentes(Collection<String> documentos) {
+                return new HashSet<>();
+            }
+
+            @Override
+            public List<Cuenta> registrarConCuenta(List<Usuario> usuarios) {
+                if (usuarios.size() > 1 || usuarios.get(0).getDocumentoIdentidad().getNumero().equals("50000003")) {
+                    throw RepositoryException.operacionFallida("Usuario", "importar", "UNIQUE constraint failed");
+                }
+                return real.registrarConCuenta(usuarios);
+            }
+        });
+
+        // Act
+        Resultado resultado = service.importar(new StringReader(CABECERA + fila(1) + fila(2) + fila(3) + fila(4)));
+
+        // Assert
+        Assertions.assertEquals(3, resultado.getUsuariosCreados());
+        Assertions.assertEquals(1, resultado.getErrores().size());
+        Assertions.assertEquals(4, resultado.getErrores().get(0).getLinea());
+        Assertions.assertEquals(3, contar("SELECT COUNT(*) FROM cuentas"));
+    }
+
+    @Test
+    @DisplayName("❌ Cabecera sin las columnas requeridas")
+    void testCabeceraIncompleta() {
+        IllegalArgumentException error = Assertions.assertThrows(IllegalArgumentException.class,
+            () -> importacionService.importar(new StringReader("nombre,apellido,email\nA,B,c@example.com\n")));
+
+        Assertions.assertTrue(error.getMessage().contains("tipo_documento, documento"), error.getMessage());
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> importacionService.importar(new StringReader("")));
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private static String fila(int i) {
+        return String.format("Nombre%d,Apellido%d,importado%d@example.com,CEDULA,%d\n", i, i, i, 50000000 + i);
+    }
+
+    private static String mensaje(Resultado resultado, int linea) {
+        return resultado.getErrores().stream()
+            .filter(e -> e.getLinea() == linea)
+            .findFirst()
+            .map(ErrorFila::getMensaje)
+            .orElse("");
+    }
+
+    private long contar(String sql) {
+        EntityManager em = JPAConfiguration.getEntityManager();
+        try {
+            return ((Number) em.createNativeQuery(sql).getSingleResult()).longValue();
+        } finally {
+            em.close();
+        }
+    }
+
+    private void limpiarBD() {
+        try {
+            EntityManager em = JPAConfiguration.getEntityManager();
+            em.getTransaction().begin();
+
+            em.createNativeQuery("DELETE FROM transacciones").executeUpdate();
+            em.createNativeQuery("DELETE FROM cuentas").executeUpdate();
+            em.createNativeQuery("DELETE FROM usuarios").executeUpdate();
+
+            em.getTransaction().commit();
+            em.close();
+        } catch (Exception e) {
+            System.err.println("Error limpiando BD: " + e.getMessage());
+        }
+        RepositoryFactory.limpiarTodos();
+    }
+}
@@ -0,0 +1,68 @@
+package com.wallet.infrastructure.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para InstantaneaTasas.
+ */
+@DisplayName("InstantaneaTasas - Tests unitarios")
+class InstantaneaTasasTest {
+
+    private static final long AHORA = 1_718_000_060_000L;
+
+    @Test
+    void deberiaGuardarYLeerLaTablaSinPerderDigitos(@TempDir Path directorio) {
+        // Arrange
+        InstantaneaTasas instantanea = new InstantaneaTasas(directorio.resolve("tasas.tsv"));
+        TasasCruzadas tasas = TasasCruzadas.constructor("USD")
+            .agregar("EUR", new BigDecimal("0.9215"))
+            .agregar("VES", new BigDecimal("1.2E-5"))
+            .construir();
+
+        // Act
+        instantanea.guardar(tasas, 1_718_000_000_000L);
+        InstantaneaTasas.Leida leida = instantanea.leer(AHORA).orElseThrow();
+
+        // Assert
+        assertEquals(1_718_000_000_000L, leida.timestamp);
+        assertEquals("USD", leida.tasas.getBase());
+        assertEquals(3, leida.tasas.size());
+        assertEquals(0, new BigDecimal("0.9215").compareTo(leida.tasas.tasa("USD", "EUR")));
+        assertEquals(0, new BigDecimal("0.000012").compareTo(leida.tasas.tasa("USD", "VES")));
+        assertFalse(Files.exists(directorio.resolve("tasas.tsv.tmp")));
+    }
+
+    @Test
+    void deberiaIgnorarArchivoInexistenteOCorrupto(@TempDir Path directorio) throws Exception {
+        // Arrange
+        Path archivo = directorio.resolve("tasas.tsv");
+        InstantaneaTasas instantanea = new InstantaneaTasas(archivo);
+
+        // Act & Assert
+        assertTrue(instantanea.leer(AHORA).isEmpty());
+        Files.writeString(archivo, "USD\t1718000000000\nEUR\tno-es-un-numero\n");
+        assertTrue(instantanea.leer(AHORA).isEmpty());
+        Files.writeString(archivo, "");
+        assertTrue(instantanea.leer(AHORA).isEmpty());
+    }
+
+    @Test
+    void deberiaRechazarUnMomentoDeDescargaFuturo(@TempDir Path directorio) {
+        // Arrange
+        InstantaneaTasas instantanea = new InstantaneaTasas(directorio.resolve("tasas.tsv"));
+        instantanea.guardar(TasasCruzadas.constructor("USD").agregar("EUR", new BigDecimal("0.92")).construir(),
+            AHORA + 1);
+
+        // Act & Assert
+        assertTrue(instantanea.leer(AHORA).isEmpty());
+        assertTrue(instantanea.leer(AHORA + 1).isPresent());
+    }
+}
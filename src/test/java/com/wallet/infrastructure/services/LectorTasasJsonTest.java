@@ -0,0 +1,128 @@
+package com.wallet.infrastructure.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para LectorTasasJson con respuestas de la API guardadas
+ * en src/test/resources/divisas.
+ */
+@DisplayName("LectorTasasJson - Tests unitarios")
+class LectorTasasJsonTest {
+
+    @Test
+    void deberiaLeerUnaRespuestaRealConNotacionExponencial() throws IOException {
+        // Act
+        TasasCruzadas tasas = leer("respuesta_ok.json");
+
+        // Assert
+        assertEquals("USD", tasas.getBase());
+        assertEquals(8, tasas.size());
+        assertEquals(new BigDecimal("0.929521"), porUnidadBase(tasas, "EUR"));
+        assertEquals(new BigDecimal("42075.000000"), porUnidadBase(tasas, "IRR"));
+        assertEquals(0, new BigDecimal("36.425").compareTo(porUnidadBase(tasas, "VES")));
+        assertEquals(0, new BigDecimal("0.0000145").compareTo(porUnidadBase(tasas, "BTC")));
+    }
+
+    @Test
+    void deberiaSaltarValoresAnidadosYClavesQueNoSonMonedas() throws IOException {
+        // Act
+        TasasCruzadas tasas = leer("respuesta_anidada.json");
+
+        // Assert: "usd", "PENX" y "" se ignoran; el PEN repetido gana el último
+        assertEquals(3, tasas.size());
+        assertEquals(new BigDecimal("0.92"), porUnidadBase(tasas, "EUR"));
+        assertEquals(new BigDecimal("3.75"), porUnidadBase(tasas, "PEN"));
+        assertEquals(TasasCruzadas.SIN_MONEDA, tasas.ordinal("XXX"));
+    }
+
+    @Test
+    void deberiaLeerByteAByteIgualQueDeUnaVez() throws IOException {
+        // Arrange: un flujo que entrega un solo byte por lectura
+        InputStream recurso = getClass().getResourceAsStream("/divisas/respuesta_ok.json");
+        InputStream goteo = new FilterInputStream(recurso) {
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+
+        // Act
+        TasasCruzadas tasas;
+        try (goteo) {
+            tasas = LectorTasasJson.leer(goteo, "USD");
+        }
+
+        // Assert
+        assertEquals(8, tasas.size());
+        assertEquals(new BigDecimal("157.026455"), porUnidadBase(tasas, "JPY"));
+    }
+
+    @Test
+    void deberiaInformarElErrorDeLaApi() {
+        // Act & Assert
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> leer("respuesta_error.json"));
+        assertEquals("La API respondió error: unsupported-code", e.getMessage());
+    }
+
+    @Test
+    void deberiaRechazarJsonTruncadoOMalFormado() {
+        // Act & Assert
+        IOException truncado = assertThrows(IOException.class, () -> leer("respuesta_truncada.json"));
+        assertTrue(truncado.getMessage().contains("fin inesperado"), truncado.getMessage());
+        assertThrows(IOException.class, () -> leerTexto("{\"rates\":{\"EUR\" 0.92}}"));
+    }
+
+    @Test
+    void deberiaSaltarTasasQueNoSonNumerosSinDescartarLaTabla() throws IOException {
+        // Act
+        TasasCruzadas tasas = leerTexto(
+            "{\"rates\":{\"USD\":1,\"EUR\":\"0.92\",\"GBP\":null,\"JPY\":1.5.7,\"PEN\":3.75}}");
+
+        // Assert: solo quedan USD y PEN
+        assertEquals(2, tasas.size());
+        assertEquals(new BigDecimal("3.75"), porUnidadBase(tasas, "PEN"));
+        assertEquals(TasasCruzadas.SIN_MONEDA, tasas.ordinal("EUR"));
+
+        // Sin ninguna tasa numérica no hay tabla
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+            () -> leerTexto("{\"rates\":{\"EUR\":\"0.92\"}}"));
+        assertEquals("No se pudieron extraer tasas de cambio", e.getMessage());
+    }
+
+    @Test
+    void deberiaExigirTasasDeLaBasePedida() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () ->
+            leerTexto("{\"base_code\":\"EUR\",\"rates\":{\"USD\":1.08}}"));
+        assertThrows(IllegalStateException.class, () -> leerTexto("{\"result\":\"success\"}"));
+        assertThrows(IllegalStateException.class, () -> leerTexto("{\"rates\":{\"usd\":1}}"));
+        assertThrows(IllegalArgumentException.class, () -> leerTexto("{\"rates\":{\"EUR\":-0.92}}"));
+    }
+
+    // ==================== MÉTODOS AUXILIARES ====================
+
+    private TasasCruzadas leer(String fixture) throws IOException {
+        try (InputStream entrada = getClass().getResourceAsStream("/divisas/" + fixture)) {
+            assertNotNull(entrada, fixture);
+            return LectorTasasJson.leer(entrada, "USD");
+        }
+    }
+
+    private static TasasCruzadas leerTexto(String json) throws IOException {
+        return LectorTasasJson.leer(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), "USD");
+    }
+
+    private static BigDecimal porUnidadBase(TasasCruzadas tasas, String codigo) {
+        return tasas.porUnidadBase(tasas.ordinal(codigo));
+    }
+}
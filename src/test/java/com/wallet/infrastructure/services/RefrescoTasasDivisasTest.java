@@ -0,0 +1,113 @@
+package com.wallet.infrastructure.services;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static com.wallet.infrastructure.services.ServidorTasasFalso.esperarHasta;
+
+/**
+ * Tests del refresco programado de tasas contra un servidor HTTP local.
+ *
+ * Prueba:
+ * - Al iniciar se descarga la tabla y después se refresca
+ *   periódicamente, así que las conversiones no esperan a la red
+ * - Con una tabla cargada de disco, el primer refresco llega cuando
+ *   esa tabla cumple el intervalo
+ * - Tras un fallo se reintenta con espera exponencial acotada, y al
+ *   recuperarse el servidor la caché queda cargada
+ */
+@DisplayName("RefrescoTasasDivisas - Tests de Integración")
+public class RefrescoTasasDivisasTest {
+
+    private ServidorTasasFalso servidor;
+    private ConversorDivisasAPI conversor;
+    private RefrescoTasasDivisas refresco;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        servidor = new ServidorTasasFalso("0.9", "3.7");
+        conversor = new ConversorDivisasAPI(servidor.getUrl(),
+            "USD", 3_600_000, 86_400_000, System::currentTimeMillis, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (refresco != null) {
+            refresco.cerrar();
+        }
+        servidor.close();
+    }
+
+    @Test
+    @DisplayName("✅ La tabla se descarga al iniciar y se refresca periódicamente")
+    void testPrefetchPeriodico() throws Exception {
+        // Arrange
+        refresco = new RefrescoTasasDivisas(conversor, 100, 50, 1_000);
+
+        // Act
+        refresco.iniciar();
+        esperarHasta(() -> servidor.getDescargas() >= 3);
+
+        // Assert: con el servidor bloqueado, las conversiones salen de la caché
+        servidor.bloquear();
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            Assertions.assertEquals(0.9, conversor.obtenerTasaCambio("USD", "EUR"));
+            Assertions.assertEquals(3.7 / 0.9, conversor.obtenerTasaCambio("EUR", "PEN"), 1e-12);
+        });
+    }
+
+    @Test
+    @DisplayName("❌ Fallos: reintentos con espera exponencial hasta recuperarse")
+    void testEsperaExponencial() throws Exception {
+        // Arrange
+        servidor.setCodigo(503);
+        refresco = new RefrescoTasasDivisas(conversor, 60_000, 20, 80);
+
+        // Act: falla varias veces seguidas
+        refresco.iniciar();
+        esperarHasta(() -> servidor.getDescargas() >= 4);
+        servidor.setCodigo(200);
+        int fallidas = servidor.getDescargas();
+
+        // Assert: el siguiente reintento carga la caché; con el servidor
+        // bloqueado, la conversión no necesita descargar
+        esperarHasta(() -> servidor.getDescargas() > fallidas);
+        Thread.sleep(200);
+        servidor.bloquear();
+        Assertions.assertTimeoutPreemptively(Duration.ofSeconds(2),
+            () -> Assertions.assertEquals(0.9, conversor.obtenerTasaCambio("USD", "EUR")));
+        long primera = refresco.esperaTrasFallos(1);
+        long tercera = refresco.esperaTrasFallos(3);
+        long decima = refresco.esperaTrasFallos(10);
+        Assertions.assertTrue(primera >= 18 && primera <= 22, "Primera espera: " + primera);
+        Assertions.assertTrue(tercera >= 72 && tercera <= 88, "Tercera espera: " + tercera);
+        Assertions.assertTrue(decima <= 88, "Espera acotada: " + decima);
+    }
+
+    @Test
+    @DisplayName("✅ Con una copia en disco vigente el primer refresco espera a su edad")
+    void testPrimerRefrescoSegunCopiaEnDisco(@TempDir Path directorio) throws Exception {
+        // Arrange: una copia de hace 100 ms con un intervalo de 600 ms
+        Path archivo = directorio.resolve("tasas.tsv");
+        new InstantaneaTasas(archivo).guardar(TasasCruzadas.constructor("USD")
+            .agregar("EUR", new BigDecimal("0.8")).construir(), System.currentTimeMillis() - 100);
+        conversor = new ConversorDivisasAPI(servidor.getUrl(),
+            "USD", 800, 86_400_000, System::currentTimeMillis, archivo);
+        refresco = new RefrescoTasasDivisas(conversor, 600, 50, 1_000);
+
+        // Act
+        long inicio = System.nanoTime();
+        refresco.iniciar();
+        esperarHasta(() -> servidor.getDescargas() >= 1);
+
+        // Assert: no se descargó al iniciar, sino al cumplir el intervalo
+        long transcurridos = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+        Assertions.assertTrue(transcurridos >= 400, "Primer refresco a los " + transcurridos + " ms");
+    }
+}
@@ -0,0 +1,124 @@
+package com.wallet.infrastructure.services;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Assertions;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Servidor HTTP local que imita la API de tasas en los tests de
+ * ConversorDivisasAPI y RefrescoTasasDivisas.
+ *
+ * Responde siempre la tabla de USD con las tasas configuradas y cuenta
+ * las descargas. bloquear() retiene las respuestas hasta liberar() o
+ * close(); setCodigo() cambia el código HTTP de respuesta.
+ */
+final class ServidorTasasFalso implements AutoCloseable {
+
+    private final HttpServer servidor;
+    private final ExecutorService hilos = Executors.newCachedThreadPool();
+    private final AtomicInteger descargas = new AtomicInteger();
+    private final String tasaPen;
+    private volatile String tasaEur;
+    private volatile CountDownLatch puerta = new CountDownLatch(0);
+    private volatile int codigo = 200;
+
+    /**
+     * Arranca el servidor en un puerto libre de 127.0.0.1.
+     *
+     * @param tasaEur EUR por USD de la respuesta
+     * @param tasaPen PEN por USD de la respuesta
+     */
+    ServidorTasasFalso(String tasaEur, String tasaPen) throws IOException {
+        this.tasaEur = tasaEur;
+        this.tasaPen = tasaPen;
+        servidor = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        servidor.createContext("/", intercambio -> {
+            descargas.incrementAndGet();
+            try {
+                puerta.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] cuerpo = ("{\"result\":\"success\",\"base_code\":\"USD\","
+                + "\"rates\":{\"USD\":1,\"EUR\":" + this.tasaEur + ",\"PEN\":" + tasaPen + "}}")
+                .getBytes(StandardCharsets.UTF_8);
+            intercambio.sendResponseHeaders(codigo, cuerpo.length);
+            try (OutputStream salida = intercambio.getResponseBody()) {
+                salida.write(cuerpo);
+            }
+        });
+        servidor.setExecutor(hilos);
+        servidor.start();
+    }
+
+    /**
+     * @return URL base para ConversorDivisasAPI (se le agrega la moneda)
+     */
+    String getUrl() {
+        return "http://127.0.0.1:" + servidor.getAddress().getPort() + "/latest/";
+    }
+
+    /**
+     * @return peticiones recibidas, incluidas las que siguen retenidas
+     */
+    int getDescargas() {
+        return descargas.get();
+    }
+
+    /**
+     * Retiene las respuestas siguientes hasta liberar().
+     */
+    void bloquear() {
+        puerta = new CountDownLatch(1);
+    }
+
+    /**
+     * Deja salir las respuestas retenidas.
+     */
+    void liberar() {
+        puerta.countDown();
+    }
+
+    void setCodigo(int codigo) {
+        this.codigo = codigo;
+    }
+
+    void setTasaEur(String tasaEur) {
+        this.tasaEur = tasaEur;
+    }
+
+    @Override
+    public void close() {
+        puerta.countDown();
+        servidor.stop(0);
+        hilos.shutdownNow();
+    }
+
+    // ==================== ESPERAS ====================
+
+    interface Condicion {
+        boolean cumplida() throws Exception;
+    }
+
+    /**
+     * Espera hasta 10 segundos a que se cumpla la condición; si no, falla el test.
+     */
+    static void esperarHasta(Condicion condicion) throws Exception {
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condicion.cumplida()) {
+            if (System.nanoTime() > limite) {
+                Assertions.fail("La condición no se cumplió a tiempo");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
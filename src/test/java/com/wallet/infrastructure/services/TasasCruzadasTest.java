@@ -0,0 +1,89 @@
+package com.wallet.infrastructure.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios para TasasCruzadas.
+ */
+@DisplayName("TasasCruzadas - Tests unitarios")
+class TasasCruzadasTest {
+
+    private static TasasCruzadas tablaUsd() {
+        return TasasCruzadas.constructor("USD")
+            .agregar("EUR", new BigDecimal("0.92"))
+            .agregar("PEN", new BigDecimal("3.75"))
+            .agregar("JPY", new BigDecimal("151.3"))
+            .agregar("VES", new BigDecimal("1.2E-5"))
+            .construir();
+    }
+
+    @Test
+    void deberiaDerivarCualquierParDeLaTablaBase() {
+        // Arrange
+        TasasCruzadas tasas = tablaUsd();
+
+        // Act & Assert
+        assertEquals(0, new BigDecimal("0.92").compareTo(tasas.tasa("USD", "EUR")));
+        // 3.75 / 0.92 con 34 dígitos significativos
+        assertEquals(new BigDecimal("4.076086956521739130434782608695652"), tasas.tasa("EUR", "PEN"));
+        assertEquals(BigDecimal.ONE, tasas.tasa("JPY", "JPY"));
+        assertEquals(5, tasas.size());
+    }
+
+    @Test
+    void deberiaConvertirRedondeandoUnaSolaVez() {
+        // Arrange
+        TasasCruzadas tasas = tablaUsd();
+
+        // Act & Assert: 100 EUR × 3.75 / 0.92 = 407.6086...
+        assertEquals(new BigDecimal("407.61"), tasas.convertir(new BigDecimal("100.00"), "EUR", "PEN", 2));
+        // Tasas muy chicas en notación exponencial, sin pasar por double
+        assertEquals(new BigDecimal("1000000.00"), tasas.convertir(new BigDecimal("12.00"), "VES", "USD", 2));
+    }
+
+    @Test
+    void deberiaRechazarMonedasNoSoportadas() {
+        // Arrange
+        TasasCruzadas tasas = tablaUsd();
+
+        // Act & Assert
+        assertEquals(TasasCruzadas.SIN_MONEDA, tasas.ordinal("GBP"));
+        assertEquals(TasasCruzadas.SIN_MONEDA, tasas.ordinal("usd"));
+        assertThrows(IllegalArgumentException.class, () -> tasas.tasa("GBP", "USD"));
+        assertThrows(IllegalArgumentException.class, () -> tasas.tasa("USD", "XX"));
+    }
+
+    @Test
+    void deberiaMapearCodigosAIndicesSinColisiones() {
+        // Act & Assert
+        assertEquals(0, TasasCruzadas.indice("AAA"));
+        assertEquals(26 * 26 * 26 - 1, TasasCruzadas.indice("ZZZ"));
+        assertEquals(TasasCruzadas.indice("USD"), TasasCruzadas.indice('U', 'S', 'D'));
+        assertNotEquals(TasasCruzadas.indice("USD"), TasasCruzadas.indice("DSU"));
+        assertEquals(TasasCruzadas.SIN_MONEDA, TasasCruzadas.indice("U$D"));
+    }
+
+    @Test
+    void deberiaValidarLaTablaAlConstruirla() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () ->
+            TasasCruzadas.constructor("USD").agregar("EUR", BigDecimal.ZERO));
+        assertThrows(IllegalArgumentException.class, () ->
+            TasasCruzadas.constructor("USD").agregar("USD", new BigDecimal("2")).construir());
+        assertThrows(IllegalArgumentException.class, () -> TasasCruzadas.constructor("usd"));
+
+        // La última tasa de una moneda repetida reemplaza a la anterior
+        TasasCruzadas tasas = TasasCruzadas.constructor("USD")
+            .agregar("EUR", new BigDecimal("0.90"))
+            .agregar("EUR", new BigDecimal("0.92"))
+            .construir();
+        assertEquals(2, tasas.size());
+        assertEquals(new BigDecimal("0.92"), tasas.porUnidadBase(tasas.ordinal("EUR")));
+        assertEquals("EUR", tasas.codigo(tasas.ordinal("EUR")));
+    }
+}